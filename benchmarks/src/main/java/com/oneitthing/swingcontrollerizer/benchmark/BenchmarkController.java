@@ -0,0 +1,138 @@
+package com.oneitthing.swingcontrollerizer.benchmark;
+
+import java.awt.Component;
+import java.awt.event.ActionListener;
+import java.util.EventListener;
+import java.util.EventObject;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import com.oneitthing.swingcontrollerizer.action.BaseAction;
+import com.oneitthing.swingcontrollerizer.controller.BaseController;
+import com.oneitthing.swingcontrollerizer.controller.ClientConfig;
+import com.oneitthing.swingcontrollerizer.controller.EventBinder;
+import com.oneitthing.swingcontrollerizer.controller.ParameterMapping;
+import com.oneitthing.swingcontrollerizer.event.ModelProcessEvent;
+import com.oneitthing.swingcontrollerizer.model.BaseModel;
+import com.oneitthing.swingcontrollerizer.model.DefaultModel;
+import com.oneitthing.swingcontrollerizer.model.Model;
+
+/**
+ * <p>[概 要] </p>
+ * ベンチマーク用のコントローラです。
+ *
+ * <p>[詳 細] </p>
+ * 以下のイベントを紐付けます。
+ * <ul>
+ *   <li>{@link #NOOP_COMPONENT}のactionPerformed : モデルを実行しない{@link NoopAction}</li>
+ *   <li>{@link #MODEL_COMPONENT}のactionPerformed : {@link DefaultModel}を一件実行する{@link ModelAction}</li>
+ * </ul>
+ * EventBinder検索の計測用に、{@link #BINDING_COUNT}件のダミー紐付けも登録します。
+ *
+ * <p>[備 考] </p>
+ *
+ */
+public class BenchmarkController extends BaseController {
+
+	/** モデルを実行しないアクションを紐付けたコンポーネント名です。 */
+	public static final String NOOP_COMPONENT = "benchFrame.jbNoop";
+
+	/** モデルを実行するアクションを紐付けたコンポーネント名です。 */
+	public static final String MODEL_COMPONENT = "benchFrame.jbModel";
+
+	/** ダミー紐付け件数です。 */
+	public static final int BINDING_COUNT = 200;
+
+	/** モデルの同期、非同期実行を指定するParameterMappingのキーです。 */
+	public static final String ASYNC = "bench.async";
+
+	/** 完了を通知するラッチを格納するParameterMappingのキーです。 */
+	public static final String LATCH = "bench.latch";
+
+	@Override
+	protected void initialize(ClientConfig config) {
+		// ヘッドレス環境ではダイアログを表示出来ない為、スタックトレースのみ出力
+		config.setShowErrorDialogOnExceptionTrap(false);
+	}
+
+	@Override
+	protected void bind(EventBinder eventBinder) {
+		eventBinder.addEventBinding(NOOP_COMPONENT, ActionListener.class, "actionPerformed", NoopAction.class);
+		eventBinder.addEventBinding(MODEL_COMPONENT, ActionListener.class, "actionPerformed", ModelAction.class);
+		for (int i = 0; i < BINDING_COUNT; i++) {
+			eventBinder.addEventBinding("benchFrame.dummy" + i, ActionListener.class, "actionPerformed", NoopAction.class);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * handlerFacadeと同じ手順でParameterMappingを生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link #createParameterMapping(EventObject, Class, String, EventListener, Component)}を公開します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param e イベントオブジェクト
+	 * @param eventListener イベントリスナインスタンス
+	 * @param component イベントリスナが追加されたコンポーネント
+	 * @return 生成したParameterMapping
+	 */
+	public ParameterMapping newParameterMapping(EventObject e, EventListener eventListener, Component component) {
+		ParameterMapping parameterMapping = createParameterMapping(e, ActionListener.class, "actionPerformed",
+				eventListener, component);
+		parameterMapping.setEventArrivalTime(System.nanoTime());
+		return parameterMapping;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * モデルを実行しないアクションです。
+	 *
+	 * <p>[詳 細] </p>
+	 * handlerFacadeからcompleteまでのフレームワーク自体のオーバーヘッドを計測します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	public static class NoopAction extends BaseAction {
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * {@link DefaultModel}を一件実行するアクションです。
+	 *
+	 * <p>[詳 細] </p>
+	 * ParameterMappingの{@link BenchmarkController#ASYNC}に従ってモデルを同期、非同期実行し、
+	 * complete時に{@link BenchmarkController#LATCH}のラッチをカウントダウンします。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	public static class ModelAction extends BaseAction {
+
+		@Override
+		protected void reserveModels(List<Class<? extends Model>> models) {
+			models.add(DefaultModel.class);
+		}
+
+		@Override
+		public boolean nextModel(int index, ModelProcessEvent prev, Model next) throws Exception {
+			if (next != null) {
+				((BaseModel)next).setAsync(Boolean.TRUE.equals(getParameterMapping().get(ASYNC)));
+			}
+			return true;
+		}
+
+		@Override
+		public void complete(ParameterMapping parameterMapping) throws Exception {
+			((CountDownLatch)parameterMapping.get(LATCH)).countDown();
+		}
+
+		@Override
+		public Exception failureForward(int index, Model model, Exception e) {
+			((CountDownLatch)getParameterMapping().get(LATCH)).countDown();
+			return e;
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package com.oneitthing.swingcontrollerizer.benchmark;
+
+import java.awt.event.ActionListener;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.oneitthing.swingcontrollerizer.controller.AdmissionPolicy;
+import com.oneitthing.swingcontrollerizer.controller.EventBinder;
+
+/**
+ * <p>[概 要] </p>
+ * {@link EventBinder}の紐付け検索を計測するベンチマークです。
+ *
+ * <p>[詳 細] </p>
+ * {@link BenchmarkController#BINDING_COUNT}件の紐付けが登録された状態で、
+ * 紐付け有り、紐付け無しのコンポーネント名を検索します。
+ *
+ * <p>[備 考] </p>
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class EventBinderBenchmark {
+
+	/** 紐付け有りのコンポーネント名です。 */
+	private static final String HIT = "benchFrame.dummy" + (BenchmarkController.BINDING_COUNT / 2);
+
+	/** 紐付け無しのコンポーネント名です。 */
+	private static final String MISS = "benchFrame.unbound";
+
+	/** 計測対象のEventBinderです。 */
+	private EventBinder eventBinder;
+
+	@Setup
+	public void setup() {
+		this.eventBinder = new BenchmarkController().getEventBinder();
+	}
+
+	@Benchmark
+	public Object getActionClassHit() {
+		return this.eventBinder.getActionClass(HIT, ActionListener.class, "actionPerformed");
+	}
+
+	@Benchmark
+	public Object getActionClassMiss() {
+		return this.eventBinder.getActionClass(MISS, ActionListener.class, "actionPerformed");
+	}
+
+	@Benchmark
+	public AdmissionPolicy getAdmissionPolicy() {
+		return this.eventBinder.getAdmissionPolicy(HIT, ActionListener.class, "actionPerformed");
+	}
+
+	@Benchmark
+	public boolean isEventBindingHit() {
+		return this.eventBinder.isEventBinding(HIT);
+	}
+
+	@Benchmark
+	public boolean isEventBindingMiss() {
+		return this.eventBinder.isEventBinding(MISS);
+	}
+}
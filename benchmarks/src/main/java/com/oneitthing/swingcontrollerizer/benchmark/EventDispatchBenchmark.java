@@ -0,0 +1,100 @@
+package com.oneitthing.swingcontrollerizer.benchmark;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JButton;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.oneitthing.swingcontrollerizer.controller.EventInvocationHandler;
+
+/**
+ * <p>[概 要] </p>
+ * イベント発生からアクション完了までの配送経路を計測するベンチマークです。
+ *
+ * <p>[詳 細] </p>
+ * モデルを実行しない{@link BenchmarkController.NoopAction}を対象に、以下の経路を計測します。
+ * <ul>
+ *   <li>proxyListener : {@link EventInvocationHandler}を使用したプロキシリスナ経由</li>
+ *   <li>adapterListener : {@link com.oneitthing.swingcontrollerizer.controller.AbstractController#addListener}が生成したリスナ経由</li>
+ *   <li>handlerFacade : handlerFacadeの直接呼び出し</li>
+ *   <li>invoke : BaseController#invokeの直接呼び出し</li>
+ * </ul>
+ *
+ * <p>[備 考] </p>
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class EventDispatchBenchmark {
+
+	/** コントローラです。 */
+	private BenchmarkController controller;
+
+	/** イベントを発生させるコンポーネントです。 */
+	private JButton button;
+
+	/** EventInvocationHandlerを使用したプロキシリスナです。 */
+	private ActionListener proxyListener;
+
+	/** addListenerが生成したリスナです。 */
+	private ActionListener adapterListener;
+
+	/** 発生させるイベントです。 */
+	private ActionEvent event;
+
+	@Setup
+	public void setup() {
+		this.controller = new BenchmarkController();
+		this.button = new JButton();
+		this.button.setName(BenchmarkController.NOOP_COMPONENT);
+		List<String> eventTypes = Arrays.asList("actionPerformed");
+		this.proxyListener = (ActionListener)Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] {ActionListener.class},
+				new EventInvocationHandler(this.controller, ActionListener.class, eventTypes, this.button));
+		this.controller.addListener(this.button, ActionListener.class, eventTypes);
+		ActionListener[] listeners = this.button.getActionListeners();
+		this.adapterListener = listeners[listeners.length - 1];
+		this.event = new ActionEvent(this.button, ActionEvent.ACTION_PERFORMED, "bench");
+	}
+
+	@Benchmark
+	public void proxyListener() {
+		this.proxyListener.actionPerformed(this.event);
+	}
+
+	@Benchmark
+	public void adapterListener() {
+		this.adapterListener.actionPerformed(this.event);
+	}
+
+	@Benchmark
+	public void handlerFacade() {
+		this.controller.handlerFacade(this.event, ActionListener.class, "actionPerformed",
+				this.proxyListener, this.button);
+	}
+
+	@Benchmark
+	public Object invoke() {
+		return this.controller.invoke(BenchmarkController.NoopAction.class,
+				this.controller.newParameterMapping(this.event, this.proxyListener, this.button));
+	}
+}
@@ -0,0 +1,78 @@
+package com.oneitthing.swingcontrollerizer.benchmark;
+
+import java.awt.event.ActionEvent;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JButton;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.oneitthing.swingcontrollerizer.controller.ParameterMapping;
+
+/**
+ * <p>[概 要] </p>
+ * モデル投入からコールバック完了までの往復を計測するベンチマークです。
+ *
+ * <p>[詳 細] </p>
+ * {@link BenchmarkController.ModelAction}をinvokeし、
+ * モデル実行、イベントディスパッチスレッドへの配送、completeのコールバックまでを一操作として計測します。
+ *
+ * <p>[備 考] </p>
+ * invokeはベンチマークスレッドからコールされる為、同期モデルはFuture#getで完了を待ちます。
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ModelRoundTripBenchmark {
+
+	/** 完了待ちの上限（秒）です。 */
+	private static final long AWAIT_SECONDS = 10;
+
+	/** モデルを非同期実行するかどうかです。 */
+	@Param({"true", "false"})
+	private boolean async;
+
+	/** コントローラです。 */
+	private BenchmarkController controller;
+
+	/** イベントを発生させるコンポーネントです。 */
+	private JButton button;
+
+	/** 発生させるイベントです。 */
+	private ActionEvent event;
+
+	@Setup
+	public void setup() {
+		this.controller = new BenchmarkController();
+		this.button = new JButton();
+		this.button.setName(BenchmarkController.MODEL_COMPONENT);
+		this.event = new ActionEvent(this.button, ActionEvent.ACTION_PERFORMED, "bench");
+	}
+
+	@Benchmark
+	public void roundTrip() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		ParameterMapping parameterMapping = this.controller.newParameterMapping(this.event, null, this.button);
+		parameterMapping.put(BenchmarkController.ASYNC, this.async);
+		parameterMapping.put(BenchmarkController.LATCH, latch);
+		this.controller.invoke(BenchmarkController.ModelAction.class, parameterMapping);
+		if (!latch.await(AWAIT_SECONDS, TimeUnit.SECONDS)) {
+			throw new IllegalStateException("model round trip did not complete");
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package com.oneitthing.swingcontrollerizer.benchmark;
+
+import java.awt.event.ActionEvent;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JButton;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.oneitthing.swingcontrollerizer.controller.ParameterMapping;
+
+/**
+ * <p>[概 要] </p>
+ * {@link ParameterMapping}の生成、複製を計測するベンチマークです。
+ *
+ * <p>[詳 細] </p>
+ * create : handlerFacadeと同じ手順での生成<br>
+ * cloneMapping : 任意値を格納したParameterMappingの複製
+ *
+ * <p>[備 考] </p>
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ParameterMappingBenchmark {
+
+	/** コントローラです。 */
+	private BenchmarkController controller;
+
+	/** イベントを発生させるコンポーネントです。 */
+	private JButton button;
+
+	/** 発生させるイベントです。 */
+	private ActionEvent event;
+
+	/** 複製元のParameterMappingです。 */
+	private ParameterMapping source;
+
+	@Setup
+	public void setup() {
+		this.controller = new BenchmarkController();
+		this.button = new JButton();
+		this.button.setName(BenchmarkController.NOOP_COMPONENT);
+		this.event = new ActionEvent(this.button, ActionEvent.ACTION_PERFORMED, "bench");
+		this.source = this.controller.newParameterMapping(this.event, null, this.button);
+		for (int i = 0; i < 8; i++) {
+			this.source.put("key" + i, "value" + i);
+		}
+	}
+
+	@Benchmark
+	public ParameterMapping create() {
+		return this.controller.newParameterMapping(this.event, null, this.button);
+	}
+
+	@Benchmark
+	public ParameterMapping cloneMapping() {
+		return this.source.clone();
+	}
+}
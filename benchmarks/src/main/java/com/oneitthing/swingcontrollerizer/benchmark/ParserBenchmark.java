@@ -0,0 +1,131 @@
+package com.oneitthing.swingcontrollerizer.benchmark;
+
+import java.awt.Component;
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.DefaultListModel;
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JComboBox;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JPasswordField;
+import javax.swing.JRadioButton;
+import javax.swing.JSlider;
+import javax.swing.JSpinner;
+import javax.swing.JTextArea;
+import javax.swing.JTextField;
+import javax.swing.JTextPane;
+import javax.swing.JToggleButton;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.oneitthing.swingcontrollerizer.parser.ComponentValueParser;
+import com.oneitthing.swingcontrollerizer.parser.Parser;
+
+/**
+ * <p>[概 要] </p>
+ * コンポーネント値パーサを計測するベンチマークです。
+ *
+ * <p>[詳 細] </p>
+ * {@link ComponentValueParser#PARSERS}に登録された全コンポーネントについて、
+ * ComponentValueParser経由の解析（facade）と、パーサの直接呼び出し（direct）を計測します。
+ *
+ * <p>[備 考] </p>
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ParserBenchmark {
+
+	/** 解析対象のコンポーネント種類です。 */
+	@Param({"JButton", "JCheckBox", "JComboBox", "JList", "JLabel", "JPasswordField", "JSlider",
+			"JSpinner", "JTextArea", "JTextField", "JTextPane", "JToggleButton", "JRadioButton"})
+	private String componentType;
+
+	/** 解析対象のコンポーネントです。 */
+	private Component component;
+
+	/** ComponentValueParserです。 */
+	private ComponentValueParser facade;
+
+	/** コンポーネント種類に対応するパーサです。 */
+	private Parser direct;
+
+	@Setup
+	public void setup() throws Exception {
+		this.component = createComponent(this.componentType);
+		this.component.setName("benchFrame." + this.componentType);
+		this.facade = new ComponentValueParser();
+		// フレームワーク提供のパーサはコンストラクタがprotectedの為、アクセス可能にして生成
+		Constructor<? extends Parser> constructor =
+				ComponentValueParser.PARSERS.get(this.component.getClass()).getDeclaredConstructor();
+		constructor.setAccessible(true);
+		this.direct = constructor.newInstance();
+	}
+
+	@Benchmark
+	public Object facade() throws Exception {
+		return this.facade.parse(this.component);
+	}
+
+	@Benchmark
+	public Object direct() throws Exception {
+		return this.direct.parse(this.component);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 値を設定したコンポーネントを生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param type コンポーネント種類
+	 * @return 生成したコンポーネント
+	 */
+	static Component createComponent(String type) {
+		switch (type) {
+		case "JButton": return new JButton("button");
+		case "JCheckBox": return new JCheckBox("check", true);
+		case "JComboBox": return new JComboBox<String>(new String[] {"one", "two", "three"});
+		case "JList":
+			DefaultListModel<String> model = new DefaultListModel<String>();
+			for (int i = 0; i < 20; i++) {
+				model.addElement("item" + i);
+			}
+			JList<String> list = new JList<String>(model);
+			list.setSelectedIndices(new int[] {1, 5, 10});
+			return list;
+		case "JLabel": return new JLabel("label");
+		case "JPasswordField": return new JPasswordField("password");
+		case "JSlider": return new JSlider(0, 100, 40);
+		case "JSpinner": return new JSpinner();
+		case "JTextArea": return new JTextArea("line1\nline2\nline3");
+		case "JTextField": return new JTextField("12345");
+		case "JTextPane":
+			JTextPane pane = new JTextPane();
+			pane.setText("text pane");
+			return pane;
+		case "JToggleButton": return new JToggleButton("toggle", true);
+		case "JRadioButton": return new JRadioButton("radio", true);
+		default: throw new IllegalArgumentException(type);
+		}
+	}
+}
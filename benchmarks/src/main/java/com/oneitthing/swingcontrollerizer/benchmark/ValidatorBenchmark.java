@@ -0,0 +1,87 @@
+package com.oneitthing.swingcontrollerizer.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JTextField;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.oneitthing.swingcontrollerizer.validator.ByteLengthValidator;
+import com.oneitthing.swingcontrollerizer.validator.IndispensableValidator;
+import com.oneitthing.swingcontrollerizer.validator.RangeValidator;
+import com.oneitthing.swingcontrollerizer.validator.RegExpValidator;
+import com.oneitthing.swingcontrollerizer.validator.Validator;
+
+/**
+ * <p>[概 要] </p>
+ * バリデータを計測するベンチマークです。
+ *
+ * <p>[詳 細] </p>
+ * フレームワークが提供する全バリデータについて、
+ * JTextFieldに対する{@link Validator#execute()}を計測します。
+ *
+ * <p>[備 考] </p>
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ValidatorBenchmark {
+
+	/** 計測対象のバリデータ種類です。 */
+	@Param({"Indispensable", "ByteLength", "Range", "RegExp"})
+	private String validatorType;
+
+	/** 入力値です。 */
+	@Param({"12345", "12345678901234567890"})
+	private String text;
+
+	/** 計測対象のバリデータです。 */
+	private Validator validator;
+
+	@Setup
+	public void setup() {
+		JTextField textField = new JTextField(this.text);
+		textField.setName("benchFrame.jtfValue");
+		switch (this.validatorType) {
+		case "Indispensable":
+			this.validator = new IndispensableValidator(textField);
+			break;
+		case "ByteLength":
+			ByteLengthValidator byteLength = new ByteLengthValidator(textField);
+			byteLength.setBytesRange(1, 32);
+			this.validator = byteLength;
+			break;
+		case "Range":
+			RangeValidator range = new RangeValidator(textField);
+			range.setRange(1, 32);
+			this.validator = range;
+			break;
+		case "RegExp":
+			RegExpValidator regExp = new RegExpValidator(textField);
+			regExp.setPattern("[0-9]+");
+			this.validator = regExp;
+			break;
+		default:
+			throw new IllegalArgumentException(this.validatorType);
+		}
+	}
+
+	@Benchmark
+	public boolean execute() throws Exception {
+		return this.validator.execute();
+	}
+}
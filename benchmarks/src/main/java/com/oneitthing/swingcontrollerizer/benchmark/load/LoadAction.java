@@ -0,0 +1,106 @@
+package com.oneitthing.swingcontrollerizer.benchmark.load;
+
+import java.util.List;
+
+import com.oneitthing.swingcontrollerizer.action.BaseAction;
+import com.oneitthing.swingcontrollerizer.controller.ParameterMapping;
+import com.oneitthing.swingcontrollerizer.event.ModelProcessEvent;
+import com.oneitthing.swingcontrollerizer.model.BaseModel;
+import com.oneitthing.swingcontrollerizer.model.Model;
+
+/**
+ * <p>[概 要] </p>
+ * 負荷生成用のアクションです。
+ *
+ * <p>[詳 細] </p>
+ * {@link LoadProfile#getModelClass()}のモデルを一件実行し、完了、失敗を
+ * {@link LoadController}に計数させます。<br>
+ * イベント種類毎に処理時間を計測する為、{@link ActionEventAction}、{@link KeyEventAction}、
+ * {@link MouseEventAction}に分けて紐付けます。
+ *
+ * <p>[備 考] </p>
+ *
+ */
+public class LoadAction extends BaseAction {
+
+	/**
+	 * <p>[概 要] </p>
+	 * ActionEventに紐付けるアクションです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	public static class ActionEventAction extends LoadAction {
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * KeyEventに紐付けるアクションです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	public static class KeyEventAction extends LoadAction {
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * MouseEventに紐付けるアクションです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	public static class MouseEventAction extends LoadAction {
+	}
+
+	@Override
+	protected void reserveModels(List<Class<? extends Model>> models) {
+		Class<? extends Model> modelClass = getProfile().getModelClass();
+		if (modelClass != null) {
+			models.add(modelClass);
+		}
+	}
+
+	@Override
+	public boolean nextModel(int index, ModelProcessEvent prev, Model next) throws Exception {
+		if (next instanceof BaseModel) {
+			((BaseModel)next).setAsync(getProfile().isAsync());
+		}
+		if (next instanceof StubModel) {
+			((StubModel)next).setLatency(getProfile().getModelLatency());
+			((StubModel)next).setPayload(getProfile().getPayload());
+		}
+		return true;
+	}
+
+	@Override
+	public void complete(ParameterMapping parameterMapping) throws Exception {
+		((LoadController)getController()).countCompleted();
+	}
+
+	@Override
+	public Exception failureForward(int index, Model model, Exception e) {
+		((LoadController)getController()).countFailed();
+		return e;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 負荷生成条件を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 負荷生成条件
+	 */
+	private LoadProfile getProfile() {
+		return ((LoadController)getController()).getProfile();
+	}
+}
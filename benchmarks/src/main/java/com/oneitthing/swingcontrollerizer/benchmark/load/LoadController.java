@@ -0,0 +1,121 @@
+package com.oneitthing.swingcontrollerizer.benchmark.load;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import com.oneitthing.swingcontrollerizer.controller.BaseController;
+import com.oneitthing.swingcontrollerizer.controller.ClientConfig;
+
+/**
+ * <p>[概 要] </p>
+ * 負荷生成用のコントローラです。
+ *
+ * <p>[詳 細] </p>
+ * イベントの紐付けは合成画面の生成時に{@link LoadGenerator}が行います。<br>
+ * アクションの完了件数、失敗件数を計数します。
+ *
+ * <p>[備 考] </p>
+ *
+ */
+public class LoadController extends BaseController {
+
+	/** 負荷生成条件です。 */
+	private LoadProfile profile;
+
+	/** completeまで到達したアクション数です。 */
+	private final LongAdder completed = new LongAdder();
+
+	/** モデルが失敗したアクション数です。 */
+	private final LongAdder failed = new LongAdder();
+
+	@Override
+	protected void initialize(ClientConfig config) {
+		// ヘッドレス環境ではダイアログを表示出来ない為、スタックトレースのみ出力
+		config.setShowErrorDialogOnExceptionTrap(false);
+		config.setMetricsJmxName("load");
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public LoadProfile getProfile() {
+		return profile;
+	}
+
+	/**
+	 *
+	 * @param profile
+	 */
+	public void setProfile(LoadProfile profile) {
+		this.profile = profile;
+		getClientConfig().setDuplicateActionInvoke(profile.isDuplicate());
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * completeまで到達したアクション数を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 完了したアクション数
+	 */
+	public long getCompleted() {
+		return this.completed.sum();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * モデルが失敗したアクション数を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 失敗したアクション数
+	 */
+	public long getFailed() {
+		return this.failed.sum();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * アクションの完了を計数します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	void countCompleted() {
+		this.completed.increment();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * アクションの失敗を計数します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	void countFailed() {
+		this.failed.increment();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * エクゼキュータ、タイマ等の資源を解放します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link #shutdown()}に処理委譲します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	public void close() {
+		shutdown();
+	}
+}
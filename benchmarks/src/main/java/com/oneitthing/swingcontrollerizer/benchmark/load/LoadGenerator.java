@@ -0,0 +1,520 @@
+package com.oneitthing.swingcontrollerizer.benchmark.load;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.EventQueue;
+import java.awt.GraphicsEnvironment;
+import java.awt.GridLayout;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseListener;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EventListener;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.swing.JButton;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JTextField;
+
+import com.oneitthing.swingcontrollerizer.action.AbstractAction;
+import com.oneitthing.swingcontrollerizer.controller.EventBinder;
+import com.oneitthing.swingcontrollerizer.metrics.ClassMetrics;
+import com.oneitthing.swingcontrollerizer.metrics.LatencyHistogram;
+import com.oneitthing.swingcontrollerizer.metrics.MetricsRegistry;
+
+/**
+ * <p>[概 要] </p>
+ * 合成画面に大量のイベントを発生させ、コントローラの処理性能を計測する負荷生成ハーネスです。
+ *
+ * <p>[詳 細] </p>
+ * 以下の手順で負荷を掛けます。
+ * <ol>
+ *   <li>{@link LoadProfile#getComponents()}個の名前付きコンポーネント（JButton、JTextField、JLabel）
+ *       を持つ合成画面を生成し、イベントを紐付けて登録します。</li>
+ *   <li>イベントディスパッチスレッドで、{@link LoadProfile#getRate()}件/秒のActionEvent、KeyEvent、
+ *       MouseEventを{@link LoadProfile}の比率でランダムなコンポーネントに発生させます。</li>
+ *   <li>ウォームアップ後に計測値を初期化し、{@link LoadProfile#getDuration()}秒間負荷を掛けます。</li>
+ *   <li>発生させた全イベントの処理完了を待ち、スループット、アクション処理時間（p50、p99）、
+ *       ヒープ増加量を標準出力に出力します。</li>
+ * </ol>
+ * アクション処理時間はhandlerFacade到達からcompleteまでの時間で、
+ * {@link MetricsRegistry#TOTAL}の計測値を使用します。
+ *
+ * <p>[備 考] </p>
+ * イベントはコンポーネントにフレームワークが追加したリスナに直接配送します。
+ * ヘッドレス環境ではフォーカスを持たないコンポーネントにKeyEventを配送出来ない為です。
+ *
+ */
+public class LoadGenerator {
+
+	/** ActionEventを発生させるコンポーネントの種類です。 */
+	private static final int ACTION = 0;
+
+	/** KeyEventを発生させるコンポーネントの種類です。 */
+	private static final int KEY = 1;
+
+	/** MouseEventを発生させるコンポーネントの種類です。 */
+	private static final int MOUSE = 2;
+
+	/** 一パネルに配置するコンポーネント数です。 */
+	private static final int PANEL_SIZE = 25;
+
+	/** イベント発生間隔（ミリ秒）です。 */
+	private static final long TICK = 10;
+
+	/** 処理完了を待つ上限（秒）です。 */
+	private static final long DRAIN_SECONDS = 60;
+
+	/** 負荷生成条件です。 */
+	private final LoadProfile profile;
+
+	/** 負荷を掛けるコントローラです。 */
+	private final LoadController controller;
+
+	/** 種類毎のイベント発生対象です。 */
+	private final List<List<Target>> targets = new ArrayList<List<Target>>();
+
+	/** イベント発生対象を決定する乱数です。イベントディスパッチスレッドのみが使用します。 */
+	private final SplittableRandom random;
+
+	/** 発生させたイベント数です。 */
+	private final LongAdder fired = new LongAdder();
+
+	/** 合成画面のウィンドウです。ヘッドレス環境の場合はnullです。 */
+	private JFrame frame;
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param profile 負荷生成条件
+	 */
+	public LoadGenerator(LoadProfile profile) {
+		this.profile = profile;
+		this.controller = new LoadController();
+		this.controller.setProfile(profile);
+		this.random = new SplittableRandom(profile.getSeed());
+		for (int i = 0; i < 3; i++) {
+			this.targets.add(new ArrayList<Target>());
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 負荷生成ハーネスを実行します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param args 「キー=値」形式の負荷生成条件
+	 * @throws Exception 負荷生成に失敗した場合
+	 */
+	public static void main(String[] args) throws Exception {
+		LoadGenerator generator = new LoadGenerator(LoadProfile.parse(args));
+		try {
+			generator.run();
+		} finally {
+			generator.close();
+		}
+		System.exit(0);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 合成画面を生成して負荷を掛け、結果を出力します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @throws Exception 負荷生成に失敗した場合
+	 */
+	public void run() throws Exception {
+		long heapBefore = usedHeapAfterGc();
+		EventQueue.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				buildScreen();
+			}
+		});
+		long heapScreen = usedHeapAfterGc();
+
+		fire(this.profile.getWarmup());
+		drain();
+		resetMetrics();
+		long firedBefore = this.fired.sum();
+		long completedBefore = this.controller.getCompleted() + this.controller.getFailed();
+
+		long start = System.nanoTime();
+		fire(this.profile.getDuration());
+		long window = System.nanoTime() - start;
+		long completedInWindow = this.controller.getCompleted() + this.controller.getFailed() - completedBefore;
+		boolean drained = drain();
+		long heapAfter = usedHeapAfterGc();
+
+		report(this.fired.sum() - firedBefore, completedInWindow, window, drained, heapBefore, heapScreen, heapAfter);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 合成画面を生成し、イベントを紐付けて登録します。
+	 *
+	 * <p>[詳 細] </p>
+	 * ディスプレイが有る環境ではJFrameを生成して{@link LoadController#registWindow(java.awt.Window)}で登録し、
+	 * ヘッドレス環境ではコンポーネントツリーを走査して{@link LoadController#bindEvents(Component)}で登録します。
+	 *
+	 * <p>[備 考] </p>
+	 * イベントディスパッチスレッドからコールして下さい。
+	 *
+	 */
+	private void buildScreen() {
+		EventBinder eventBinder = this.controller.getEventBinder();
+		JPanel root = new JPanel(new GridLayout(0, 1));
+		root.setName("loadFrame.root");
+		JPanel panel = null;
+		List<Component> components = new ArrayList<Component>();
+		for (int i = 0; i < this.profile.getComponents(); i++) {
+			if (i % PANEL_SIZE == 0) {
+				panel = new JPanel(new GridLayout(0, 5));
+				panel.setName("loadFrame.panel" + (i / PANEL_SIZE));
+				root.add(panel);
+			}
+			String name = "loadFrame.c" + i;
+			Component component;
+			switch (i % 3) {
+			case ACTION:
+				component = new JButton(name);
+				eventBinder.addEventBinding(name, ActionListener.class, "actionPerformed", LoadAction.ActionEventAction.class);
+				break;
+			case KEY:
+				component = new JTextField(name);
+				eventBinder.addEventBinding(name, KeyListener.class, "keyPressed", LoadAction.KeyEventAction.class);
+				break;
+			default:
+				component = new JLabel(name);
+				eventBinder.addEventBinding(name, MouseListener.class, "mouseClicked", LoadAction.MouseEventAction.class);
+				break;
+			}
+			component.setName(name);
+			panel.add(component);
+			components.add(component);
+		}
+
+		List<List<EventListener>> existing = new ArrayList<List<EventListener>>();
+		for (Component component : components) {
+			existing.add(Arrays.asList(listeners(component)));
+		}
+		if (GraphicsEnvironment.isHeadless()) {
+			bindTree(root);
+		} else {
+			this.frame = new JFrame("swing-controllerizer load");
+			this.frame.setContentPane(root);
+			this.frame.pack();
+			this.controller.registWindow(this.frame);
+		}
+		// フレームワークが追加したリスナのみをイベント発生対象にする
+		for (int i = 0; i < components.size(); i++) {
+			Component component = components.get(i);
+			List<EventListener> added = new ArrayList<EventListener>(Arrays.asList(listeners(component)));
+			added.removeAll(existing.get(i));
+			this.targets.get(i % 3).add(new Target(component, added.toArray(new EventListener[added.size()])));
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * ヘッドレス環境でコンポーネントツリーを登録します。
+	 *
+	 * <p>[詳 細] </p>
+	 * registWindowと同様に、包含するコンポーネントを再帰的に走査してbindEventsをコールします。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param component 登録するコンポーネント
+	 */
+	private void bindTree(Component component) {
+		this.controller.bindEvents(component);
+		if (component instanceof Container) {
+			for (Component child : ((Container)component).getComponents()) {
+				bindTree(child);
+			}
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentのイベント発生対象リスナを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param component コンポーネント
+	 * @return コンポーネントの種類に応じたリスナ
+	 */
+	private static EventListener[] listeners(Component component) {
+		if (component instanceof JButton) {
+			return ((JButton)component).getActionListeners();
+		} else if (component instanceof JTextField) {
+			return component.getKeyListeners();
+		}
+		return component.getMouseListeners();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数seconds秒間、一定の頻度でイベントを発生させます。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link #TICK}ミリ秒毎に、経過時間に対して不足しているイベント数を
+	 * 一括でイベントディスパッチスレッドに投入します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param seconds イベントを発生させる秒数
+	 * @throws InterruptedException 待機中に割り込まれた場合
+	 */
+	private void fire(int seconds) throws InterruptedException {
+		long start = System.nanoTime();
+		long end = start + TimeUnit.SECONDS.toNanos(seconds);
+		long posted = 0;
+		long now;
+		while ((now = System.nanoTime()) < end) {
+			long due = (long)((now - start) / 1e9 * this.profile.getRate());
+			final int count = (int)(due - posted);
+			if (count > 0) {
+				posted = due;
+				EventQueue.invokeLater(new Runnable() {
+					@Override
+					public void run() {
+						for (int i = 0; i < count; i++) {
+							fireOne();
+						}
+					}
+				});
+			}
+			Thread.sleep(TICK);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * ランダムなコンポーネントにイベントを一件発生させます。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link LoadProfile}の比率でイベント種類を決定します。
+	 *
+	 * <p>[備 考] </p>
+	 * イベントディスパッチスレッドからコールして下さい。
+	 *
+	 */
+	private void fireOne() {
+		int total = this.profile.getActionWeight() + this.profile.getKeyWeight() + this.profile.getMouseWeight();
+		int pick = this.random.nextInt(total);
+		int kind = pick < this.profile.getActionWeight() ? ACTION
+				: pick < this.profile.getActionWeight() + this.profile.getKeyWeight() ? KEY : MOUSE;
+		List<Target> candidates = this.targets.get(kind);
+		if (candidates.isEmpty()) {
+			return;
+		}
+		Target target = candidates.get(this.random.nextInt(candidates.size()));
+		long when = System.currentTimeMillis();
+		switch (kind) {
+		case ACTION:
+			ActionEvent actionEvent = new ActionEvent(target.component, ActionEvent.ACTION_PERFORMED, "load", when, 0);
+			for (EventListener listener : target.listeners) {
+				((ActionListener)listener).actionPerformed(actionEvent);
+			}
+			break;
+		case KEY:
+			KeyEvent keyEvent = new KeyEvent(target.component, KeyEvent.KEY_PRESSED, when, 0, KeyEvent.VK_A, 'a');
+			for (EventListener listener : target.listeners) {
+				((KeyListener)listener).keyPressed(keyEvent);
+			}
+			break;
+		default:
+			MouseEvent mouseEvent = new MouseEvent(target.component, MouseEvent.MOUSE_CLICKED, when, 0, 1, 1, 1, false);
+			for (EventListener listener : target.listeners) {
+				((MouseListener)listener).mouseClicked(mouseEvent);
+			}
+			break;
+		}
+		this.fired.increment();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 発生させた全イベントの処理完了を待ちます。
+	 *
+	 * <p>[詳 細] </p>
+	 * イベントディスパッチスレッドの投入済みイベントを処理させた後、
+	 * 完了、失敗したアクション数が発生させたイベント数に達するまで待ちます。
+	 *
+	 * <p>[備 考] </p>
+	 * 重複起動が抑止されたイベントはアクションが実行されない為、上限時間まで待つことが有ります。
+	 *
+	 * @return 全イベントの処理が完了した場合true
+	 * @throws Exception 待機中に割り込まれた場合
+	 */
+	private boolean drain() throws Exception {
+		EventQueue.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+			}
+		});
+		long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(DRAIN_SECONDS);
+		while (this.controller.getCompleted() + this.controller.getFailed() < this.fired.sum()) {
+			if (System.nanoTime() > end) {
+				return false;
+			}
+			Thread.sleep(TICK);
+		}
+		return true;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * ウォームアップ中の計測値を初期化します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private void resetMetrics() {
+		for (ClassMetrics metrics : this.controller.getClientConfig().getMetricsRegistry().getAllMetrics()) {
+			metrics.reset();
+		}
+		this.controller.getClientConfig().getEdtWatchdog().reset();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 計測結果を標準出力に出力します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param firedInWindow 計測期間中に発生させたイベント数
+	 * @param completedInWindow 計測期間中に完了したアクション数
+	 * @param window 計測期間（ナノ秒）
+	 * @param drained 全イベントの処理が完了したかどうか
+	 * @param heapBefore 合成画面生成前のヒープ使用量
+	 * @param heapScreen 合成画面生成後のヒープ使用量
+	 * @param heapAfter 負荷終了後のヒープ使用量
+	 */
+	private void report(long firedInWindow, long completedInWindow, long window, boolean drained,
+			long heapBefore, long heapScreen, long heapAfter) {
+		double seconds = window / 1e9;
+		System.out.printf("components=%d rate=%d/s duration=%ds mix=%d:%d:%d model=%s async=%s duplicate=%s headless=%s%n",
+				this.profile.getComponents(), this.profile.getRate(), this.profile.getDuration(),
+				this.profile.getActionWeight(), this.profile.getKeyWeight(), this.profile.getMouseWeight(),
+				this.profile.getModelClass() == null ? "none" : this.profile.getModelClass().getName(),
+				this.profile.isAsync(), this.profile.isDuplicate(), GraphicsEnvironment.isHeadless());
+		System.out.printf("fired=%d (%.1f/s) completed=%d (%.1f/s) failed=%d drained=%s%n",
+				firedInWindow, firedInWindow / seconds, completedInWindow, completedInWindow / seconds,
+				this.controller.getFailed(), drained);
+
+		MetricsRegistry registry = this.controller.getClientConfig().getMetricsRegistry();
+		System.out.printf("%-20s %10s %10s %10s %10s %10s%n", "action", "count", "p50(ms)", "p99(ms)", "max(ms)", "queue p99");
+		for (Class<? extends AbstractAction> actionClass : Arrays.asList(LoadAction.ActionEventAction.class,
+				LoadAction.KeyEventAction.class, LoadAction.MouseEventAction.class)) {
+			ClassMetrics metrics = registry.getMetrics(actionClass);
+			if (metrics == null) {
+				continue;
+			}
+			LatencyHistogram total = metrics.getHistogram(MetricsRegistry.TOTAL);
+			System.out.printf("%-20s %10d %10.2f %10.2f %10.2f %10.2f%n", actionClass.getSimpleName(),
+					total.getCount(), total.getPercentile(50) / 1e6, total.getPercentile(99) / 1e6, total.getMax() / 1e6,
+					metrics.getHistogram(MetricsRegistry.QUEUE).getPercentile(99) / 1e6);
+		}
+		System.out.printf("edt stalls=%d max dispatch=%dms%n",
+				this.controller.getClientConfig().getEdtWatchdog().getStallCount(),
+				this.controller.getClientConfig().getEdtWatchdog().getMaxDispatchMillis());
+		System.out.printf("heap before=%dKB screen=%dKB after=%dKB growth=%dKB%n",
+				heapBefore / 1024, heapScreen / 1024, heapAfter / 1024, (heapAfter - heapScreen) / 1024);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * ガベージコレクション後のヒープ使用量を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return ヒープ使用量（バイト）
+	 */
+	private static long usedHeapAfterGc() {
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 合成画面とコントローラの資源を解放します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	public void close() {
+		if (this.frame != null) {
+			this.frame.dispose();
+		}
+		this.controller.close();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * イベント発生対象のコンポーネントとリスナです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static final class Target {
+
+		/** コンポーネントです。 */
+		private final Component component;
+
+		/** フレームワークが追加したリスナです。 */
+		private final EventListener[] listeners;
+
+		/**
+		 * <p>[概 要] </p>
+		 * コンストラクタです。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @param component コンポーネント
+		 * @param listeners フレームワークが追加したリスナ
+		 */
+		private Target(Component component, EventListener[] listeners) {
+			this.component = component;
+			this.listeners = listeners;
+		}
+	}
+}
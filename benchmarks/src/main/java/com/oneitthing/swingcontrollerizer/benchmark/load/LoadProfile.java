@@ -0,0 +1,330 @@
+package com.oneitthing.swingcontrollerizer.benchmark.load;
+
+import com.oneitthing.swingcontrollerizer.model.Model;
+
+/**
+ * <p>[概 要] </p>
+ * 負荷生成の条件を保持するクラスです。
+ *
+ * <p>[詳 細] </p>
+ * {@link #parse(String[])}で「キー=値」形式の引数から生成します。指定可能なキーは以下です。
+ * <ul>
+ *   <li>components : 合成画面のコンポーネント数（デフォルト300）</li>
+ *   <li>rate : 一秒間に発生させるイベント数（デフォルト2000）</li>
+ *   <li>duration : 負荷を掛ける秒数（デフォルト30）</li>
+ *   <li>warmup : 計測前に負荷を掛ける秒数（デフォルト5）</li>
+ *   <li>mix : ActionEvent:KeyEvent:MouseEventの発生比率（デフォルト6:3:1）</li>
+ *   <li>model : アクションが実行するモデルのクラス名、noneの場合はモデルを実行しない（デフォルト{@link StubModel}）</li>
+ *   <li>modelLatency : {@link StubModel}のmainprocの処理時間（ミリ秒、デフォルト2）</li>
+ *   <li>payload : {@link StubModel}が一回の実行で生成するバイト数（デフォルト1024）</li>
+ *   <li>async : モデルを非同期実行するかどうか（デフォルトtrue）</li>
+ *   <li>duplicate : 実行中のアクションと同じイベントを受け付けるかどうか（デフォルトtrue）</li>
+ *   <li>seed : イベント発生対象を決定する乱数の種（デフォルト1）</li>
+ * </ul>
+ *
+ * <p>[備 考] </p>
+ *
+ */
+public class LoadProfile {
+
+	/** 合成画面のコンポーネント数です。 */
+	private int components = 300;
+
+	/** 一秒間に発生させるイベント数です。 */
+	private int rate = 2000;
+
+	/** 負荷を掛ける秒数です。 */
+	private int duration = 30;
+
+	/** 計測前に負荷を掛ける秒数です。 */
+	private int warmup = 5;
+
+	/** ActionEventの発生比率です。 */
+	private int actionWeight = 6;
+
+	/** KeyEventの発生比率です。 */
+	private int keyWeight = 3;
+
+	/** MouseEventの発生比率です。 */
+	private int mouseWeight = 1;
+
+	/** アクションが実行するモデルのクラスです。nullの場合はモデルを実行しません。 */
+	private Class<? extends Model> modelClass = StubModel.class;
+
+	/** StubModelのmainprocの処理時間（ミリ秒）です。 */
+	private int modelLatency = 2;
+
+	/** StubModelが一回の実行で生成するバイト数です。 */
+	private int payload = 1024;
+
+	/** モデルを非同期実行するかどうかです。 */
+	private boolean async = true;
+
+	/** 実行中のアクションと同じイベントを受け付けるかどうかです。 */
+	private boolean duplicate = true;
+
+	/** イベント発生対象を決定する乱数の種です。 */
+	private long seed = 1;
+
+	/**
+	 * <p>[概 要] </p>
+	 * 「キー=値」形式の引数から負荷生成条件を生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 指定されなかったキーはデフォルト値になります。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param args 「キー=値」形式の引数
+	 * @return 負荷生成条件
+	 * @throws Exception 不明なキー、不正な値が指定された場合
+	 */
+	@SuppressWarnings("unchecked")
+	public static LoadProfile parse(String[] args) throws Exception {
+		LoadProfile profile = new LoadProfile();
+		for (String arg : args) {
+			int index = arg.indexOf('=');
+			if (index < 0) {
+				throw new IllegalArgumentException("expected key=value: " + arg);
+			}
+			String key = arg.substring(0, index);
+			String value = arg.substring(index + 1);
+			switch (key) {
+			case "components": profile.setComponents(Integer.parseInt(value)); break;
+			case "rate": profile.setRate(Integer.parseInt(value)); break;
+			case "duration": profile.setDuration(Integer.parseInt(value)); break;
+			case "warmup": profile.setWarmup(Integer.parseInt(value)); break;
+			case "mix":
+				String[] weights = value.split(":");
+				if (weights.length != 3) {
+					throw new IllegalArgumentException("expected action:key:mouse: " + value);
+				}
+				profile.setActionWeight(Integer.parseInt(weights[0]));
+				profile.setKeyWeight(Integer.parseInt(weights[1]));
+				profile.setMouseWeight(Integer.parseInt(weights[2]));
+				break;
+			case "model":
+				profile.setModelClass("none".equals(value) ? null : (Class<? extends Model>)Class.forName(value));
+				break;
+			case "modelLatency": profile.setModelLatency(Integer.parseInt(value)); break;
+			case "payload": profile.setPayload(Integer.parseInt(value)); break;
+			case "async": profile.setAsync(Boolean.parseBoolean(value)); break;
+			case "duplicate": profile.setDuplicate(Boolean.parseBoolean(value)); break;
+			case "seed": profile.setSeed(Long.parseLong(value)); break;
+			default: throw new IllegalArgumentException("unknown key: " + key);
+			}
+		}
+		if (profile.getActionWeight() + profile.getKeyWeight() + profile.getMouseWeight() <= 0) {
+			throw new IllegalArgumentException("mix must have a positive weight");
+		}
+		return profile;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public int getComponents() {
+		return components;
+	}
+
+	/**
+	 *
+	 * @param components
+	 */
+	public void setComponents(int components) {
+		this.components = components;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public int getRate() {
+		return rate;
+	}
+
+	/**
+	 *
+	 * @param rate
+	 */
+	public void setRate(int rate) {
+		this.rate = rate;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public int getDuration() {
+		return duration;
+	}
+
+	/**
+	 *
+	 * @param duration
+	 */
+	public void setDuration(int duration) {
+		this.duration = duration;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public int getWarmup() {
+		return warmup;
+	}
+
+	/**
+	 *
+	 * @param warmup
+	 */
+	public void setWarmup(int warmup) {
+		this.warmup = warmup;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public int getActionWeight() {
+		return actionWeight;
+	}
+
+	/**
+	 *
+	 * @param actionWeight
+	 */
+	public void setActionWeight(int actionWeight) {
+		this.actionWeight = actionWeight;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public int getKeyWeight() {
+		return keyWeight;
+	}
+
+	/**
+	 *
+	 * @param keyWeight
+	 */
+	public void setKeyWeight(int keyWeight) {
+		this.keyWeight = keyWeight;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public int getMouseWeight() {
+		return mouseWeight;
+	}
+
+	/**
+	 *
+	 * @param mouseWeight
+	 */
+	public void setMouseWeight(int mouseWeight) {
+		this.mouseWeight = mouseWeight;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public Class<? extends Model> getModelClass() {
+		return modelClass;
+	}
+
+	/**
+	 *
+	 * @param modelClass
+	 */
+	public void setModelClass(Class<? extends Model> modelClass) {
+		this.modelClass = modelClass;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public int getModelLatency() {
+		return modelLatency;
+	}
+
+	/**
+	 *
+	 * @param modelLatency
+	 */
+	public void setModelLatency(int modelLatency) {
+		this.modelLatency = modelLatency;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public int getPayload() {
+		return payload;
+	}
+
+	/**
+	 *
+	 * @param payload
+	 */
+	public void setPayload(int payload) {
+		this.payload = payload;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public boolean isAsync() {
+		return async;
+	}
+
+	/**
+	 *
+	 * @param async
+	 */
+	public void setAsync(boolean async) {
+		this.async = async;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public boolean isDuplicate() {
+		return duplicate;
+	}
+
+	/**
+	 *
+	 * @param duplicate
+	 */
+	public void setDuplicate(boolean duplicate) {
+		this.duplicate = duplicate;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 *
+	 * @param seed
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+}
@@ -0,0 +1,48 @@
+package com.oneitthing.swingcontrollerizer.benchmark.load;
+
+import com.oneitthing.swingcontrollerizer.model.DefaultModel;
+
+/**
+ * <p>[概 要] </p>
+ * 負荷生成用のスタブモデルです。
+ *
+ * <p>[詳 細] </p>
+ * mainprocで指定時間スリープし、指定バイト数の配列を結果として生成します。<br>
+ * 処理時間、生成バイト数は{@link LoadAction}が{@link LoadProfile}から設定します。
+ *
+ * <p>[備 考] </p>
+ * 独自のスタブモデルを使用する場合は、{@link LoadProfile}のmodelにクラス名を指定して下さい。
+ *
+ */
+public class StubModel extends DefaultModel {
+
+	/** mainprocの処理時間（ミリ秒）です。 */
+	private int latency;
+
+	/** 一回の実行で生成するバイト数です。 */
+	private int payload;
+
+	/**
+	 *
+	 * @param latency
+	 */
+	public void setLatency(int latency) {
+		this.latency = latency;
+	}
+
+	/**
+	 *
+	 * @param payload
+	 */
+	public void setPayload(int payload) {
+		this.payload = payload;
+	}
+
+	@Override
+	protected void mainproc() throws Exception {
+		if (this.latency > 0) {
+			Thread.sleep(this.latency);
+		}
+		setResult(new byte[this.payload]);
+	}
+}
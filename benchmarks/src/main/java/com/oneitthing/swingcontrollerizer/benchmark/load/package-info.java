@@ -0,0 +1,10 @@
+/**
+ * 合成画面に大量のイベントを発生させる負荷生成ハーネスが含まれるパッケージです。
+ * <p>
+ * java -cp target/benchmarks.jar com.oneitthing.swingcontrollerizer.benchmark.load.LoadGenerator
+ * [キー=値 ...] で実行します。指定可能なキーは{@link com.oneitthing.swingcontrollerizer.benchmark.load.LoadProfile}
+ * を参照して下さい。<br>
+ * Xvfb等のディスプレイが有る環境では合成ウィンドウをregistWindowで登録し、
+ * -Djava.awt.headless=trueの環境ではウィンドウを生成せずにコンポーネントツリーを登録します。
+ */
+package com.oneitthing.swingcontrollerizer.benchmark.load;
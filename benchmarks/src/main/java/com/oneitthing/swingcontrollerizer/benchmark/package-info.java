@@ -0,0 +1,8 @@
+/**
+ * イベント配送、モデル実行パイプラインのJMHベンチマークが含まれるパッケージです。
+ * <p>
+ * ルートプロジェクトで mvn install を実行した後、このディレクトリで
+ * mvn package を実行し、java -jar target/benchmarks.jar で実行します。<br>
+ * 全てのベンチマークは-Djava.awt.headless=trueでフォークされたJVMで実行されます。
+ */
+package com.oneitthing.swingcontrollerizer.benchmark;
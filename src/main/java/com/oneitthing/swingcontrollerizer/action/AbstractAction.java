@@ -1,14 +1,17 @@
 package com.oneitthing.swingcontrollerizer.action;
 
-import java.awt.Color;
 import java.awt.Component;
 import java.awt.Window;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.EventListener;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.swing.JComponent;
 import javax.swing.event.EventListenerList;
@@ -17,18 +20,24 @@ import com.oneitthing.swingcontrollerizer.common.exception.CoreLogicException;
 import com.oneitthing.swingcontrollerizer.controller.AbstractController;
 import com.oneitthing.swingcontrollerizer.controller.BaseController;
 import com.oneitthing.swingcontrollerizer.controller.ClientConfig;
+import com.oneitthing.swingcontrollerizer.controller.ErrorComponentSnapshot;
 import com.oneitthing.swingcontrollerizer.controller.EventBinder;
 import com.oneitthing.swingcontrollerizer.controller.ParameterMapping;
 import com.oneitthing.swingcontrollerizer.listener.MessageDialogListener;
 import com.oneitthing.swingcontrollerizer.manager.WindowManager;
+import com.oneitthing.swingcontrollerizer.model.BaseModel;
+import com.oneitthing.swingcontrollerizer.model.Model;
 import com.oneitthing.swingcontrollerizer.parser.ComponentValue;
 import com.oneitthing.swingcontrollerizer.parser.ComponentValueParser;
 import com.oneitthing.swingcontrollerizer.parser.ComponentValues;
+import com.oneitthing.swingcontrollerizer.parser.FormSnapshot;
 import com.oneitthing.swingcontrollerizer.parser.Parser;
 import com.oneitthing.swingcontrollerizer.util.ComponentSearchUtil;
 import com.oneitthing.swingcontrollerizer.util.MessageDialogUtil;
 import com.oneitthing.swingcontrollerizer.validator.ValidateError;
 import com.oneitthing.swingcontrollerizer.validator.ValidateErrors;
+import com.oneitthing.swingcontrollerizer.validator.ValidationPlan;
+import com.oneitthing.swingcontrollerizer.validator.ValidationTask;
 import com.oneitthing.swingcontrollerizer.validator.Validator;
 
 /**
@@ -55,6 +64,9 @@ public abstract class AbstractAction implements Action {
 	/** このアクションを起動したコントローラです。 */
 	private AbstractController controller;
 
+	/** このアクションが予約し、実行中のモデルです。 */
+	private final Set<Model> activeModels = Collections.newSetFromMap(new ConcurrentHashMap<Model, Boolean>());
+
 	/**
 	 * <p>[概 要] </p>
 	 * MVC各レイヤを伝播するパラメータオブジェクトを取得します。
@@ -115,6 +127,63 @@ public abstract class AbstractAction implements Action {
 		this.controller = controller;
 	}
 
+	/**
+	 * <p>[概 要] </p>
+	 * 実行中のモデルを登録します。
+	 *
+	 * <p>[詳 細] </p>
+	 * activeModelsフィールドに引数modelを追加します。
+	 *
+	 * <p>[備 考] </p>
+	 * コントローラがモデル実行直前にコールします。
+	 *
+	 * @param model 実行するモデル
+	 */
+	public void addActiveModel(Model model) {
+		this.activeModels.add(model);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 実行中のモデルの登録を解除します。
+	 *
+	 * <p>[詳 細] </p>
+	 * activeModelsフィールドから引数modelを削除します。
+	 *
+	 * <p>[備 考] </p>
+	 * モデルが処理終了時にコールします。
+	 *
+	 * @param model 処理を終了したモデル
+	 */
+	public void removeActiveModel(Model model) {
+		this.activeModels.remove(model);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * このアクションが予約し、実行中のモデルを全て中止します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 実行中の各モデルに対して{@link BaseModel#cancel()}をコールします。<br>
+	 * 中止されたモデルは{@link com.oneitthing.swingcontrollerizer.common.exception.ModelCancelledException}
+	 * でモデル処理失敗イベントを発行する為、failureForwardで中止を検知出来ます。
+	 *
+	 * <p>[備 考] </p>
+	 * 画面のキャンセルボタン押下時や、ウィンドウクローズ時に使用します。
+	 *
+	 * @return 中止を要求したモデル数
+	 */
+	public int cancelModels() {
+		int count = 0;
+		for (Model model : this.activeModels) {
+			if (model instanceof BaseModel) {
+				((BaseModel)model).cancel();
+				count++;
+			}
+		}
+		return count;
+	}
+
 	/**
 	 * <p>[概 要] </p>
 	 * コントローラにコールされるアクションの主幹メソッドです。
@@ -157,10 +226,11 @@ public abstract class AbstractAction implements Action {
 		ValidateErrors validateErrors = new ValidateErrors();
 
 		try {
+			List<Component> elements = new ArrayList<Component>(validators.size());
 			for (Validator validator : validators) {
-				Component element = validator.getComponent();
-				returnElementStatusBeforeError(element);
+				elements.add(validator.getComponent());
 			}
+			returnElementStatusBeforeError(elements);
 
 			for (Validator validator : validators) {
 				// バリデート実行
@@ -177,6 +247,125 @@ public abstract class AbstractAction implements Action {
 		return validateErrors;
 	}
 
+	/**
+	 * <p>[概 要] </p>
+	 * バリデーションプランに従ってバリデーションを行うメソッドです。
+	 *
+	 * <p>[詳 細] </p>
+	 * planのルール毎に、自ウィンドウからルールのコンポーネント名を持つコンポーネントを取得し、
+	 * 値をルールで判定します。<br>
+	 * バリデーションエラーが発生した場合、エラー情報がValidateErrorオブジェクトに設定され、
+	 * 引数validateErrorsに追加されます。
+	 *
+	 * <p>[備 考] </p>
+	 * コンポーネントの取得と値の解析は、同じコンポーネントに複数のルールが有っても一度だけ行います。<br>
+	 * 自ウィンドウにコンポーネントが存在しないルールは判定しません。
+	 *
+	 * @param plan アクションクラス毎に組み立てられたバリデーションプラン
+	 * @param validateErrors バリデーションエラーを追加するリストオブジェクト
+	 * @throws Exception
+	 */
+	protected void validate(ValidationPlan plan, ValidateErrors validateErrors)
+			throws Exception {
+		try {
+			Window window = getOwnWindow();
+			List<ValidationPlan.Rule> rules = plan.getRules();
+
+			Map<String, Component> components = new HashMap<String, Component>();
+			List<Component> elements = new ArrayList<Component>();
+			for (ValidationPlan.Rule rule : rules) {
+				String name = rule.getComponentName();
+				if (!components.containsKey(name)) {
+					Component component = getComponent(window, name);
+					components.put(name, component);
+					if (component != null) {
+						elements.add(component);
+					}
+				}
+			}
+			returnElementStatusBeforeError(elements);
+
+			ComponentValueParser parser = new ComponentValueParser();
+			Map<String, ComponentValues> values = new HashMap<String, ComponentValues>();
+			for (ValidationPlan.Rule rule : rules) {
+				String name = rule.getComponentName();
+				Component component = components.get(name);
+				if (component == null) {
+					continue;
+				}
+				ComponentValues componentValues = values.get(name);
+				if (componentValues == null) {
+					componentValues = parser.parse(component);
+					values.put(name, componentValues);
+				}
+				// バリデート実行
+				if (componentValues != null && !rule.test(componentValues)) {
+					validateErrors.addError(new ValidateError(component,
+							rule.getMessage(), rule.getHeadWord()));
+				}
+			}
+		} catch (Exception e) {
+			throw new CoreLogicException("EFC0009", e);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 非同期バリデーションの為に、バリデーション対象コンポーネントの値を取得します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link #validate(List)}、{@link #validate(ValidationPlan, ValidateErrors)}と同じく
+	 * 対象コンポーネントをエラー前の状態に戻し、値を取得して判定前のValidationTaskを生成します。<br>
+	 * 判定自体は行いません。
+	 *
+	 * <p>[備 考] </p>
+	 * イベントディスパッチスレッドから呼び出して下さい。<br>
+	 * 生成したValidationTaskは{@link com.oneitthing.swingcontrollerizer.validator.ValidationEngine}
+	 * でワーカースレッドから判定されます。
+	 *
+	 * @param validators validatorsメソッドで設定されたバリデータオブジェクト群
+	 * @param plan アクションクラス毎に組み立てられたバリデーションプラン
+	 * @return 値を取得済みのバリデーション判定
+	 * @throws Exception
+	 */
+	protected ValidationTask snapshotValidation(List<Validator> validators, ValidationPlan plan)
+			throws Exception {
+		ValidationTask task = new ValidationTask();
+
+		try {
+			List<Component> elements = new ArrayList<Component>();
+			for (Validator validator : validators) {
+				elements.add(validator.getComponent());
+				task.addValidator(validator);
+			}
+
+			Window window = getOwnWindow();
+			ComponentValueParser parser = new ComponentValueParser();
+			Map<String, Component> components = new HashMap<String, Component>();
+			Map<String, ComponentValues> values = new HashMap<String, ComponentValues>();
+			for (ValidationPlan.Rule rule : plan.getRules()) {
+				String name = rule.getComponentName();
+				if (!components.containsKey(name)) {
+					Component component = getComponent(window, name);
+					components.put(name, component);
+					if (component != null) {
+						elements.add(component);
+						values.put(name, parser.parse(component));
+					}
+				}
+				Component component = components.get(name);
+				if (component != null) {
+					task.addRule(rule, component, values.get(name));
+				}
+			}
+			returnElementStatusBeforeError(elements);
+		} catch (Exception e) {
+			throw new CoreLogicException("EFC0009", e);
+		}
+
+		return task;
+	}
+
 	/**
 	 * <p>[概 要] </p>
 	 * バリデーションエラーが発生した時にコールされるメソッドです。
@@ -215,19 +404,17 @@ public abstract class AbstractAction implements Action {
 					String message = error.getMessage();
 					if(errorComponent instanceof JComponent) {
 
-						Map<Integer, Map<String, Object>> snapshot =
-							getController().getErrorComponentSnapshot().get(getOwnWindow().hashCode());
-						Map<String, Object> errorInfo = new HashMap<String, Object>();
+						ErrorComponentSnapshot snapshot = getController().getErrorComponentSnapshot();
+						Window window = getOwnWindow();
 
 						if (config.isComponentColorChangeOnValidationFault()) {
-							errorInfo.put("color", ((JComponent)errorComponent).getBackground());
+							snapshot.saveBackground(window, errorComponent);
 							((JComponent)errorComponent).setBackground(config.getComponentColorOnValidationFault());
 						}
 						if (config.isComponentTipChangeOnValidationFault()) {
-							errorInfo.put("tip", ((JComponent)errorComponent).getToolTipText());
+							snapshot.saveToolTipText(window, (JComponent)errorComponent);
 							((JComponent)errorComponent).setToolTipText(message);
 						}
-						snapshot.put(errorComponent.hashCode(), errorInfo);
 					}
 				}
 			}
@@ -239,42 +426,64 @@ public abstract class AbstractAction implements Action {
 	 * コンポーネントの背景色とチップをバリデーションエラー発生前の状態に戻します。
 	 *
 	 * <p>[詳 細] </p>
-	 * AbstractControllerに保存されているerrorComponentSnapshotオブジェクトから
+	 * AbstractControllerに保存されているErrorComponentSnapshotオブジェクトから
 	 * 引数で指定されたコンポーネントのエラー前状態を取得します。
 	 * エラー前状態（backgroundColor、tooltip）属性を取り出し、現在の
 	 * コンポーネントにセットします。
-	 * errorComponentSnapshotオブジェクトに引数指定されたコンポーネントが存在しなかった場合は、
-	 * 処理を行わずにfalseを返却します。
+	 * ErrorComponentSnapshotオブジェクトに引数指定されたコンポーネントが存在しなかった場合は、
+	 * 自ウィンドウを検索せずにfalseを返却します。
 	 *
 	 * <p>[備 考] </p>
+	 * 複数のコンポーネントを戻す場合は{@link #returnElementStatusBeforeError(Collection)}を使用して下さい。
 	 *
 	 * @param component 状態を元に戻すエレメント
 	 * @return true : 状態復帰
 	 */
 	protected boolean returnElementStatusBeforeError(Component component) {
-		boolean ret = false;
-
-		// バリデーションエラー前のコンポーネントを取得
-		Map<String, Object> errorInfo = getController()
-				.getErrorComponentSnapshot().get(getOwnWindow().hashCode()).get(component.hashCode());
-
-		// バリデーションエラー前のコンポーネントが有った場合
-		if (errorInfo != null) {
-			// 背景色を元に戻す
-			Color color = (Color)errorInfo.get("color");
-			if (color != null) {
-				component.setBackground(color);
-			}
-			// ツールチップを元に戻す
-			String tip = (String)errorInfo.get("tip");
-			if (tip != null) {
-				((JComponent)component).setToolTipText(tip);
-			}
-			// 状態復帰処理成功
-			ret = true;
+		ErrorComponentSnapshot snapshot = getController().getErrorComponentSnapshot();
+		if (!snapshot.isFaulted(Collections.singletonList(component))) {
+			return false;
 		}
+		return snapshot.restore(getOwnWindow(), component);
+	}
 
-		return ret;
+	/**
+	 * <p>[概 要] </p>
+	 * 複数のコンポーネントの背景色とチップをまとめてバリデーションエラー発生前の状態に戻します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link ErrorComponentSnapshot#restore(Window, Collection)}に処理委譲します。<br>
+	 * エラー前状態の取り出しと反映は、コンポーネント数に関わらず一回で行われます。
+	 *
+	 * <p>[備 考] </p>
+	 * いずれのコンポーネントもエラー前状態を保持していない場合は、自ウィンドウを検索せずに0を返却します。
+	 * ウィンドウに属さないコンポーネントをバリデートする場合も、エラー表示していなければ例外になりません。
+	 *
+	 * @param components 状態を元に戻すエレメント群
+	 * @return 状態を戻したエレメント数
+	 */
+	protected int returnElementStatusBeforeError(Collection<? extends Component> components) {
+		ErrorComponentSnapshot snapshot = getController().getErrorComponentSnapshot();
+		if (!snapshot.isFaulted(components)) {
+			return 0;
+		}
+		return snapshot.restore(getOwnWindow(), components);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 自ウィンドウでバリデーションエラーを起こしている全コンポーネントを、エラー発生前の状態に戻します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link ErrorComponentSnapshot#restoreAll(Window)}に処理委譲します。
+	 *
+	 * <p>[備 考] </p>
+	 * 入力内容のクリア処理等で、エラー表示を一括して消す場合に使用します。
+	 *
+	 * @return 状態を戻したエレメント数
+	 */
+	protected int returnAllElementStatusBeforeError() {
+		return getController().getErrorComponentSnapshot().restoreAll(getOwnWindow());
 	}
 
 	/**
@@ -763,6 +972,71 @@ public abstract class AbstractAction implements Action {
 		return ret;
 	}
 
+	/**
+	 * <p>[概 要] </p>
+	 * このActionを発生させたコンポーネントが属するウィンドウの値を一括取得します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 自ウィンドウレベルコンポーネント({@link #getOwnWindow()})を一度だけ走査し、
+	 * name属性を持つ全てのコンポーネントの値を保持する{@link FormSnapshot}を返却します。
+	 *
+	 * <p>[備 考] </p>
+	 * 多数のコンポーネント値を参照する場合、getComponentValueを繰り返し呼び出すより高速です。<br>
+	 * 戻り値は不変の為、モデルに渡してワーカースレッドから参照することが出来ます。<br>
+	 * 自ウィンドウが無い場合は、値を一つも保持しないスナップショットを返却します。
+	 *
+	 * @return 自ウィンドウのスナップショット
+	 * @throws Exception
+	 */
+	protected FormSnapshot takeFormSnapshot() throws Exception {
+		FormSnapshot ret = null;
+
+		Window window = getOwnWindow();
+		ret = takeFormSnapshot(window);
+
+		return ret;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数windowNameで指定されたウィンドウの値を一括取得します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link #takeFormSnapshot(Component)}に処理委譲します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param windowName 値を取得するウィンドウレベルコンポーネントの名前
+	 * @return ウィンドウのスナップショット
+	 * @throws Exception
+	 */
+	protected FormSnapshot takeFormSnapshot(String windowName) throws Exception {
+		FormSnapshot ret = null;
+
+		Window window = getWindow(windowName);
+		ret = takeFormSnapshot(window);
+
+		return ret;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数fromとその子孫の値を一括取得します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link FormSnapshot#capture(Component)}に処理委譲します。
+	 *
+	 * <p>[備 考] </p>
+	 * パネル等、ウィンドウの一部分だけを取得する場合に使用します。
+	 *
+	 * @param from 値を取得するルートコンポーネント、nullの場合は空のスナップショットを返却
+	 * @return スナップショット
+	 * @throws Exception
+	 */
+	protected FormSnapshot takeFormSnapshot(Component from) throws Exception {
+		return FormSnapshot.capture(from);
+	}
+
 	/**
 	 * <p>[概 要] </p>
 	 * 引数windowを表示します。
@@ -0,0 +1,393 @@
+package com.oneitthing.swingcontrollerizer.action;
+
+import java.awt.Component;
+import java.awt.Window;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.JTextComponent;
+
+import com.oneitthing.swingcontrollerizer.common.exception.CoreLogicException;
+import com.oneitthing.swingcontrollerizer.controller.BaseController;
+import com.oneitthing.swingcontrollerizer.controller.ClientConfig;
+import com.oneitthing.swingcontrollerizer.controller.InstanceFactory;
+import com.oneitthing.swingcontrollerizer.controller.ParameterMapping;
+import com.oneitthing.swingcontrollerizer.parser.ComponentValueParser;
+import com.oneitthing.swingcontrollerizer.parser.ComponentValues;
+import com.oneitthing.swingcontrollerizer.validator.ValidateError;
+import com.oneitthing.swingcontrollerizer.validator.ValidateErrors;
+import com.oneitthing.swingcontrollerizer.validator.ValidationEngine;
+import com.oneitthing.swingcontrollerizer.validator.ValidationPlan;
+import com.oneitthing.swingcontrollerizer.validator.ValidationTask;
+import com.oneitthing.swingcontrollerizer.validator.Validator;
+
+/**
+ * <p>[概 要] </p>
+ * アクションのバリデーションを、テキスト入力中に変更されたフィールドだけ再実行するクラスです。
+ *
+ * <p>[詳 細] </p>
+ * アクションクラスの{@link BaseAction#validators(List)}、{@link BaseAction#validationPlan(ValidationPlan)}
+ * で登録された判定をフィールド（対象コンポーネント）毎にまとめ、テキストコンポーネントの
+ * Documentの変更を監視します。<br>
+ * 最後の入力から{@link ClientConfig#getValidationDebounceDelay()}ミリ秒入力が無かった時点で、
+ * 変更されたフィールドの値だけをイベントディスパッチスレッドで取得し、
+ * 判定を{@link ValidationEngine}でワーカースレッドに並列に投入します。<br>
+ * 判定終了後、イベントディスパッチスレッドで対象フィールドをエラー前の状態に戻し、
+ * エラーの有ったフィールドについて{@link AbstractAction#validationFault(ValidateErrors)}をコールします。
+ * <p>
+ *
+ * 判定中に同じフィールドが再度変更された場合、古い判定結果は破棄されます。
+ *
+ * <p>[備 考] </p>
+ * 監視対象はJTextComponentのフィールドのみです。その他のコンポーネントはアクション実行時にバリデーションされます。<br>
+ * バリデータはインストール時に一度だけ{@link BaseAction#validators(List)}で生成され、
+ * ワーカースレッドから{@link Validator#execute(ComponentValues)}で判定されます。<br>
+ * ウィンドウがコントローラに登録（windowOpened）された後にインストールして下さい。
+ * インストール、アンインストールはイベントディスパッチスレッドから行って下さい。
+ *
+ * <b>使い方</b></p>
+ * <pre class="samplecode">
+ *	public class EntryFrameOpenedAction extends BaseAction {
+ *		&#064;Override
+ *		protected boolean prepare(ParameterMapping parameterMapping) throws Exception {
+ *			AsYouTypeValidation.install(getController(), getOwnWindow(), EntrySubmitAction.class);
+ *			return false;
+ *		}
+ *	}
+ * </pre>
+ *
+ */
+public final class AsYouTypeValidation {
+
+	/** 判定を実行するアクションです。エラー表示、エラー前状態への復帰に使用します。 */
+	private final BaseAction action;
+
+	/** コンポーネント毎の判定です。 */
+	private final Map<Component, Field> fields = new LinkedHashMap<Component, Field>();
+
+	/** 最後の判定以降に変更されたフィールドです。 */
+	private final Set<Field> dirty = new LinkedHashSet<Field>();
+
+	/** 入力が途切れるまで判定を遅らせるタイマです。 */
+	private final Timer timer;
+
+	/** アンインストール済みかどうかです。 */
+	private boolean uninstalled;
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 * {@link #install(BaseController, Window, Class)}で生成します。
+	 *
+	 * @param action 判定を実行するアクション
+	 * @param delay 最後の入力から判定までのミリ秒
+	 */
+	private AsYouTypeValidation(BaseAction action, int delay) {
+		this.action = action;
+		this.timer = new Timer(delay, new ActionListener() {
+			public void actionPerformed(ActionEvent e) {
+				validateDirtyFields();
+			}
+		});
+		this.timer.setRepeats(false);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数windowのテキストフィールドに、引数actionClassのバリデーションを入力中に実行する監視を追加します。
+	 *
+	 * <p>[詳 細] </p>
+	 * actionClassを生成し、windowを自ウィンドウとして判定を収集します。<br>
+	 * 判定の無いフィールド、テキストコンポーネント以外のフィールドは監視しません。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param controller コントローラ
+	 * @param window 監視するウィンドウ
+	 * @param actionClass バリデーションを登録しているアクションクラス
+	 * @return 監視を解除する為のオブジェクト
+	 * @throws Exception アクションの生成、バリデータの生成に失敗した場合
+	 */
+	public static AsYouTypeValidation install(BaseController controller, Window window,
+			Class<? extends BaseAction> actionClass) throws Exception {
+		BaseAction action = InstanceFactory.newInstance(actionClass);
+		action.setController(controller);
+		ParameterMapping parameterMapping = new ParameterMapping();
+		parameterMapping.setListenerAddedComponent(window);
+		action.setParameterMapping(parameterMapping);
+
+		AsYouTypeValidation ret = new AsYouTypeValidation(action,
+				controller.getClientConfig().getValidationDebounceDelay());
+
+		List<Validator> validators = new ArrayList<Validator>();
+		action.validators(validators);
+		for (Validator validator : validators) {
+			ret.field(validator.getComponent()).validators.add(validator);
+		}
+		for (ValidationPlan.Rule rule : action.getValidationPlan().getRules()) {
+			Component component = action.getComponent(window, rule.getComponentName());
+			if (component != null) {
+				ret.field(component).rules.add(rule);
+			}
+		}
+
+		for (Field field : ret.fields.values()) {
+			if (field.component instanceof JTextComponent) {
+				((JTextComponent)field.component).getDocument().addDocumentListener(field);
+			}
+		}
+
+		return ret;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 監視を解除します。
+	 *
+	 * <p>[詳 細] </p>
+	 * Documentの監視を解除し、待機中の判定を破棄します。<br>
+	 * 判定中の結果は反映されません。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	public void uninstall() {
+		this.uninstalled = true;
+		this.timer.stop();
+		this.dirty.clear();
+		for (Field field : this.fields.values()) {
+			if (field.component instanceof JTextComponent) {
+				((JTextComponent)field.component).getDocument().removeDocumentListener(field);
+			}
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentのフィールドを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 未生成の場合は生成して登録します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param component 判定対象コンポーネント
+	 * @return フィールド
+	 */
+	private Field field(Component component) {
+		Field ret = this.fields.get(component);
+		if (ret == null) {
+			ret = new Field(component);
+			this.fields.put(component, ret);
+		}
+
+		return ret;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数fieldを変更済みにし、判定を遅らせるタイマを再始動します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 * イベントディスパッチスレッド以外でDocumentが変更された場合は、
+	 * イベントディスパッチスレッドに切り替えて処理します。
+	 *
+	 * @param field 変更されたフィールド
+	 */
+	private void changed(final Field field) {
+		if (!SwingUtilities.isEventDispatchThread()) {
+			SwingUtilities.invokeLater(new Runnable() {
+				public void run() {
+					changed(field);
+				}
+			});
+			return;
+		}
+		if (this.uninstalled) {
+			return;
+		}
+		field.generation++;
+		this.dirty.add(field);
+		this.timer.restart();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 変更済みのフィールドを判定します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 変更済みフィールドの値をイベントディスパッチスレッドで取得し、
+	 * 判定をワーカースレッドに投入します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private void validateDirtyFields() {
+		if (this.uninstalled || this.dirty.isEmpty()) {
+			return;
+		}
+		final List<Field> batch = new ArrayList<Field>(this.dirty);
+		this.dirty.clear();
+
+		final int[] generations = new int[batch.size()];
+		ValidationTask task = new ValidationTask();
+		try {
+			ComponentValueParser parser = new ComponentValueParser();
+			for (int i = 0; i < generations.length; i++) {
+				Field field = batch.get(i);
+				generations[i] = field.generation;
+				for (Validator validator : field.validators) {
+					task.addValidator(validator);
+				}
+				if (!field.rules.isEmpty()) {
+					ComponentValues values = parser.parse(field.component);
+					for (ValidationPlan.Rule rule : field.rules) {
+						task.addRule(rule, field.component, values);
+					}
+				}
+			}
+		} catch (Exception e) {
+			failed(e);
+			return;
+		}
+
+		ValidationEngine.submit(task, this.action.getController().getClientConfig().getModelExecutor(),
+				new ValidationEngine.Callback() {
+					public void validated(ValidateErrors errors) {
+						apply(batch, generations, errors);
+					}
+
+					public void failed(Exception e) {
+						AsYouTypeValidation.this.failed(e);
+					}
+				});
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 判定結果をフィールドに反映します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 判定後に再度変更されていないフィールドをエラー前の状態に戻し、
+	 * それらのフィールドのエラーをvalidationFaultに渡します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param batch 判定したフィールド
+	 * @param generations 値取得時のフィールド毎の世代
+	 * @param errors 判定結果
+	 */
+	private void apply(List<Field> batch, int[] generations, ValidateErrors errors) {
+		if (this.uninstalled) {
+			return;
+		}
+		Set<Component> current = Collections.newSetFromMap(new IdentityHashMap<Component, Boolean>());
+		for (int i = 0; i < generations.length; i++) {
+			Field field = batch.get(i);
+			if (field.generation == generations[i]) {
+				current.add(field.component);
+			}
+		}
+		this.action.returnElementStatusBeforeError(current);
+
+		ValidateErrors faults = new ValidateErrors();
+		for (int i = 0; i < errors.size(); i++) {
+			ValidateError error = errors.getError(i);
+			if (current.contains(error.getComponent())) {
+				faults.addError(error);
+			}
+		}
+		if (faults.hasError()) {
+			this.action.validationFault(faults);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 判定の失敗をアクションに通知します。
+	 *
+	 * <p>[詳 細] </p>
+	 * EFC0009のCoreLogicExceptionを{@link BaseAction#trap(Exception)}に渡します。<br>
+	 * 入力中のバリデーションは補助的な為、trapが返却した例外は
+	 * {@link ClientConfig#isPrintStackTraceOnExceptionTrap()}に従って出力するのみです。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param e 判定中に発生した例外
+	 */
+	private void failed(Exception e) {
+		Exception trapped = this.action.trap(new CoreLogicException("EFC0009", e));
+		if (trapped != null && this.action.getController().getClientConfig().isPrintStackTraceOnExceptionTrap()) {
+			trapped.printStackTrace();
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 一つの判定対象コンポーネントと、その判定です。
+	 *
+	 * <p>[詳 細] </p>
+	 * Documentの変更を監視し、変更時にフィールドを変更済みにします。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private final class Field implements DocumentListener {
+
+		/** 判定対象コンポーネントです。 */
+		private final Component component;
+
+		/** このコンポーネントを対象とするバリデータです。 */
+		private final List<Validator> validators = new ArrayList<Validator>();
+
+		/** このコンポーネントを対象とするバリデーションプランのルールです。 */
+		private final List<ValidationPlan.Rule> rules = new ArrayList<ValidationPlan.Rule>();
+
+		/** 変更毎に増加する世代です。古い判定結果の破棄に使用します。 */
+		private int generation;
+
+		/**
+		 * <p>[概 要] </p>
+		 * コンストラクタです。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @param component 判定対象コンポーネント
+		 */
+		Field(Component component) {
+			this.component = component;
+		}
+
+		public void insertUpdate(DocumentEvent e) {
+			changed(this);
+		}
+
+		public void removeUpdate(DocumentEvent e) {
+			changed(this);
+		}
+
+		public void changedUpdate(DocumentEvent e) {
+			// 属性の変更は値に影響しない
+		}
+	}
+}
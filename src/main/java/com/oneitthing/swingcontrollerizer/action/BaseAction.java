@@ -1,14 +1,20 @@
 package com.oneitthing.swingcontrollerizer.action;
 
+import java.awt.Component;
+import java.awt.Window;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.oneitthing.swingcontrollerizer.controller.BaseController;
 import com.oneitthing.swingcontrollerizer.controller.EventBinder;
+import com.oneitthing.swingcontrollerizer.controller.ModelGraph;
 import com.oneitthing.swingcontrollerizer.controller.ParameterMapping;
 import com.oneitthing.swingcontrollerizer.event.ModelProcessEvent;
+import com.oneitthing.swingcontrollerizer.metrics.MetricsRegistry;
 import com.oneitthing.swingcontrollerizer.model.Model;
 import com.oneitthing.swingcontrollerizer.validator.ValidateErrors;
+import com.oneitthing.swingcontrollerizer.validator.ValidationPlan;
 import com.oneitthing.swingcontrollerizer.validator.Validator;
 
 /**
@@ -236,6 +242,26 @@ import com.oneitthing.swingcontrollerizer.validator.Validator;
  */
 public class BaseAction extends AbstractAction {
 
+	/** アクションクラス毎に組み立て済みのバリデーションプランです。 */
+	private static final ClassValue<AtomicReference<ValidationPlan>> VALIDATION_PLANS =
+		new ClassValue<AtomicReference<ValidationPlan>>() {
+			@Override
+			protected AtomicReference<ValidationPlan> computeValue(Class<?> type) {
+				return new AtomicReference<ValidationPlan>();
+			}
+		};
+
+	/** アクションクラス毎に{@link #validators(List)}から組み立てたバリデーションプランです。 */
+	private static final ClassValue<AtomicReference<ValidationPlan>> COMPILED_PLANS =
+		new ClassValue<AtomicReference<ValidationPlan>>() {
+			@Override
+			protected AtomicReference<ValidationPlan> computeValue(Class<?> type) {
+				return new AtomicReference<ValidationPlan>();
+			}
+		};
+
+	/** {@link #validators(List)}をプランに変換出来ないアクションクラスを表すプランです。 */
+	private static final ValidationPlan NOT_COMPILABLE = new ValidationPlan();
 
 	@Override
 	public BaseController getController() {
@@ -253,8 +279,10 @@ public class BaseAction extends AbstractAction {
 	 * 		<li>{@link #prepare(ParameterMapping)}　：　前準備の実装、クライアント完結コードの実装</li>
 	 * 		<li>{@link #validators(List)}　：　バリデータオブジェクトの登録</li>
 	 * 		<li>{@link #validate(List)}　：　バリデーションの実行</li>
+	 * 		<li>{@link #validate(ValidationPlan, ValidateErrors)}　：　バリデーションプラン（{@link #validationPlan(ValidationPlan)}）の実行</li>
 	 * 		<li>{@link #validationFault(ValidateErrors)}　：　バリデーションエラーハンドリング</li>
 	 * 		<li>{@link #reserveModels(List)}　：　実行モデルの登録</li>
+	 * 		<li>{@link #reserveModelGraph(ModelGraph)}　：　依存関係付き実行モデルの登録</li>
 	 * 	</ol>
 	 * <p>
 	 * 上記のコールフロー終了後、ParameterMappingオブジェクトがコントローラに返却されます。
@@ -263,6 +291,13 @@ public class BaseAction extends AbstractAction {
 	 * ValidateErrorオブジェクトを返却した場合、<br>
 	 * コントローラに返却されるParameterMappingオブジェクトはnullになります。<br>
 	 * nullのParameterMappingを受け取ったコントローラは以降の処理を中止します。
+	 * <p>
+	 * {@link #isValidateAsync()}がtrueの場合、validateの代わりに値のみを取得した
+	 * ValidationTaskをParameterMappingに設定して返却します。
+	 * <p>
+	 * validatorsで登録されたバリデータが全てバリデーションプランに変換出来る場合、
+	 * 最初のイベントで変換したプランをアクションクラス毎に再利用し、以降のイベントでは
+	 * validatorsをコールしません（{@link #isValidatorsStatic()}）。
 	 *
 	 * <p>[備 考]</p>
 	 * このメソッドを実装する必要は有りません。
@@ -271,25 +306,47 @@ public class BaseAction extends AbstractAction {
 	 * @return 継承Actionから収集した、コントローラに返却される制御情報
 	 */
 	public ParameterMapping run(ParameterMapping parameterMapping) throws Exception{
+		MetricsRegistry metrics = getController() == null ? MetricsRegistry.DISABLED
+				: getController().getClientConfig().getMetricsRegistry();
+		// 計測中のフェーズ。例外発生時にエラーとして記録する
+		int phase = MetricsRegistry.PREPARE;
+		long phaseStart = System.nanoTime();
 		try{
 			super.run(parameterMapping);
 
 			// 前準備メソッドをテンプレートコール
 			// falseが返却された場合はAction、Controller共に処理中止
-			if(!prepare(parameterMapping)) return null;
+			boolean prepared = prepare(parameterMapping);
+			metrics.record(getClass(), phase, System.nanoTime() - phaseStart, false);
+			if(!prepared) return null;
 
+			phase = MetricsRegistry.VALIDATE;
+			phaseStart = System.nanoTime();
 			// validatorsテンプレートメソッドから予約されたValidatorインスタンスリストを取得
+			// プランに変換済みの場合は、変換したプランのみを使用する
 			List<Validator> validators =
 				new ArrayList<Validator>();
-			validators(validators);
-
-			// validatorsテンプレートメソッドで予約されたバリデーションを実行
-			ValidateErrors validateErrors = validate(validators);
-			if(validateErrors.hasError()){
-				// エラーが一つでも有ればvalidationFaultをテンプレートコール
-				validationFault(validateErrors);
-				// Controllerの処理中止
-				return null;
+			ValidationPlan plan = getCompiledValidationPlan(validators);
+			if(isValidateAsync()){
+				// 値の取得のみ行い、判定はコントローラがワーカースレッドで実行する
+				parameterMapping.setValidationTask(snapshotValidation(validators, plan));
+				phase = -1;
+			}else{
+				// validatorsテンプレートメソッドで予約されたバリデーションを実行
+				ValidateErrors validateErrors = validate(validators);
+				// アクションクラス毎に組み立て済みのバリデーションプランを実行
+				if(!plan.isEmpty()){
+					validate(plan, validateErrors);
+				}
+				// バリデーションエラーはエラーとして記録
+				metrics.record(getClass(), phase, System.nanoTime() - phaseStart, validateErrors.hasError());
+				phase = -1;
+				if(validateErrors.hasError()){
+					// エラーが一つでも有ればvalidationFaultをテンプレートコール
+					validationFault(validateErrors);
+					// Controllerの処理中止
+					return null;
+				}
 			}
 
 			// reserveModelsテンプレートメソッドで予約されたModelクラスリストを取得
@@ -298,11 +355,24 @@ public class BaseAction extends AbstractAction {
 			reserveModels(modelClasses);
 			parameterMapping.setModelClasses(modelClasses);
 
+			// reserveModelGraphテンプレートメソッドで依存関係付きで予約されたModelクラス群を取得
+			ModelGraph modelGraph = new ModelGraph();
+			reserveModelGraph(modelGraph);
+			if(!modelGraph.isEmpty()) {
+				if(!modelClasses.isEmpty()) {
+					throw new IllegalStateException("reserveModels and reserveModelGraph cannot be used together.");
+				}
+				parameterMapping.setModelGraph(modelGraph);
+			}
+
 			// 予約モデル群の非同期実行フラグを取得（デフォルト：false）
 			boolean runModelsAndNoWait = isRunModelsAndNoWait();
 			parameterMapping.setRunModelsAndNoWait(runModelsAndNoWait);
 
 		}catch(Exception e){
+			if(phase >= 0) {
+				metrics.record(getClass(), phase, System.nanoTime() - phaseStart, true);
+			}
 			e = trap(e);
 			if(e != null){
 				throw e;
@@ -364,6 +434,39 @@ public class BaseAction extends AbstractAction {
 
 	}
 
+	/**
+	 * <p>[概 要] </p>
+	 * Action処理終了後、コントローラに実行させるモデルクラス群を依存関係付きで予約します。
+	 *
+	 * <p>[詳 細] </p>
+	 * デフォルト処理は有りません。<br>
+	 * ここで予約されたモデルは、依存先モデルが全て成功した時点で実行され、
+	 * 互いに依存しないモデルは並列に実行されます。<br>
+	 * 各モデルの処理結果は処理終了順にsuccessForwardでコールバックされ、
+	 * 全モデル終了後にcompleteがコールバックされます。<br>
+	 * nextModelの引数prevには、最後に成功した依存先モデルの処理結果イベント（依存先が無い場合null）が渡されます。
+	 * 全ての依存先の結果は{@link ModelGraph#getResult(int)}で参照出来ます。
+	 *
+	 * <p>[備 考] </p>
+	 * {@link #reserveModels(List)}と併用することは出来ません。<br>
+	 * このメソッドでモデルが予約された場合、{@link #isRunModelsAndNoWait()}は参照されず、
+	 * 同期モデル（isAsyncがfalse）であっても終了を待たずに次のモデルが実行されます。
+	 *
+	 * <pre class="samplecode">
+	 *    &#064;Override
+	 *    protected void reserveModelGraph(ModelGraph graph) {
+	 *        int user = graph.add(HTTPRequestCore.class);
+	 *        int master = graph.add(HTTPRequestCore.class);
+	 *        graph.add(HTTPRequestCore.class, user, master);
+	 *    }
+	 * </pre>
+	 *
+	 * @param graph 実行するモデルクラスを依存関係付きで格納するオブジェクト
+	 */
+	protected void reserveModelGraph(ModelGraph graph){
+
+	}
+
 	/**
 	 * <p>[概 要] </p>
 	 * 予約モデルがコントローラによって実行される直前にコールバックされるメソッドです。
@@ -405,6 +508,164 @@ public class BaseAction extends AbstractAction {
 
 	}
 
+	/**
+	 * <p>[概 要] </p>
+	 * {@link #validators(List)}で登録するバリデータがイベントによって変わらないかどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * デフォルトはtrueです。<br>
+	 * trueの場合、最初のイベントでvalidatorsに登録されたバリデータを名前指定のルールに変換して
+	 * アクションクラス毎にキャッシュし、以降のイベントではvalidatorsをコールせずに
+	 * コンポーネント値の取得と判定のみを行います。<br>
+	 * 組み込みバリデータ以外（継承クラスを含む）が登録された場合、
+	 * コンポーネントを名前で一意に取得出来ない場合は変換せず、毎回validatorsをコールします。
+	 *
+	 * <p>[備 考] </p>
+	 * 入力内容やインスタンスの状態によって登録するバリデータを変える場合は、
+	 * オーバーライドしてfalseを返却して下さい。
+	 *
+	 * @return validatorsの登録内容が常に同じ場合true
+	 */
+	protected boolean isValidatorsStatic() {
+		return true;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 名前指定のバリデーションルールを登録するメソッドです。
+	 *
+	 * <p>[詳 細] </p>
+	 * デフォルト処理は有りません。<br>
+	 * アクションクラス毎に最初のイベント時に一度だけコールされ、組み立てられたプランは
+	 * 以降の全イベントで再利用されます。イベント毎にはコンポーネント値の取得と判定のみが行われます。
+	 *
+	 * <p>[備 考] </p>
+	 * 一度しかコールされない為、インスタンスの状態やイベント内容に依存するルールは
+	 * {@link #validators(List)}で登録して下さい。
+	 *
+	 * @param plan バリデーションルールを登録するプラン
+	 */
+	protected void validationPlan(ValidationPlan plan) {
+
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * バリデーションをワーカースレッドで実行するかどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * デフォルトはfalseです。<br>
+	 * trueを返却すると、{@link #run(ParameterMapping)}はイベントディスパッチスレッドで
+	 * バリデーション対象の値を取得するのみで判定を行いません。<br>
+	 * コントローラが判定を並列に実行し、エラーが有った場合はイベントディスパッチスレッドで
+	 * {@link #validationFault(ValidateErrors)}をコールして処理を中止し、
+	 * エラーが無かった場合は予約されたモデルを実行します。
+	 *
+	 * <p>[備 考] </p>
+	 * 大きなテキストへの正規表現等、判定に時間の掛かるバリデーションで入力が固まるのを防ぎます。<br>
+	 * 判定はワーカースレッドで行われる為、{@link #validators(List)}で登録するバリデータの
+	 * validateはSwingコンポーネントにアクセスしないよう実装して下さい。
+	 *
+	 * @return ワーカースレッドでバリデーションする場合はtrue
+	 */
+	protected boolean isValidateAsync() {
+		return false;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * このアクションクラスのバリデーションプランを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 未組み立ての場合は{@link #validationPlan(ValidationPlan)}をコールして組み立て、
+	 * アクションクラス毎にキャッシュします。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 組み立て済みのバリデーションプラン
+	 */
+	ValidationPlan getValidationPlan() {
+		AtomicReference<ValidationPlan> ref = VALIDATION_PLANS.get(getClass());
+		ValidationPlan ret = ref.get();
+		if(ret == null){
+			ret = new ValidationPlan();
+			validationPlan(ret);
+			ret.freeze();
+			if(!ref.compareAndSet(null, ret)){
+				ret = ref.get();
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * このイベントで実行するバリデーションプランを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link #validators(List)}から組み立てたプランがキャッシュされている場合は、
+	 * validatorsをコールせずにそのプランを返却します。<br>
+	 * 未組み立ての場合はvalidatorsをコールし、{@link #isValidatorsStatic()}がtrueで
+	 * 全てのバリデータを変換出来れば、{@link #getValidationPlan()}のルールと併せたプランを
+	 * キャッシュして返却します。<br>
+	 * 変換しない場合は、引数validatorsに登録されたバリデータを残して{@link #getValidationPlan()}を返却します。
+	 *
+	 * <p>[備 考] </p>
+	 * 変換したプランは、バリデータのルールを先に、validationPlanのルールを後に判定します。
+	 *
+	 * @param validators validatorsで登録されたバリデータを格納するリスト
+	 * @return このイベントで実行するバリデーションプラン
+	 */
+	ValidationPlan getCompiledValidationPlan(List<Validator> validators) {
+		AtomicReference<ValidationPlan> ref = COMPILED_PLANS.get(getClass());
+		ValidationPlan ret = ref.get();
+		if(ret != null && ret != NOT_COMPILABLE){
+			return ret;
+		}
+
+		validators(validators);
+		if(ret == null){
+			ret = isValidatorsStatic() ? compileValidators(validators) : null;
+			if(ret == null){
+				ref.compareAndSet(null, NOT_COMPILABLE);
+			}else{
+				ref.compareAndSet(null, ret);
+				validators.clear();
+				return ret;
+			}
+		}
+		return getValidationPlan();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数validatorsをバリデーションプランに変換します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 全てのバリデータについて、コンポーネントの名前で自ウィンドウから同じコンポーネントが
+	 * 取得出来ることを確認してからルールに変換します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param validators validatorsで登録されたバリデータ
+	 * @return 組み立てたプラン、一つでも変換出来ないバリデータが有った場合はnull
+	 */
+	private ValidationPlan compileValidators(List<Validator> validators) {
+		ValidationPlan ret = new ValidationPlan();
+		Window window = getOwnWindow();
+		for(Validator validator : validators){
+			Component component = validator.getComponent();
+			if(window == null || component == null || component.getName() == null
+					|| getComponent(window, component.getName()) != component
+					|| !ret.add(validator)){
+				return null;
+			}
+		}
+		ret.addAll(getValidationPlan());
+		ret.freeze();
+		return ret;
+	}
+
 	/**
 	 * <p>[概 要] </p>
 	 * モデル群実行を非シーケンシャルに行うかどうかを設定するメソッドです。
@@ -464,6 +725,30 @@ public class BaseAction extends AbstractAction {
 	public void successForward(int index, Model model, Object result) throws Exception {
 	}
 
+	/**
+	 * <p>[概 要] </p>
+	 * モデル処理の途中経過が通知された契機でコントローラにコールバックされるメソッドです。
+	 *
+	 * <p>[詳 細] </p>
+	 * モデルが{@link com.oneitthing.swingcontrollerizer.event.ModelProgressEvent}を発行する度に、
+	 * イベントディスパッチスレッドでコールバックされます。<br>
+	 * デフォルト処理は有りません。オーバーライドしてプログレスバー等に反映します。
+	 * <p>
+	 *
+	 * 例えばHTTPRequestCoreは、BINARYレスポンスの受信中に受信済みバイト数と
+	 * Content-Length（不明な場合は-1）を一定間隔で通知します。
+	 *
+	 * <p>[備 考] </p>
+	 * 途中経過はsuccessForwardには通知されず、後続モデルの起動契機にもなりません。
+	 *
+	 * @param index 途中経過を通知したモデルの実行インデックス
+	 * @param model 途中経過を通知したモデルインスタンス
+	 * @param transferred 処理済みの量
+	 * @param total 処理全体の量、不明な場合は-1
+	 */
+	public void progressForward(int index, Model model, long transferred, long total) throws Exception {
+	}
+
 	/**
 	 * <p>[概 要] </p>
 	 * モデル処理が異常終了した契機でコントローラにコールバックされるメソッドです。
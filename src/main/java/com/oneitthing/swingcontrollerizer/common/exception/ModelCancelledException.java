@@ -0,0 +1,37 @@
+package com.oneitthing.swingcontrollerizer.common.exception;
+
+/**
+ * <p>[概 要]</p>
+ * モデルの処理が中止された場合の例外クラスです。
+ * <p>[詳 細]</p>
+ * {@link com.oneitthing.swingcontrollerizer.model.BaseModel#cancel()}、又は
+ * {@link com.oneitthing.swingcontrollerizer.action.AbstractAction#cancelModels()}
+ * によって中止されたモデルは、この例外でモデル処理失敗イベントを発行します。<br>
+ * 利用者自身が中止した処理である為、デフォルトではユーザ通知を行いません。
+ * <p>[備 考]</p>
+ *
+ */
+public class ModelCancelledException extends CoreLogicException {
+	/** シリアルバージョンUID */
+	private static final long serialVersionUID = -3302585712766142719L;
+
+	/**
+	 * 原因例外を引数に取るコンストラクタです。
+	 *
+	 * @param e 中止によって発生した例外、無い場合はnull
+	 */
+	public ModelCancelledException(Throwable e) {
+		this("EFC1011", e);
+		setNotifyToUser(false);
+	}
+
+	/**
+	 * メッセージIDと原因例外を引数に取るコンストラクタです。
+	 *
+	 * @param id メッセージID
+	 * @param e 中止によって発生した例外、無い場合はnull
+	 */
+	protected ModelCancelledException(String id, Throwable e) {
+		super(id, e);
+	}
+}
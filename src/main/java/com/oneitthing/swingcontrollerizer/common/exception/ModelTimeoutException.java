@@ -0,0 +1,26 @@
+package com.oneitthing.swingcontrollerizer.common.exception;
+
+/**
+ * <p>[概 要]</p>
+ * モデルの処理がタイムアウトした場合の例外クラスです。
+ * <p>[詳 細]</p>
+ * {@link com.oneitthing.swingcontrollerizer.model.BaseModel#setTimeout(long)}、又は
+ * {@link com.oneitthing.swingcontrollerizer.controller.ParameterMapping#setDeadline(long)}
+ * で指定した時間内に処理が終わらなかったモデルは、処理を中止されてこの例外で
+ * モデル処理失敗イベントを発行します。
+ * <p>[備 考]</p>
+ *
+ */
+public class ModelTimeoutException extends ModelCancelledException {
+	/** シリアルバージョンUID */
+	private static final long serialVersionUID = 8816020744862337404L;
+
+	/**
+	 * 原因例外を引数に取るコンストラクタです。
+	 *
+	 * @param e タイムアウトによる中止で発生した例外、無い場合はnull
+	 */
+	public ModelTimeoutException(Throwable e) {
+		super("EFC1010", e);
+	}
+}
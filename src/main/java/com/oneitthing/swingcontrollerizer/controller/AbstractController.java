@@ -4,19 +4,14 @@ import java.awt.AWTEvent;
 import java.awt.Component;
 import java.awt.Container;
 import java.awt.Window;
-import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 import java.util.EventListener;
 import java.util.EventObject;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Vector;
 
 import javax.swing.JMenu;
-import javax.swing.SwingUtilities;
 
 import com.oneitthing.swingcontrollerizer.action.AbstractAction;
 import com.oneitthing.swingcontrollerizer.listener.ComponentCreationEvent;
@@ -24,6 +19,8 @@ import com.oneitthing.swingcontrollerizer.listener.ComponentCreationListener;
 import com.oneitthing.swingcontrollerizer.listener.ContainerListenerImpl;
 import com.oneitthing.swingcontrollerizer.listener.WindowOpenShutListener;
 import com.oneitthing.swingcontrollerizer.manager.WindowManager;
+import com.oneitthing.swingcontrollerizer.metrics.EdtWatchdog;
+import com.oneitthing.swingcontrollerizer.util.ComponentNameIndex;
 
 /**
  * <p>[概 要] </p>
@@ -89,10 +86,13 @@ public abstract class AbstractController implements Controller, WindowOpenShutLi
     private WindowManager windowManager;
 
     /** バリデーションエラーを起こしているコンポーネントの情報を管理するオブジェクトです。 */
-    private Map<Integer, Map<Integer, Map<String, Object>>> errorComponentSnapshot;
+    private ErrorComponentSnapshot errorComponentSnapshot;
 
-    /** 起動中イベントディスパッチスレッド識別子のリストです */
-    private volatile Vector<String> invokeThreadIds = new Vector<String>();
+    /** イベントソース、アクションクラス毎のアクション起動を制御するオブジェクトです */
+    private final EventAdmission eventAdmission = new EventAdmission();
+
+    /** グローバルイベントディスパッチモードの場合のAWTEventListenerです。 */
+    private GlobalEventDispatcher globalEventDispatcher;
 
     /**
      * <p>[概 要] </p>
@@ -225,7 +225,7 @@ public abstract class AbstractController implements Controller, WindowOpenShutLi
      *
      * @return バリデーションエラーを起こしているコンポーネントの情報を管理するオブジェクト
      */
-    public Map<Integer, Map<Integer, Map<String, Object>>> getErrorComponentSnapshot() {
+    public ErrorComponentSnapshot getErrorComponentSnapshot() {
         return errorComponentSnapshot;
     }
 
@@ -240,8 +240,7 @@ public abstract class AbstractController implements Controller, WindowOpenShutLi
      *
      * @param errorComponentSnapshot バリデーションエラーを起こしているコンポーネントの情報を管理するオブジェクト
      */
-    public void setErrorComponentSnapshot(
-            Map<Integer, Map<Integer, Map<String, Object>>> errorComponentSnapshot) {
+    public void setErrorComponentSnapshot(ErrorComponentSnapshot errorComponentSnapshot) {
         this.errorComponentSnapshot = errorComponentSnapshot;
     }
 
@@ -275,13 +274,18 @@ public abstract class AbstractController implements Controller, WindowOpenShutLi
         setPermanent(new HashMap<Object, Object>());
         WindowManager.getInstance().addWindowOpenShutListener(this);
         setWindowManager(WindowManager.getInstance());
-        setErrorComponentSnapshot(new HashMap<Integer, Map<Integer, Map<String, Object>>>());
+        setErrorComponentSnapshot(new ErrorComponentSnapshot());
 
         bind(getEventBinder());
 
         initialize(getClientConfig());
         postInitialize(getClientConfig());
 
+        if (getClientConfig().isGlobalEventDispatch()) {
+            this.globalEventDispatcher = new GlobalEventDispatcher(this);
+            this.globalEventDispatcher.install();
+        }
+
         Runtime.getRuntime().addShutdownHook(new Thread() {
             public void run() {
                 shutdown();
@@ -395,43 +399,43 @@ public abstract class AbstractController implements Controller, WindowOpenShutLi
      * 追加されたコンポーネントに対してイベントリスナを追加します。
      *
      * <p>[詳 細] </p>
-     * 引数listenerTypeのプロキシオブジェクトを生成して、
+     * 引数listenerTypeを実装したイベントリスナを生成して、
      * 引数componentにイベントリスナとして追加します。
      * <p>
      *
-     * Swingコンポーネントはイベントタイプによってイベント追加メソッド名が異なります。<br>
-     * 生成されたプロキシはJavaの命名規則「"add" + listenerTypeクラス名」に沿って
-     * 追加メソッド名を以下のように動的判別します。
+     * イベントリスナはリスナ型毎に決定された方法で生成されます。
+     * <ul>
+     *   <li>MouseListener、MouseMotionListener、KeyListener、FocusListener、WindowListener : 専用アダプタ</li>
+     *   <li>メソッドを一つだけ持つリスナ型 : LambdaMetafactoryで生成したリスナ</li>
+     *   <li>上記以外 : {@link EventInvocationHandler}を使用したプロキシ</li>
+     * </ul>
+     * <p>
      *
-     * <pre>
-     * 		String addMethodName = "add" + listenerType.getSimpleName();
-     *		Method addMethod = component.getClass().getMethod(addMethodName, listenerType);
-     *		addMethod.invoke(component, eventListener);
-     * </pre>
+     * Swingコンポーネントはイベントタイプによってイベント追加メソッド名が異なります。<br>
+     * Javaの命名規則「"add" + listenerTypeクラス名」に沿って追加メソッドを動的判別します。<br>
+     * 判別したメソッドはコンポーネントクラス、リスナ型毎にMethodHandleとしてキャッシュされます。
      *
      * <p>[備 考] </p>
-     * プロキシ内のハンドラでは発生したイベントタイプを引数eventTypesと比較、
-     * eventTypesに含まれるハンドラメソッドが呼ばれる場合は
-     * {@link #handlerFacade(EventObject, Class, String, EventListener)}
-     * をコールします。
-     *
-     * @param component イベントリスナプロキシを追加するコンポーネント
-     * @param listenerType プロキシの原型
+     * 生成されたリスナは発生したイベントタイプが引数eventTypesに含まれる場合のみ
+     * {@link #handlerFacade(EventObject, Class, String, EventListener, Component)}
+     * をコールします。<br>
+     * {@link ClientConfig#isGlobalEventDispatch()}がtrueで、引数listenerTypeが
+     * AWTイベントキュー経由でハンドルされるリスナ型の場合はイベントリスナを追加しません。
+     *
+     * @param component イベントリスナを追加するコンポーネント
+     * @param listenerType イベントリスナ型
      * @param eventTypes イベントハンドラメソッド名リスト
      */
     public void addListener(Component component,
             Class<? extends EventListener> listenerType,
             List<String> eventTypes) {
+        if (this.globalEventDispatcher != null && GlobalEventDispatcher.isCovered(listenerType)) {
+            return;
+        }
         try {
-            InvocationHandler handler = new EventInvocationHandler(this, listenerType, eventTypes, component);
-            EventListener eventListener = (EventListener) Proxy.newProxyInstance(
-                    listenerType.getClassLoader(),
-                    new Class[] { listenerType },
-                    handler);
-
-            String addMethodName = "add" + listenerType.getSimpleName();
-            Method addMethod = component.getClass().getMethod(addMethodName, listenerType);
-            addMethod.invoke(component, eventListener);
+            EventListener eventListener =
+                    ListenerAdapterFactory.createListener(this, listenerType, eventTypes, component);
+            ListenerAdapterFactory.addListener(component, listenerType, eventListener);
         } catch (SecurityException e) {
             e.printStackTrace();
         } catch (NoSuchMethodException e) {
@@ -453,7 +457,12 @@ public abstract class AbstractController implements Controller, WindowOpenShutLi
      * <p>[詳 細] </p>
      * 発生したイベントタイプ、イベントを起こしたコンポーネント名を元に、<br>
      * イベント紐付けオブジェクト（EventBinder）から対応するアクションクラス型を取得します。<br>
-     * 取得したアクションクラス型を引数にして{@link #invoke(Class, ParameterMapping)}に処理委譲します。
+     * 取得したアクションクラス型を引数にして{@link #invoke(Class, ParameterMapping)}に処理委譲します。<br>
+     * 処理委譲は紐付けに指定された{@link AdmissionPolicy}に従って行われます。
+     * ポリシーが指定されていない場合、{@link ClientConfig#isDuplicateActionInvoke()}がtrueであれば
+     * {@link AdmissionPolicy#DUPLICATE}、falseであれば{@link AdmissionPolicy#DROP}に従います。<br>
+     * 同期モデルの処理中は、アクションの起動が終了していないものとして扱われます。<br>
+     * 処理委譲中のイベントディスパッチスレッドの停滞は{@link ClientConfig#getEdtWatchdog()}で監視されます。
      *
      * <p>[備 考] </p>
      *
@@ -472,32 +481,29 @@ public abstract class AbstractController implements Controller, WindowOpenShutLi
 
         final ParameterMapping parameterMapping = createParameterMapping(e, listenerType, eventType, eventListenerProxy,
                 listenerAddedComponent);
+        parameterMapping.setEventArrivalTime(System.nanoTime());
 
-        if (getClientConfig().isDuplicateActionInvoke()) {
-            invoke(actionClass, parameterMapping);
-        } else {
-            final String eventSourceId = String.valueOf(e.getSource().hashCode());
-            synchronized (this.invokeThreadIds) {
-                if (!this.invokeThreadIds.contains(eventSourceId)) {
-                    this.invokeThreadIds.add(eventSourceId);
-                    SwingUtilities.invokeLater(new Runnable() {
-                        @Override
-                        public void run() {
-                            try {
-                                invoke(actionClass, parameterMapping);
-                            } finally {
-                                SwingUtilities.invokeLater(new Runnable() {
-                                    @Override
-                                    public void run() {
-                                        invokeThreadIds.remove(eventSourceId);
-                                    }
-                                });
-                            }
-                        }
-                    });
+        AdmissionPolicy policy = getEventBinder()
+                .getAdmissionPolicy(listenerAddedComponent.getName(), listenerType, eventType);
+        if (policy == null) {
+            policy = getClientConfig().isDuplicateActionInvoke() ? AdmissionPolicy.DUPLICATE : AdmissionPolicy.DROP;
+        }
+
+        final EdtWatchdog watchdog = getClientConfig().getEdtWatchdog();
+        this.eventAdmission.admit(policy, e.getSource(), actionClass, new Runnable() {
+            @Override
+            public void run() {
+                watchdog.enter(actionClass, parameterMapping.getListenerAddedComponent(), null,
+                        parameterMapping.getEventType());
+                // 同期モデルが処理終了までアクション起動を終了させないよう、起動保持を渡す
+                parameterMapping.setAdmissionHold(eventAdmission.current());
+                try {
+                    invoke(actionClass, parameterMapping);
+                } finally {
+                    watchdog.exit();
                 }
             }
-        }
+        });
     }
 
     /**
@@ -577,8 +583,6 @@ public abstract class AbstractController implements Controller, WindowOpenShutLi
     @Override
     public void windowOpen(AWTEvent evt) {
         registWindow((Window) evt.getSource());
-
-        getErrorComponentSnapshot().put(evt.getSource().hashCode(), new HashMap<Integer, Map<String, Object>>());
     }
 
     /**
@@ -588,7 +592,8 @@ public abstract class AbstractController implements Controller, WindowOpenShutLi
      * <p>[詳 細] </p>
      * {@link WindowOpenShutListener#windowShut(AWTEvent)}を実装します。<br>
      * {@link ClientConfig#isAutoWindowDispose()}がtrueの場合、
-     * 閉じたウィンドウコンポーネントのdisposeを行います。
+     * 閉じたウィンドウコンポーネントのdisposeを行います。<br>
+     * 閉じたウィンドウの{@link ComponentNameIndex}、{@link ErrorComponentSnapshot}の保持情報は破棄されます。
      *
      * <p>[備 考] </p>
      *
@@ -599,8 +604,9 @@ public abstract class AbstractController implements Controller, WindowOpenShutLi
         if (getClientConfig().isAutoWindowDispose()) {
             ((Window) evt.getSource()).dispose();
         }
+        ComponentNameIndex.drop((Window) evt.getSource());
 
-        getErrorComponentSnapshot().remove(evt.getSource());
+        getErrorComponentSnapshot().clear((Window) evt.getSource());
     }
 
     /**
@@ -608,14 +614,21 @@ public abstract class AbstractController implements Controller, WindowOpenShutLi
      * ウィンドウコンポーネントをSwingControllerizer管理画面にします。
      *
      * <p>[詳 細] </p>
-     * {@link #searchComponent(Component)}に処理委譲します。
+     * {@link #searchComponent(Component)}に処理委譲します。<br>
+     * ウィンドウのコンポーネント名索引（{@link ComponentNameIndex}）を生成します。<br>
+     * グローバルイベントディスパッチモードの場合は、以降ウィンドウに追加されるコンポーネントを
+     * AWTEventListenerが検知して紐付けます。
      *
      * <p>[備 考] </p>
      *
      * @param window SwingControllerizer管理下に置くウィンドウコンポーネント
      */
     public void registWindow(Window window) {
+        ComponentNameIndex.build(window);
         searchComponent(window);
+        if (this.globalEventDispatcher != null) {
+            this.globalEventDispatcher.windowRegistered(window);
+        }
     }
 
     /**
@@ -628,6 +641,7 @@ public abstract class AbstractController implements Controller, WindowOpenShutLi
      * コンポーネントがコンテナコンポーネントであった場合は、ContainerListenerImplを追加します。
      *
      * <p>[備 考] </p>
+     * グローバルイベントディスパッチモードの場合、ContainerListenerImplは追加しません。
      *
      * @param addedComponent 追加されたコンポーネント
      */
@@ -646,7 +660,9 @@ public abstract class AbstractController implements Controller, WindowOpenShutLi
                     searchComponent(menu.getMenuComponent(i));
                 }
             }
-            ((Container) addedComponent).addContainerListener(new ContainerListenerImpl(this));
+            if (this.globalEventDispatcher == null) {
+                ((Container) addedComponent).addContainerListener(new ContainerListenerImpl(this));
+            }
         }
     }
 
@@ -659,8 +675,22 @@ public abstract class AbstractController implements Controller, WindowOpenShutLi
      * アプリケーションの終末処理を記述します。
      *
      * <p>[備 考] </p>
+     * モデル実行エクゼキュータ（{@link ClientConfig#getModelExecutor()}）、
+     * モデルタイマ（{@link ClientConfig#getModelTimer()}）の終了、
+     * 計測値MBean（{@link ClientConfig#getMetricsRegistry()}）の登録解除、
+     * EDTウォッチドッグ（{@link ClientConfig#getEdtWatchdog()}）の終了、
+     * グローバルイベントディスパッチモードのAWTEventListenerの登録解除を行う為、
+     * オーバーライドする場合はsuper.shutdown()をコールして下さい。<br>
+     * エクゼキュータ、タイマ、MBean、ウォッチドッグは生成済みの場合のみ終了し、新たに生成はしません。
      *
      */
     protected void shutdown() {
+        ClientConfig config = getClientConfig();
+        if (config != null) {
+            config.shutdown();
+        }
+        if (this.globalEventDispatcher != null) {
+            this.globalEventDispatcher.uninstall();
+        }
     }
 }
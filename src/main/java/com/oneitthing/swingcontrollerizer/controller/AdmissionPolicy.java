@@ -0,0 +1,152 @@
+package com.oneitthing.swingcontrollerizer.controller;
+
+/**
+ * <p>[概 要] </p>
+ * イベント紐付け毎のアクション起動可否を決定するポリシークラスです。
+ *
+ * <p>[詳 細] </p>
+ * 同一イベントソースから同一アクションに対するイベントが連続して発生した場合に、
+ * アクションを起動するかどうかを決定します。
+ * <ul>
+ *   <li>{@link #DUPLICATE} 全てのイベントで即座にアクションを起動します</li>
+ *   <li>{@link #DROP} 起動中のアクションが終了するまで、後続のイベントを破棄します</li>
+ *   <li>{@link #QUEUE} 起動中のアクションが終了するまで後続のイベントを溜め、終了後に順番に起動します</li>
+ *   <li>{@link #LATEST} 起動中のアクションが終了するまで最新のイベント一件だけを保持し、終了後に起動します</li>
+ *   <li>{@link #debounce(long)} 最後のイベントから指定ミリ秒イベントが無かった場合に、最新のイベントで起動します</li>
+ *   <li>{@link #throttle(long)} アクションを起動してから指定ミリ秒の間、最新のイベント一件だけを保持し、間隔経過後に起動します</li>
+ * </ul>
+ *
+ * <p>[備 考] </p>
+ * ポリシーは{@link EventBinder#addEventBinding(String, Class, String, Class, AdmissionPolicy)}
+ * で紐付け毎に指定します。<br>
+ * 指定されていない紐付けは、{@link ClientConfig#isDuplicateActionInvoke()}がtrueの場合DUPLICATE、
+ * falseの場合DROPとして扱われます。
+ *
+ * <b>使用例）</b><br>
+ * <pre class="samplecode">
+ *	eventBinder.addEventBinding("searchFrame.jtfKeyword", KeyListener.class, "keyReleased",
+ *		IncrementalSearchAction.class, AdmissionPolicy.debounce(300));
+ *	eventBinder.addEventBinding("chartFrame.jsZoom", ChangeListener.class, "stateChanged",
+ *		ZoomAction.class, AdmissionPolicy.LATEST);
+ * </pre>
+ *
+ */
+public final class AdmissionPolicy {
+
+	/** 全てのイベントでアクションを起動するポリシー種別です。 */
+	public static final int TYPE_DUPLICATE = 0;
+
+	/** 起動中は後続イベントを破棄するポリシー種別です。 */
+	public static final int TYPE_DROP = 1;
+
+	/** 起動中は後続イベントを溜めて順番に起動するポリシー種別です。 */
+	public static final int TYPE_QUEUE = 2;
+
+	/** 起動中は最新のイベント一件だけを保持するポリシー種別です。 */
+	public static final int TYPE_LATEST = 3;
+
+	/** 一定時間イベントが途切れた時点で最新のイベントで起動するポリシー種別です。 */
+	public static final int TYPE_DEBOUNCE = 4;
+
+	/** 起動後一定時間は後続イベントを破棄するポリシー種別です。 */
+	public static final int TYPE_THROTTLE = 5;
+
+	/** 全てのイベントで即座にアクションを起動するポリシーです。 */
+	public static final AdmissionPolicy DUPLICATE = new AdmissionPolicy(TYPE_DUPLICATE, 0);
+
+	/** 起動中のアクションが終了するまで後続のイベントを破棄するポリシーです。 */
+	public static final AdmissionPolicy DROP = new AdmissionPolicy(TYPE_DROP, 0);
+
+	/** 起動中のアクションが終了するまで後続のイベントを溜めるポリシーです。 */
+	public static final AdmissionPolicy QUEUE = new AdmissionPolicy(TYPE_QUEUE, 0);
+
+	/** 起動中のアクションが終了するまで最新のイベント一件だけを保持するポリシーです。 */
+	public static final AdmissionPolicy LATEST = new AdmissionPolicy(TYPE_LATEST, 0);
+
+	/** ポリシー種別です。 */
+	private final int type;
+
+	/** debounce、throttleの間隔（ミリ秒）です。 */
+	private final long interval;
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param type ポリシー種別
+	 * @param interval debounce、throttleの間隔（ミリ秒）
+	 */
+	private AdmissionPolicy(int type, long interval) {
+		this.type = type;
+		this.interval = interval;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * debounceポリシーを生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 最後のイベントから引数intervalミリ秒イベントが発生しなかった時点で、
+	 * 最新のイベントでアクションを一度だけ起動します。
+	 *
+	 * <p>[備 考] </p>
+	 * 検索キーワードの入力途中等、連続するイベントの最後だけを処理したい場合に使用します。
+	 *
+	 * @param interval イベントが途切れたと見做す時間（ミリ秒）
+	 * @return debounceポリシー
+	 */
+	public static AdmissionPolicy debounce(long interval) {
+		return new AdmissionPolicy(TYPE_DEBOUNCE, interval);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * throttleポリシーを生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 * アクションを起動してから引数intervalミリ秒の間、後続のイベントは最新の一件だけを保持し、
+	 * 間隔経過時にそれを起動して次の間隔を始めます。<br>
+	 * 連続したイベントの最後の一件は必ず起動される為、最終的な値が処理されます。
+	 *
+	 * <p>[備 考] </p>
+	 * スライダやマウス移動等、高頻度のイベントの処理回数を抑えたい場合に使用します。
+	 *
+	 * @param interval アクションの起動間隔（ミリ秒）
+	 * @return throttleポリシー
+	 */
+	public static AdmissionPolicy throttle(long interval) {
+		return new AdmissionPolicy(TYPE_THROTTLE, interval);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * ポリシー種別を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return ポリシー種別
+	 */
+	public int getType() {
+		return type;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * debounce、throttleの間隔を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 間隔（ミリ秒）
+	 */
+	public long getInterval() {
+		return interval;
+	}
+}
@@ -1,20 +1,29 @@
 package com.oneitthing.swingcontrollerizer.controller;
 
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JRootPane;
+import javax.swing.SwingUtilities;
 
 import com.oneitthing.swingcontrollerizer.action.AbstractAction;
 import com.oneitthing.swingcontrollerizer.action.Action;
 import com.oneitthing.swingcontrollerizer.action.BaseAction;
 import com.oneitthing.swingcontrollerizer.common.exception.CoreExceptionIF;
+import com.oneitthing.swingcontrollerizer.common.exception.CoreLogicException;
 import com.oneitthing.swingcontrollerizer.event.ModelProcessEvent;
+import com.oneitthing.swingcontrollerizer.event.ModelProgressEvent;
 import com.oneitthing.swingcontrollerizer.listener.ModelProcessListener;
+import com.oneitthing.swingcontrollerizer.metrics.MetricsRegistry;
 import com.oneitthing.swingcontrollerizer.model.BaseModel;
 import com.oneitthing.swingcontrollerizer.model.DefaultModel;
 import com.oneitthing.swingcontrollerizer.model.Model;
 import com.oneitthing.swingcontrollerizer.util.MessageDialogUtil;
+import com.oneitthing.swingcontrollerizer.validator.ValidateErrors;
+import com.oneitthing.swingcontrollerizer.validator.ValidationEngine;
+import com.oneitthing.swingcontrollerizer.validator.ValidationTask;
 
 /**
  * <p>[概 要] </p>
@@ -63,6 +72,12 @@ import com.oneitthing.swingcontrollerizer.util.MessageDialogUtil;
  * 			<td>　</td>
  * 		</tr>
  * 		<tr>
+ * 			<td align="center">4´´</td>
+ * 			<td>　</td>
+ * 			<td>　{@link #runModelGraph(ModelGraph, ParameterMapping)}</td>
+ * 			<td>　</td>
+ * 		</tr>
+ * 		<tr>
  * 			<td align="center">5</td>
  * 			<td>　</td>
  * 			<td>　</td>
@@ -330,6 +345,9 @@ import com.oneitthing.swingcontrollerizer.util.MessageDialogUtil;
  */
 public class BaseController extends AbstractController {
 
+	/** 同期モデル実行中のウィンドウ入力を抑止するオブジェクトです。 */
+	private final InputBlocker inputBlocker = new InputBlocker();
+
 	/**
 	 * <p>[概 要]</p>
 	 * コントローラの主幹メソッドです。
@@ -340,8 +358,10 @@ public class BaseController extends AbstractController {
 	 * 	<ol>
 	 * 		<li>{@link #createParameterMapping()} MVCレイヤを巡回するParameterMappingオブジェクトの生成</li>
 	 * 		<li>{@link #runAction(Class, ParameterMapping)} アクションの実行</li>
+	 * 		<li>{@link #runValidation(ValidationTask, ParameterMapping)} ワーカースレッドでのバリデーション（予約された場合のみ）</li>
 	 * 		<li>{@link #runModels(List, ParameterMapping, int, ModelProcessEvent)} or <br>
-	 *          {@link #runModelsAndNoWait(List, ParameterMapping)} アクションで予約されたモデル群の実行
+	 *          {@link #runModelsAndNoWait(List, ParameterMapping)} or <br>
+	 *          {@link #runModelGraph(ModelGraph, ParameterMapping)} アクションで予約されたモデル群の実行
 	 *      </li>
 	 * 	</ol>
 	 *
@@ -358,6 +378,14 @@ public class BaseController extends AbstractController {
 		Object ret = null;
 
 		try {
+			// イベント到達からアクション実行開始までの待ち時間を記録
+			long arrival = parameterMapping.getEventArrivalTime();
+			long start = System.nanoTime();
+			if (arrival == 0) {
+				parameterMapping.setEventArrivalTime(start);
+			} else {
+				getClientConfig().getMetricsRegistry().record(actionClass, MetricsRegistry.QUEUE, start - arrival, false);
+			}
 
 			// Action実行
 			parameterMapping = runAction(actionClass, parameterMapping);
@@ -365,21 +393,15 @@ public class BaseController extends AbstractController {
 				return null;
 			}
 
-			// Actionで予約されたモデルクラス群を取得
-			List<Class<? extends Model>> modelClasses = parameterMapping.getModelClasses();
-			if (modelClasses.size() == 0) {
-				modelClasses.add(DefaultModel.class);
-			}
-			parameterMapping.setModelReservedNum(modelClasses.size());
-			parameterMapping.setModelFinishedNum(0);
-			// Model群実行
-			if (parameterMapping.isRunModelsAndNoWait()) {
-				// 待たずに次Model実行
-				runModelsAndNoWait(modelClasses, parameterMapping);
-			} else {
-				// Modelの戻り値を待って次Model実行
-				runModels(modelClasses, parameterMapping, 0, null);
+			// Actionでワーカースレッドでのバリデーションが予約されていれば、判定後にモデル群を実行
+			ValidationTask validationTask = parameterMapping.getValidationTask();
+			if (validationTask != null) {
+				parameterMapping.setValidationTask(null);
+				runValidation(validationTask, parameterMapping);
+				return ret;
 			}
+
+			runReservedModels(parameterMapping);
 		} catch (Throwable e) {
 			// 共通例外処理
 			trap(e);
@@ -410,11 +432,13 @@ public class BaseController extends AbstractController {
 	 * @throws Exception
 	 */
 	public ParameterMapping runAction(Class<? extends Action> actionClass, ParameterMapping parameterMapping) throws Exception {
-		AbstractAction action = (AbstractAction) actionClass.newInstance();;
+		AbstractAction action = (AbstractAction) getClientConfig().getInstanceFactory().acquire(actionClass);
 		action.setController(this);
 		parameterMapping = action.run(parameterMapping);
 
 		if (parameterMapping == null) {
+			// 以降モデルは実行されない為、再利用可能なアクションはここでプールに返却
+			getClientConfig().getInstanceFactory().release(action);
 			return null;
 		}
 
@@ -423,6 +447,114 @@ public class BaseController extends AbstractController {
 		return parameterMapping;
 	}
 
+	/**
+	 * <p>[概 要] </p>
+	 * アクションで予約されたモデル群を実行します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 依存関係付きで予約されたモデル群が有れば{@link #runModelGraph(ModelGraph, ParameterMapping)}で、
+	 * それ以外は予約の実行動作に従って{@link #runModels(List, ParameterMapping, int, ModelProcessEvent)}
+	 * 又は{@link #runModelsAndNoWait(List, ParameterMapping)}で実行します。<br>
+	 * モデルが予約されていない場合はDefaultModelを実行します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param parameterMapping アクション実行後のParameterMappingオブジェクト
+	 * @throws Exception
+	 */
+	protected void runReservedModels(ParameterMapping parameterMapping) throws Exception {
+		// Actionで依存関係付きで予約されたモデル群が有れば、依存関係に従って並列実行
+		ModelGraph modelGraph = parameterMapping.getModelGraph();
+		if (modelGraph != null) {
+			parameterMapping.setModelReservedNum(modelGraph.size());
+			parameterMapping.setModelFinishedNum(0);
+			runModelGraph(modelGraph, parameterMapping);
+			return;
+		}
+
+		// Actionで予約されたモデルクラス群を取得
+		List<Class<? extends Model>> modelClasses = parameterMapping.getModelClasses();
+		if (modelClasses.size() == 0) {
+			modelClasses.add(DefaultModel.class);
+		}
+		parameterMapping.setModelReservedNum(modelClasses.size());
+		parameterMapping.setModelFinishedNum(0);
+		// Model群実行
+		if (parameterMapping.isRunModelsAndNoWait()) {
+			// 待たずに次Model実行
+			runModelsAndNoWait(modelClasses, parameterMapping);
+		} else {
+			// Modelの戻り値を待って次Model実行
+			runModels(modelClasses, parameterMapping, 0, null);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * アクションが値を取得したバリデーション判定をワーカースレッドで実行します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link BaseAction#isValidateAsync()}がtrueのアクションで使用されます。<br>
+	 * 判定は{@link ValidationEngine}でバリデーションエグゼキュータ（{@link ClientConfig#getValidationExecutor()}）に
+	 * 並列に投入され、このメソッドは判定の終了を待たずに復帰します。<br>
+	 * 判定終了後、イベントディスパッチスレッドで以下を行います。
+	 * <ul>
+	 *     <li>エラー有：{@link AbstractAction#validationFault(ValidateErrors)}をコールし、以降の処理を中止</li>
+	 *     <li>エラー無：{@link #runReservedModels(ParameterMapping)}で予約されたモデル群を実行</li>
+	 * </ul>
+	 *
+	 * <p>[備 考] </p>
+	 * 判定中の例外はEFC0009のCoreLogicExceptionとして{@link #trap(Throwable)}に渡されます。<br>
+	 * 判定時間はVALIDATEフェーズとして記録されます。<br>
+	 * 判定が終了するまでアクションの起動を終了させないよう、起動保持を判定の投入前に取得し、
+	 * 判定結果の処理後に解放します。
+	 *
+	 * @param validationTask アクションが値を取得したバリデーション判定
+	 * @param parameterMapping アクション実行後のParameterMappingオブジェクト
+	 */
+	protected void runValidation(ValidationTask validationTask, final ParameterMapping parameterMapping) {
+		final AbstractAction action = (AbstractAction) parameterMapping.getActionInstance();
+		final MetricsRegistry metrics = getClientConfig().getMetricsRegistry();
+		final long start = System.nanoTime();
+		// 判定中もDROP、QUEUE等の起動ポリシーが後続イベントを抑止するよう、起動保持を取得
+		EventAdmission.Hold admissionHold = parameterMapping.getAdmissionHold();
+		final EventAdmission.Hold hold = admissionHold != null && admissionHold.acquire() ? admissionHold : null;
+
+		ValidationEngine.submit(validationTask, getClientConfig().getValidationExecutor(), new ValidationEngine.Callback() {
+			public void validated(ValidateErrors errors) {
+				metrics.record(action.getClass(), MetricsRegistry.VALIDATE, System.nanoTime() - start, errors.hasError());
+				try {
+					if (errors.hasError()) {
+						action.validationFault(errors);
+						// 以降モデルは実行されない為、再利用可能なアクションはここでプールに返却
+						releaseAction(parameterMapping, action);
+						return;
+					}
+					runReservedModels(parameterMapping);
+				} catch (Throwable e) {
+					trap(e);
+				} finally {
+					// 同期モデルは実行開始時に自ら起動保持を取得する為、モデル実行後に解放する
+					if (hold != null) {
+						hold.release();
+					}
+				}
+			}
+
+			public void failed(Exception e) {
+				metrics.record(action.getClass(), MetricsRegistry.VALIDATE, System.nanoTime() - start, true);
+				try {
+					// 処理が失敗したアクションはプールに返却しない
+					trap(new CoreLogicException("EFC0009", e));
+				} finally {
+					if (hold != null) {
+						hold.release();
+					}
+				}
+			}
+		});
+	}
+
 
 	/**
 	 * <p>[概 要] </p>
@@ -460,7 +592,7 @@ public class BaseController extends AbstractController {
 		if (modelClasses.size() > 0) {
 			Class<? extends Model> modelClass = modelClasses.remove(0);
 			// モデルクラスからインスタンス生成
-			BaseModel model = (BaseModel) modelClass.newInstance();
+			BaseModel model = createModel(modelClass);
 
 			// パラメータマッピングをモデルに設定
 			model.setParameterMapping(parameterMapping);
@@ -477,6 +609,9 @@ public class BaseController extends AbstractController {
 					BaseAction action = (BaseAction) parameterMapping.getActionInstance();
 					int executeIndex = model.getExecuteIndex();
 					try {
+						if (forwardProgress(action, model, evt)) {
+							return;
+						}
 						// BaseAction#successForwardをコールバック。
 						// モデル結果をActionレイヤで取得可能にする。
 						action.successForward(executeIndex, model, evt.getResult());
@@ -494,9 +629,13 @@ public class BaseController extends AbstractController {
 					BaseModel model = (BaseModel) evt.getSource();
 					ParameterMapping parameterMapping = model.getParameterMapping();
 					BaseAction action = (BaseAction)parameterMapping.getActionInstance();
+					// 処理が失敗したアクションはプールに返却しない
+					parameterMapping.setModelFailed(true);
 					try {
 						model.done();
 						modelsDone(parameterMapping);
+						// イベント到達からモデル失敗までの処理時間を記録
+						recordTotal(parameterMapping, action, true);
 						// BaseAction#failureForwardをコールバック。
 						// モデル失敗例外をActionレイヤで取得可能にする。
 						Exception e = action.failureForward(model.getExecuteIndex(), model, evt.getException());
@@ -524,12 +663,19 @@ public class BaseController extends AbstractController {
 							modelsDone(parameterMapping);
 							// アクションの全モデル終了通知メソッドをテンプレートコール
 							action.complete(parameterMapping);
+							// イベント到達から全モデル終了までの処理時間を記録
+							recordTotal(parameterMapping, action, false);
 							// モデルの完了カウントをクリア
 							parameterMapping.setModelFinishedNum(0);
+							// 再利用可能なアクションをプールに返却
+							releaseAction(parameterMapping, action);
 
 						}
 					} catch (Exception e) {
 						trap(e);
+					} finally {
+						// 再利用可能なモデルのプール返却条件成立を通知
+						model.readyToRecycle();
 					}
 				}
 			});
@@ -541,26 +687,24 @@ public class BaseController extends AbstractController {
 				// モデルの前処理でfalseが返されてしまうとイベントが発行されないため、
 				// 処理終了前に終了イベントを発行
 				model.fireModelFinished(new ModelProcessEvent(model));
+				// モデルスレッドは起動しない為、スレッド側のプール返却条件もここで成立させる
+				model.readyToRecycle();
 				return;
 			}
 			if (model.isSkip()) {
 				// モデルがSkipされてしまうとイベントが発行されないため、
 				// 次のモデル実行前に終了イベントを発行
 				model.fireModelFinished(new ModelProcessEvent(model));
+				model.readyToRecycle();
 				// 次のモデルへ
 				runModels(modelClasses, parameterMapping, ++executeIndex, null);
 			} else {
-				// nextModelでsetSkip(true)されていなければモデル実行
-				ExecutorService executor = Executors.newCachedThreadPool();
-				Future<Object> future = executor.submit(model);
-				if(!model.isAsync()) {
-					try{
-						future.get();
-					}catch(InterruptedException e) {
-						if(!parameterMapping.isAllowInteruptedExceptionOnSyncModel()) {
-							throw e;
-						}
-					}
+				// nextModelでsetSkip(true)されていなければモデル実行。
+				// 次のモデルはこのモデルの成功イベントから実行される為、終了は待たない
+				if(model.isAsync()) {
+					submitModel(model, parameterMapping);
+				}else{
+					submitSyncModel(model, parameterMapping, null);
 				}
 			}
 		} else {
@@ -605,18 +749,35 @@ public class BaseController extends AbstractController {
 	 */
 	public void runModelsAndNoWait(List<Class<? extends Model>> modelClasses,
 			ParameterMapping parameterMapping) throws Exception {
+		runModelsAndNoWait(modelClasses, parameterMapping, 0);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * アクションで予約されたモデル郡を、引数executeIndexのモデルから連続実行します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 同期モデル（isAsyncがfalse）を実行した場合はそこで処理を中断し、
+	 * モデルの処理終了後に次のモデルから再開します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param modelClasses {@link BaseAction#reserveModels(List)} で予約されたモデルクラス群
+	 * @param parameterMapping MVC各レイヤを伝播するパラメータオブジェクト
+	 * @param executeIndex 実行を開始するモデルのインデックス
+	 * @throws Exception モデル内で発生し得る例外
+	 */
+	private void runModelsAndNoWait(final List<Class<? extends Model>> modelClasses,
+			final ParameterMapping parameterMapping, int executeIndex) throws Exception {
 
 		// コールバック用に事前実行されたActionインスタンスを取得
 		BaseAction action = (BaseAction) parameterMapping.getActionInstance();
 
-		// コントローラが実行するモデルの実行順位
-		int executeIndex = 0;
 		// 全モデルクラス群を実行
-
 		for (; executeIndex < modelClasses.size(); executeIndex++) {
 			Class<? extends Model> modelClass = modelClasses.get(executeIndex);
 			// モデルクラスからインスタンス生成
-			BaseModel model = (BaseModel) modelClass.newInstance();
+			BaseModel model = createModel(modelClass);
 			// パラメータマッピングをモデルに設定
 			model.setParameterMapping(parameterMapping);
 			// コントローラインスタンスをモデルに設定
@@ -631,6 +792,9 @@ public class BaseController extends AbstractController {
 					ParameterMapping parameterMapping = model.getParameterMapping();
 					BaseAction action = (BaseAction)parameterMapping.getActionInstance();
 					try {
+						if (forwardProgress(action, model, evt)) {
+							return;
+						}
 						// BaseAction#successForwardをコールバック。
 						// モデル結果をActionレイヤで取得可能にする。
 						action.successForward(model.getExecuteIndex(), model, evt.getResult());
@@ -644,10 +808,14 @@ public class BaseController extends AbstractController {
 					BaseModel model = (BaseModel) evt.getSource();
 					ParameterMapping parameterMapping = model.getParameterMapping();
 					BaseAction action = (BaseAction)parameterMapping.getActionInstance();
+					// 処理が失敗したアクションはプールに返却しない
+					parameterMapping.setModelFailed(true);
 					try {
 						model.done();
 						modelsDone(parameterMapping);
 
+						// イベント到達からモデル失敗までの処理時間を記録
+						recordTotal(parameterMapping, action, true);
 						// BaseAction#failureForwardをコールバック。
 						// モデル失敗例外をActionレイヤで取得可能にする。
 						Exception e = action.failureForward(model
@@ -676,11 +844,18 @@ public class BaseController extends AbstractController {
 							modelsDone(parameterMapping);
 							// アクションの全モデル終了通知メソッドをテンプレートコール
 							action.complete(parameterMapping);
+							// イベント到達から全モデル終了までの処理時間を記録
+							recordTotal(parameterMapping, action, false);
 							// モデルの完了カウントをクリア
 							parameterMapping.setModelFinishedNum(0);
+							// 再利用可能なアクションをプールに返却
+							releaseAction(parameterMapping, action);
 						}
 					} catch (Exception e) {
 						trap(e);
+					} finally {
+						// 再利用可能なモデルのプール返却条件成立を通知
+						model.readyToRecycle();
 					}
 				}
 			});
@@ -692,30 +867,500 @@ public class BaseController extends AbstractController {
 				// モデルの前処理でfalseが返されてしまうとイベントが発行されないため、
 				// 処理終了前に終了イベントを発行
 				model.fireModelFinished(new ModelProcessEvent(model));
+				// モデルスレッドは起動しない為、スレッド側のプール返却条件もここで成立させる
+				model.readyToRecycle();
 				return;
 			}
 			if (model.isSkip()) {
 				// モデルがSkipされてしまうとイベントが発行されないため、
 				// 次のモデル実行前に終了イベントを発行
 				model.fireModelFinished(new ModelProcessEvent(model));
+				model.readyToRecycle();
 			} else {
 				// nextModelでsetSkip(true)されていなければモデル実行
-				ExecutorService executor = Executors.newCachedThreadPool();
-				Future<Object> future = executor.submit(model);
-				if(!model.isAsync()) {
-					try{
-						future.get();
-					}catch(InterruptedException e) {
-						if(!parameterMapping.isAllowInteruptedExceptionOnSyncModel()) {
-							throw e;
+				if(model.isAsync()) {
+					submitModel(model, parameterMapping);
+				}else{
+					// 同期モデルの場合、終了後に次のモデルから再開
+					final int nextIndex = executeIndex + 1;
+					submitSyncModel(model, parameterMapping, new Runnable() {
+						@Override
+						public void run() {
+							try {
+								runModelsAndNoWait(modelClasses, parameterMapping, nextIndex);
+							} catch (Exception e) {
+								trap(e);
+							}
 						}
-					}
+					});
+					return;
 				}
 			}
 		}
 		action.nextModel(executeIndex, null, null);
 	}
 
+	/**
+	 * <p>[概 要] </p>
+	 * アクションで依存関係付きで予約されたモデル群を、依存関係に従って並列実行します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link BaseAction#reserveModelGraph(ModelGraph)}で予約されたモデルのうち、
+	 * 依存先の無いモデルを全て実行します。<br>
+	 * 以降、モデルの成功イベント毎に、全ての依存先が成功したモデルを実行します。<p>
+	 *
+	 * モデル実行直前に{@link BaseAction#nextModel(int, ModelProcessEvent, Model)}がコールバックされます。<br>
+	 * 成功時は{@link BaseAction#successForward(int, Model, Object)}が、
+	 * 失敗時は{@link BaseAction#failureForward(int, Model, Exception)}がコールバックされ、
+	 * 全モデル終了後に{@link BaseAction#complete(ParameterMapping)}がコールバックされます。
+	 *
+	 * <p>[備 考] </p>
+	 * モデルの同期（isAsyncがfalse）、非同期に関わらず、モデルの終了は待ちません。
+	 *
+	 * @param modelGraph {@link BaseAction#reserveModelGraph(ModelGraph)} で予約されたモデル群
+	 * @param parameterMapping MVC各レイヤを伝播するパラメータオブジェクト
+	 * @throws Exception モデル内で発生し得る例外
+	 */
+	public void runModelGraph(ModelGraph modelGraph, ParameterMapping parameterMapping) throws Exception {
+		int[] roots = modelGraph.start();
+		for (int index : roots) {
+			runGraphModel(modelGraph, index, parameterMapping, null);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 依存関係付きで予約されたモデルを一件実行します。
+	 *
+	 * <p>[詳 細] </p>
+	 * モデルの成功イベントで、実行可能になった依存元モデルを実行します。<br>
+	 * nextModelでskipされたモデルは成功と見做し、依存元モデルを実行します。<br>
+	 * モデルが失敗した場合、nextModelでfalseが返却された場合、成功イベントを発行せずに終了した場合
+	 * （preprocがfalseを返却した場合等）は依存元モデルを実行せず、終了したモデルとして数えます。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param modelGraph 予約されたモデル群
+	 * @param executeIndex 実行するモデルのインデックス
+	 * @param parameterMapping MVC各レイヤを伝播するパラメータオブジェクト
+	 * @param modelProcessEvent 最後に成功した依存先モデルの処理結果イベント
+	 * @throws Exception モデル内で発生し得る例外
+	 */
+	private void runGraphModel(final ModelGraph modelGraph, int executeIndex,
+			ParameterMapping parameterMapping, ModelProcessEvent modelProcessEvent) throws Exception {
+
+		// 依存先モデルの失敗等で、実行されないことが決まっているモデルは実行しない
+		if (!modelGraph.begin(executeIndex)) {
+			return;
+		}
+
+		// コールバック用に事前実行されたActionインスタンスを取得
+		BaseAction action = (BaseAction) parameterMapping.getActionInstance();
+
+		// モデルクラスからインスタンス生成
+		BaseModel model = createModel(modelGraph.getModelClass(executeIndex));
+		// パラメータマッピングをモデルに設定
+		model.setParameterMapping(parameterMapping);
+		// コントローラインスタンスをモデルに設定
+		model.setController(this);
+		// モデル実行順序をモデルに設定
+		model.setExecuteIndex(executeIndex);
+		// モデル処理監視リスナをモデルに追加
+		model.addModelProcessListener(new ModelProcessListener() {
+			// モデル処理成功
+			public void modelSuccess(ModelProcessEvent evt) {
+				BaseModel model = (BaseModel) evt.getSource();
+				ParameterMapping parameterMapping = model.getParameterMapping();
+				BaseAction action = (BaseAction) parameterMapping.getActionInstance();
+				try {
+					if (forwardProgress(action, model, evt)) {
+						return;
+					}
+					// BaseAction#successForwardをコールバック。
+					// モデル結果をActionレイヤで取得可能にする。
+					action.successForward(model.getExecuteIndex(), model, evt.getResult());
+
+					if (model.getSuccessCount() == 1) {
+						// 全ての依存先が成功したモデルを実行
+						for (int dependent : modelGraph.resolve(model.getExecuteIndex(), evt.getResult())) {
+							runGraphModel(modelGraph, dependent, parameterMapping, evt);
+						}
+					}
+				} catch (Exception e) {
+					trap(e);
+				}
+			}
+
+			// モデル処理失敗
+			public void modelFailure(ModelProcessEvent evt) {
+				BaseModel model = (BaseModel) evt.getSource();
+				ParameterMapping parameterMapping = model.getParameterMapping();
+				BaseAction action = (BaseAction)parameterMapping.getActionInstance();
+				// 処理が失敗したアクションはプールに返却しない
+				parameterMapping.setModelFailed(true);
+				try {
+					model.done();
+					modelsDone(parameterMapping);
+					// イベント到達からモデル失敗までの処理時間を記録
+					recordTotal(parameterMapping, action, true);
+					// BaseAction#failureForwardをコールバック。
+					// モデル失敗例外をActionレイヤで取得可能にする。
+					Exception e = action.failureForward(model.getExecuteIndex(), model, evt.getException());
+					// BaseAction#failureForwardがnullを返却した場合、
+					// コントローラによる例外処理は行わない。
+					if (e != null) {
+						trap(e);
+					}
+				} catch (Exception e) {
+					trap(e);
+				}
+				try {
+					// 失敗したモデルと、実行されなくなった依存元モデルを終了したモデルとして数える
+					int abandoned = modelGraph.abandon(model.getExecuteIndex());
+					int ended = modelGraph.end(model.getExecuteIndex()) ? 1 : 0;
+					if (modelGraph.launch(abandoned)) {
+						action.nextModel(modelGraph.size(), null, null);
+					}
+					graphModelsFinished(model, ended + abandoned);
+				} catch (Exception e) {
+					trap(e);
+				}
+			}
+
+			// モデル終了処理
+			public void modelFinished(ModelProcessEvent evt) {
+				BaseModel model = (BaseModel)evt.getSource();
+				try {
+					// 失敗イベント処理で数えられたモデルは数えない
+					if (modelGraph.end(model.getExecuteIndex())) {
+						int abandoned = 0;
+						if (model.getSuccessCount() == 0 && !model.isSkip()) {
+							// preprocがfalseを返却した場合等、成功せずに終了したモデルの依存元モデルは実行されない
+							abandoned = modelGraph.abandon(model.getExecuteIndex());
+							if (modelGraph.launch(abandoned)) {
+								BaseAction action = (BaseAction) model.getParameterMapping().getActionInstance();
+								action.nextModel(modelGraph.size(), null, null);
+							}
+						}
+						graphModelsFinished(model, 1 + abandoned);
+					}
+				} catch (Exception e) {
+					trap(e);
+				} finally {
+					// 再利用可能なモデルのプール返却条件成立を通知
+					model.readyToRecycle();
+				}
+			}
+		});
+		// モデル初期化
+		model.init();
+		// モデル実行直前にActionのメソッドをコールバック。モデルインスタンス設定フックタイミングを作る。
+		boolean isProceed = action.nextModel(executeIndex, modelProcessEvent, model);
+		if (!isProceed) {
+			// 依存元モデルは実行されない為、終了したモデルとして数える
+			int abandoned = modelGraph.abandon(executeIndex);
+			graphModelsFinished(model, abandoned);
+			// モデルの前処理でfalseが返されてしまうとイベントが発行されないため、
+			// 処理終了前に終了イベントを発行
+			model.fireModelFinished(new ModelProcessEvent(model));
+			// モデルスレッドは起動しない為、スレッド側のプール返却条件もここで成立させる
+			model.readyToRecycle();
+			if (modelGraph.launch(1 + abandoned)) {
+				action.nextModel(modelGraph.size(), null, null);
+			}
+			return;
+		}
+		boolean allLaunched = modelGraph.launch(1);
+		if (model.isSkip()) {
+			// モデルがSkipされてしまうとイベントが発行されないため、
+			// 依存元モデル実行前に終了イベントを発行
+			model.fireModelFinished(new ModelProcessEvent(model));
+			model.readyToRecycle();
+			// 依存元モデルへ
+			for (int dependent : modelGraph.resolve(executeIndex, null)) {
+				runGraphModel(modelGraph, dependent, parameterMapping, null);
+			}
+		} else {
+			// nextModelでsetSkip(true)されていなければモデル実行。終了は待たない
+			submitModel(model, parameterMapping);
+		}
+		if (allLaunched) {
+			action.nextModel(modelGraph.size(), null, null);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 依存関係付きで予約されたモデルの終了を数え、全モデルが終了した場合はアクションに通知します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 終了したモデル数が予約されたモデル数に達した時点で、
+	 * {@link BaseAction#complete(ParameterMapping)}をテンプレートコールして
+	 * アクションをインスタンスプールに返却します。<br>
+	 * モデルが失敗していた場合、モデル終了処理と処理時間の記録は失敗時に行われている為、ここでは行いません。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param model 終了したモデル
+	 * @param count 終了したモデル数（実行されなくなったモデルを含む）
+	 * @throws Exception アクションの全モデル終了通知メソッドで発生した例外
+	 */
+	private void graphModelsFinished(BaseModel model, int count) throws Exception {
+		if (count == 0) {
+			return;
+		}
+		ParameterMapping parameterMapping = model.getParameterMapping();
+		BaseAction action = (BaseAction) parameterMapping.getActionInstance();
+		parameterMapping.setModelFinishedNum(parameterMapping.getModelFinishedNum() + count);
+		if (parameterMapping.getModelReservedNum() != parameterMapping.getModelFinishedNum()) {
+			return;
+		}
+		boolean failed = parameterMapping.isModelFailed();
+		if (!failed) {
+			// モデル終了処理テンプレートコール
+			model.done();
+			modelsDone(parameterMapping);
+		}
+		// アクションの全モデル終了通知メソッドをテンプレートコール
+		action.complete(parameterMapping);
+		if (!failed) {
+			// イベント到達から全モデル終了までの処理時間を記録
+			recordTotal(parameterMapping, action, false);
+		}
+		// モデルの完了カウントをクリア
+		parameterMapping.setModelFinishedNum(0);
+		// 再利用可能なアクションをプールに返却
+		releaseAction(parameterMapping, action);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * モデルをモデル実行エクゼキュータに投入します。
+	 *
+	 * <p>[詳 細] </p>
+	 * モデルをアクションの実行中モデルとして登録してから投入します。<br>
+	 * 登録されたモデルは{@link AbstractAction#cancelModels()}で中止することが出来ます。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param model 実行するモデル
+	 * @param parameterMapping MVC各レイヤを伝播するパラメータ
+	 * @return モデルの処理結果
+	 */
+	private Future<Object> submitModel(BaseModel model, ParameterMapping parameterMapping) {
+		AbstractAction action = (AbstractAction) parameterMapping.getActionInstance();
+		action.addActiveModel(model);
+		try {
+			return getClientConfig().getModelExecutor().submit(model);
+		} catch (RuntimeException e) {
+			action.removeActiveModel(model);
+			throw e;
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 同期モデルをモデル実行エクゼキュータに投入します。
+	 *
+	 * <p>[詳 細] </p>
+	 * モデルの処理終了後、モデルが発行した全イベントの配送が終わってから、
+	 * イベントディスパッチスレッドで引数continuationを実行します。<br>
+	 * {@link ClientConfig#isBlockInputOnSyncModel()}がtrueの場合、処理終了まで
+	 * イベントを発生させたウィンドウへの入力を抑止します。<br>
+	 * アクション起動ポリシーの起動保持が有る場合は、continuationの実行後まで保持し、
+	 * 同一イベントソースからの後続イベントをポリシーに従って抑止します。
+	 *
+	 * <p>[備 考] </p>
+	 * イベントディスパッチスレッドからコールされた場合、モデルの処理終了を待ちません。<br>
+	 * それ以外のスレッド（TimerProcessCoreのタイマスレッド等）からコールされた場合は、
+	 * 従来通りモデルの処理終了を待ちます。
+	 * モデルのタイムアウト、{@link ParameterMapping#getDeadline()}が設定されている場合は
+	 * その時刻までしか待たず、経過後はモデルを中止して復帰します。<br>
+	 * 処理の終了を遅らせたモデル（{@link BaseModel#deferCompletion()}）は、run()の復帰ではなく
+	 * {@link BaseModel#setCompletion(Runnable)}で通知される実際の処理終了を、処理終了とします。
+	 *
+	 * @param model 実行するモデル
+	 * @param parameterMapping MVC各レイヤを伝播するパラメータ
+	 * @param continuation モデル処理終了後に実行する処理、無い場合はnull
+	 * @throws Exception モデルの処理終了待ちで発生した例外
+	 */
+	private void submitSyncModel(final BaseModel model, ParameterMapping parameterMapping,
+			final Runnable continuation) throws Exception {
+		boolean onEdt = SwingUtilities.isEventDispatchThread();
+		final JRootPane blocked = onEdt && getClientConfig().isBlockInputOnSyncModel()
+				? this.inputBlocker.block(parameterMapping.getEventSource()) : null;
+		EventAdmission.Hold admissionHold = parameterMapping.getAdmissionHold();
+		// 既に終了した起動保持は保持し直さない
+		final EventAdmission.Hold hold = admissionHold != null && admissionHold.acquire() ? admissionHold : null;
+		final Runnable completion = new Runnable() {
+			@Override
+			public void run() {
+				try {
+					if (blocked != null) {
+						inputBlocker.unblock(blocked);
+					}
+					if (continuation != null) {
+						continuation.run();
+					}
+				} finally {
+					// 後続の同期モデルはcontinuation内で起動保持を取得する為、その後で解放する
+					if (hold != null) {
+						hold.release();
+					}
+				}
+			}
+		};
+		final CountDownLatch finished = onEdt ? null : new CountDownLatch(1);
+		model.setCompletion(new Runnable() {
+			@Override
+			public void run() {
+				// モデルのイベントと同じキューに投入し、イベント配送後に実行する
+				getClientConfig().getModelEventQueue().post(completion);
+				if (finished != null) {
+					finished.countDown();
+				}
+			}
+		});
+		AbstractAction action = (AbstractAction) parameterMapping.getActionInstance();
+		action.addActiveModel(model);
+		Future<Object> future;
+		try {
+			future = getClientConfig().getModelExecutor().submit(model);
+		} catch (RuntimeException e) {
+			model.setCompletion(null);
+			action.removeActiveModel(model);
+			if (blocked != null) {
+				this.inputBlocker.unblock(blocked);
+			}
+			if (hold != null) {
+				hold.release();
+			}
+			throw e;
+		}
+		if (!onEdt) {
+			long now = System.currentTimeMillis();
+			long expireAt = model.getTimeout() > 0 ? now + model.getTimeout() : Long.MAX_VALUE;
+			if (parameterMapping.getDeadline() > 0) {
+				expireAt = Math.min(expireAt, parameterMapping.getDeadline());
+			}
+			try {
+				future.get();
+				// 処理の終了を遅らせたモデルは、run()の復帰後に終了する
+				if (expireAt == Long.MAX_VALUE) {
+					finished.await();
+				} else if (!finished.await(Math.max(expireAt - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS)) {
+					// 期限を過ぎても終了しないモデルは中止し、失敗イベントの配送に委ねる
+					model.cancel();
+				}
+			} catch (InterruptedException e) {
+				if (!parameterMapping.isAllowInteruptedExceptionOnSyncModel()) {
+					throw e;
+				}
+			}
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * モデル処理の途中経過をアクションに通知します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 引数evtが{@link ModelProgressEvent}の場合、
+	 * {@link BaseAction#progressForward(int, Model, long, long)}をコールバックします。<br>
+	 * 途中経過は処理結果として扱わない為、呼び出し元はtrueが返却された場合、
+	 * successForwardのコールバック、後続モデルの起動を行いません。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param action モデルを起動したアクション
+	 * @param model イベントを発行したモデル
+	 * @param evt モデル処理成功イベント
+	 * @return 途中経過の場合true
+	 * @throws Exception progressForwardで発生した例外
+	 */
+	private boolean forwardProgress(BaseAction action, BaseModel model, ModelProcessEvent evt) throws Exception {
+		if (!(evt instanceof ModelProgressEvent)) {
+			return false;
+		}
+		ModelProgressEvent progress = (ModelProgressEvent) evt;
+		action.progressForward(model.getExecuteIndex(), model, progress.getTransferred(), progress.getTotal());
+
+		return true;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 全モデルが終了したアクションをインスタンスプールに返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link ParameterMapping#isModelFailed()}がtrueの場合、
+	 * 処理が失敗したアクションとして返却しません。<br>
+	 * ParameterMappingが複製されている場合も、複製がアクションを参照している可能性が有る為返却しません。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param parameterMapping MVC各レイヤを伝播するパラメータ
+	 * @param action 実行したアクション
+	 */
+	private void releaseAction(ParameterMapping parameterMapping, Action action) {
+		if (parameterMapping.isModelFailed() || parameterMapping.isActionShared()) {
+			return;
+		}
+		getClientConfig().getInstanceFactory().release(action);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * イベント到達からアクション終了までの処理時間を記録します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link ParameterMapping#getEventArrivalTime()}からの経過時間を、
+	 * {@link MetricsRegistry#TOTAL}フェーズとして記録します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param parameterMapping MVC各レイヤを伝播するパラメータ
+	 * @param action 実行したアクション
+	 * @param error モデルが失敗した場合true
+	 */
+	private void recordTotal(ParameterMapping parameterMapping, Action action, boolean error) {
+		long arrival = parameterMapping.getEventArrivalTime();
+		if (arrival != 0) {
+			getClientConfig().getMetricsRegistry().record(action.getClass(), MetricsRegistry.TOTAL,
+					System.nanoTime() - arrival, error);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 予約されたモデルクラスのインスタンスを取得します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link ClientConfig#getInstanceFactory()}からインスタンスを取得します。<br>
+	 * モデルが{@link Resettable}を実装している場合、処理終了後にプールへ返却する
+	 * 返却処理をモデルに設定します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param modelClass モデルクラス
+	 * @return モデルインスタンス
+	 * @throws Exception インスタンス生成に失敗した場合
+	 */
+	protected BaseModel createModel(Class<? extends Model> modelClass) throws Exception {
+		final InstanceFactory factory = getClientConfig().getInstanceFactory();
+		final BaseModel model = (BaseModel) factory.acquire(modelClass);
+		if (model instanceof Resettable) {
+			model.setRecycler(new Runnable() {
+				@Override
+				public void run() {
+					model.clearExecutionState();
+					factory.release(model);
+				}
+			});
+		}
+		return model;
+	}
+
 	/**
 	 * <p>[概 要] </p>
 	 * MVC各レイヤで発生した例外が最終的にハンドリングされるメソッドです。
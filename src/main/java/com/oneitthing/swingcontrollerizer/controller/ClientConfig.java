@@ -1,8 +1,21 @@
 package com.oneitthing.swingcontrollerizer.controller;
 
 import java.awt.Color;
+import java.net.Authenticator;
+import java.net.PasswordAuthentication;
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.Hashtable;
 
+import com.oneitthing.swingcontrollerizer.executor.HostConnectionLimiter;
+import com.oneitthing.swingcontrollerizer.executor.ModelEventQueue;
+import com.oneitthing.swingcontrollerizer.executor.ModelExecutor;
+import com.oneitthing.swingcontrollerizer.executor.ModelTimer;
+import com.oneitthing.swingcontrollerizer.executor.ThreadPoolModelExecutor;
+import com.oneitthing.swingcontrollerizer.executor.VirtualThreadModelExecutor;
+import com.oneitthing.swingcontrollerizer.metrics.EdtWatchdog;
+import com.oneitthing.swingcontrollerizer.metrics.MetricsRegistry;
+
 public class ClientConfig {
 
 	/**  */
@@ -45,6 +58,90 @@ public class ClientConfig {
 
 	private boolean duplicateActionInvoke = false;
 
+	/** 同期モデル実行中、イベントを発生させたウィンドウへの入力を抑止するかどうかです。 */
+	private boolean blockInputOnSyncModel = false;
+
+	/** モデルを実行するエクゼキュータです。未設定の場合は初回取得時に生成されます。 */
+	private volatile ModelExecutor modelExecutor;
+
+	/** デフォルトエクゼキュータの最大ワーカスレッド数です。 */
+	private int modelExecutorPoolSize = 32;
+
+	/** デフォルトエクゼキュータの実行待ちキュー最大件数です。 */
+	private int modelExecutorQueueCapacity = 1024;
+
+	/** デフォルトエクゼキュータの拒否ポリシーです。 */
+	private int modelExecutorRejectionPolicy = ThreadPoolModelExecutor.REJECT_ABORT;
+
+	/** デフォルトエクゼキュータで仮想スレッドを使用するかどうかです。 */
+	private boolean useVirtualThreads = false;
+
+	/** 非同期バリデーションの判定を実行するエクゼキュータです。未設定の場合は初回取得時に生成されます。 */
+	private volatile ModelExecutor validationExecutor;
+
+	/** デフォルトのバリデーションエクゼキュータの最大ワーカスレッド数です。 */
+	private int validationExecutorPoolSize = Runtime.getRuntime().availableProcessors();
+
+	/** モデルのタイムアウトを監視するタイマです。未設定の場合は初回取得時に生成されます。 */
+	private volatile ModelTimer modelTimer;
+
+	/** モデル処理イベントをイベントディスパッチスレッドに配送するキューです。未設定の場合は初回取得時に生成されます。 */
+	private volatile ModelEventQueue modelEventQueue;
+
+	/** モデル処理イベント一回の配送パスで使用する時間の上限（ミリ秒）です。0以下の場合は無制限です。 */
+	private int modelEventDeliveryBudget = 10;
+
+	/** アクション、モデルの処理時間を計測するレジストリです。未設定の場合は初回取得時に生成されます。 */
+	private volatile MetricsRegistry metricsRegistry;
+
+	/** アクション、モデルの処理時間を計測するかどうかです。 */
+	private boolean metricsEnabled = true;
+
+	/** 計測値をJMXに登録する際のレジストリ名です。nullの場合はJMXに登録しません。 */
+	private String metricsJmxName;
+
+	/** イベントディスパッチスレッドの停滞を検出するウォッチドッグです。未設定の場合は初回取得時に生成されます。 */
+	private volatile EdtWatchdog edtWatchdog;
+
+	/** イベントディスパッチスレッドの停滞と見做す処理時間（ミリ秒）です。0以下の場合は監視しません。 */
+	private int edtStallThreshold = 500;
+
+	/** 停滞中のイベントディスパッチスレッドのスタックトレース採取間隔（ミリ秒）です。 */
+	private int edtStallSampleInterval = 50;
+
+	/** コンポーネント毎のイベントリスナの代わりに、一つのAWTEventListenerで紐付けイベントをハンドルするかどうかです。 */
+	private boolean globalEventDispatch = false;
+
+	/** アクション、モデルのインスタンスを生成、再利用するファクトリです。 */
+	private volatile InstanceFactory instanceFactory;
+
+	/** Resettable実装アクション、モデルのクラス毎のプール最大保持数です。 */
+	private int instancePoolSize = 16;
+
+	/** 入力中バリデーション（AsYouTypeValidation）で、最後の入力から再バリデーションまで待つミリ秒です。 */
+	private int validationDebounceDelay = 300;
+
+	/** HTTPAsyncRequestCoreが共有するHttpClientです。未設定の場合は初回取得時に生成されます。 */
+	private HttpClient httpClient;
+
+	/** HttpClient生成時に、HTTP/2を優先するかどうかです。falseの場合はHTTP/1.1で通信します。 */
+	private boolean useHttp2 = true;
+
+	/** HttpClient生成時の、接続タイムアウト（ミリ秒）です。0以下の場合は無制限です。 */
+	private int httpConnectTimeout = 0;
+
+	/** HTTPAsyncRequestCoreの、接続先ホスト毎の同時リクエスト数の上限です。0以下の場合は無制限です。 */
+	private int httpMaxConnectionsPerHost = 6;
+
+	/** 接続先ホスト毎の同時リクエスト数を制限するオブジェクトです。未設定の場合は初回取得時に生成されます。 */
+	private HostConnectionLimiter httpConnectionLimiter;
+
+	/** ストリーミング受信で使用するバッファのバイト数です。 */
+	private int httpBufferSize = 64 * 1024;
+
+	/** ストリーミング受信の途中経過を通知する最短間隔（ミリ秒）です。0以下の場合は通知しません。 */
+	private int httpProgressInterval = 200;
+
 
 
 	/**
@@ -278,4 +375,626 @@ public class ClientConfig {
 	public void setDuplicateActionInvoke(boolean duplicateActionInvoke) {
 		this.duplicateActionInvoke = duplicateActionInvoke;
 	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public boolean isBlockInputOnSyncModel() {
+		return blockInputOnSyncModel;
+	}
+
+	/**
+	 * trueの場合、同期モデル（isAsyncがfalse）の処理中は、イベントを発生させたウィンドウの
+	 * グラスペインを待機カーソルに切り替えてマウス、キー入力を抑止します。
+	 *
+	 * @param blockInputOnSyncModel
+	 */
+	public void setBlockInputOnSyncModel(boolean blockInputOnSyncModel) {
+		this.blockInputOnSyncModel = blockInputOnSyncModel;
+	}
+
+	/**
+	 * モデルを実行するエクゼキュータを返却します。
+	 * 未設定の場合、modelExecutorPoolSize、modelExecutorQueueCapacity、
+	 * modelExecutorRejectionPolicyに従ってThreadPoolModelExecutorを生成します。
+	 * useVirtualThreadsがtrueの場合は、これをフォールバックとする
+	 * VirtualThreadModelExecutorを生成します。
+	 *
+	 * @return モデルを実行するエクゼキュータ
+	 */
+	public ModelExecutor getModelExecutor() {
+		ModelExecutor ret = modelExecutor;
+		if(ret != null) {
+			return ret;
+		}
+		synchronized(this) {
+			if(modelExecutor == null) {
+				ModelExecutor platformExecutor = new ThreadPoolModelExecutor(modelExecutorPoolSize,
+						modelExecutorQueueCapacity, modelExecutorRejectionPolicy);
+				if(useVirtualThreads) {
+					modelExecutor = new VirtualThreadModelExecutor(platformExecutor);
+				}else{
+					modelExecutor = platformExecutor;
+				}
+			}
+			return modelExecutor;
+		}
+	}
+
+	/**
+	 *
+	 * @param modelExecutor
+	 */
+	public synchronized void setModelExecutor(ModelExecutor modelExecutor) {
+		this.modelExecutor = modelExecutor;
+	}
+
+	/**
+	 * 非同期バリデーションの判定を実行するエクゼキュータを返却します。
+	 * 未設定の場合、validationExecutorPoolSize、modelExecutorQueueCapacityに従って
+	 * 拒否ポリシーREJECT_ABORTのThreadPoolModelExecutorを生成します。
+	 * モデルとは別のエクゼキュータの為、判定がモデルの実行待ちになることも、
+	 * 投入の拒否でイベントディスパッチスレッドが実行、待機させられることも有りません。
+	 * 投入を拒否された判定は失敗として扱われます。
+	 *
+	 * @return 非同期バリデーションの判定を実行するエクゼキュータ
+	 */
+	public ModelExecutor getValidationExecutor() {
+		ModelExecutor ret = validationExecutor;
+		if(ret != null) {
+			return ret;
+		}
+		synchronized(this) {
+			if(validationExecutor == null) {
+				validationExecutor = new ThreadPoolModelExecutor(validationExecutorPoolSize,
+						modelExecutorQueueCapacity, ThreadPoolModelExecutor.REJECT_ABORT);
+			}
+			return validationExecutor;
+		}
+	}
+
+	/**
+	 * 拒否ポリシーにREJECT_CALLER_RUNS、REJECT_WAITを使用するエクゼキュータは、
+	 * イベントディスパッチスレッドで判定、待機する為設定しないで下さい。
+	 *
+	 * @param validationExecutor
+	 */
+	public synchronized void setValidationExecutor(ModelExecutor validationExecutor) {
+		this.validationExecutor = validationExecutor;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public int getValidationExecutorPoolSize() {
+		return validationExecutorPoolSize;
+	}
+
+	/**
+	 *
+	 * @param validationExecutorPoolSize
+	 */
+	public void setValidationExecutorPoolSize(int validationExecutorPoolSize) {
+		this.validationExecutorPoolSize = validationExecutorPoolSize;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public int getModelExecutorPoolSize() {
+		return modelExecutorPoolSize;
+	}
+
+	/**
+	 *
+	 * @param modelExecutorPoolSize
+	 */
+	public void setModelExecutorPoolSize(int modelExecutorPoolSize) {
+		this.modelExecutorPoolSize = modelExecutorPoolSize;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public int getModelExecutorQueueCapacity() {
+		return modelExecutorQueueCapacity;
+	}
+
+	/**
+	 *
+	 * @param modelExecutorQueueCapacity
+	 */
+	public void setModelExecutorQueueCapacity(int modelExecutorQueueCapacity) {
+		this.modelExecutorQueueCapacity = modelExecutorQueueCapacity;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public int getModelExecutorRejectionPolicy() {
+		return modelExecutorRejectionPolicy;
+	}
+
+	/**
+	 *
+	 * @param modelExecutorRejectionPolicy
+	 */
+	public void setModelExecutorRejectionPolicy(int modelExecutorRejectionPolicy) {
+		this.modelExecutorRejectionPolicy = modelExecutorRejectionPolicy;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public boolean isUseVirtualThreads() {
+		return useVirtualThreads;
+	}
+
+	/**
+	 * 仮想スレッド未対応のJVMではプラットフォームスレッドにフォールバックします。
+	 *
+	 * @param useVirtualThreads
+	 */
+	public void setUseVirtualThreads(boolean useVirtualThreads) {
+		this.useVirtualThreads = useVirtualThreads;
+	}
+
+	/**
+	 * モデルのタイムアウトを監視するタイマを返却します。
+	 *
+	 * @return モデルのタイムアウトを監視するタイマ
+	 */
+	public ModelTimer getModelTimer() {
+		ModelTimer ret = modelTimer;
+		if(ret != null) {
+			return ret;
+		}
+		synchronized(this) {
+			if(modelTimer == null) {
+				modelTimer = new ModelTimer();
+			}
+			return modelTimer;
+		}
+	}
+
+	/**
+	 *
+	 * @param modelTimer
+	 */
+	public synchronized void setModelTimer(ModelTimer modelTimer) {
+		this.modelTimer = modelTimer;
+	}
+
+	/**
+	 * モデル処理イベントをイベントディスパッチスレッドに配送するキューを返却します。
+	 * 未設定の場合、modelEventDeliveryBudgetに従って生成します。
+	 * イベント毎に参照される為、生成後はロックを取得せずに返却します。
+	 *
+	 * @return モデル処理イベントをイベントディスパッチスレッドに配送するキュー
+	 */
+	public ModelEventQueue getModelEventQueue() {
+		ModelEventQueue ret = modelEventQueue;
+		if(ret != null) {
+			return ret;
+		}
+		synchronized(this) {
+			if(modelEventQueue == null) {
+				modelEventQueue = new ModelEventQueue(modelEventDeliveryBudget);
+			}
+			return modelEventQueue;
+		}
+	}
+
+	/**
+	 *
+	 * @param modelEventQueue
+	 */
+	public synchronized void setModelEventQueue(ModelEventQueue modelEventQueue) {
+		this.modelEventQueue = modelEventQueue;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public int getModelEventDeliveryBudget() {
+		return modelEventDeliveryBudget;
+	}
+
+	/**
+	 * 生成済みのキューにも反映されます。
+	 *
+	 * @param modelEventDeliveryBudget
+	 */
+	public synchronized void setModelEventDeliveryBudget(int modelEventDeliveryBudget) {
+		this.modelEventDeliveryBudget = modelEventDeliveryBudget;
+		if(modelEventQueue != null) {
+			modelEventQueue.setBudget(modelEventDeliveryBudget);
+		}
+	}
+
+	/**
+	 * アクション、モデルの処理時間を計測するレジストリを返却します。
+	 * 未設定の場合、metricsEnabled、metricsJmxNameに従って生成します。
+	 * イベント毎に参照される為、生成後はロックを取得せずに返却します。
+	 *
+	 * @return アクション、モデルの処理時間を計測するレジストリ
+	 */
+	public MetricsRegistry getMetricsRegistry() {
+		MetricsRegistry ret = metricsRegistry;
+		if(ret != null) {
+			return ret;
+		}
+		synchronized(this) {
+			if(metricsRegistry == null) {
+				metricsRegistry = new MetricsRegistry(metricsEnabled, metricsJmxName);
+			}
+			return metricsRegistry;
+		}
+	}
+
+	/**
+	 *
+	 * @param metricsRegistry
+	 */
+	public synchronized void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+		this.metricsRegistry = metricsRegistry;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public boolean isMetricsEnabled() {
+		return metricsEnabled;
+	}
+
+	/**
+	 *
+	 * @param metricsEnabled
+	 */
+	public void setMetricsEnabled(boolean metricsEnabled) {
+		this.metricsEnabled = metricsEnabled;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public String getMetricsJmxName() {
+		return metricsJmxName;
+	}
+
+	/**
+	 * デフォルトはnullで、JMXに登録しません。
+	 * 一つのJVMで複数のコントローラを使用する場合は、コントローラ毎に異なる名前を設定して下さい。
+	 *
+	 * @param metricsJmxName
+	 */
+	public void setMetricsJmxName(String metricsJmxName) {
+		this.metricsJmxName = metricsJmxName;
+	}
+
+	/**
+	 * イベントディスパッチスレッドの停滞を検出するウォッチドッグを返却します。
+	 * 未設定の場合、edtStallThreshold、edtStallSampleInterval、metricsJmxNameに従って生成します。
+	 * イベント毎に参照される為、生成後はロックを取得せずに返却します。
+	 *
+	 * @return イベントディスパッチスレッドの停滞を検出するウォッチドッグ
+	 */
+	public EdtWatchdog getEdtWatchdog() {
+		EdtWatchdog ret = edtWatchdog;
+		if(ret != null) {
+			return ret;
+		}
+		synchronized(this) {
+			if(edtWatchdog == null) {
+				edtWatchdog = new EdtWatchdog(edtStallThreshold, edtStallSampleInterval, metricsJmxName);
+			}
+			return edtWatchdog;
+		}
+	}
+
+	/**
+	 *
+	 * @param edtWatchdog
+	 */
+	public synchronized void setEdtWatchdog(EdtWatchdog edtWatchdog) {
+		this.edtWatchdog = edtWatchdog;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public int getEdtStallThreshold() {
+		return edtStallThreshold;
+	}
+
+	/**
+	 *
+	 * @param edtStallThreshold
+	 */
+	public synchronized void setEdtStallThreshold(int edtStallThreshold) {
+		this.edtStallThreshold = edtStallThreshold;
+		if(edtWatchdog != null) {
+			edtWatchdog.setThresholdMillis(edtStallThreshold);
+		}
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public int getEdtStallSampleInterval() {
+		return edtStallSampleInterval;
+	}
+
+	/**
+	 *
+	 * @param edtStallSampleInterval
+	 */
+	public void setEdtStallSampleInterval(int edtStallSampleInterval) {
+		this.edtStallSampleInterval = edtStallSampleInterval;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public boolean isGlobalEventDispatch() {
+		return globalEventDispatch;
+	}
+
+	/**
+	 * コントローラ生成時に参照される為、initializeで設定して下さい。
+	 *
+	 * @param globalEventDispatch
+	 */
+	public void setGlobalEventDispatch(boolean globalEventDispatch) {
+		this.globalEventDispatch = globalEventDispatch;
+	}
+
+	/**
+	 * アクション、モデルのインスタンスを生成、再利用するファクトリを返却します。
+	 * 未設定の場合、instancePoolSizeに従って生成します。
+	 *
+	 * @return アクション、モデルのインスタンスを生成、再利用するファクトリ
+	 */
+	public InstanceFactory getInstanceFactory() {
+		InstanceFactory ret = instanceFactory;
+		if(ret != null) {
+			return ret;
+		}
+		synchronized(this) {
+			if(instanceFactory == null) {
+				instanceFactory = new InstanceFactory(instancePoolSize);
+			}
+			return instanceFactory;
+		}
+	}
+
+	/**
+	 *
+	 * @param instanceFactory
+	 */
+	public synchronized void setInstanceFactory(InstanceFactory instanceFactory) {
+		this.instanceFactory = instanceFactory;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public int getInstancePoolSize() {
+		return instancePoolSize;
+	}
+
+	/**
+	 * 0を設定した場合、Resettable実装クラスでもインスタンスを再利用しません。
+	 *
+	 * @param instancePoolSize
+	 */
+	public void setInstancePoolSize(int instancePoolSize) {
+		this.instancePoolSize = instancePoolSize;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public int getValidationDebounceDelay() {
+		return validationDebounceDelay;
+	}
+
+	/**
+	 * AsYouTypeValidationのインストール時に参照されます。
+	 *
+	 * @param validationDebounceDelay
+	 */
+	public void setValidationDebounceDelay(int validationDebounceDelay) {
+		this.validationDebounceDelay = validationDebounceDelay;
+	}
+
+	/**
+	 * HTTPAsyncRequestCoreが共有するHttpClientを返却します。
+	 * 未設定の場合、useHttp2、httpConnectTimeoutに従って生成します。
+	 * <p>
+	 * 生成したHttpClientは、認証をその時点のAuthenticator.getDefault()に委譲する為、
+	 * AbstractHTTPCore#setAuthentication(String, char[])の設定がそのまま使用されます。
+	 * クッキーはリクエスト毎にAbstractHTTPCoreのCookieManagerで送受信する為、
+	 * HttpClientにCookieHandlerは設定しません。
+	 *
+	 * @return HTTPAsyncRequestCoreが共有するHttpClient
+	 */
+	public synchronized HttpClient getHttpClient() {
+		if(httpClient == null) {
+			HttpClient.Builder builder = HttpClient.newBuilder()
+				.version(useHttp2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+				.followRedirects(HttpClient.Redirect.NORMAL)
+				.authenticator(new Authenticator() {
+					@Override
+					protected PasswordAuthentication getPasswordAuthentication() {
+						return Authenticator.requestPasswordAuthentication(
+								Authenticator.getDefault(),
+								getRequestingHost(),
+								getRequestingSite(),
+								getRequestingPort(),
+								getRequestingProtocol(),
+								getRequestingPrompt(),
+								getRequestingScheme(),
+								getRequestingURL(),
+								getRequestorType());
+					}
+				});
+			if(httpConnectTimeout > 0) {
+				builder.connectTimeout(Duration.ofMillis(httpConnectTimeout));
+			}
+			httpClient = builder.build();
+		}
+		return httpClient;
+	}
+
+	/**
+	 *
+	 * @param httpClient
+	 */
+	public synchronized void setHttpClient(HttpClient httpClient) {
+		this.httpClient = httpClient;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public boolean isUseHttp2() {
+		return useHttp2;
+	}
+
+	/**
+	 * HttpClientの生成前に設定して下さい。
+	 * HTTP/2に対応していないサーバとはHTTP/1.1で通信します。
+	 *
+	 * @param useHttp2
+	 */
+	public void setUseHttp2(boolean useHttp2) {
+		this.useHttp2 = useHttp2;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public int getHttpConnectTimeout() {
+		return httpConnectTimeout;
+	}
+
+	/**
+	 * HttpClientの生成前に設定して下さい。
+	 *
+	 * @param httpConnectTimeout
+	 */
+	public void setHttpConnectTimeout(int httpConnectTimeout) {
+		this.httpConnectTimeout = httpConnectTimeout;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public int getHttpMaxConnectionsPerHost() {
+		return httpMaxConnectionsPerHost;
+	}
+
+	/**
+	 * HostConnectionLimiterの生成前に設定して下さい。
+	 *
+	 * @param httpMaxConnectionsPerHost
+	 */
+	public void setHttpMaxConnectionsPerHost(int httpMaxConnectionsPerHost) {
+		this.httpMaxConnectionsPerHost = httpMaxConnectionsPerHost;
+	}
+
+	/**
+	 * 接続先ホスト毎の同時リクエスト数を制限するオブジェクトを返却します。
+	 * 未設定の場合、httpMaxConnectionsPerHostに従って生成します。
+	 *
+	 * @return 接続先ホスト毎の同時リクエスト数を制限するオブジェクト
+	 */
+	public synchronized HostConnectionLimiter getHttpConnectionLimiter() {
+		if(httpConnectionLimiter == null) {
+			httpConnectionLimiter = new HostConnectionLimiter(httpMaxConnectionsPerHost);
+		}
+		return httpConnectionLimiter;
+	}
+
+	/**
+	 *
+	 * @param httpConnectionLimiter
+	 */
+	public synchronized void setHttpConnectionLimiter(HostConnectionLimiter httpConnectionLimiter) {
+		this.httpConnectionLimiter = httpConnectionLimiter;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public int getHttpBufferSize() {
+		return httpBufferSize;
+	}
+
+	/**
+	 * HTTPRequestCoreがBINARYレスポンスを受信する際、一度に読み込むバイト数です。
+	 *
+	 * @param httpBufferSize
+	 */
+	public void setHttpBufferSize(int httpBufferSize) {
+		this.httpBufferSize = httpBufferSize;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	public int getHttpProgressInterval() {
+		return httpProgressInterval;
+	}
+
+	/**
+	 * HTTPRequestCoreが途中経過をModelProgressEventで通知する最短間隔です。
+	 *
+	 * @param httpProgressInterval
+	 */
+	public void setHttpProgressInterval(int httpProgressInterval) {
+		this.httpProgressInterval = httpProgressInterval;
+	}
+
+	/**
+	 * 生成済みのモデル、バリデーションのエクゼキュータ、タイマー、メトリクスレジストリ、EDTウォッチドッグを停止します。
+	 * 未生成のものは生成せずに無視します。
+	 */
+	synchronized void shutdown() {
+		if(modelExecutor != null) {
+			modelExecutor.shutdown();
+		}
+		if(validationExecutor != null) {
+			validationExecutor.shutdown();
+		}
+		if(modelTimer != null) {
+			modelTimer.shutdown();
+		}
+		if(metricsRegistry != null) {
+			metricsRegistry.close();
+		}
+		if(edtWatchdog != null) {
+			edtWatchdog.shutdown();
+		}
+	}
 }
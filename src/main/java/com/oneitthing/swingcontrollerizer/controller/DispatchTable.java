@@ -0,0 +1,271 @@
+package com.oneitthing.swingcontrollerizer.controller;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EventListener;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.oneitthing.swingcontrollerizer.action.AbstractAction;
+
+/**
+ * <p>[概 要] </p>
+ * EventBinderの紐付け情報をコンパイルした、不変のディスパッチテーブルです。
+ *
+ * <p>[詳 細] </p>
+ * (コンポーネント名, イベントリスナ型, イベントハンドラメソッド名) → アクションクラス、アクション起動ポリシー
+ * の対応と、コンポーネント名毎のイベントリスナ型リスト、
+ * (コンポーネント名, イベントリスナ型)毎のイベントハンドラメソッド名リストを
+ * 生成時に全て計算済みの状態で保持します。<br>
+ * 生成後は一切変更されない為、複数スレッドからロック無しで参照することが出来、
+ * 参照時にオブジェクト生成を行いません。
+ *
+ * <p>[備 考] </p>
+ * 紐付け情報が変更された場合、EventBinderは新しいテーブルを生成して差し替えます。
+ *
+ */
+final class DispatchTable {
+
+	/** 紐付け情報が一件も無いテーブルです。 */
+	static final DispatchTable EMPTY =
+		new DispatchTable(Collections.<String, ComponentEntry>emptyMap());
+
+	/** コンポーネント名をキーにしたコンパイル済み紐付け情報です。 */
+	private final Map<String, ComponentEntry> entries;
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param entries コンポーネント名をキーにしたコンパイル済み紐付け情報
+	 */
+	private DispatchTable(Map<String, ComponentEntry> entries) {
+		this.entries = entries;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 紐付け情報からディスパッチテーブルを生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 引数bindInfoの内容を全てコピーする為、生成後にbindInfoを変更しても
+	 * テーブルには影響しません。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param bindInfo EventBinderが保持する紐付け情報
+	 * @param admissionInfo EventBinderが保持するアクション起動ポリシー情報
+	 * @return ディスパッチテーブル
+	 */
+	static DispatchTable compile(
+			Map<String, Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>>> bindInfo,
+			Map<String, Map<Class<? extends EventListener>, Map<String, AdmissionPolicy>>> admissionInfo)
+	{
+		if(bindInfo.isEmpty()) {
+			return EMPTY;
+		}
+		Map<String, ComponentEntry> entries = new HashMap<String, ComponentEntry>(bindInfo.size() * 2);
+		for(Map.Entry<String, Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>>> e
+				: bindInfo.entrySet())
+		{
+			entries.put(e.getKey(), new ComponentEntry(e.getValue(), admissionInfo.get(e.getKey())));
+		}
+		return new DispatchTable(entries);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンポーネント名に紐付け情報が有るかどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param componentName コンポーネント名
+	 * @return true : 紐付け有り、false : 紐付け無し
+	 */
+	boolean contains(String componentName) {
+		return componentName != null && this.entries.containsKey(componentName);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンポーネント名に紐付いているイベントリスナ型リストを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 * 返却されるリストは変更不可です。
+	 *
+	 * @param componentName コンポーネント名
+	 * @return イベントリスナ型リスト、紐付けが無い場合は空リスト
+	 */
+	List<Class<? extends EventListener>> getListenerTypes(String componentName) {
+		ComponentEntry entry = componentName == null ? null : this.entries.get(componentName);
+		if(entry == null) {
+			return Collections.emptyList();
+		}
+		return entry.listenerTypes;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンポーネント名、イベントリスナ型に紐付いているイベントハンドラメソッド名リストを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 * 返却されるリストは変更不可です。
+	 *
+	 * @param componentName コンポーネント名
+	 * @param listenerType イベントリスナ型
+	 * @return イベントハンドラメソッド名リスト、紐付けが無い場合は空リスト
+	 */
+	List<String> getEventTypes(String componentName, Class<? extends EventListener> listenerType) {
+		ListenerEntry entry = getListenerEntry(componentName, listenerType);
+		if(entry == null) {
+			return Collections.emptyList();
+		}
+		return entry.eventTypes;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンポーネント名、イベントリスナ型、イベントハンドラメソッド名に紐付いているアクションクラスを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param componentName コンポーネント名
+	 * @param listenerType イベントリスナ型
+	 * @param eventType イベントハンドラメソッド名
+	 * @return アクションクラス、紐付けが無い場合はnull
+	 */
+	Class<? extends AbstractAction> getActionClass(String componentName,
+			Class<? extends EventListener> listenerType, String eventType)
+	{
+		ListenerEntry entry = getListenerEntry(componentName, listenerType);
+		if(entry == null) {
+			return null;
+		}
+		return entry.actions.get(eventType);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンポーネント名、イベントリスナ型、イベントハンドラメソッド名に紐付いているアクション起動ポリシーを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param componentName コンポーネント名
+	 * @param listenerType イベントリスナ型
+	 * @param eventType イベントハンドラメソッド名
+	 * @return アクション起動ポリシー、指定されていない場合はnull
+	 */
+	AdmissionPolicy getAdmissionPolicy(String componentName,
+			Class<? extends EventListener> listenerType, String eventType)
+	{
+		ListenerEntry entry = getListenerEntry(componentName, listenerType);
+		if(entry == null) {
+			return null;
+		}
+		return entry.policies.get(eventType);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンポーネント名、イベントリスナ型に対応するエントリを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param componentName コンポーネント名
+	 * @param listenerType イベントリスナ型
+	 * @return エントリ、紐付けが無い場合はnull
+	 */
+	private ListenerEntry getListenerEntry(String componentName, Class<? extends EventListener> listenerType) {
+		ComponentEntry entry = componentName == null ? null : this.entries.get(componentName);
+		if(entry == null) {
+			return null;
+		}
+		return entry.listeners.get(listenerType);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンポーネント一件分のコンパイル済み紐付け情報です。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static final class ComponentEntry {
+
+		/** イベントリスナ型リストです。 */
+		private final List<Class<? extends EventListener>> listenerTypes;
+
+		/** イベントリスナ型をキーにしたエントリです。 */
+		private final Map<Class<? extends EventListener>, ListenerEntry> listeners;
+
+		private ComponentEntry(Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>> listenerTypeMap,
+				Map<Class<? extends EventListener>, Map<String, AdmissionPolicy>> policyMap)
+		{
+			List<Class<? extends EventListener>> listenerTypes =
+				new ArrayList<Class<? extends EventListener>>(listenerTypeMap.size());
+			Map<Class<? extends EventListener>, ListenerEntry> listeners =
+				new HashMap<Class<? extends EventListener>, ListenerEntry>(listenerTypeMap.size() * 2);
+			for(Map.Entry<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>> e
+					: listenerTypeMap.entrySet())
+			{
+				listenerTypes.add(e.getKey());
+				listeners.put(e.getKey(), new ListenerEntry(e.getValue(),
+						policyMap == null ? null : policyMap.get(e.getKey())));
+			}
+			this.listenerTypes = Collections.unmodifiableList(listenerTypes);
+			this.listeners = listeners;
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * (コンポーネント名, イベントリスナ型)一件分のコンパイル済み紐付け情報です。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static final class ListenerEntry {
+
+		/** イベントハンドラメソッド名リストです。 */
+		private final List<String> eventTypes;
+
+		/** イベントハンドラメソッド名をキーにしたアクションクラスです。 */
+		private final Map<String, Class<? extends AbstractAction>> actions;
+
+		/** イベントハンドラメソッド名をキーにしたアクション起動ポリシーです。 */
+		private final Map<String, AdmissionPolicy> policies;
+
+		private ListenerEntry(Map<String, Class<? extends AbstractAction>> eventTypeMap,
+				Map<String, AdmissionPolicy> policyMap)
+		{
+			this.eventTypes = Collections.unmodifiableList(new ArrayList<String>(eventTypeMap.keySet()));
+			this.actions = new HashMap<String, Class<? extends AbstractAction>>(eventTypeMap);
+			if(policyMap == null || policyMap.isEmpty()) {
+				this.policies = Collections.emptyMap();
+			} else {
+				this.policies = new HashMap<String, AdmissionPolicy>(policyMap);
+			}
+		}
+	}
+}
@@ -0,0 +1,370 @@
+package com.oneitthing.swingcontrollerizer.controller;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Window;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+
+/**
+ * <p>[概 要] </p>
+ * バリデーションエラーを起こしているコンポーネントの、エラー前の状態を保持するクラスです。
+ *
+ * <p>[詳 細] </p>
+ * ウィンドウ毎に、エラー表示で変更したコンポーネントの背景色とツールチップの変更前の値を保持します。<br>
+ * ウィンドウ、コンポーネントはインスタンスの同一性で識別し、弱参照で保持する為、
+ * 破棄されたウィンドウのコンポーネントや色情報が残り続けることは有りません。<br>
+ * ウィンドウクローズ時には{@link AbstractController#windowShut(java.awt.AWTEvent)}が
+ * {@link #clear(Window)}で明示的に破棄します。
+ * <p>
+ *
+ * 状態の復帰は複数コンポーネントをまとめて行えます（{@link #restore(Window, Collection)}、
+ * {@link #restoreAll(Window)}）。保持情報の取り出しは一度のロックで行い、
+ * コンポーネントへの反映はイベントディスパッチスレッドの一回の処理で行います。
+ *
+ * <p>[備 考] </p>
+ * 保持情報の操作は複数スレッドから行えます。<br>
+ * 既にエラー前の状態を保持しているコンポーネントの状態は上書きしない為、
+ * 同じコンポーネントに続けてエラー表示を行っても、復帰時には最初のエラー前の状態に戻ります。
+ *
+ */
+public class ErrorComponentSnapshot {
+
+	/** ウィンドウ毎の、コンポーネント毎のエラー前の状態です。 */
+	private final Map<Window, Map<Component, Fault>> windows = new WeakHashMap<Window, Map<Component, Fault>>();
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentの現在の背景色を、エラー前の背景色として保存します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 既に保存している場合は何も行いません。
+	 *
+	 * <p>[備 考] </p>
+	 * 背景色を変更する前に呼び出して下さい。
+	 *
+	 * @param window コンポーネントが所属するウィンドウ
+	 * @param component エラー表示するコンポーネント
+	 */
+	public synchronized void saveBackground(Window window, Component component) {
+		Fault fault = fault(window, component);
+		if(!fault.hasBackground) {
+			fault.background = component.getBackground();
+			fault.hasBackground = true;
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentの現在のツールチップを、エラー前のツールチップとして保存します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 既に保存している場合は何も行いません。<br>
+	 * ツールチップが未設定（null）の場合も保存し、復帰時にnullに戻します。
+	 *
+	 * <p>[備 考] </p>
+	 * ツールチップを変更する前に呼び出して下さい。
+	 *
+	 * @param window コンポーネントが所属するウィンドウ
+	 * @param component エラー表示するコンポーネント
+	 */
+	public synchronized void saveToolTipText(Window window, JComponent component) {
+		Fault fault = fault(window, component);
+		if(!fault.hasToolTipText) {
+			fault.toolTipText = component.getToolTipText();
+			fault.hasToolTipText = true;
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentのエラー前の状態を保持しているかどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param window コンポーネントが所属するウィンドウ
+	 * @param component コンポーネント
+	 * @return 保持している場合true
+	 */
+	public synchronized boolean isFaulted(Window window, Component component) {
+		Map<Component, Fault> faults = this.windows.get(window);
+
+		return faults != null && faults.containsKey(component);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentsのいずれかのエラー前の状態を保持しているかどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 全てのウィンドウの保持情報を対象とします。
+	 *
+	 * <p>[備 考] </p>
+	 * 状態を戻す前に、所属するウィンドウの検索が必要かどうかを判定する為に使用します。
+	 *
+	 * @param components コンポーネント群
+	 * @return いずれかを保持している場合true
+	 */
+	public synchronized boolean isFaulted(Collection<? extends Component> components) {
+		if(components.isEmpty()) {
+			return false;
+		}
+		for(Map<Component, Fault> faults : this.windows.values()) {
+			if(faults.isEmpty()) {
+				continue;
+			}
+			for(Component component : components) {
+				if(faults.containsKey(component)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数windowでエラー前の状態を保持しているコンポーネント数を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param window ウィンドウ
+	 * @return コンポーネント数
+	 */
+	public synchronized int size(Window window) {
+		Map<Component, Fault> faults = this.windows.get(window);
+
+		return faults == null ? 0 : faults.size();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentをエラー前の状態に戻します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 保持していたエラー前の状態は破棄されます。
+	 *
+	 * <p>[備 考] </p>
+	 * イベントディスパッチスレッド以外から呼び出された場合、
+	 * コンポーネントへの反映はイベントディスパッチスレッドで行われます。
+	 *
+	 * @param window コンポーネントが所属するウィンドウ
+	 * @param component 状態を戻すコンポーネント
+	 * @return エラー前の状態を保持していた場合true
+	 */
+	public boolean restore(Window window, Component component) {
+		Fault fault;
+		synchronized(this) {
+			Map<Component, Fault> faults = this.windows.get(window);
+			fault = faults == null ? null : faults.remove(component);
+		}
+		if(fault == null) {
+			return false;
+		}
+
+		List<Component> components = new ArrayList<Component>(1);
+		List<Fault> faults = new ArrayList<Fault>(1);
+		components.add(component);
+		faults.add(fault);
+		apply(components, faults);
+
+		return true;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentsのうち、エラー前の状態を保持しているコンポーネントをまとめて元に戻します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 保持情報の取り出しは一度のロックで行い、コンポーネントへの反映は一回の処理で行います。<br>
+	 * 保持していたエラー前の状態は破棄されます。
+	 *
+	 * <p>[備 考] </p>
+	 * イベントディスパッチスレッド以外から呼び出された場合、
+	 * コンポーネントへの反映はイベントディスパッチスレッドで行われます。
+	 *
+	 * @param window コンポーネントが所属するウィンドウ
+	 * @param components 状態を戻すコンポーネント群
+	 * @return 状態を戻したコンポーネント数
+	 */
+	public int restore(Window window, Collection<? extends Component> components) {
+		List<Component> restored = new ArrayList<Component>();
+		List<Fault> faults = new ArrayList<Fault>();
+		synchronized(this) {
+			Map<Component, Fault> windowFaults = this.windows.get(window);
+			if(windowFaults == null || windowFaults.isEmpty()) {
+				return 0;
+			}
+			for(Component component : components) {
+				Fault fault = windowFaults.remove(component);
+				if(fault != null) {
+					restored.add(component);
+					faults.add(fault);
+				}
+			}
+		}
+		apply(restored, faults);
+
+		return restored.size();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数windowでエラー前の状態を保持している全コンポーネントを元に戻します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link #restore(Window, Collection)}と同じく、一回の処理でまとめて反映します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param window ウィンドウ
+	 * @return 状態を戻したコンポーネント数
+	 */
+	public int restoreAll(Window window) {
+		Map<Component, Fault> windowFaults;
+		synchronized(this) {
+			windowFaults = this.windows.remove(window);
+		}
+		if(windowFaults == null || windowFaults.isEmpty()) {
+			return 0;
+		}
+
+		List<Component> restored = new ArrayList<Component>(windowFaults.keySet());
+		List<Fault> faults = new ArrayList<Fault>(windowFaults.values());
+		apply(restored, faults);
+
+		return restored.size();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数windowの保持情報を破棄します。
+	 *
+	 * <p>[詳 細] </p>
+	 * コンポーネントの状態は戻しません。
+	 *
+	 * <p>[備 考] </p>
+	 * ウィンドウクローズ時にコントローラが呼び出します。
+	 *
+	 * @param window ウィンドウ
+	 */
+	public synchronized void clear(Window window) {
+		this.windows.remove(window);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentのエラー前の状態の保持領域を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 未生成の場合は生成して登録します。
+	 *
+	 * <p>[備 考] </p>
+	 * ロックを取得して呼び出して下さい。
+	 *
+	 * @param window コンポーネントが所属するウィンドウ
+	 * @param component コンポーネント
+	 * @return エラー前の状態の保持領域
+	 */
+	private Fault fault(Window window, Component component) {
+		Map<Component, Fault> faults = this.windows.get(window);
+		if(faults == null) {
+			faults = new WeakHashMap<Component, Fault>();
+			this.windows.put(window, faults);
+		}
+		Fault ret = faults.get(component);
+		if(ret == null) {
+			ret = new Fault();
+			faults.put(component, ret);
+		}
+
+		return ret;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 取り出したエラー前の状態をコンポーネントに反映します。
+	 *
+	 * <p>[詳 細] </p>
+	 * イベントディスパッチスレッドの場合はその場で、
+	 * それ以外の場合はイベントディスパッチスレッドで一回の処理として反映します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param components 状態を戻すコンポーネント群
+	 * @param faults componentsと同じ順のエラー前の状態
+	 */
+	private static void apply(final List<Component> components, final List<Fault> faults) {
+		if(components.isEmpty()) {
+			return;
+		}
+		if(!SwingUtilities.isEventDispatchThread()) {
+			SwingUtilities.invokeLater(new Runnable() {
+				public void run() {
+					apply(components, faults);
+				}
+			});
+			return;
+		}
+
+		for(int i = 0; i < components.size(); i++) {
+			faults.get(i).applyTo(components.get(i));
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 一つのコンポーネントのエラー前の状態です。
+	 *
+	 * <p>[詳 細] </p>
+	 * コンポーネントへの参照は持ちません。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static final class Fault {
+
+		/** 背景色を保存したかどうかです。 */
+		private boolean hasBackground;
+
+		/** エラー前の背景色です。 */
+		private Color background;
+
+		/** ツールチップを保存したかどうかです。 */
+		private boolean hasToolTipText;
+
+		/** エラー前のツールチップです。 */
+		private String toolTipText;
+
+		/**
+		 * <p>[概 要] </p>
+		 * 引数componentをエラー前の状態に戻します。
+		 *
+		 * <p>[詳 細] </p>
+		 * 保存した属性のみ戻します。背景色がnullの場合は戻しません。
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @param component 状態を戻すコンポーネント
+		 */
+		void applyTo(Component component) {
+			if(this.hasBackground && this.background != null) {
+				component.setBackground(this.background);
+			}
+			if(this.hasToolTipText && component instanceof JComponent) {
+				((JComponent)component).setToolTipText(this.toolTipText);
+			}
+		}
+	}
+}
@@ -0,0 +1,443 @@
+package com.oneitthing.swingcontrollerizer.controller;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * <p>[概 要] </p>
+ * {@link AdmissionPolicy}に従ってアクション起動を制御するクラスです。
+ *
+ * <p>[詳 細] </p>
+ * (イベントソース, アクションクラス)毎の起動中情報を、イベントソースの同一性をキーにした
+ * ロックフリーのレジストリで管理します。<br>
+ * 起動中情報はアクションの起動が終了した時点（debounce、throttleの場合は間隔経過後）で
+ * レジストリから削除される為、イベントソースへの参照を保持し続けることは有りません。<br>
+ * アクションの起動は、起動タスクの復帰に加え、起動タスク中に取得された{@link Hold}が
+ * 全て解放された時点で終了したと見做します。同期モデルはこれを利用して、
+ * モデル処理の終了まで後続のイベントを受け付けないようにします。
+ *
+ * <p>[備 考] </p>
+ *
+ */
+final class EventAdmission {
+
+	/** 起動中情報のレジストリです。 */
+	private final ConcurrentHashMap<Key, Slot> registry = new ConcurrentHashMap<Key, Slot>();
+
+	/** 実行中の起動タスクの起動保持です。イベントディスパッチスレッドからのみ参照されます。 */
+	private Hold current;
+
+	/**
+	 * <p>[概 要] </p>
+	 * 実行中の起動タスクの起動保持を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * DROP、QUEUE、LATESTポリシーの起動タスク実行中にコールされた場合、
+	 * そのアクション起動の終了を遅らせる為の起動保持を返却します。
+	 *
+	 * <p>[備 考] </p>
+	 * イベントディスパッチスレッドからコールして下さい。
+	 *
+	 * @return 起動保持、起動タスク実行中で無い場合、又は他のポリシーの場合はnull
+	 */
+	Hold current() {
+		return this.current;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * ポリシーに従ってアクション起動タスクを受け付けます。
+	 *
+	 * <p>[詳 細] </p>
+	 * DUPLICATEの場合はtaskを即座に実行します。
+	 * それ以外の場合、taskはイベントディスパッチスレッド上で後から実行されます。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param policy アクション起動ポリシー
+	 * @param source イベントソース
+	 * @param actionClass 起動するアクションクラス
+	 * @param task アクション起動タスク
+	 */
+	void admit(AdmissionPolicy policy, Object source, Class<?> actionClass, Runnable task) {
+		if (policy.getType() == AdmissionPolicy.TYPE_DUPLICATE) {
+			task.run();
+			return;
+		}
+
+		Key key = new Key(source, actionClass);
+		switch (policy.getType()) {
+		case AdmissionPolicy.TYPE_QUEUE:
+		case AdmissionPolicy.TYPE_LATEST:
+			enqueue(policy, key, task);
+			break;
+		case AdmissionPolicy.TYPE_DEBOUNCE:
+			debounce(policy, key, task);
+			break;
+		case AdmissionPolicy.TYPE_THROTTLE:
+			throttle(policy, key, task);
+			break;
+		default:
+			drop(key, task);
+			break;
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * DROPポリシーの受付処理です。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private void drop(Key key, Runnable task) {
+		Slot slot = new Slot();
+		if (this.registry.putIfAbsent(key, slot) != null) {
+			return;
+		}
+		schedule(key, slot, task);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * QUEUE、LATESTポリシーの受付処理です。
+	 *
+	 * <p>[詳 細] </p>
+	 * 起動中情報が無ければ即座に起動を予約します。
+	 * 有る場合は起動中情報に後続タスクとして保持します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private void enqueue(AdmissionPolicy policy, Key key, Runnable task) {
+		while (true) {
+			Slot slot = new Slot();
+			Slot existing = this.registry.putIfAbsent(key, slot);
+			if (existing == null) {
+				schedule(key, slot, task);
+				return;
+			}
+			if (policy.getType() == AdmissionPolicy.TYPE_QUEUE) {
+				existing.queue.offer(task);
+			} else {
+				existing.latest.set(task);
+			}
+			// 登録と同時に起動中情報が閉じられた場合は、登録し直す
+			if (!existing.closed.get()) {
+				return;
+			}
+			if (!existing.queue.remove(task) && !existing.latest.compareAndSet(task, null)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * DEBOUNCEポリシーの受付処理です。
+	 *
+	 * <p>[詳 細] </p>
+	 * 最新のタスクを保持して、単発タイマを再始動します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private void debounce(AdmissionPolicy policy, final Key key, Runnable task) {
+		Slot slot = new Slot();
+		Slot existing = this.registry.putIfAbsent(key, slot);
+		final Slot target = existing == null ? slot : existing;
+		target.latest.set(task);
+
+		Timer timer = target.timer.get();
+		if (timer == null) {
+			timer = new Timer((int) policy.getInterval(), new ActionListener() {
+				@Override
+				public void actionPerformed(ActionEvent e) {
+					registry.remove(key, target);
+					Runnable latest = target.latest.getAndSet(null);
+					if (latest != null) {
+						latest.run();
+					}
+				}
+			});
+			timer.setRepeats(false);
+			if (!target.timer.compareAndSet(null, timer)) {
+				timer = target.timer.get();
+			}
+		}
+		timer.restart();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * THROTTLEポリシーの受付処理です。
+	 *
+	 * <p>[詳 細] </p>
+	 * 起動中情報が無ければ起動を予約し、間隔を計る単発タイマを始動します（先端）。<br>
+	 * 間隔中のタスクは最新の一件を保持し、間隔経過時に起動して次の間隔を始めます（後端）。
+	 * 保持しているタスクが無ければ起動中情報を削除します。
+	 *
+	 * <p>[備 考] </p>
+	 * 連続したイベントの最後の一件は必ず起動されます。
+	 *
+	 */
+	private void throttle(final AdmissionPolicy policy, final Key key, Runnable task) {
+		while (true) {
+			Slot slot = new Slot();
+			Slot existing = this.registry.putIfAbsent(key, slot);
+			if (existing == null) {
+				startInterval(policy, key, slot);
+				SwingUtilities.invokeLater(task);
+				return;
+			}
+			existing.latest.set(task);
+			// 登録と同時に起動中情報が閉じられた場合は、登録し直す
+			if (!existing.closed.get() || !existing.latest.compareAndSet(task, null)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * THROTTLEポリシーの間隔を計る単発タイマを始動します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 間隔経過時、間隔中に保持したタスクが有ればそれを起動して次の間隔を始め、
+	 * 無ければ起動中情報を削除します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private void startInterval(final AdmissionPolicy policy, final Key key, final Slot slot) {
+		Timer timer = new Timer((int) policy.getInterval(), new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				Runnable latest = slot.latest.getAndSet(null);
+				if (latest != null) {
+					((Timer) e.getSource()).restart();
+					latest.run();
+					return;
+				}
+				slot.closed.set(true);
+				registry.remove(key, slot);
+
+				// 閉じる直前に保持されたタスクは、新しい起動中情報で受け付け直す
+				Runnable late = slot.latest.getAndSet(null);
+				if (late != null) {
+					throttle(policy, key, late);
+				}
+			}
+		});
+		timer.setRepeats(false);
+		timer.start();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * タスクをイベントディスパッチスレッドで実行するよう予約します。
+	 *
+	 * <p>[詳 細] </p>
+	 * タスク実行後、タスク中に取得された起動保持が全て解放された時点で、
+	 * 後続タスクが有ればそれを予約し、無ければ起動中情報を削除します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private void schedule(final Key key, final Slot slot, final Runnable task) {
+		SwingUtilities.invokeLater(new Runnable() {
+			@Override
+			public void run() {
+				Hold hold = new Hold(key, slot);
+				Hold previous = current;
+				current = hold;
+				try {
+					task.run();
+				} finally {
+					current = previous;
+					hold.release();
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * タスク終了時の処理です。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private void complete(Key key, Slot slot) {
+		Runnable next = slot.next();
+		if (next != null) {
+			schedule(key, slot, next);
+			return;
+		}
+		slot.closed.set(true);
+		this.registry.remove(key, slot);
+
+		// 閉じる直前に登録された後続タスクは、新しい起動中情報で受け付け直す
+		Runnable late;
+		while ((late = slot.next()) != null) {
+			enqueue(AdmissionPolicy.QUEUE, key, late);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * アクション起動一回分の終了を遅らせる起動保持です。
+	 *
+	 * <p>[詳 細] </p>
+	 * 起動タスク自身が一つ保持した状態で生成されます。<br>
+	 * {@link #acquire()}と{@link #release()}の対で保持数を増減し、
+	 * 保持数が0になった時点でアクションの起動を終了させます。<br>
+	 * 一度終了した起動保持は再び保持出来ません。
+	 *
+	 * <p>[備 考] </p>
+	 * 任意のスレッドから解放出来ます。
+	 *
+	 */
+	final class Hold {
+
+		private final Key key;
+
+		private final Slot slot;
+
+		/** 保持数です。 */
+		private final AtomicInteger count = new AtomicInteger(1);
+
+		Hold(Key key, Slot slot) {
+			this.key = key;
+			this.slot = slot;
+		}
+
+		/**
+		 * <p>[概 要] </p>
+		 * 保持数を一つ増やします。
+		 *
+		 * <p>[詳 細] </p>
+		 * 保持数が既に0の場合、アクションの起動は終了している為、保持しません。
+		 *
+		 * <p>[備 考] </p>
+		 * falseが返却された場合、{@link #release()}をコールしないで下さい。
+		 *
+		 * @return 保持した場合true
+		 */
+		boolean acquire() {
+			int current;
+			do {
+				current = this.count.get();
+				if (current == 0) {
+					return false;
+				}
+			} while (!this.count.compareAndSet(current, current + 1));
+			return true;
+		}
+
+		/**
+		 * <p>[概 要] </p>
+		 * 保持数を一つ減らします。
+		 *
+		 * <p>[詳 細] </p>
+		 * 保持数が0になった場合、アクションの起動を終了させます。
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 */
+		void release() {
+			if (this.count.decrementAndGet() != 0) {
+				return;
+			}
+			SwingUtilities.invokeLater(new Runnable() {
+				@Override
+				public void run() {
+					complete(key, slot);
+				}
+			});
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * イベントソースの同一性とアクションクラスから成るレジストリキーです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static final class Key {
+
+		private final Object source;
+
+		private final Class<?> actionClass;
+
+		private final int hash;
+
+		Key(Object source, Class<?> actionClass) {
+			this.source = source;
+			this.actionClass = actionClass;
+			this.hash = System.identityHashCode(source) * 31 + System.identityHashCode(actionClass);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return this.source == other.source && this.actionClass == other.actionClass;
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * (イベントソース, アクションクラス)一件分の起動中情報です。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static final class Slot {
+
+		/** QUEUEポリシーの後続タスクです。 */
+		private final Queue<Runnable> queue = new ConcurrentLinkedQueue<Runnable>();
+
+		/** LATEST、DEBOUNCE、THROTTLEポリシーの最新タスクです。 */
+		private final AtomicReference<Runnable> latest = new AtomicReference<Runnable>();
+
+		/** DEBOUNCEポリシーのタイマです。 */
+		private final AtomicReference<Timer> timer = new AtomicReference<Timer>();
+
+		/** レジストリから削除されたかどうかです。 */
+		private final AtomicBoolean closed = new AtomicBoolean();
+
+		Runnable next() {
+			Runnable next = this.queue.poll();
+			if (next == null) {
+				next = this.latest.getAndSet(null);
+			}
+			return next;
+		}
+	}
+}
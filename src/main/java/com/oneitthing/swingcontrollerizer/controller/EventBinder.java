@@ -3,12 +3,11 @@ package com.oneitthing.swingcontrollerizer.controller;
 import java.awt.Component;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EventListener;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import javax.swing.JComponent;
 import javax.swing.event.EventListenerList;
@@ -55,6 +54,12 @@ import com.oneitthing.swingcontrollerizer.util.ComponentSearchUtil;
  *
  * </pre>
  *
+ * 参照系メソッド（{@link #getListenerTypes(String)}、{@link #getEventTypes(String, Class)}、
+ * {@link #getActionClass(String, Class, String)}、{@link #isEventBinding(String)}）は、
+ * bindInfoをコンパイルした不変のディスパッチテーブルを参照します。<br>
+ * ディスパッチテーブルは紐付け情報の追加、削除時に破棄され、次回参照時に再生成されて
+ * 差し替えられる（copy-on-write）為、イベント処理中の参照はロック無し、オブジェクト生成無しで行われます。
+ *
  * <p>[備 考] </p>
  * アプリケーション動作中に紐付け情報を追加する場合、以下のようにEventBinderオブジェクト
  * を取得してaddEventBinding、又はaddEventBindingImmediatelyをコールします。
@@ -73,6 +78,12 @@ public class EventBinder {
 	/** コンポーネント名、リスナタイプ、eventタイプ、Actionクラスの紐付け情報を保持するオブジェクトです。 */
 	private Map<String, Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>>> bindInfo;
 
+	/** コンポーネント名、リスナタイプ、eventタイプ毎のアクション起動ポリシーを保持するオブジェクトです。 */
+	private Map<String, Map<Class<? extends EventListener>, Map<String, AdmissionPolicy>>> admissionInfo;
+
+	/** bindInfoをコンパイルした不変のディスパッチテーブルです。紐付け変更後、次回参照時まではnullです。 */
+	private volatile DispatchTable dispatchTable = DispatchTable.EMPTY;
+
 	/** コントローラオブジェクトです。 */
 	private AbstractController controller;
 
@@ -81,14 +92,23 @@ public class EventBinder {
 	 * イベント紐付け情報保持オブジェクトを取得します。
 	 *
 	 * <p>[詳 細] </p>
-	 * bindInfoフィールドを返却します。
+	 * bindInfoフィールドの、呼び出し時点の複製を返却します。
 	 *
 	 * <p>[備 考] </p>
+	 * 返却されるMapは入れ子のMapも含めて変更出来ません。
+	 * 紐付け情報の変更はaddEventBinding、removeEventBindingで行って下さい。
 	 *
 	 * @return イベント紐付け情報
 	 */
-	public Map<String, Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>>> getBindInfo() {
-		return bindInfo;
+	public synchronized Map<String, Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>>> getBindInfo() {
+		Map<String, Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>>> ret =
+			new HashMap<String, Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>>>();
+		for(Map.Entry<String, Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>>> e
+				: this.bindInfo.entrySet())
+		{
+			ret.put(e.getKey(), copyListenerTypeMap(e.getValue(), true));
+		}
+		return Collections.unmodifiableMap(ret);
 	}
 
 	/**
@@ -96,15 +116,26 @@ public class EventBinder {
 	 * イベント紐付け情報保持オブジェクトを設定します。
 	 *
 	 * <p>[詳 細] </p>
-	 * bindInfoフィールドを、引数bindInfoで設定します。
+	 * bindInfoフィールドを、引数bindInfoの複製で設定します。<br>
+	 * 置き換えられた紐付けに設定されていたアクション起動ポリシーは全て破棄されます。
 	 *
 	 * <p>[備 考] </p>
+	 * 設定後に引数bindInfoを変更しても、紐付け情報には反映されません。<br>
+	 * 新しい紐付けにポリシーを設定する場合は、設定後に
+	 * {@link #addEventBinding(String, Class, String, Class, AdmissionPolicy)}で登録し直して下さい。
 	 *
 	 * @param bindInfo イベント紐付け情報
 	 */
-	public void setBindInfo(
+	public synchronized void setBindInfo(
 			Map<String, Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>>> bindInfo) {
-		this.bindInfo = bindInfo;
+		this.bindInfo = new HashMap<String, Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>>>();
+		for(Map.Entry<String, Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>>> e
+				: bindInfo.entrySet())
+		{
+			this.bindInfo.put(e.getKey(), copyListenerTypeMap(e.getValue(), false));
+		}
+		this.admissionInfo = new HashMap<String, Map<Class<? extends EventListener>, Map<String, AdmissionPolicy>>>();
+		this.dispatchTable = null;
 	}
 
 	/**
@@ -150,6 +181,7 @@ public class EventBinder {
 	public EventBinder(AbstractController controller) {
 		this.controller = controller;
 		this.bindInfo = new HashMap<String, Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>>>();
+		this.admissionInfo = new HashMap<String, Map<Class<? extends EventListener>, Map<String, AdmissionPolicy>>>();
 	}
 
 	/**
@@ -231,7 +263,7 @@ public class EventBinder {
 	 * @param eventType
 	 * @param actionClass
 	 */
-	public void addEventBinding(String componentName, Class<? extends EventListener> listenerType, String eventType, Class<? extends AbstractAction> actionClass) {
+	public synchronized void addEventBinding(String componentName, Class<? extends EventListener> listenerType, String eventType, Class<? extends AbstractAction> actionClass) {
 
 		Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>> listenerTypeMap = null;
 
@@ -252,6 +284,55 @@ public class EventBinder {
 		}
 
 		eventTypeMap.put(eventType, actionClass);
+		removeAdmissionPolicy(componentName, listenerType, eventType);
+		this.dispatchTable = null;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * アクション起動ポリシー付きのイベント紐付け情報追加メソッドです。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link #addEventBinding(String, Class, String, Class)}で紐付け情報を登録した後、
+	 * 紐付けに対するアクション起動ポリシーを登録します。<br>
+	 * 同一イベントソースから同一アクションへのイベントが連続して発生した場合、
+	 * policyに従ってアクションの起動、破棄、保留が決定されます。
+	 *
+	 * <p>[備 考] </p>
+	 * policyにnullを指定した場合、{@link ClientConfig#isDuplicateActionInvoke()}
+	 * の設定に従います。
+	 *
+	 * <pre class="samplecode">
+	 *	eventBinder.addEventBinding("searchFrame.jtfKeyword", KeyListener.class, "keyReleased",
+	 *		IncrementalSearchAction.class, AdmissionPolicy.debounce(300));
+	 * </pre>
+	 *
+	 * @param componentName
+	 * @param listenerType
+	 * @param eventType
+	 * @param actionClass
+	 * @param policy アクション起動ポリシー
+	 */
+	public synchronized void addEventBinding(String componentName, Class<? extends EventListener> listenerType, String eventType, Class<? extends AbstractAction> actionClass, AdmissionPolicy policy) {
+		addEventBinding(componentName, listenerType, eventType, actionClass);
+		if(policy == null) {
+			return;
+		}
+
+		Map<Class<? extends EventListener>, Map<String, AdmissionPolicy>> listenerTypeMap = this.admissionInfo.get(componentName);
+		if(listenerTypeMap == null) {
+			listenerTypeMap = new HashMap<Class<? extends EventListener>, Map<String, AdmissionPolicy>>();
+			this.admissionInfo.put(componentName, listenerTypeMap);
+		}
+
+		Map<String, AdmissionPolicy> eventTypeMap = listenerTypeMap.get(listenerType);
+		if(eventTypeMap == null) {
+			eventTypeMap = new HashMap<String, AdmissionPolicy>();
+			listenerTypeMap.put(listenerType, eventTypeMap);
+		}
+
+		eventTypeMap.put(eventType, policy);
+		this.dispatchTable = null;
 	}
 
 	/**
@@ -269,12 +350,39 @@ public class EventBinder {
 	 * </pre>
 	 *
 	 * <p>[備 考] </p>
+	 * 返却されるMapは呼び出し時点の複製で、入れ子のMapも含めて変更出来ません。
 	 *
 	 * @param componentName イベントリスナタイプマップを取得するコンポーネント名
-	 * @return イベントリスナタイプマップ
+	 * @return イベントリスナタイプマップ、紐付けが無い場合はnull
 	 */
-	public Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>> getListenerTypeMap(String componentName) {
-		return this.bindInfo.get(componentName);
+	public synchronized Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>> getListenerTypeMap(String componentName) {
+		Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>> listenerTypeMap =
+			this.bindInfo.get(componentName);
+		return listenerTypeMap == null ? null : copyListenerTypeMap(listenerTypeMap, true);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * イベントリスナタイプマップを、イベントタイプのMapも含めて複製します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param listenerTypeMap 複製するイベントリスナタイプマップ
+	 * @param readOnly 変更不可にする場合true
+	 * @return 複製したイベントリスナタイプマップ
+	 */
+	private static Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>> copyListenerTypeMap(
+			Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>> listenerTypeMap, boolean readOnly)
+	{
+		Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>> ret =
+			new HashMap<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>>();
+		for(Map.Entry<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>> e : listenerTypeMap.entrySet()) {
+			Map<String, Class<? extends AbstractAction>> eventTypeMap = new HashMap<String, Class<? extends AbstractAction>>(e.getValue());
+			ret.put(e.getKey(), readOnly ? Collections.unmodifiableMap(eventTypeMap) : eventTypeMap);
+		}
+		return readOnly ? Collections.unmodifiableMap(ret) : ret;
 	}
 
 	/**
@@ -302,20 +410,7 @@ public class EventBinder {
 	 * @return イベントリスナリスト
 	 */
 	public List<Class<? extends EventListener>> getListenerTypes(String componentName) {
-		List<Class<? extends EventListener>> ret = new ArrayList<Class<? extends EventListener>>();
-
-		Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>> listenerTypeMap =
-			this.bindInfo.get(componentName);
-
-		if(listenerTypeMap != null) {
-			Set<Class<? extends EventListener>> keys = listenerTypeMap.keySet();
-			for(Iterator<Class<? extends EventListener>> it = keys.iterator(); it.hasNext();) {
-				Class<? extends EventListener> listener = it.next();
-				ret.add(listener);
-			}
-		}
-
-		return ret;
+		return getDispatchTable().getListenerTypes(componentName);
 	}
 
 	/**
@@ -345,23 +440,7 @@ public class EventBinder {
 	 * @return イベントタイプリスト
 	 */
 	public List<String> getEventTypes(String componentName, Class<? extends EventListener> listenerType) {
-		List<String> ret = new ArrayList<String>();
-
-		Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>> listenerTypeMap =
-			this.bindInfo.get(componentName);
-
-		if(listenerTypeMap != null) {
-			Map<String, Class<? extends AbstractAction>> eventTypeMap = listenerTypeMap.get(listenerType);
-			if(eventTypeMap != null) {
-				Set<String> keys = eventTypeMap.keySet();
-				for(Iterator<String> it = keys.iterator(); it.hasNext();) {
-					String eventType = it.next();
-					ret.add(eventType);
-				}
-			}
-		}
-
-		return ret;
+		return getDispatchTable().getEventTypes(componentName, listenerType);
 	}
 
 	/**
@@ -392,19 +471,29 @@ public class EventBinder {
 															Class<? extends EventListener> listenerType,
 															String eventType)
 	{
-		Class<? extends AbstractAction> ret = null;
-
-		Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>> listenerTypeMap =
-			this.bindInfo.get(componentName);
-
-		if(listenerTypeMap != null) {
-			Map<String, Class<? extends AbstractAction>> eventTypeMap = listenerTypeMap.get(listenerType);
-			if(eventTypeMap != null) {
-				ret = eventTypeMap.get(eventType);
-			}
-		}
+		return getDispatchTable().getActionClass(componentName, listenerType, eventType);
+	}
 
-		return ret;
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentName、listenerType、eventTypeに紐付いているアクション起動ポリシーを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link #addEventBinding(String, Class, String, Class, AdmissionPolicy)}
+	 * で登録されたポリシーを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param componentName アクション起動ポリシーを取得するコンポーネント名
+	 * @param listenerType アクション起動ポリシーを取得するイベントリスナタイプ
+	 * @param eventType アクション起動ポリシーを取得するイベントタイプ
+	 * @return アクション起動ポリシー、指定されていない場合はnull
+	 */
+	public AdmissionPolicy getAdmissionPolicy(String componentName,
+												Class<? extends EventListener> listenerType,
+												String eventType)
+	{
+		return getDispatchTable().getAdmissionPolicy(componentName, listenerType, eventType);
 	}
 
 	/**
@@ -420,7 +509,33 @@ public class EventBinder {
 	 * @return true : 紐付け有り、false : 紐付け無し
 	 */
 	public boolean isEventBinding(String componentName) {
-		return this.bindInfo.containsKey(componentName);
+		return getDispatchTable().contains(componentName);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 紐付け情報をコンパイルしたディスパッチテーブルを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 紐付け情報の変更後、最初の参照時にbindInfoからテーブルを再生成して公開します。<br>
+	 * 変更が無い間はvolatileフィールドを読むだけで、ロックを取得しません。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return ディスパッチテーブル
+	 */
+	DispatchTable getDispatchTable() {
+		DispatchTable table = this.dispatchTable;
+		if(table == null) {
+			synchronized(this) {
+				table = this.dispatchTable;
+				if(table == null) {
+					table = DispatchTable.compile(this.bindInfo, this.admissionInfo);
+					this.dispatchTable = table;
+				}
+			}
+		}
+		return table;
 	}
 
 	/**
@@ -494,8 +609,10 @@ public class EventBinder {
 	 *
 	 * @param componentName
 	 */
-	public void removeEventBinding(String componentName) {
+	public synchronized void removeEventBinding(String componentName) {
 		this.bindInfo.remove(componentName);
+		this.admissionInfo.remove(componentName);
+		this.dispatchTable = null;
 	}
 
 	/**
@@ -511,11 +628,17 @@ public class EventBinder {
 	 * @param componentName
 	 * @param listenerType
 	 */
-	public void removeEventBinding(String componentName, Class<? extends EventListener> listenerType) {
+	public synchronized void removeEventBinding(String componentName, Class<? extends EventListener> listenerType) {
 		Map<Class<? extends EventListener>, Map<String, Class<? extends AbstractAction>>> listenerTypeMap =
 			this.bindInfo.get(componentName);
 
 		listenerTypeMap.remove(listenerType);
+
+		Map<Class<? extends EventListener>, Map<String, AdmissionPolicy>> policyMap = this.admissionInfo.get(componentName);
+		if(policyMap != null) {
+			policyMap.remove(listenerType);
+		}
+		this.dispatchTable = null;
 	}
 
 	/**
@@ -532,7 +655,7 @@ public class EventBinder {
 	 * @param listenerType
 	 * @param eventType
 	 */
-	public void removeEventBinding(String componentName,
+	public synchronized void removeEventBinding(String componentName,
 									Class<? extends EventListener> listenerType,
 									String eventType)
 	{
@@ -541,6 +664,31 @@ public class EventBinder {
 
 		Map<String, Class<? extends AbstractAction>> eventTypeMap = listenerTypeMap.get(listenerType);
 		eventTypeMap.remove(eventType);
+		removeAdmissionPolicy(componentName, listenerType, eventType);
+		this.dispatchTable = null;
+	}
+
+	/**
+	 * <p>[概 要]</p>
+	 * アクション起動ポリシー削除メソッドです。
+	 *
+	 * <p>[詳 細]</p>
+	 *
+	 * <p>[備 考]</p>
+	 *
+	 * @param componentName
+	 * @param listenerType
+	 * @param eventType
+	 */
+	private void removeAdmissionPolicy(String componentName, Class<? extends EventListener> listenerType, String eventType) {
+		Map<Class<? extends EventListener>, Map<String, AdmissionPolicy>> listenerTypeMap = this.admissionInfo.get(componentName);
+		if(listenerTypeMap == null) {
+			return;
+		}
+		Map<String, AdmissionPolicy> eventTypeMap = listenerTypeMap.get(listenerType);
+		if(eventTypeMap != null) {
+			eventTypeMap.remove(eventType);
+		}
 	}
 
 	/**
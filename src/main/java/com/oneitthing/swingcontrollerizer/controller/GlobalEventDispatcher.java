@@ -0,0 +1,555 @@
+package com.oneitthing.swingcontrollerizer.controller;
+
+import java.awt.AWTEvent;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Toolkit;
+import java.awt.Window;
+import java.awt.event.AWTEventListener;
+import java.awt.event.ContainerEvent;
+import java.awt.event.ContainerListener;
+import java.awt.event.FocusEvent;
+import java.awt.event.FocusListener;
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseListener;
+import java.awt.event.MouseMotionListener;
+import java.awt.event.MouseWheelListener;
+import java.awt.event.WindowEvent;
+import java.awt.event.WindowFocusListener;
+import java.awt.event.WindowListener;
+import java.awt.event.WindowStateListener;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.EventListener;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javax.swing.JMenu;
+import javax.swing.JPopupMenu;
+import javax.swing.SwingUtilities;
+
+import com.oneitthing.swingcontrollerizer.util.ComponentNameIndex;
+
+/**
+ * <p>[概 要] </p>
+ * 一つのAWTEventListenerで紐付けイベントをハンドルするクラスです。
+ *
+ * <p>[詳 細] </p>
+ * {@link ClientConfig#isGlobalEventDispatch()}がtrueの場合にコントローラが生成し、
+ * Toolkit#addAWTEventListenerで登録します。<br>
+ * AWTイベントキューを経由するイベント（マウス、マウスモーション、マウスホイール、キー、フォーカス、
+ * ウィンドウ、コンテナ）について、ディスパッチ時にイベントIDとコンポーネント名から
+ * {@link EventBinder}の紐付けを検索し、{@link AbstractController#handlerFacade(java.util.EventObject, Class, String, EventListener, Component)}
+ * をコールします。<br>
+ * これらのリスナ型についてはコンポーネント毎のイベントリスナ、ContainerListenerImplを追加しません。
+ * 上記以外のリスナ型（ActionListener等、コンポーネントが直接発行するイベント）は
+ * 従来通りコンポーネント毎にイベントリスナを追加します。
+ * <p>
+ *
+ * イベントを受け取るコンポーネントは以下のように決定します。
+ * <ul>
+ *   <li>キー、フォーカス、ウィンドウ、コンテナイベント : イベントソース</li>
+ *   <li>mousePressed、mouseMoved、mouseWheelMoved : ポインタ位置の最も深いコンポーネントから
+ *       親方向に辿って最初に紐付けが有るコンポーネント</li>
+ *   <li>mouseReleased、mouseClicked、mouseDragged : mousePressed時のポインタ位置から同様に辿ったコンポーネント</li>
+ *   <li>mouseEntered、mouseExited : 紐付けが有るコンポーネントへのポインタの出入りを
+ *       マウスモーションから判定して発行</li>
+ * </ul>
+ * マウスイベントの座標は受け取るコンポーネントの座標系に変換されます。
+ *
+ * <p>[備 考] </p>
+ * コンポーネント毎のイベントリスナと異なり、子コンポーネントが独自にマウスリスナを持つ場合でも
+ * 紐付けの有る親コンポーネントがマウスイベントを受け取ります。<br>
+ * 紐付けはコンポーネント名で検索しますが、登録済みウィンドウに属さないコンポーネントのイベントはハンドルしません。<br>
+ * 全てのメソッドはイベントディスパッチスレッドからコールされます。
+ *
+ */
+final class GlobalEventDispatcher implements AWTEventListener {
+
+	/** 監視するイベントのマスクです。 */
+	static final long EVENT_MASK = AWTEvent.MOUSE_EVENT_MASK
+			| AWTEvent.MOUSE_MOTION_EVENT_MASK
+			| AWTEvent.MOUSE_WHEEL_EVENT_MASK
+			| AWTEvent.KEY_EVENT_MASK
+			| AWTEvent.FOCUS_EVENT_MASK
+			| AWTEvent.WINDOW_EVENT_MASK
+			| AWTEvent.WINDOW_FOCUS_EVENT_MASK
+			| AWTEvent.WINDOW_STATE_EVENT_MASK
+			| AWTEvent.CONTAINER_EVENT_MASK;
+
+	/** イベントを受け取るコンポーネントがイベントソースであることを示します。 */
+	private static final int SOURCE = 0;
+
+	/** イベントを受け取るコンポーネントがポインタ位置から決定されることを示します。 */
+	private static final int POINTER = 1;
+
+	/** イベントを受け取るコンポーネントがmousePressed時のポインタ位置から決定されることを示します。 */
+	private static final int PRESSED = 2;
+
+	/** イベントID毎の配送先です。 */
+	private static final Map<Integer, Route> ROUTES = new HashMap<Integer, Route>();
+
+	/** このクラスでハンドルするイベントリスナ型です。 */
+	private static final Set<Class<? extends EventListener>> COVERED = new HashSet<Class<? extends EventListener>>();
+
+	static {
+		route(MouseEvent.MOUSE_PRESSED, MouseListener.class, "mousePressed", POINTER);
+		route(MouseEvent.MOUSE_RELEASED, MouseListener.class, "mouseReleased", PRESSED);
+		route(MouseEvent.MOUSE_CLICKED, MouseListener.class, "mouseClicked", PRESSED);
+		route(MouseEvent.MOUSE_MOVED, MouseMotionListener.class, "mouseMoved", POINTER);
+		route(MouseEvent.MOUSE_DRAGGED, MouseMotionListener.class, "mouseDragged", PRESSED);
+		route(MouseEvent.MOUSE_WHEEL, MouseWheelListener.class, "mouseWheelMoved", POINTER);
+		route(KeyEvent.KEY_PRESSED, KeyListener.class, "keyPressed", SOURCE);
+		route(KeyEvent.KEY_RELEASED, KeyListener.class, "keyReleased", SOURCE);
+		route(KeyEvent.KEY_TYPED, KeyListener.class, "keyTyped", SOURCE);
+		route(FocusEvent.FOCUS_GAINED, FocusListener.class, "focusGained", SOURCE);
+		route(FocusEvent.FOCUS_LOST, FocusListener.class, "focusLost", SOURCE);
+		route(WindowEvent.WINDOW_OPENED, WindowListener.class, "windowOpened", SOURCE);
+		route(WindowEvent.WINDOW_CLOSING, WindowListener.class, "windowClosing", SOURCE);
+		route(WindowEvent.WINDOW_CLOSED, WindowListener.class, "windowClosed", SOURCE);
+		route(WindowEvent.WINDOW_ICONIFIED, WindowListener.class, "windowIconified", SOURCE);
+		route(WindowEvent.WINDOW_DEICONIFIED, WindowListener.class, "windowDeiconified", SOURCE);
+		route(WindowEvent.WINDOW_ACTIVATED, WindowListener.class, "windowActivated", SOURCE);
+		route(WindowEvent.WINDOW_DEACTIVATED, WindowListener.class, "windowDeactivated", SOURCE);
+		route(WindowEvent.WINDOW_GAINED_FOCUS, WindowFocusListener.class, "windowGainedFocus", SOURCE);
+		route(WindowEvent.WINDOW_LOST_FOCUS, WindowFocusListener.class, "windowLostFocus", SOURCE);
+		route(WindowEvent.WINDOW_STATE_CHANGED, WindowStateListener.class, "windowStateChanged", SOURCE);
+		route(ContainerEvent.COMPONENT_ADDED, ContainerListener.class, "componentAdded", SOURCE);
+		route(ContainerEvent.COMPONENT_REMOVED, ContainerListener.class, "componentRemoved", SOURCE);
+	}
+
+	/** イベントをハンドルするコントローラです。 */
+	private final AbstractController controller;
+
+	/** 登録済みのウィンドウです。 */
+	private final Set<Window> windows = Collections.newSetFromMap(new WeakHashMap<Window, Boolean>());
+
+	/** mousePressed時のポインタ位置の最も深いコンポーネントです。mouseClicked、又は次のmousePressedまで保持します。 */
+	private WeakReference<Component> pressed;
+
+	/** ポインタが入っている、mouseEntered、又はmouseExitedの紐付けが有るコンポーネントです。 */
+	private WeakReference<Component> hovered;
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param controller イベントをハンドルするコントローラ
+	 */
+	GlobalEventDispatcher(AbstractController controller) {
+		this.controller = controller;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * イベントID毎の配送先を登録します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param id イベントID
+	 * @param listenerType イベントリスナ型
+	 * @param eventType イベントハンドラメソッド名
+	 * @param target イベントを受け取るコンポーネントの決定方法
+	 */
+	private static void route(int id, Class<? extends EventListener> listenerType, String eventType, int target) {
+		ROUTES.put(id, new Route(listenerType, eventType, target));
+		COVERED.add(listenerType);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数listenerTypeのイベントがこのクラスでハンドルされるかどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param listenerType イベントリスナ型
+	 * @return ハンドルされる場合true
+	 */
+	static boolean isCovered(Class<? extends EventListener> listenerType) {
+		return COVERED.contains(listenerType);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * AWTEventListenerとして登録します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	void install() {
+		Toolkit.getDefaultToolkit().addAWTEventListener(this, EVENT_MASK);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * AWTEventListenerの登録を解除します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	void uninstall() {
+		Toolkit.getDefaultToolkit().removeAWTEventListener(this);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * コントローラに登録されたウィンドウを記録します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 記録されたウィンドウに追加されたコンポーネントは、
+	 * ContainerListenerImplと同様に{@link AbstractController#bindEvents(Component)}されます。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param window 登録されたウィンドウ
+	 */
+	void windowRegistered(Window window) {
+		this.windows.add(window);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * ディスパッチされたイベントをハンドルします。
+	 *
+	 * <p>[詳 細] </p>
+	 * イベントIDに対応する配送先とイベントを受け取るコンポーネントを決定し、
+	 * 紐付けが有ればhandlerFacadeをコールします。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param e ディスパッチされたイベント
+	 */
+	@Override
+	public void eventDispatched(AWTEvent e) {
+		if (!(e.getSource() instanceof Component)) {
+			return;
+		}
+		Component source = (Component)e.getSource();
+		int id = e.getID();
+		if (id == ContainerEvent.COMPONENT_ADDED) {
+			componentAdded((ContainerEvent)e);
+		} else if (id == ContainerEvent.COMPONENT_REMOVED) {
+			ContainerEvent ce = (ContainerEvent)e;
+			ComponentNameIndex.componentRemoved(ce.getContainer(), ce.getChild());
+		}
+		if (e instanceof MouseEvent) {
+			trackPointer((MouseEvent)e, source);
+		}
+		Route route = ROUTES.get(id);
+		if (route == null) {
+			return;
+		}
+		Component target;
+		switch (route.target) {
+		case POINTER:
+			target = findBound(deepestAt(source, (MouseEvent)e), route.listenerType, route.eventType);
+			break;
+		case PRESSED:
+			Component start = this.pressed == null ? null : this.pressed.get();
+			target = findBound(start != null ? start : deepestAt(source, (MouseEvent)e), route.listenerType, route.eventType);
+			break;
+		default:
+			target = isBound(source, route.listenerType, route.eventType) ? source : null;
+			break;
+		}
+		if (id == MouseEvent.MOUSE_CLICKED) {
+			// mouseClickedはmouseReleasedの後に発行される為、ここで破棄する。
+			// ドラッグ後等mouseClickedが発行されない場合は、次のmousePressedで置き換わる
+			this.pressed = null;
+		}
+		if (target != null) {
+			dispatch(e, source, target, route.listenerType, route.eventType);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 登録済みウィンドウに追加されたコンポーネントを走査します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 追加されたコンポーネントと包含するコンポーネントを{@link AbstractController#bindEvents(Component)}し、
+	 * ウィンドウの{@link ComponentNameIndex}に反映します。
+	 *
+	 * <p>[備 考] </p>
+	 * ウィンドウ登録前に追加されたコンポーネントは、ウィンドウ登録時に走査される為対象外です。
+	 *
+	 * @param e コンテナイベント
+	 */
+	private void componentAdded(ContainerEvent e) {
+		Container container = e.getContainer();
+		if (isRegistered(container)) {
+			ComponentNameIndex.componentAdded(container, e.getChild());
+			bindTree(e.getChild());
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentと包含するコンポーネントを再帰的にbindEventsします。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param component 走査するコンポーネント
+	 */
+	void bindTree(Component component) {
+		this.controller.bindEvents(component);
+		if (component instanceof Container) {
+			for (Component c : ((Container)component).getComponents()) {
+				bindTree(c);
+			}
+			if (component instanceof JMenu) {
+				JMenu menu = (JMenu)component;
+				for (int i = 0; i < menu.getMenuComponentCount(); i++) {
+					bindTree(menu.getMenuComponent(i));
+				}
+			}
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * マウスイベントからポインタの状態を更新します。
+	 *
+	 * <p>[詳 細] </p>
+	 * mousePressed時のコンポーネントを記録し、
+	 * mouseEntered、mouseExitedの紐付けが有るコンポーネントの出入りを判定してmouseExited、mouseEnteredを発行します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param e マウスイベント
+	 * @param source イベントソース
+	 */
+	private void trackPointer(MouseEvent e, Component source) {
+		int id = e.getID();
+		if (id == MouseEvent.MOUSE_PRESSED) {
+			this.pressed = new WeakReference<Component>(deepestAt(source, e));
+		}
+		if (id == MouseEvent.MOUSE_WHEEL || id == MouseEvent.MOUSE_CLICKED || id == MouseEvent.MOUSE_RELEASED) {
+			return;
+		}
+		// ポインタがイベントソースから出た場合は、次のマウスモーションで入ったコンポーネントを判定する
+		Component next = id == MouseEvent.MOUSE_EXITED ? null : findHoverTarget(deepestAt(source, e));
+		Component previous = this.hovered == null ? null : this.hovered.get();
+		if (next == previous) {
+			return;
+		}
+		this.hovered = next == null ? null : new WeakReference<Component>(next);
+		if (previous != null && isBound(previous, MouseListener.class, "mouseExited")) {
+			dispatch(retype(e, source, MouseEvent.MOUSE_EXITED), source, previous, MouseListener.class, "mouseExited");
+		}
+		if (next != null && isBound(next, MouseListener.class, "mouseEntered")) {
+			dispatch(retype(e, source, MouseEvent.MOUSE_ENTERED), source, next, MouseListener.class, "mouseEntered");
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数eのイベントIDを変更したマウスイベントを生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param e 元のマウスイベント
+	 * @param source イベントソース
+	 * @param id イベントID
+	 * @return 生成したマウスイベント
+	 */
+	private static MouseEvent retype(MouseEvent e, Component source, int id) {
+		return new MouseEvent(source, id, e.getWhen(), e.getModifiersEx(), e.getX(), e.getY(),
+				e.getXOnScreen(), e.getYOnScreen(), 0, false, MouseEvent.NOBUTTON);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * ポインタ位置の最も深いコンポーネントを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 * ポインタがイベントソースの外に有る場合はイベントソースを返却します。
+	 *
+	 * @param source イベントソース
+	 * @param e マウスイベント
+	 * @return ポインタ位置の最も深いコンポーネント
+	 */
+	private static Component deepestAt(Component source, MouseEvent e) {
+		Component deepest = SwingUtilities.getDeepestComponentAt(source, e.getX(), e.getY());
+		return deepest != null ? deepest : source;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentから親方向に辿って、最初に紐付けが有るコンポーネントを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * ウィンドウに到達した時点で探索を終了します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param component 探索を開始するコンポーネント
+	 * @param listenerType イベントリスナ型
+	 * @param eventType イベントハンドラメソッド名
+	 * @return 紐付けが有るコンポーネント、無い場合はnull
+	 */
+	private Component findBound(Component component, Class<? extends EventListener> listenerType, String eventType) {
+		for (Component c = component; c != null; c = c.getParent()) {
+			if (isBound(c, listenerType, eventType)) {
+				return c;
+			}
+			if (c instanceof Window) {
+				break;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentから親方向に辿って、最初にmouseEntered、又はmouseExitedの紐付けが有るコンポーネントを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param component 探索を開始するコンポーネント
+	 * @return 紐付けが有るコンポーネント、無い場合はnull
+	 */
+	private Component findHoverTarget(Component component) {
+		for (Component c = component; c != null; c = c.getParent()) {
+			if (isBound(c, MouseListener.class, "mouseEntered") || isBound(c, MouseListener.class, "mouseExited")) {
+				return c;
+			}
+			if (c instanceof Window) {
+				break;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentに紐付けが有るかどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 紐付けはコンポーネント名で検索する為、登録済みウィンドウに属さないコンポーネントは
+	 * 同名の紐付けが有っても対象外とします。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param component コンポーネント
+	 * @param listenerType イベントリスナ型
+	 * @param eventType イベントハンドラメソッド名
+	 * @return 紐付けが有る場合true
+	 */
+	private boolean isBound(Component component, Class<? extends EventListener> listenerType, String eventType) {
+		String name = component.getName();
+		return name != null && !"".equals(name)
+				&& this.controller.getEventBinder().getActionClass(name, listenerType, eventType) != null
+				&& isRegistered(component);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentが登録済みウィンドウに属するかどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 引数componentから親方向に辿って最初のウィンドウを判定します。<br>
+	 * ポップアップメニューは独立したウィンドウに表示される場合が有る為、
+	 * ポップアップメニューに到達した場合はメニューを表示したコンポーネントから辿ります。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param component コンポーネント
+	 * @return 登録済みウィンドウに属する場合true
+	 */
+	private boolean isRegistered(Component component) {
+		Component c = component;
+		while (c != null && !(c instanceof Window)) {
+			c = c instanceof JPopupMenu ? ((JPopupMenu)c).getInvoker() : c.getParent();
+		}
+		return c != null && this.windows.contains(c);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * handlerFacadeにイベントを委譲します。
+	 *
+	 * <p>[詳 細] </p>
+	 * マウスイベントはイベントを受け取るコンポーネントの座標系に変換します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param e イベント
+	 * @param source イベントソース
+	 * @param target イベントを受け取るコンポーネント
+	 * @param listenerType イベントリスナ型
+	 * @param eventType イベントハンドラメソッド名
+	 */
+	private void dispatch(AWTEvent e, Component source, Component target,
+			Class<? extends EventListener> listenerType, String eventType) {
+		AWTEvent event = e;
+		if (e instanceof MouseEvent && target != source) {
+			event = SwingUtilities.convertMouseEvent(source, (MouseEvent)e, target);
+		}
+		this.controller.handlerFacade(event, listenerType, eventType, null, target);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * イベントIDに対応する配送先です。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static final class Route {
+
+		/** イベントリスナ型です。 */
+		private final Class<? extends EventListener> listenerType;
+
+		/** イベントハンドラメソッド名です。 */
+		private final String eventType;
+
+		/** イベントを受け取るコンポーネントの決定方法です。 */
+		private final int target;
+
+		/**
+		 * <p>[概 要] </p>
+		 * コンストラクタです。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @param listenerType イベントリスナ型
+		 * @param eventType イベントハンドラメソッド名
+		 * @param target イベントを受け取るコンポーネントの決定方法
+		 */
+		private Route(Class<? extends EventListener> listenerType, String eventType, int target) {
+			this.listenerType = listenerType;
+			this.eventType = eventType;
+			this.target = target;
+		}
+	}
+}
@@ -0,0 +1,170 @@
+package com.oneitthing.swingcontrollerizer.controller;
+
+import java.awt.Component;
+import java.awt.Cursor;
+import java.awt.Window;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javax.swing.JComponent;
+import javax.swing.JRootPane;
+import javax.swing.SwingUtilities;
+
+/**
+ * <p>[概 要] </p>
+ * 同期モデル実行中、イベントを発生させたウィンドウへの入力を抑止するクラスです。
+ *
+ * <p>[詳 細] </p>
+ * ウィンドウのグラスペインを、マウス、キー入力を消費する待機カーソルのパネルに差し替えます。<br>
+ * 同一ウィンドウに対する抑止は参照カウントで管理され、全ての抑止が解除された時点で
+ * 元のグラスペインとフォーカスに戻します。
+ *
+ * <p>[備 考] </p>
+ * 全てのメソッドはイベントディスパッチスレッドからコールして下さい。
+ *
+ */
+class InputBlocker {
+
+	/** 抑止中のルートペイン毎の状態です。 */
+	private final Map<JRootPane, Blocked> blocked = new IdentityHashMap<JRootPane, Blocked>();
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数sourceが所属するウィンドウへの入力を抑止します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param source イベントを発生させたオブジェクト
+	 * @return 抑止したルートペイン、抑止出来なかった場合はnull
+	 */
+	JRootPane block(Object source) {
+		if (!(source instanceof Component)) {
+			return null;
+		}
+		JRootPane rootPane = source instanceof JRootPane ? (JRootPane)source : SwingUtilities.getRootPane((Component)source);
+		if (rootPane == null) {
+			return null;
+		}
+		Blocked state = this.blocked.get(rootPane);
+		if (state == null) {
+			state = new Blocked(rootPane);
+			this.blocked.put(rootPane, state);
+		}
+		state.count++;
+		return rootPane;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数rootPaneへの入力抑止を一件解除します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 抑止件数が0になった場合、元のグラスペインとフォーカスに戻します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param rootPane {@link #block(Object)}が返却したルートペイン
+	 */
+	void unblock(JRootPane rootPane) {
+		Blocked state = this.blocked.get(rootPane);
+		if (state != null && --state.count == 0) {
+			this.blocked.remove(rootPane);
+			state.restore();
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 一ウィンドウの入力抑止状態です。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static final class Blocked {
+
+		/** 抑止しているルートペインです。 */
+		private final JRootPane rootPane;
+
+		/** 差し替え前のグラスペインです。 */
+		private final Component originalGlassPane;
+
+		/** 差し替え前のグラスペインの可視状態です。 */
+		private final boolean originalVisible;
+
+		/** 抑止前のフォーカスオーナーです。 */
+		private final Component focusOwner;
+
+		/** 抑止件数です。 */
+		private int count;
+
+		/**
+		 * <p>[概 要] </p>
+		 * グラスペインを差し替えて入力を抑止します。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @param rootPane 抑止するルートペイン
+		 */
+		private Blocked(JRootPane rootPane) {
+			this.rootPane = rootPane;
+			this.originalGlassPane = rootPane.getGlassPane();
+			this.originalVisible = this.originalGlassPane.isVisible();
+			Window window = SwingUtilities.getWindowAncestor(rootPane);
+			this.focusOwner = window == null ? null : window.getFocusOwner();
+
+			JComponent glassPane = new JComponent() {
+				private static final long serialVersionUID = 1L;
+			};
+			MouseAdapter mouseConsumer = new MouseAdapter() {};
+			glassPane.addMouseListener(mouseConsumer);
+			glassPane.addMouseMotionListener(mouseConsumer);
+			glassPane.addMouseWheelListener(mouseConsumer);
+			glassPane.addKeyListener(new KeyAdapter() {
+				@Override
+				public void keyPressed(KeyEvent e) {
+					e.consume();
+				}
+				@Override
+				public void keyReleased(KeyEvent e) {
+					e.consume();
+				}
+				@Override
+				public void keyTyped(KeyEvent e) {
+					e.consume();
+				}
+			});
+			glassPane.setFocusTraversalKeysEnabled(false);
+			glassPane.setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+			rootPane.setGlassPane(glassPane);
+			glassPane.setVisible(true);
+			glassPane.requestFocusInWindow();
+		}
+
+		/**
+		 * <p>[概 要] </p>
+		 * 元のグラスペインとフォーカスに戻します。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 */
+		private void restore() {
+			this.rootPane.getGlassPane().setVisible(false);
+			this.rootPane.setGlassPane(this.originalGlassPane);
+			this.originalGlassPane.setVisible(this.originalVisible);
+			if (this.focusOwner != null) {
+				this.focusOwner.requestFocusInWindow();
+			}
+		}
+	}
+}
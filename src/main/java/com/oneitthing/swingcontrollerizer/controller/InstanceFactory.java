@@ -0,0 +1,189 @@
+package com.oneitthing.swingcontrollerizer.controller;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>[概 要] </p>
+ * アクション、モデルのインスタンスを生成、再利用するファクトリクラスです。
+ *
+ * <p>[詳 細] </p>
+ * クラス毎の引数無しコンストラクタをMethodHandleとしてキャッシュし、
+ * イベント発生毎のリフレクションによるインスタンス生成を避けます。<br>
+ * {@link Resettable}を実装したクラスのインスタンスは{@link #release(Object)}で
+ * クラス毎のプールに返却され、{@link #acquire(Class)}で再利用されます。
+ *
+ * <p>[備 考] </p>
+ * インスタンスは{@link ClientConfig#getInstanceFactory()}で取得します。
+ *
+ */
+public class InstanceFactory {
+
+	/** クラス毎の引数無しコンストラクタです。 */
+	private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<MethodHandle>() {
+		@Override
+		protected MethodHandle computeValue(Class<?> type) {
+			try {
+				Constructor<?> constructor = type.getDeclaredConstructor();
+				try {
+					constructor.setAccessible(true);
+				} catch (RuntimeException e) {
+					// アクセス可能なコンストラクタであればそのまま使用
+				}
+				return MethodHandles.lookup().unreflectConstructor(constructor)
+					.asType(MethodType.methodType(Object.class));
+			} catch (ReflectiveOperationException e) {
+				return null;
+			}
+		}
+	};
+
+	/** クラス毎のインスタンスプールです。 */
+	private final ConcurrentHashMap<Class<?>, Pool> pools = new ConcurrentHashMap<Class<?>, Pool>();
+
+	/** クラス毎のプール最大保持数です。 */
+	private final int poolSize;
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param poolSize クラス毎のプール最大保持数。0の場合はプールを行いません
+	 */
+	public InstanceFactory(int poolSize) {
+		this.poolSize = poolSize;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数typeのインスタンスを生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 * キャッシュされた引数無しコンストラクタを呼び出します。
+	 *
+	 * <p>[備 考] </p>
+	 * プールは参照しません。
+	 *
+	 * @param type 生成するクラス
+	 * @return 生成したインスタンス
+	 * @throws InstantiationException 引数無しコンストラクタが無い、又は抽象クラスの場合
+	 * @throws Exception コンストラクタ内で発生した例外
+	 */
+	public static <T> T newInstance(Class<T> type) throws Exception {
+		MethodHandle constructor = CONSTRUCTORS.get(type);
+		if (constructor == null) {
+			throw new InstantiationException(type.getName());
+		}
+		try {
+			return type.cast(constructor.invokeExact());
+		} catch (Exception e) {
+			throw e;
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new InstantiationException(type.getName());
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数typeのインスタンスを取得します。
+	 *
+	 * <p>[詳 細] </p>
+	 * typeが{@link Resettable}を実装していて、プールにインスタンスが有ればそれを返却します。<br>
+	 * それ以外の場合は{@link #newInstance(Class)}で新規に生成します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param type 取得するクラス
+	 * @return インスタンス
+	 * @throws Exception インスタンス生成に失敗した場合
+	 */
+	public <T> T acquire(Class<T> type) throws Exception {
+		if (this.poolSize > 0 && Resettable.class.isAssignableFrom(type)) {
+			Pool pool = this.pools.get(type);
+			if (pool != null) {
+				Object instance = pool.poll();
+				if (instance != null) {
+					return type.cast(instance);
+				}
+			}
+		}
+		return newInstance(type);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * インスタンスをプールに返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * instanceが{@link Resettable}を実装している場合、{@link Resettable#reset()}をコールして
+	 * プールに返却します。プールが最大保持数に達している場合は破棄します。
+	 *
+	 * <p>[備 考] </p>
+	 * Resettableを実装していないインスタンスに対しては何もしません。
+	 *
+	 * @param instance 返却するインスタンス
+	 */
+	public void release(Object instance) {
+		if (this.poolSize <= 0 || !(instance instanceof Resettable)) {
+			return;
+		}
+		((Resettable) instance).reset();
+
+		Class<?> type = instance.getClass();
+		Pool pool = this.pools.get(type);
+		if (pool == null) {
+			pool = new Pool();
+			Pool existing = this.pools.putIfAbsent(type, pool);
+			if (existing != null) {
+				pool = existing;
+			}
+		}
+		pool.offer(instance, this.poolSize);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * クラス一つ分の上限付きインスタンスプールです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static final class Pool {
+
+		/** 保持しているインスタンスです。 */
+		private final Queue<Object> instances = new ConcurrentLinkedQueue<Object>();
+
+		/** 保持しているインスタンス数です。 */
+		private final AtomicInteger size = new AtomicInteger();
+
+		Object poll() {
+			Object instance = this.instances.poll();
+			if (instance != null) {
+				this.size.decrementAndGet();
+			}
+			return instance;
+		}
+
+		void offer(Object instance, int capacity) {
+			if (this.size.incrementAndGet() > capacity) {
+				this.size.decrementAndGet();
+				return;
+			}
+			this.instances.offer(instance);
+		}
+	}
+}
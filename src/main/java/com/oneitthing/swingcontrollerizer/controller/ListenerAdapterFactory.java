@@ -0,0 +1,674 @@
+package com.oneitthing.swingcontrollerizer.controller;
+
+import java.awt.Component;
+import java.awt.event.FocusEvent;
+import java.awt.event.FocusListener;
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseListener;
+import java.awt.event.MouseMotionListener;
+import java.awt.event.WindowEvent;
+import java.awt.event.WindowListener;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.EventListener;
+import java.util.EventObject;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>[概 要] </p>
+ * コンポーネントに追加するイベントリスナを生成、追加するファクトリクラスです。
+ *
+ * <p>[詳 細] </p>
+ * イベントリスナ型毎に一度だけ生成方法を決定して、以降はそれを再利用します。
+ * <ul>
+ *   <li>MouseListener、MouseMotionListener、KeyListener、FocusListener、WindowListener<br>
+ *       紐付けられたメソッドだけがhandlerFacadeを直接呼び出し、それ以外は何もしない専用アダプタを使用します。</li>
+ *   <li>メソッドを一つだけ持つリスナ（ActionListener、ItemListener、ChangeListener等）<br>
+ *       LambdaMetafactoryでリスナ実装クラスを生成し、handlerFacadeを直接呼び出します。</li>
+ *   <li>上記以外<br>
+ *       従来通り{@link EventInvocationHandler}を使用したProxyを生成します。</li>
+ * </ul>
+ * 又、"add" + リスナ型名のリスナ追加メソッドはコンポーネントクラス、リスナ型毎に
+ * MethodHandleとしてキャッシュされます。
+ *
+ * <p>[備 考] </p>
+ * 専用アダプタとLambda生成リスナではイベント発生毎のリフレクション、
+ * 引数配列生成、イベントタイプ文字列比較が行われません。
+ *
+ */
+final class ListenerAdapterFactory {
+
+	/** イベントリスナ型毎の生成方法です。 */
+	private static final ClassValue<AdapterCreator> CREATORS = new ClassValue<AdapterCreator>() {
+		@Override
+		protected AdapterCreator computeValue(Class<?> listenerType) {
+			return createCreator(listenerType);
+		}
+	};
+
+	/** コンポーネントクラス毎の、イベントリスナ型をキーにしたリスナ追加メソッドです。 */
+	private static final ClassValue<Map<Class<?>, MethodHandle>> ADD_METHODS = new ClassValue<Map<Class<?>, MethodHandle>>() {
+		@Override
+		protected Map<Class<?>, MethodHandle> computeValue(Class<?> componentClass) {
+			return new ConcurrentHashMap<Class<?>, MethodHandle>();
+		}
+	};
+
+	/**
+	 * <p>[概 要] </p>
+	 * インスタンス化禁止コンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private ListenerAdapterFactory() {
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * handlerFacadeを呼び出すイベントリスナを生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 引数eventTypesに含まれるイベントハンドラメソッドが呼ばれた場合のみ、
+	 * {@link AbstractController#handlerFacade(EventObject, Class, String, EventListener, Component)}
+	 * をコールするlistenerType実装オブジェクトを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param controller コントローラ
+	 * @param listenerType イベントリスナ型
+	 * @param eventTypes handlerFacadeに処理委譲するイベントハンドラメソッド名リスト
+	 * @param component リスナを追加するコンポーネント
+	 * @return イベントリスナ
+	 */
+	static EventListener createListener(AbstractController controller,
+			Class<? extends EventListener> listenerType,
+			List<String> eventTypes,
+			Component component)
+	{
+		return CREATORS.get(listenerType).create(controller, listenerType, eventTypes, component);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンポーネントにイベントリスナを追加します。
+	 *
+	 * <p>[詳 細] </p>
+	 * "add" + listenerTypeクラス名のメソッドをコンポーネントクラスから検索して呼び出します。<br>
+	 * 検索したメソッドはMethodHandleとしてキャッシュされ、次回以降は検索を行いません。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param component リスナを追加するコンポーネント
+	 * @param listenerType イベントリスナ型
+	 * @param listener 追加するイベントリスナ
+	 * @throws NoSuchMethodException リスナ追加メソッドが存在しない場合
+	 * @throws IllegalAccessException リスナ追加メソッドにアクセス出来ない場合
+	 * @throws InvocationTargetException リスナ追加メソッド内で例外が発生した場合
+	 */
+	static void addListener(Component component,
+			Class<? extends EventListener> listenerType,
+			EventListener listener)
+		throws NoSuchMethodException, IllegalAccessException, InvocationTargetException
+	{
+		Map<Class<?>, MethodHandle> addMethods = ADD_METHODS.get(component.getClass());
+		MethodHandle addMethod = addMethods.get(listenerType);
+		if (addMethod == null) {
+			String addMethodName = "add" + listenerType.getSimpleName();
+			Method method = component.getClass().getMethod(addMethodName, listenerType);
+			addMethod = MethodHandles.publicLookup().unreflect(method)
+				.asType(MethodType.methodType(void.class, Component.class, EventListener.class));
+			addMethods.put(listenerType, addMethod);
+		}
+		try {
+			addMethod.invokeExact(component, listener);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * イベントリスナ型に対応する生成方法を決定します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param listenerType イベントリスナ型
+	 * @return 生成方法
+	 */
+	private static AdapterCreator createCreator(Class<?> listenerType) {
+		if (listenerType == MouseListener.class) {
+			return new AdapterCreator() {
+				@Override
+				public EventListener create(AbstractController controller, Class<? extends EventListener> listenerType,
+						List<String> eventTypes, Component component) {
+					return new MouseAdapter(controller, listenerType, eventTypes, component);
+				}
+			};
+		} else if (listenerType == MouseMotionListener.class) {
+			return new AdapterCreator() {
+				@Override
+				public EventListener create(AbstractController controller, Class<? extends EventListener> listenerType,
+						List<String> eventTypes, Component component) {
+					return new MouseMotionAdapter(controller, listenerType, eventTypes, component);
+				}
+			};
+		} else if (listenerType == KeyListener.class) {
+			return new AdapterCreator() {
+				@Override
+				public EventListener create(AbstractController controller, Class<? extends EventListener> listenerType,
+						List<String> eventTypes, Component component) {
+					return new KeyAdapter(controller, listenerType, eventTypes, component);
+				}
+			};
+		} else if (listenerType == FocusListener.class) {
+			return new AdapterCreator() {
+				@Override
+				public EventListener create(AbstractController controller, Class<? extends EventListener> listenerType,
+						List<String> eventTypes, Component component) {
+					return new FocusAdapter(controller, listenerType, eventTypes, component);
+				}
+			};
+		} else if (listenerType == WindowListener.class) {
+			return new AdapterCreator() {
+				@Override
+				public EventListener create(AbstractController controller, Class<? extends EventListener> listenerType,
+						List<String> eventTypes, Component component) {
+					return new WindowAdapter(controller, listenerType, eventTypes, component);
+				}
+			};
+		}
+
+		Method eventMethod = findSingleEventMethod(listenerType);
+		if (eventMethod != null) {
+			try {
+				return new LambdaAdapterCreator(eventMethod);
+			} catch (Throwable e) {
+				// Lambda生成出来ないリスナ型はProxyで代替
+			}
+		}
+		return ProxyAdapterCreator.INSTANCE;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * イベントリスナ型がEventObjectを引数に取るメソッドを一つだけ持つ場合、そのメソッドを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param listenerType イベントリスナ型
+	 * @return イベントハンドラメソッド、条件を満たさない場合はnull
+	 */
+	private static Method findSingleEventMethod(Class<?> listenerType) {
+		if (!listenerType.isInterface() || !Modifier.isPublic(listenerType.getModifiers())) {
+			return null;
+		}
+		Method ret = null;
+		for (Method method : listenerType.getMethods()) {
+			if (!Modifier.isAbstract(method.getModifiers())) {
+				continue;
+			}
+			if (ret != null) {
+				return null;
+			}
+			ret = method;
+		}
+		if (ret == null
+				|| ret.getReturnType() != void.class
+				|| ret.getParameterTypes().length != 1
+				|| !EventObject.class.isAssignableFrom(ret.getParameterTypes()[0])) {
+			return null;
+		}
+		return ret;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * イベントリスナの生成方法を表すI/Fです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private interface AdapterCreator {
+		EventListener create(AbstractController controller,
+				Class<? extends EventListener> listenerType,
+				List<String> eventTypes,
+				Component component);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * EventInvocationHandlerを使用したProxyを生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static final class ProxyAdapterCreator implements AdapterCreator {
+
+		private static final ProxyAdapterCreator INSTANCE = new ProxyAdapterCreator();
+
+		@Override
+		public EventListener create(AbstractController controller,
+				Class<? extends EventListener> listenerType,
+				List<String> eventTypes,
+				Component component)
+		{
+			return (EventListener) Proxy.newProxyInstance(
+					listenerType.getClassLoader(),
+					new Class<?>[] { listenerType },
+					new EventInvocationHandler(controller, listenerType, eventTypes, component));
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * LambdaMetafactoryでメソッドを一つだけ持つリスナ型の実装オブジェクトを生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 * リスナのイベントハンドラメソッドを{@link LambdaTarget#fire(EventObject)}に直接結び付けた
+	 * ファクトリMethodHandleを、リスナ型毎に一度だけ生成します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static final class LambdaAdapterCreator implements AdapterCreator {
+
+		/** イベントハンドラメソッド名です。 */
+		private final String methodName;
+
+		/** (LambdaTarget)listenerType のファクトリです。 */
+		private final MethodHandle factory;
+
+		private LambdaAdapterCreator(Method eventMethod) throws Throwable {
+			this.methodName = eventMethod.getName();
+
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			MethodHandle fire = lookup.findVirtual(LambdaTarget.class, "fire",
+					MethodType.methodType(void.class, EventObject.class));
+			MethodType samType = MethodType.methodType(void.class, eventMethod.getParameterTypes()[0]);
+			CallSite callSite = LambdaMetafactory.metafactory(
+					lookup,
+					this.methodName,
+					MethodType.methodType(eventMethod.getDeclaringClass(), LambdaTarget.class),
+					samType,
+					fire,
+					samType);
+			this.factory = callSite.getTarget()
+				.asType(MethodType.methodType(EventListener.class, LambdaTarget.class));
+		}
+
+		@Override
+		public EventListener create(AbstractController controller,
+				Class<? extends EventListener> listenerType,
+				List<String> eventTypes,
+				Component component)
+		{
+			if (!eventTypes.contains(this.methodName)) {
+				return ProxyAdapterCreator.INSTANCE.create(controller, listenerType, eventTypes, component);
+			}
+			LambdaTarget target = new LambdaTarget(controller, listenerType, this.methodName, component);
+			try {
+				target.listener = (EventListener) this.factory.invokeExact(target);
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+			return target.listener;
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * Lambda生成リスナの呼び出し先です。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	static final class LambdaTarget {
+
+		private final AbstractController controller;
+
+		private final Class<? extends EventListener> listenerType;
+
+		private final String eventType;
+
+		private final Component component;
+
+		/** このオブジェクトを呼び出すリスナです。 */
+		private EventListener listener;
+
+		private LambdaTarget(AbstractController controller,
+				Class<? extends EventListener> listenerType,
+				String eventType,
+				Component component)
+		{
+			this.controller = controller;
+			this.listenerType = listenerType;
+			this.eventType = eventType;
+			this.component = component;
+		}
+
+		void fire(EventObject e) {
+			this.controller.handlerFacade(e, this.listenerType, this.eventType, this.listener, this.component);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 専用アダプタの基底クラスです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private abstract static class BaseAdapter implements EventListener {
+
+		private final AbstractController controller;
+
+		private final Class<? extends EventListener> listenerType;
+
+		private final Component component;
+
+		BaseAdapter(AbstractController controller, Class<? extends EventListener> listenerType, Component component) {
+			this.controller = controller;
+			this.listenerType = listenerType;
+			this.component = component;
+		}
+
+		final void fire(EventObject e, String eventType) {
+			this.controller.handlerFacade(e, this.listenerType, eventType, this, this.component);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * MouseListener専用アダプタです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static final class MouseAdapter extends BaseAdapter implements MouseListener {
+
+		private final boolean clicked;
+		private final boolean pressed;
+		private final boolean released;
+		private final boolean entered;
+		private final boolean exited;
+
+		MouseAdapter(AbstractController controller, Class<? extends EventListener> listenerType,
+				List<String> eventTypes, Component component) {
+			super(controller, listenerType, component);
+			this.clicked = eventTypes.contains("mouseClicked");
+			this.pressed = eventTypes.contains("mousePressed");
+			this.released = eventTypes.contains("mouseReleased");
+			this.entered = eventTypes.contains("mouseEntered");
+			this.exited = eventTypes.contains("mouseExited");
+		}
+
+		@Override
+		public void mouseClicked(MouseEvent e) {
+			if (this.clicked) {
+				fire(e, "mouseClicked");
+			}
+		}
+
+		@Override
+		public void mousePressed(MouseEvent e) {
+			if (this.pressed) {
+				fire(e, "mousePressed");
+			}
+		}
+
+		@Override
+		public void mouseReleased(MouseEvent e) {
+			if (this.released) {
+				fire(e, "mouseReleased");
+			}
+		}
+
+		@Override
+		public void mouseEntered(MouseEvent e) {
+			if (this.entered) {
+				fire(e, "mouseEntered");
+			}
+		}
+
+		@Override
+		public void mouseExited(MouseEvent e) {
+			if (this.exited) {
+				fire(e, "mouseExited");
+			}
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * MouseMotionListener専用アダプタです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static final class MouseMotionAdapter extends BaseAdapter implements MouseMotionListener {
+
+		private final boolean dragged;
+		private final boolean moved;
+
+		MouseMotionAdapter(AbstractController controller, Class<? extends EventListener> listenerType,
+				List<String> eventTypes, Component component) {
+			super(controller, listenerType, component);
+			this.dragged = eventTypes.contains("mouseDragged");
+			this.moved = eventTypes.contains("mouseMoved");
+		}
+
+		@Override
+		public void mouseDragged(MouseEvent e) {
+			if (this.dragged) {
+				fire(e, "mouseDragged");
+			}
+		}
+
+		@Override
+		public void mouseMoved(MouseEvent e) {
+			if (this.moved) {
+				fire(e, "mouseMoved");
+			}
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * KeyListener専用アダプタです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static final class KeyAdapter extends BaseAdapter implements KeyListener {
+
+		private final boolean typed;
+		private final boolean pressed;
+		private final boolean released;
+
+		KeyAdapter(AbstractController controller, Class<? extends EventListener> listenerType,
+				List<String> eventTypes, Component component) {
+			super(controller, listenerType, component);
+			this.typed = eventTypes.contains("keyTyped");
+			this.pressed = eventTypes.contains("keyPressed");
+			this.released = eventTypes.contains("keyReleased");
+		}
+
+		@Override
+		public void keyTyped(KeyEvent e) {
+			if (this.typed) {
+				fire(e, "keyTyped");
+			}
+		}
+
+		@Override
+		public void keyPressed(KeyEvent e) {
+			if (this.pressed) {
+				fire(e, "keyPressed");
+			}
+		}
+
+		@Override
+		public void keyReleased(KeyEvent e) {
+			if (this.released) {
+				fire(e, "keyReleased");
+			}
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * FocusListener専用アダプタです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static final class FocusAdapter extends BaseAdapter implements FocusListener {
+
+		private final boolean gained;
+		private final boolean lost;
+
+		FocusAdapter(AbstractController controller, Class<? extends EventListener> listenerType,
+				List<String> eventTypes, Component component) {
+			super(controller, listenerType, component);
+			this.gained = eventTypes.contains("focusGained");
+			this.lost = eventTypes.contains("focusLost");
+		}
+
+		@Override
+		public void focusGained(FocusEvent e) {
+			if (this.gained) {
+				fire(e, "focusGained");
+			}
+		}
+
+		@Override
+		public void focusLost(FocusEvent e) {
+			if (this.lost) {
+				fire(e, "focusLost");
+			}
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * WindowListener専用アダプタです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static final class WindowAdapter extends BaseAdapter implements WindowListener {
+
+		private final boolean opened;
+		private final boolean closing;
+		private final boolean closed;
+		private final boolean iconified;
+		private final boolean deiconified;
+		private final boolean activated;
+		private final boolean deactivated;
+
+		WindowAdapter(AbstractController controller, Class<? extends EventListener> listenerType,
+				List<String> eventTypes, Component component) {
+			super(controller, listenerType, component);
+			this.opened = eventTypes.contains("windowOpened");
+			this.closing = eventTypes.contains("windowClosing");
+			this.closed = eventTypes.contains("windowClosed");
+			this.iconified = eventTypes.contains("windowIconified");
+			this.deiconified = eventTypes.contains("windowDeiconified");
+			this.activated = eventTypes.contains("windowActivated");
+			this.deactivated = eventTypes.contains("windowDeactivated");
+		}
+
+		@Override
+		public void windowOpened(WindowEvent e) {
+			if (this.opened) {
+				fire(e, "windowOpened");
+			}
+		}
+
+		@Override
+		public void windowClosing(WindowEvent e) {
+			if (this.closing) {
+				fire(e, "windowClosing");
+			}
+		}
+
+		@Override
+		public void windowClosed(WindowEvent e) {
+			if (this.closed) {
+				fire(e, "windowClosed");
+			}
+		}
+
+		@Override
+		public void windowIconified(WindowEvent e) {
+			if (this.iconified) {
+				fire(e, "windowIconified");
+			}
+		}
+
+		@Override
+		public void windowDeiconified(WindowEvent e) {
+			if (this.deiconified) {
+				fire(e, "windowDeiconified");
+			}
+		}
+
+		@Override
+		public void windowActivated(WindowEvent e) {
+			if (this.activated) {
+				fire(e, "windowActivated");
+			}
+		}
+
+		@Override
+		public void windowDeactivated(WindowEvent e) {
+			if (this.deactivated) {
+				fire(e, "windowDeactivated");
+			}
+		}
+	}
+}
@@ -0,0 +1,336 @@
+package com.oneitthing.swingcontrollerizer.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.oneitthing.swingcontrollerizer.model.Model;
+
+/**
+ * <p>[概 要] </p>
+ * 依存関係付きで予約されたモデル群（有向非巡回グラフ）を保持するクラスです。
+ *
+ * <p>[詳 細] </p>
+ * {@link com.oneitthing.swingcontrollerizer.action.BaseAction#reserveModelGraph(ModelGraph)}
+ * で{@link #add(Class, int...)}されたモデルを、コントローラは以下のように実行します。
+ * <ul>
+ *   <li>依存先の無いモデルは、全て同時に実行されます</li>
+ *   <li>依存先の有るモデルは、全ての依存先モデルが成功した時点で実行されます</li>
+ *   <li>依存先モデルが失敗した場合、そのモデル（及びそれに依存するモデル）は実行されません</li>
+ *   <li>nextModelでfalseが返却されたモデルに依存するモデルも、同様に実行されません</li>
+ * </ul>
+ * 実行されないモデルは終了したものと見做される為、他のモデルが全て終了した時点で
+ * completeがコールされます。
+ * 互いに依存しない通信を並列に行う為、画面初期化等で複数のデータを取得する場合に
+ * 全体の待ち時間を「各通信時間の合計」から「最も長い経路の通信時間」に短縮出来ます。<br>
+ * 各モデルの処理結果は、成功した順にsuccessForwardでコールバックされると共に
+ * {@link #getResult(int)}で参照出来る為、依存先の結果をnextModelで後続モデルに設定したり、
+ * completeで全結果を集約したりすることが出来ます。
+ *
+ * <p>[備 考] </p>
+ * 依存先には既に追加済みのモデルのインデックスのみ指定出来る為、循環依存は発生しません。
+ *
+ * <b>使用例）</b><br>
+ * <pre class="samplecode">
+ *	protected void reserveModelGraph(ModelGraph graph) {
+ *		int user = graph.add(HTTPRequestCore.class);
+ *		int master = graph.add(HTTPRequestCore.class);
+ *		graph.add(DatabaseCore.class, user);
+ *		graph.add(EJBProxyCore.class, user, master);
+ *	}
+ * </pre>
+ *
+ */
+public class ModelGraph {
+
+	/** 予約されたモデルクラスです。 */
+	private final List<Class<? extends Model>> modelClasses = new ArrayList<Class<? extends Model>>();
+
+	/** モデル毎の依存先インデックスです。 */
+	private final List<int[]> dependencies = new ArrayList<int[]>();
+
+	/** モデル毎の依存元インデックスです。実行開始時に生成されます。 */
+	private int[][] dependents;
+
+	/** モデル毎の未成功依存先数です。実行開始時に生成されます。 */
+	private AtomicIntegerArray waiting;
+
+	/** モデル毎の処理結果です。実行開始時に生成されます。 */
+	private AtomicReferenceArray<Object> results;
+
+	/** 実行状態：未実行です。 */
+	private static final int PENDING = 0;
+
+	/** 実行状態：実行中です。 */
+	private static final int RUNNING = 1;
+
+	/** 実行状態：終了済み（実行されないことが決まった場合を含む）です。 */
+	private static final int ENDED = 2;
+
+	/** モデル毎の実行状態です。実行開始時に生成されます。 */
+	private AtomicIntegerArray states;
+
+	/** 実行を開始したモデル数です。実行されないことが決まったモデルも含みます。 */
+	private final AtomicInteger launched = new AtomicInteger();
+
+	/**
+	 * <p>[概 要] </p>
+	 * モデルを予約します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 引数dependsOnで指定したインデックスのモデルが全て成功した後に、
+	 * modelClassが実行されます。
+	 *
+	 * <p>[備 考] </p>
+	 * 返却されるインデックスは、nextModel、successForward、failureForwardの
+	 * 引数indexと一致します。
+	 *
+	 * @param modelClass 実行するモデルクラス
+	 * @param dependsOn 依存先モデルのインデックス
+	 * @return 予約したモデルのインデックス
+	 * @throws IllegalArgumentException 未追加のインデックスを依存先に指定した場合
+	 */
+	public int add(Class<? extends Model> modelClass, int... dependsOn) {
+		int index = this.modelClasses.size();
+		for (int dependency : dependsOn) {
+			if (dependency < 0 || dependency >= index) {
+				throw new IllegalArgumentException("dependsOn must refer to an earlier model: " + dependency);
+			}
+		}
+		this.modelClasses.add(modelClass);
+		this.dependencies.add(dependsOn.clone());
+		return index;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 予約されたモデル数を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 予約されたモデル数
+	 */
+	public int size() {
+		return this.modelClasses.size();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * モデルが一件も予約されていないかどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 予約されていない場合true
+	 */
+	public boolean isEmpty() {
+		return this.modelClasses.isEmpty();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数indexのモデルクラスを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param index モデルのインデックス
+	 * @return モデルクラス
+	 */
+	public Class<? extends Model> getModelClass(int index) {
+		return this.modelClasses.get(index);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数indexのモデルの依存先インデックスを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param index モデルのインデックス
+	 * @return 依存先インデックス
+	 */
+	public int[] getDependencies(int index) {
+		return this.dependencies.get(index).clone();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数indexのモデルの処理結果を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * モデルが成功イベントを発行した時点の結果を返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param index モデルのインデックス
+	 * @return 処理結果、未成功の場合はnull
+	 */
+	public Object getResult(int index) {
+		return this.results == null ? null : this.results.get(index);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 実行状態を初期化して、依存先の無いモデルのインデックスを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 依存先の無いモデルのインデックス
+	 */
+	int[] start() {
+		int size = size();
+		int[] dependentCounts = new int[size];
+		this.waiting = new AtomicIntegerArray(size);
+		this.results = new AtomicReferenceArray<Object>(size);
+		this.states = new AtomicIntegerArray(size);
+		this.launched.set(0);
+
+		int rootCount = 0;
+		for (int i = 0; i < size; i++) {
+			int[] dependsOn = this.dependencies.get(i);
+			this.waiting.set(i, dependsOn.length);
+			for (int dependency : dependsOn) {
+				dependentCounts[dependency]++;
+			}
+			if (dependsOn.length == 0) {
+				rootCount++;
+			}
+		}
+
+		this.dependents = new int[size][];
+		for (int i = 0; i < size; i++) {
+			this.dependents[i] = new int[dependentCounts[i]];
+			dependentCounts[i] = 0;
+		}
+		int[] roots = new int[rootCount];
+		rootCount = 0;
+		for (int i = 0; i < size; i++) {
+			int[] dependsOn = this.dependencies.get(i);
+			for (int dependency : dependsOn) {
+				this.dependents[dependency][dependentCounts[dependency]++] = i;
+			}
+			if (dependsOn.length == 0) {
+				roots[rootCount++] = i;
+			}
+		}
+		return roots;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数indexのモデルの成功を記録して、実行可能になった依存元インデックスを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param index 成功したモデルのインデックス
+	 * @param result 処理結果
+	 * @return 全ての依存先が成功した依存元インデックス
+	 */
+	int[] resolve(int index, Object result) {
+		this.results.set(index, result);
+		int[] candidates = this.dependents[index];
+		int[] ready = new int[candidates.length];
+		int readyCount = 0;
+		for (int dependent : candidates) {
+			if (this.waiting.decrementAndGet(dependent) == 0) {
+				ready[readyCount++] = dependent;
+			}
+		}
+		if (readyCount == ready.length) {
+			return ready;
+		}
+		int[] trimmed = new int[readyCount];
+		System.arraycopy(ready, 0, trimmed, 0, readyCount);
+		return trimmed;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数indexのモデルの実行開始を記録します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param index 実行するモデルのインデックス
+	 * @return 実行してよい場合true、依存先の失敗等で実行されないことが決まっている場合false
+	 */
+	boolean begin(int index) {
+		return this.states.compareAndSet(index, PENDING, RUNNING);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数indexのモデルの終了を記録します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 失敗イベントと終了イベントの両方を発行するモデルを二重に数えない為、
+	 * 初回の記録かどうかを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param index 終了したモデルのインデックス
+	 * @return 初回の記録の場合true
+	 */
+	boolean end(int index) {
+		return this.states.getAndSet(index, ENDED) != ENDED;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数indexのモデルに（間接的に）依存する未実行のモデルを、実行されないモデルとして終了させます。
+	 *
+	 * <p>[詳 細] </p>
+	 * 引数indexのモデルが失敗した場合、nextModelでfalseが返却された場合にコールされます。<br>
+	 * 既に実行中、終了済みのモデルとその依存元は対象外です。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param index 失敗、又は中止したモデルのインデックス
+	 * @return 終了させたモデル数
+	 */
+	int abandon(int index) {
+		int count = 0;
+		int[] stack = new int[size()];
+		int top = 0;
+		stack[top++] = index;
+		while (top > 0) {
+			for (int dependent : this.dependents[stack[--top]]) {
+				if (this.states.compareAndSet(dependent, PENDING, ENDED)) {
+					count++;
+					stack[top++] = dependent;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * モデルの実行開始を記録します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 実行されないことが決まったモデルも、実行を開始したモデルとして数えます。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param count 実行を開始したモデル数
+	 * @return このコールで全モデルの実行を開始した場合true
+	 */
+	boolean launch(int count) {
+		return count > 0 && this.launched.addAndGet(count) == size();
+	}
+}
@@ -3,13 +3,11 @@ package com.oneitthing.swingcontrollerizer.controller;
 import java.awt.Component;
 import java.util.EventListener;
 import java.util.EventObject;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 
 import com.oneitthing.swingcontrollerizer.action.Action;
 import com.oneitthing.swingcontrollerizer.model.Model;
+import com.oneitthing.swingcontrollerizer.validator.ValidationTask;
 
 /**
  * <p>[概 要] </p>
@@ -71,15 +69,30 @@ public class ParameterMapping {
 	/** コントローラによって実行されるモデルクラス群のキー定数です。 */
 	public static final String MODEL_CLASSES = "MODEL_CLASSES";
 
+	/** コントローラによって実行される依存関係付きモデル群のキー定数です。 */
+	public static final String MODEL_GRAPH = "MODEL_GRAPH";
+
+	/** イベントがコントローラに到達した時刻（System#nanoTime）を示すキー定数です。 */
+	public static final String EVENT_ARRIVAL_TIME = "EVENT_ARRIVAL_TIME";
+
+	/** モデル処理の期限（エポックミリ秒）を示すキー定数です。 */
+	public static final String DEADLINE = "DEADLINE";
+
 	/** モデルの登録数を示す定数です。 */
 	public static final String MODEL_RESERVED_NUM = "MODEL_RESERVED_NUM";
 
 	/** モデルの終了数を示す定数です。 */
 	public static final String MODEL_FINISHED_NUM = "MODEL_FINISHED_NUM";
 
+	/** モデル処理が失敗したかどうかのフラグを示すキー定数です。 */
+	public static final String MODEL_FAILED = "MODEL_FAILED";
+
 	/** 実行されるバリデータ群のキー定数です。 */
 	public static final String VALIDATORS = "VALIDATORS";
 
+	/** 非同期に実行されるバリデーション判定のキー定数です。 */
+	public static final String VALIDATION_TASK = "VALIDATION_TASK";
+
 	/** 実行されるアクションのインスタンスを示すキー定数です。 */
 	public static final String ACTION_INSTANCE = "ACTION_INSTANCE";
 
@@ -94,8 +107,71 @@ public class ParameterMapping {
 
 	public static final String LISTENER_ADDED_COMPONENT = "LISTENER_ADDED_COMPONENT";
 
-	/** このクラスが保持するデータが全て入ったMapオブジェクトです。 */
-	private Map<Object, Object> parameters;
+	/** Swingコンポーネントが発行したイベントオブジェクトです。 */
+	private EventObject eventObject;
+
+	/** イベントを起こしたオブジェクトです。 */
+	private Object eventSource;
+
+	/** イベントを起こしたオブジェクトの親です。 */
+	private Object eventSourceParent;
+
+	/** イベントリスナプロキシインスタンスです。 */
+	private EventListener eventListener;
+
+	/** イベントリスナの型です。 */
+	private Class<? extends EventListener> eventListenerType;
+
+	/** イベントハンドラメソッド名です。 */
+	private String eventType;
+
+	/** 登録されているモデルクラス一覧です。 */
+	private List<Class<? extends Model>> modelClasses;
+
+	/** 依存関係付きで登録されたモデル群です。 */
+	private ModelGraph modelGraph;
+
+	/** イベントがコントローラに到達した時刻（System#nanoTime）です。0の場合は未設定です。 */
+	private long eventArrivalTime;
+
+	/** モデル処理の期限（エポックミリ秒）です。0の場合は期限無しです。 */
+	private long deadline;
+
+	/** 登録したモデル数です。 */
+	private int modelReservedNum;
+
+	/** 終了したモデル数です。 */
+	private int modelFinishedNum;
+
+	/** モデル処理が失敗したかどうかのフラグです。trueの場合、アクションはプールに返却されません。 */
+	private boolean modelFailed;
+
+	/** アクション起動ポリシーによる起動保持です。同期モデルが終了まで保持します。複製には引き継ぎません。 */
+	private EventAdmission.Hold admissionHold;
+
+	/** 実行するアクションです。 */
+	private Action actionInstance;
+
+	/** actionInstanceを複製元、複製先と共有しているかどうかのフラグです。trueの場合、アクションはプールに返却されません。 */
+	private volatile boolean actionShared;
+
+	/** アクションが予約した、非同期に実行されるバリデーション判定です。 */
+	private ValidationTask validationTask;
+
+	/** モデルの処理結果を待たずに次のモデルを実行するかどうかのフラグです。 */
+	private boolean runModelsAndNoWait;
+
+	/** モデル同期実行時に発生したInterruptedExceptionをエラーと見做すかどうかのフラグです。 */
+	private boolean allowInteruptedExceptionOnSyncModel;
+
+	/** イベントリスナが付与されたComponentです。 */
+	private Component listenerAddedComponent;
+
+	/** {@link #put(Object, Object)}で追加された定数キー以外のパラメータです。最初の追加時に生成されます。 */
+	private ParameterTable parameters;
+
+	/** parametersを複製元、複製先と共有しているかどうかのフラグです。trueの場合、次回追加時にコピーします。 */
+	private boolean parametersShared;
 
 
 	/**
@@ -103,25 +179,12 @@ public class ParameterMapping {
 	 * デフォルトコンストラクタです。
 	 *
 	 * <p>[詳 細] </p>
-	 * parametersフィールドMap領域を初期化します。
+	 * 全てのフィールドは初期値（null、0、false）で初期化されます。<br>
+	 * 任意パラメータ領域は最初の{@link #put(Object, Object)}まで生成しません。
 	 *
 	 * <p>[備 考] </p>
 	 */
 	public ParameterMapping(){
-		this.parameters = new HashMap<Object, Object>();
-
-		setEventObject(null);
-		setEventSource(null);
-		setEventSourceParent(null);
-		setEventListener(null);
-		setEventListenerType(null);
-		setEventType(null);
-		setModelClasses(null);
-		setModelReservedNum(0);
-		setModelFinishedNum(0);
-		setActionInstance(null);
-		setRunModelsAndNoWait(false);
-		setAllowInteruptedExceptionOnSyncModel(false);
 	}
 
 	/**
@@ -129,7 +192,8 @@ public class ParameterMapping {
 	 * クライアントMVCレイヤ内で追加されたパラメータを取得します。
 	 *
 	 * <p>[詳 細] </p>
-	 * アクション、モデル内で伝播させる情報を取得します。
+	 * アクション、モデル内で伝播させる情報を取得します。<br>
+	 * keyがこのクラスの定数キー（{@link #EVENT_OBJECT}等）の場合は対応するフィールドの値を返却します。
 	 *
 	 * <p>[備 考] </p>
 	 *
@@ -137,6 +201,32 @@ public class ParameterMapping {
 	 * @return マッピング値
 	 */
 	public Object get(Object key){
+		if (key instanceof String) {
+			switch ((String)key) {
+			case EVENT_OBJECT: return this.eventObject;
+			case EVENT_SOURCE_OBJECT: return this.eventSource;
+			case EVENT_SOURCE_OBJECT_PARENT: return this.eventSourceParent;
+			case EVENT_LISTENER: return this.eventListener;
+			case EVENT_LISTENER_TYPE: return this.eventListenerType;
+			case EVENT_TYPE: return this.eventType;
+			case MODEL_CLASSES: return this.modelClasses;
+			case MODEL_GRAPH: return this.modelGraph;
+			case DEADLINE: return this.deadline;
+			case EVENT_ARRIVAL_TIME: return this.eventArrivalTime;
+			case MODEL_RESERVED_NUM: return this.modelReservedNum;
+			case MODEL_FINISHED_NUM: return this.modelFinishedNum;
+			case MODEL_FAILED: return this.modelFailed;
+			case ACTION_INSTANCE: return this.actionInstance;
+			case VALIDATION_TASK: return this.validationTask;
+			case RUN_MODELS_AND_NO_WAIT: return this.runModelsAndNoWait;
+			case ALLOW_INTERUPTED_EXCEPTION_ON_SYNC_MODEL: return this.allowInteruptedExceptionOnSyncModel;
+			case LISTENER_ADDED_COMPONENT: return this.listenerAddedComponent;
+			default: break;
+			}
+		}
+		if (key == null || this.parameters == null) {
+			return null;
+		}
 		return this.parameters.get(key);
 	}
 
@@ -145,16 +235,48 @@ public class ParameterMapping {
 	 * クライアントMVCレイヤ内で自由に使用出来るパラメータを追加します。
 	 *
 	 * <p>[詳 細] </p>
-	 * ParameterMappingオブジェクトに対して、key=valueの形式で値を登録します。
+	 * ParameterMappingオブジェクトに対して、key=valueの形式で値を登録します。<br>
+	 * keyがこのクラスの定数キー（{@link #EVENT_OBJECT}等）の場合は対応するフィールドに設定します。
 	 *
 	 * <p>[備 考] </p>
 	 * 一イベントハンドリング間のビジネスロジックに必要な、任意のパラメータ
-	 * を格納する為に使用します。
+	 * を格納する為に使用します。<br>
+	 * nullキーは登録出来ません。
 	 *
 	 * @param key マッピングキー
 	 * @param value マッピング値
 	 */
+	@SuppressWarnings("unchecked")
 	public void put(Object key, Object value){
+		if (key instanceof String) {
+			switch ((String)key) {
+			case EVENT_OBJECT: setEventObject((EventObject)value); return;
+			case EVENT_SOURCE_OBJECT: setEventSource(value); return;
+			case EVENT_SOURCE_OBJECT_PARENT: setEventSourceParent(value); return;
+			case EVENT_LISTENER: setEventListener((EventListener)value); return;
+			case EVENT_LISTENER_TYPE: setEventListenerType((Class<? extends EventListener>)value); return;
+			case EVENT_TYPE: setEventType((String)value); return;
+			case MODEL_CLASSES: setModelClasses((List<Class<? extends Model>>)value); return;
+			case MODEL_GRAPH: setModelGraph((ModelGraph)value); return;
+			case DEADLINE: setDeadline(value == null ? 0 : ((Long)value).longValue()); return;
+			case EVENT_ARRIVAL_TIME: setEventArrivalTime(value == null ? 0 : ((Long)value).longValue()); return;
+			case MODEL_RESERVED_NUM: setModelReservedNum(value == null ? 0 : ((Integer)value).intValue()); return;
+			case MODEL_FINISHED_NUM: setModelFinishedNum(value == null ? 0 : ((Integer)value).intValue()); return;
+			case MODEL_FAILED: setModelFailed(Boolean.TRUE.equals(value)); return;
+			case ACTION_INSTANCE: setActionInstance((Action)value); return;
+			case VALIDATION_TASK: setValidationTask((ValidationTask)value); return;
+			case RUN_MODELS_AND_NO_WAIT: setRunModelsAndNoWait(Boolean.TRUE.equals(value)); return;
+			case ALLOW_INTERUPTED_EXCEPTION_ON_SYNC_MODEL: setAllowInteruptedExceptionOnSyncModel(Boolean.TRUE.equals(value)); return;
+			case LISTENER_ADDED_COMPONENT: setListenerAddedComponent((Component)value); return;
+			default: break;
+			}
+		}
+		if (this.parameters == null) {
+			this.parameters = new ParameterTable();
+		} else if (this.parametersShared) {
+			this.parameters = this.parameters.copy();
+			this.parametersShared = false;
+		}
 		this.parameters.put(key, value);
 	}
 
@@ -163,14 +285,14 @@ public class ParameterMapping {
 	 * Swingコンポーネントが発行したイベントオブジェクトを返却します。
 	 *
 	 * <p>[詳 細]</p>
-	 * parametersフィールドから"EVENT_OBJECT"キーで値を取り出します。
+	 * eventObjectフィールドを返却します。
 	 *
 	 * <p>[備 考]</p>
 	 *
 	 * @return Swingコンポーネントが発行したイベントオブジェクト
 	 */
 	public EventObject getEventObject() {
-		return (EventObject)this.parameters.get(EVENT_OBJECT);
+		return this.eventObject;
 	}
 
 	/**
@@ -178,14 +300,14 @@ public class ParameterMapping {
 	 * Swingコンポーネントが発行したイベントオブジェクトを返却します。
 	 *
 	 * <p>[詳 細]</p>
-	 * parametersフィールドに"EVENT_OBJECT"キーで引数eventObjectを設定します。
+	 * eventObjectフィールドを引数eventObjectで設定します。
 	 *
 	 * <p>[備 考]</p>
 	 *
 	 * @param eventObject Swingコンポーネントが発行したイベントオブジェクト
 	 */
 	public void setEventObject(EventObject eventObject) {
-		this.parameters.put(EVENT_OBJECT, eventObject);
+		this.eventObject = eventObject;
 	}
 
 	/**
@@ -193,14 +315,14 @@ public class ParameterMapping {
 	 * イベントを起こしたオブジェクトを返却します。
 	 *
 	 * <p>[詳 細]</p>
-	 * paramtersフィールドから"EVENT_SOURCE_OBJECT"キーで値を取得します。
+	 * eventSourceフィールドを返却します。
 	 *
 	 * <p>[備 考]</p>
 	 *
 	 * @return イベントを起こしたオブジェクト
 	 */
 	public Object getEventSource() {
-		return this.parameters.get(EVENT_SOURCE_OBJECT);
+		return this.eventSource;
 	}
 
 	/**
@@ -208,14 +330,14 @@ public class ParameterMapping {
 	 * イベントを起こしたオブジェクトを設定します。
 	 *
 	 * <p>[詳 細]</p>
-	 * parametersフィールドに"EVENT_SOURCE_OBJECT"キーで引数eventSourceObjectを設定します。
+	 * eventSourceフィールドを引数eventSourceObjectで設定します。
 	 *
 	 * <p>[備 考]</p>
 	 *
 	 * @param eventSourceComponent イベントを起こしたオブジェクト
 	 */
 	public void setEventSource(Object eventSourceObject) {
-		this.parameters.put(EVENT_SOURCE_OBJECT, eventSourceObject);
+		this.eventSource = eventSourceObject;
 	}
 
 	/**
@@ -223,14 +345,14 @@ public class ParameterMapping {
 	 * イベントを起こしたオブジェクトの親を返却します。
 	 *
 	 * <p>[詳 細]</p>
-	 * paramtersフィールドから"EVENT_SOURCE_OBJECT_PARENT"キーで値を取得します。
+	 * eventSourceParentフィールドを返却します。
 	 *
 	 * <p>[備 考]</p>
 	 *
 	 * @return イベントを起こしたオブジェクトの親
 	 */
 	public Object getEventSourceParent() {
-		return this.parameters.get(EVENT_SOURCE_OBJECT_PARENT);
+		return this.eventSourceParent;
 	}
 
 	/**
@@ -238,14 +360,14 @@ public class ParameterMapping {
 	 * イベントを起こしたオブジェクトの親を設定します。
 	 *
 	 * <p>[詳 細]</p>
-	 * parametersフィールドに"EVENT_SOURCE_OBJECT_PARENT"キーで引数eventSourceObjectParentを設定します。
+	 * eventSourceParentフィールドを引数eventSourceObjectParentで設定します。
 	 *
 	 * <p>[備 考]</p>
 	 *
 	 * @param eventSourceComponentParent イベントを起こしたオブジェクトの親
 	 */
 	public void setEventSourceParent(Object eventSourceObjectParent) {
-		this.parameters.put(EVENT_SOURCE_OBJECT_PARENT, eventSourceObjectParent);
+		this.eventSourceParent = eventSourceObjectParent;
 	}
 
 	/**
@@ -253,14 +375,14 @@ public class ParameterMapping {
 	 * イベントリスナプロキシインスタンスを返却します。
 	 *
 	 * <p>[詳 細]</p>
-	 * parametersフィールドから"EVENT_LISTENER"キーで値を取得します。
+	 * eventListenerフィールドを返却します。
 	 *
 	 * <p>[備 考]</p>
 	 *
 	 * @return イベントリスナプロキシインスタンス
 	 */
 	public EventListener getEventListener() {
-		return (EventListener)this.parameters.get(EVENT_LISTENER);
+		return this.eventListener;
 	}
 
 	/**
@@ -268,14 +390,14 @@ public class ParameterMapping {
 	 * イベントリスナプロキシインスタンスを設定します。
 	 *
 	 * <p>[詳 細]</p>
-	 * parametersフィールドに"EVENT_LISTENRE"キーで引数eventListenerを設定します。
+	 * eventListenerフィールドを引数eventListenerで設定します。
 	 *
 	 * <p>[備 考]</p>
 	 *
 	 * @param eventListener イベントリスナプロキシインスタンス
 	 */
 	public void setEventListener(EventListener eventListener) {
-		this.parameters.put(EVENT_LISTENER, eventListener);
+		this.eventListener = eventListener;
 	}
 
 	/**
@@ -283,14 +405,14 @@ public class ParameterMapping {
 	 * イベントリスナの型を返却します。
 	 *
 	 * <p>[詳 細]</p>
-	 * parametersフィールドから"EVENT_LISTENER_TYPE"キーで値を取得します。
+	 * eventListenerTypeフィールドを返却します。
 	 *
 	 * <p>[備 考]</p>
 	 *
 	 * @return イベントリスナの型
 	 */
 	public Class<? extends EventListener> getEventListenerType() {
-		return (Class<? extends EventListener>)this.parameters.get(EVENT_LISTENER_TYPE);
+		return this.eventListenerType;
 	}
 
 	/**
@@ -298,14 +420,14 @@ public class ParameterMapping {
 	 * イベントリスナの型を設定します。
 	 *
 	 * <p>[詳 細]</p>
-	 * parametersフィールドに"EVENT_LISTENER_TYPE"キーで引数listenerTypeを設定します。
+	 * eventListenerTypeフィールドを引数listenerTypeで設定します。
 	 *
 	 * <p>[備 考]</p>
 	 *
 	 * @param listenerType イベントリスナの型
 	 */
 	public void setEventListenerType(Class<? extends EventListener> listenerType) {
-		this.parameters.put(EVENT_LISTENER_TYPE, listenerType);
+		this.eventListenerType = listenerType;
 	}
 
 	/**
@@ -313,14 +435,14 @@ public class ParameterMapping {
 	 * イベントハンドラメソッド名を返却します。
 	 *
 	 * <p>[詳 細]</p>
-	 * parametersフィールドから"EVENT_TYPE"キーで値を取得します。
+	 * eventTypeフィールドを返却します。
 	 *
 	 * <p>[備 考]</p>
 	 *
 	 * @return イベントハンドラメソッド名
 	 */
 	public String getEventType() {
-		return (String)this.parameters.get(EVENT_TYPE);
+		return this.eventType;
 	}
 
 	/**
@@ -328,14 +450,14 @@ public class ParameterMapping {
 	 * イベントハンドラメソッド名を設定します。
 	 *
 	 * <p>[詳 細]</p>
-	 * parametersフィールドに"EVENT_TYPE"キーで引数eventTypeを設定します。
+	 * eventTypeフィールドを引数eventTypeで設定します。
 	 *
 	 * <p>[備 考]</p>
 	 *
 	 * @param eventType イベントハンドラメソッド名
 	 */
 	public void setEventType(String eventType) {
-		this.parameters.put(EVENT_TYPE, eventType);
+		this.eventType = eventType;
 	}
 
 	/**
@@ -343,16 +465,15 @@ public class ParameterMapping {
 	 * モデルクラス一覧を取得します。
 	 *
 	 * <p>[詳 細]</p>
-	 * parametersフィールドから"MODES_CLASSES"キーで値を取得します。
+	 * modelClassesフィールドを返却します。
 	 * 登録されているモデルクラス一覧を取得します。
 	 *
 	 * <p>[備 考]</p>
 	 *
 	 * @return 登録されているモデルクラス一覧
 	 */
-	@SuppressWarnings("unchecked")
 	public List<Class<? extends Model>> getModelClasses() {
-		return (List<Class<? extends Model>>)this.parameters.get(MODEL_CLASSES);
+		return this.modelClasses;
 	}
 
 	/**
@@ -360,7 +481,7 @@ public class ParameterMapping {
 	 * モデルクラス一覧を設定します。
 	 *
 	 * <p>[詳 細]</p>
-	 * parametersフィールドに"MODEL_CLASSES"キーで引数modelClassesを設定します。
+	 * modelClassesフィールドを引数modelClassesで設定します。
 	 * 実行するモデルクラスを登録します。
 	 *
 	 * <p>[備 考]</p>
@@ -368,7 +489,136 @@ public class ParameterMapping {
 	 * @param modelClasses 実行するモデルクラス
 	 */
 	public void setModelClasses(List<Class<? extends Model>> modelClasses) {
-		this.parameters.put(MODEL_CLASSES, modelClasses);
+		this.modelClasses = modelClasses;
+	}
+
+	/**
+	 * <p>[概 要]</p>
+	 * 依存関係付きで登録されたモデル群を取得します。
+	 *
+	 * <p>[詳 細]</p>
+	 * modelGraphフィールドを返却します。
+	 *
+	 * <p>[備 考]</p>
+	 * {@link com.oneitthing.swingcontrollerizer.action.BaseAction#reserveModelGraph(ModelGraph)}
+	 * でモデルが予約されていない場合はnullです。
+	 *
+	 * @return 依存関係付きで登録されたモデル群
+	 */
+	public ModelGraph getModelGraph() {
+		return this.modelGraph;
+	}
+
+	/**
+	 * <p>[概 要]</p>
+	 * 依存関係付きで登録されたモデル群を設定します。
+	 *
+	 * <p>[詳 細]</p>
+	 * modelGraphフィールドを引数modelGraphで設定します。
+	 *
+	 * <p>[備 考]</p>
+	 *
+	 * @param modelGraph 依存関係付きで登録されたモデル群
+	 */
+	public void setModelGraph(ModelGraph modelGraph) {
+		this.modelGraph = modelGraph;
+	}
+
+	/**
+	 * <p>[概 要]</p>
+	 * アクションが予約した、非同期に実行されるバリデーション判定を取得します。
+	 *
+	 * <p>[詳 細]</p>
+	 * validationTaskフィールドを返却します。
+	 *
+	 * <p>[備 考]</p>
+	 * {@link com.oneitthing.swingcontrollerizer.action.BaseAction#isValidateAsync()}がtrueの場合に設定されます。<br>
+	 * この値は{@link #clone()}で複製されません。
+	 *
+	 * @return 非同期に実行されるバリデーション判定、無い場合はnull
+	 */
+	public ValidationTask getValidationTask() {
+		return this.validationTask;
+	}
+
+	/**
+	 * <p>[概 要]</p>
+	 * アクションが予約した、非同期に実行されるバリデーション判定を設定します。
+	 *
+	 * <p>[詳 細]</p>
+	 * validationTaskフィールドを引数validationTaskで設定します。
+	 *
+	 * <p>[備 考]</p>
+	 *
+	 * @param validationTask 非同期に実行されるバリデーション判定
+	 */
+	public void setValidationTask(ValidationTask validationTask) {
+		this.validationTask = validationTask;
+	}
+
+	/**
+	 * <p>[概 要]</p>
+	 * イベントがコントローラに到達した時刻を取得します。
+	 *
+	 * <p>[詳 細]</p>
+	 * eventArrivalTimeフィールドを返却します。
+	 *
+	 * <p>[備 考]</p>
+	 * 処理時間計測（{@link com.oneitthing.swingcontrollerizer.metrics.MetricsRegistry}）に使用されます。<br>
+	 * この値は{@link #clone()}で複製されません。
+	 *
+	 * @return イベントがコントローラに到達した時刻（System#nanoTime）、未設定の場合は0
+	 */
+	public long getEventArrivalTime() {
+		return this.eventArrivalTime;
+	}
+
+	/**
+	 * <p>[概 要]</p>
+	 * イベントがコントローラに到達した時刻を設定します。
+	 *
+	 * <p>[詳 細]</p>
+	 * eventArrivalTimeフィールドを引数eventArrivalTimeで設定します。
+	 *
+	 * <p>[備 考]</p>
+	 *
+	 * @param eventArrivalTime イベントがコントローラに到達した時刻（System#nanoTime）
+	 */
+	public void setEventArrivalTime(long eventArrivalTime) {
+		this.eventArrivalTime = eventArrivalTime;
+	}
+
+	/**
+	 * <p>[概 要]</p>
+	 * モデル処理の期限を取得します。
+	 *
+	 * <p>[詳 細]</p>
+	 * deadlineフィールドを返却します。
+	 *
+	 * <p>[備 考]</p>
+	 *
+	 * @return モデル処理の期限（エポックミリ秒）、期限無しの場合は0
+	 */
+	public long getDeadline() {
+		return this.deadline;
+	}
+
+	/**
+	 * <p>[概 要]</p>
+	 * モデル処理の期限を設定します。
+	 *
+	 * <p>[詳 細]</p>
+	 * deadlineフィールドを引数deadlineで設定します。
+	 *
+	 * <p>[備 考]</p>
+	 * 期限は複製されたParameterMappingに引き継がれる為、アクションで設定すると
+	 * 一イベントで実行される全モデル（連続実行されるモデルを含む）の処理が、
+	 * 合計でこの期限までに終了しなかった場合にタイムアウトします。
+	 *
+	 * @param deadline モデル処理の期限（エポックミリ秒）、期限無しの場合は0
+	 */
+	public void setDeadline(long deadline) {
+		this.deadline = deadline;
 	}
 
 	/**
@@ -376,7 +626,7 @@ public class ParameterMapping {
 	 * 登録モデル数を返却します。
 	 *
 	 * <p>[詳 細]</p>
-	 * parametersフィールドから"MODEL_RESERVED_NUM"キーで値を取得します。
+	 * modelReservedNumフィールドを返却します。
 	 * 登録したモデル数を取得します。
 	 *
 	 * <p>[備 考]</p>
@@ -384,7 +634,7 @@ public class ParameterMapping {
 	 * @return 登録したモデル数
 	 */
 	public int getModelReservedNum() {
-		return ((Integer)this.parameters.get(MODEL_RESERVED_NUM)).intValue();
+		return this.modelReservedNum;
 	}
 
 	/**
@@ -392,7 +642,7 @@ public class ParameterMapping {
 	 * 登録モデル数を設定します。
 	 *
 	 * <p>[詳 細]</p>
-	 * parametersフィールドに"MODEL_RESERVED_NUM"キーで引数modelReservedNumを設定します。
+	 * modelReservedNumフィールドを引数modelReservedNumで設定します。
 	 * 登録したモデル数を設定します。
 	 *
 	 * <p>[備 考]</p>
@@ -400,7 +650,7 @@ public class ParameterMapping {
 	 * @param modelReservedNum 登録するモデル数
 	 */
 	public void setModelReservedNum(int modelReservedNum) {
-		this.parameters.put(MODEL_RESERVED_NUM, modelReservedNum);
+		this.modelReservedNum = modelReservedNum;
 	}
 
 	/**
@@ -408,7 +658,7 @@ public class ParameterMapping {
 	 * 終了モデル数を返却します。
 	 *
 	 * <p>[詳 細]</p>
-	 * parametersフィールドから"MODEL_FINISHED_NUM"キーで値を取得します。
+	 * modelFinishedNumフィールドを返却します。
 	 * 終了したモデル数を取得します。
 	 *
 	 * <p>[備 考]</p>
@@ -416,7 +666,7 @@ public class ParameterMapping {
 	 * @return 終了したモデル数
 	 */
 	public int getModelFinishedNum() {
-		return ((Integer)this.parameters.get(MODEL_FINISHED_NUM)).intValue();
+		return this.modelFinishedNum;
 	}
 
 	/**
@@ -424,7 +674,7 @@ public class ParameterMapping {
 	 * 終了モデル数を設定します。
 	 *
 	 * <p>[詳 細]</p>
-	 * parametersフィールドに"MODEL_FINISHED_NUM"キーで引数modelFinishedNumを設定します。
+	 * modelFinishedNumフィールドを引数modelFinishedNumで設定します。
 	 * 終了したモデル数を設定します。
 	 *
 	 * <p>[備 考]</p>
@@ -432,7 +682,70 @@ public class ParameterMapping {
 	 * @param modelFinishedNum 終了したモデル数
 	 */
 	public void setModelFinishedNum(int modelFinishedNum) {
-		this.parameters.put(MODEL_FINISHED_NUM, modelFinishedNum);
+		this.modelFinishedNum = modelFinishedNum;
+	}
+
+	/**
+	 * <p>[概 要]</p>
+	 * モデル処理が失敗したかどうかを返却します。
+	 *
+	 * <p>[詳 細]</p>
+	 * modelFailedフィールドを返却します。
+	 *
+	 * <p>[備 考]</p>
+	 * trueの場合、コントローラはアクションをインスタンスプールに返却しません。<br>
+	 * このフラグは{@link #clone()}で複製されません。
+	 *
+	 * @return モデル処理が失敗した場合はtrue
+	 */
+	public boolean isModelFailed() {
+		return this.modelFailed;
+	}
+
+	/**
+	 * <p>[概 要]</p>
+	 * モデル処理が失敗したかどうかを設定します。
+	 *
+	 * <p>[詳 細]</p>
+	 * modelFailedフィールドを引数modelFailedで設定します。
+	 *
+	 * <p>[備 考]</p>
+	 * コントローラがモデル処理失敗イベント受信時に設定します。
+	 *
+	 * @param modelFailed モデル処理が失敗した場合はtrue
+	 */
+	public void setModelFailed(boolean modelFailed) {
+		this.modelFailed = modelFailed;
+	}
+
+	/**
+	 * <p>[概 要]</p>
+	 * アクション起動ポリシーによる起動保持を返却します。
+	 *
+	 * <p>[詳 細]</p>
+	 * admissionHoldフィールドを返却します。
+	 *
+	 * <p>[備 考]</p>
+	 *
+	 * @return 起動保持、ポリシーが起動の終了を待たない場合はnull
+	 */
+	EventAdmission.Hold getAdmissionHold() {
+		return this.admissionHold;
+	}
+
+	/**
+	 * <p>[概 要]</p>
+	 * アクション起動ポリシーによる起動保持を設定します。
+	 *
+	 * <p>[詳 細]</p>
+	 * admissionHoldフィールドを引数admissionHoldで設定します。
+	 *
+	 * <p>[備 考]</p>
+	 *
+	 * @param admissionHold 起動保持
+	 */
+	void setAdmissionHold(EventAdmission.Hold admissionHold) {
+		this.admissionHold = admissionHold;
 	}
 
 	/**
@@ -440,7 +753,7 @@ public class ParameterMapping {
 	 * アクションインスタンスを返却します。
 	 *
 	 * <p>[詳 細]</p>
-	 * parametersフィールドから"ACTION_INSTANCE"キーで値を取得します。
+	 * actionInstanceフィールドを返却します。
 	 * 登録されているアクションを取得します。
 	 *
 	 * <p>[備 考]</p>
@@ -448,7 +761,7 @@ public class ParameterMapping {
 	 * @param 登録されているアクション
 	 */
 	public Action getActionInstance() {
-		return (Action)this.parameters.get(ACTION_INSTANCE);
+		return this.actionInstance;
 	}
 
 	/**
@@ -456,7 +769,7 @@ public class ParameterMapping {
 	 * アクションインスタンスを設定します。
 	 *
 	 * <p>[詳 細]</p>
-	 * parametersフィールドに"ACTION_INSTANCE"キーで引数actionを設定します。
+	 * actionInstanceフィールドを引数actionで設定します。
 	 * 実行するアクションを登録します。
 	 *
 	 * <p>[備 考]</p>
@@ -464,7 +777,27 @@ public class ParameterMapping {
 	 * @param action 実行するアクション
 	 */
 	public void setActionInstance(Action action) {
-		this.parameters.put(ACTION_INSTANCE, action);
+		if (action != this.actionInstance) {
+			this.actionShared = false;
+		}
+		this.actionInstance = action;
+	}
+
+	/**
+	 * <p>[概 要]</p>
+	 * アクションインスタンスを複製と共有しているかどうかを返却します。
+	 *
+	 * <p>[詳 細]</p>
+	 * actionSharedフィールドを返却します。
+	 *
+	 * <p>[備 考]</p>
+	 * 複製がアクションを参照し続ける可能性が有る為、共有しているアクションは
+	 * インスタンスプールに返却されません。
+	 *
+	 * @return 共有している場合true
+	 */
+	boolean isActionShared() {
+		return this.actionShared;
 	}
 
 	/**
@@ -472,7 +805,7 @@ public class ParameterMapping {
 	 * 複数予約されたモデルの実行動作を取得します。
 	 *
 	 * <p>[詳 細] </p>
-	 * parametersフィールドから"RUN_MODELS_AND_NO_WAIT"キーで値を取得します。<br>
+	 * runModelsAndNoWaitフィールドを返却します。<br>
 	 * モデル群がコントローラに連続実行される際、モデルの処理結果を待たずに
 	 * 次のモデルを実行するかどうかのフラグを取得します。
 	 *
@@ -483,7 +816,7 @@ public class ParameterMapping {
 	 * @return シーケンシャルに実行しない場合はtrue、それ以外はfalse
 	 */
 	public boolean isRunModelsAndNoWait(){
-		return ((Boolean)this.parameters.get(RUN_MODELS_AND_NO_WAIT)).booleanValue();
+		return this.runModelsAndNoWait;
 	}
 
 	/**
@@ -491,7 +824,7 @@ public class ParameterMapping {
 	 * 複数予約されたモデルの実行動作を設定します。
 	 *
 	 * <p>[詳 細] </p>
-	 * parametersフィールドに"RUN_MODELS_AND_NO_WAIT"キーで引数runModelsAndNoWaitを設定します。<br>
+	 * runModelsAndNoWaitフィールドを引数runModelsAndNoWaitで設定します。<br>
 	 * モデル群がコントローラに実行される際、モデルの処理結果を待たずに
 	 * 次モデルを実行するかどうかのフラグを設定します。
 	 *
@@ -502,7 +835,7 @@ public class ParameterMapping {
 	 * @param runModelsAndNoWait シーケンシャルに実行しない場合はtrue、それ以外はfalse
 	 */
 	public void setRunModelsAndNoWait(boolean runModelsAndNoWait) {
-		this.parameters.put(RUN_MODELS_AND_NO_WAIT, runModelsAndNoWait);
+		this.runModelsAndNoWait = runModelsAndNoWait;
 	}
 
 	/**
@@ -510,7 +843,7 @@ public class ParameterMapping {
 	 * モデル同期実行時に発生したInterruptedExceptionをエラーと見做すかどうかのフラグを返却します。
 	 *
 	 * <p>[詳 細] </p>
-	 * parametersフィールドから"ALLOW_INTERUPTED_EXCEPTION_ON_SYNC_MODEL"キーで値を取得します。<br>
+	 * allowInteruptedExceptionOnSyncModelフィールドを返却します。<br>
 	 * 実行モデルの処理終了をコントローラが待っている際にInterruptedExceptionが発生した場合に
 	 * エラーと見做すか見做さないかを返却します。<br/>
 	 *
@@ -519,7 +852,7 @@ public class ParameterMapping {
 	 * @return モデル同期実行時に発生したInterruptedExceptionをエラーと見做すかどうかのフラグ
 	 */
 	public boolean isAllowInteruptedExceptionOnSyncModel() {
-		return ((Boolean)this.parameters.get(ALLOW_INTERUPTED_EXCEPTION_ON_SYNC_MODEL)).booleanValue();
+		return this.allowInteruptedExceptionOnSyncModel;
 	}
 
 	/**
@@ -527,7 +860,7 @@ public class ParameterMapping {
 	 * モデル同期実行時に発生したInterruptedExceptionをエラーと見做すかどうかのフラグを設定します。
 	 *
 	 * <p>[詳 細] </p>
-	 * parametersフィールドに"ALLOW_INTERUPTED_EXCEPTION_ON_SYNC_MODEL"キーで値を取得します。<br>
+	 * allowInteruptedExceptionOnSyncModelフィールドを引数allowInteruptedExceptionOnSyncModelで設定します。<br>
 	 * 実行モデルの処理終了をコントローラが待っている際にInterruptedExceptionが発生した場合に
 	 * エラーと見做すか見做さないかを設定します。<br/>
 	 *
@@ -539,7 +872,7 @@ public class ParameterMapping {
 	 * @param allowInteruptedExceptionOnSyncModel モデル同期実行時に発生したInterruptedExceptionをエラーと見做すかどうかのフラグ
 	 */
 	public void setAllowInteruptedExceptionOnSyncModel(boolean allowInteruptedExceptionOnSyncModel) {
-		this.parameters.put(ALLOW_INTERUPTED_EXCEPTION_ON_SYNC_MODEL, allowInteruptedExceptionOnSyncModel);
+		this.allowInteruptedExceptionOnSyncModel = allowInteruptedExceptionOnSyncModel;
 	}
 
 	/**
@@ -555,7 +888,7 @@ public class ParameterMapping {
 	 * @return イベントリスナが付与されたComponent
 	 */
 	public Component getListenerAddedComponent() {
-		return (Component)this.parameters.get(LISTENER_ADDED_COMPONENT);
+		return this.listenerAddedComponent;
 	}
 
 	/**
@@ -571,7 +904,7 @@ public class ParameterMapping {
 	 * @param listenerAddedComponent イベントリスナが付与されたComponent
 	 */
 	public void setListenerAddedComponent(Component listenerAddedComponent) {
-		this.parameters.put(LISTENER_ADDED_COMPONENT, listenerAddedComponent);
+		this.listenerAddedComponent = listenerAddedComponent;
 	}
 
 	/**
@@ -581,11 +914,14 @@ public class ParameterMapping {
 	 * <p>[詳 細] </p>
 	 * ParameterMappingのシャローコピーを行います。<br>
 	 * ParameterMappingオブジェクト、及び保持するプロパティは完全なコピーを作りますが、
-	 * parametersプロパティ内で保持する定数キー要素値のアドレス参照はコピーしません。
+	 * 各プロパティ、任意パラメータ値のアドレス参照はコピーしません。<br>
+	 * 任意パラメータ領域は複製元と共有され、どちらかで次に{@link #put(Object, Object)}
+	 * されるまでコピーされません（copy-on-write）。<br>
+	 * アクションインスタンスを共有した複製元、複製先のアクションはインスタンスプールに返却されません。
 	 * <br />
-	 * parameterMapping#parametersと、<br>
-	 * clonedParameterMapping#parameters<br>
-	 * は異なるアドレスで保持されますが、
+	 * parameterMapping#put(key, value)と、<br>
+	 * clonedParameterMapping#put(key, value)<br>
+	 * は互いに影響しませんが、
 	 * <br />
 	 * parameterMapping#getEventSourceと、<br>
 	 * clonedParameterMapping#getEventSource<br>
@@ -609,9 +945,30 @@ public class ParameterMapping {
 	 */
 	public ParameterMapping clone() {
 		ParameterMapping pm = new ParameterMapping();
-		for (Iterator<Object> itr = this.parameters.keySet().iterator(); itr.hasNext(); ) {
-			Object key = itr.next();
-			pm.put(key, this.parameters.get(key));
+		pm.eventObject = this.eventObject;
+		pm.eventSource = this.eventSource;
+		pm.eventSourceParent = this.eventSourceParent;
+		pm.eventListener = this.eventListener;
+		pm.eventListenerType = this.eventListenerType;
+		pm.eventType = this.eventType;
+		pm.modelClasses = this.modelClasses;
+		pm.modelGraph = this.modelGraph;
+		pm.deadline = this.deadline;
+		pm.modelReservedNum = this.modelReservedNum;
+		pm.modelFinishedNum = this.modelFinishedNum;
+		pm.actionInstance = this.actionInstance;
+		if (this.actionInstance != null) {
+			// 複製がアクションを参照している間に、プールから再利用されないようにする
+			pm.actionShared = true;
+			this.actionShared = true;
+		}
+		pm.runModelsAndNoWait = this.runModelsAndNoWait;
+		pm.allowInteruptedExceptionOnSyncModel = this.allowInteruptedExceptionOnSyncModel;
+		pm.listenerAddedComponent = this.listenerAddedComponent;
+		if (this.parameters != null) {
+			pm.parameters = this.parameters;
+			pm.parametersShared = true;
+			this.parametersShared = true;
 		}
 		return pm;
 	}
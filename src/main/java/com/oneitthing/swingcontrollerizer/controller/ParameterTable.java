@@ -0,0 +1,155 @@
+package com.oneitthing.swingcontrollerizer.controller;
+
+/**
+ * <p>[概 要] </p>
+ * ParameterMappingのユーザ定義パラメータを保持する、小規模用のハッシュテーブルです。
+ *
+ * <p>[詳 細] </p>
+ * キーと値を一本の配列に交互に格納するオープンアドレス法（線形探査）のテーブルです。<br>
+ * エントリ毎のオブジェクト生成が無く、数件程度のパラメータを持つ用途でHashMapより軽量です。
+ *
+ * <p>[備 考] </p>
+ * スレッドセーフではありません。削除操作は提供しません（値にnullを設定して下さい）。
+ *
+ */
+final class ParameterTable {
+
+	/** 初期エントリ容量です。2の冪乗である必要が有ります。 */
+	private static final int INITIAL_CAPACITY = 8;
+
+	/** キー、値を交互に格納する配列です。 */
+	private Object[] slots;
+
+	/** 格納しているエントリ数です。 */
+	private int size;
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	ParameterTable() {
+		this.slots = new Object[INITIAL_CAPACITY * 2];
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 複製用コンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param source 複製元テーブル
+	 */
+	private ParameterTable(ParameterTable source) {
+		this.slots = source.slots.clone();
+		this.size = source.size;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数keyに対応する値を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param key キー
+	 * @return 値、登録されていない場合はnull
+	 */
+	Object get(Object key) {
+		Object[] slots = this.slots;
+		int index = indexOf(slots, key);
+		return slots[index] == null ? null : slots[index + 1];
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数key、valueを登録します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 負荷率が0.75を超える場合は容量を倍にして再配置します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param key キー（nullは不可）
+	 * @param value 値
+	 */
+	void put(Object key, Object value) {
+		int index = indexOf(this.slots, key);
+		if (this.slots[index] != null) {
+			this.slots[index + 1] = value;
+			return;
+		}
+		this.slots[index] = key;
+		this.slots[index + 1] = value;
+		if (++this.size * 4 > this.slots.length / 2 * 3) {
+			resize();
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * テーブルの複製を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * キー、値の参照はコピーしません。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 複製されたテーブル
+	 */
+	ParameterTable copy() {
+		return new ParameterTable(this);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数keyが格納されている、又は格納されるべき配列インデックスを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static int indexOf(Object[] slots, Object key) {
+		int mask = slots.length - 2;
+		int h = key.hashCode();
+		int index = ((h ^ (h >>> 16)) << 1) & mask;
+		while (true) {
+			Object k = slots[index];
+			if (k == null || k == key || k.equals(key)) {
+				return index;
+			}
+			index = (index + 2) & mask;
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 容量を倍にして全エントリを再配置します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private void resize() {
+		Object[] old = this.slots;
+		Object[] slots = new Object[old.length * 2];
+		for (int i = 0; i < old.length; i += 2) {
+			Object key = old[i];
+			if (key != null) {
+				int index = indexOf(slots, key);
+				slots[index] = key;
+				slots[index + 1] = old[i + 1];
+			}
+		}
+		this.slots = slots;
+	}
+}
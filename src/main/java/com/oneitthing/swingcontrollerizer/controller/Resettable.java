@@ -0,0 +1,52 @@
+package com.oneitthing.swingcontrollerizer.controller;
+
+/**
+ * <p>[概 要] </p>
+ * アクション、モデルのインスタンス再利用を許可するI/Fです。
+ *
+ * <p>[詳 細] </p>
+ * このI/Fを実装したアクション（AbstractAction継承クラス）、モデル（BaseModel継承クラス）は、
+ * 処理終了後に{@link #reset()}がコールされてコントローラのインスタンスプールに返却され、
+ * 次回イベント発生時に新規生成の代わりに再利用されます。
+ * <ul>
+ *   <li>アクション : 予約された全モデルが終了して{@link com.oneitthing.swingcontrollerizer.action.BaseAction#complete(ParameterMapping)}
+ *       がコールされた後、又はrunがnullを返却した後</li>
+ *   <li>モデル : モデル処理終了イベントが処理され、かつモデルスレッドの処理が終了した後</li>
+ * </ul>
+ * 処理が失敗したアクション、モデルはプールに返却されません。
+ * ここでの失敗は、モデルでtrapがテンプレートコールされた、又はモデル処理失敗イベントが発行された場合と、
+ * 非同期バリデーション判定中に例外が発生した場合です。
+ * アクションは予約したモデルの何れかが失敗した時点で返却対象外になります。<br>
+ * バリデーションエラー（validationFault）による中止は正常な終了として扱い、返却されます。
+ *
+ * <p>[備 考] </p>
+ * 実装クラスはイベント処理を跨いで状態を持ち越さないよう、
+ * reset()で自身が持つフィールドを全て初期状態に戻して下さい。<br>
+ * プールの最大保持数は{@link ClientConfig#setInstancePoolSize(int)}で設定します。
+ *
+ * <b>使用例）</b><br>
+ * <pre class="samplecode">
+ *	public class SearchAction extends BaseAction implements Resettable {
+ *		private String keyword;
+ *
+ *		public void reset() {
+ *			this.keyword = null;
+ *		}
+ *	}
+ * </pre>
+ *
+ */
+public interface Resettable {
+
+	/**
+	 * <p>[概 要]</p>
+	 * インスタンスを再利用可能な初期状態に戻します。
+	 *
+	 * <p>[詳 細]</p>
+	 * インスタンスプールへの返却直前にコントローラからコールされます。
+	 *
+	 * <p>[備 考]</p>
+	 *
+	 */
+	public void reset();
+}
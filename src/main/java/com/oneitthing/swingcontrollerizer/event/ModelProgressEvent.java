@@ -0,0 +1,79 @@
+package com.oneitthing.swingcontrollerizer.event;
+
+import com.oneitthing.swingcontrollerizer.model.Model;
+
+/**
+ * <p>[概 要] </p>
+ * モデル処理の途中経過を保持するイベントクラスです。
+ *
+ * <p>[詳 細] </p>
+ * 大きなレスポンスの受信等、時間の掛かるモデル処理が
+ * {@link com.oneitthing.swingcontrollerizer.model.BaseModel#fireModelSuccess(ModelProcessEvent)}
+ * で発行します。<br>
+ * コントローラはこのイベントを処理結果として扱わず、モデルを起動したアクションの
+ * progressForwardに譲渡します。後続モデルの起動、成功回数の加算は行われません。
+ *
+ * <p>[備 考] </p>
+ *
+ * @see com.oneitthing.swingcontrollerizer.action.BaseAction#progressForward(int, Model, long, long)
+ */
+public class ModelProgressEvent extends ModelProcessEvent {
+
+	private static final long serialVersionUID = -3125474394614436807L;
+
+	/** 処理済みの量（バイト数等）です。 */
+	private final long transferred;
+
+	/** 処理全体の量です。不明な場合は-1です。 */
+	private final long total;
+
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 * 引数modelをイベントソースとして親コンストラクタをコールします。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param model イベントソース（イベントを発行したモデル）
+	 * @param transferred 処理済みの量
+	 * @param total 処理全体の量、不明な場合は-1
+	 */
+	public ModelProgressEvent(Model model, long transferred, long total) {
+		super(model);
+		this.transferred = transferred;
+		this.total = total;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 処理済みの量を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * transferredフィールドを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 処理済みの量
+	 */
+	public long getTransferred() {
+		return this.transferred;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 処理全体の量を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * totalフィールドを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 処理全体の量、不明な場合は-1
+	 */
+	public long getTotal() {
+		return this.total;
+	}
+}
@@ -0,0 +1,164 @@
+package com.oneitthing.swingcontrollerizer.executor;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>[概 要] </p>
+ * 接続先ホスト毎の同時リクエスト数を制限するクラスです。
+ *
+ * <p>[詳 細] </p>
+ * {@link #acquire(String)}は許可を待つスレッドを持たず、許可が得られた時点で完了する
+ * CompletableFutureを返却します。上限に達しているホストへの要求は到着順に待たされ、
+ * {@link #release(String)}で解放された許可が次の要求に引き渡されます。
+ *
+ * <p>[備 考] </p>
+ * java.net.http.HttpClientはホスト毎の接続数を設定出来ない為、
+ * {@link com.oneitthing.swingcontrollerizer.model.HTTPAsyncRequestCore}は
+ * 送信前にこのクラスで許可を取得します。<br>
+ * インスタンスは{@link com.oneitthing.swingcontrollerizer.controller.ClientConfig#getHttpConnectionLimiter()}で取得します。
+ *
+ */
+public class HostConnectionLimiter {
+
+	/** ホスト毎の同時リクエスト数の上限です。0以下の場合は無制限です。 */
+	private final int maxPerHost;
+
+	/** ホスト毎の、許可を得ているリクエスト数です。 */
+	private final Map<String, Integer> active = new HashMap<String, Integer>();
+
+	/** ホスト毎の、許可を待っている要求です。 */
+	private final Map<String, ArrayDeque<CompletableFuture<Void>>> waiters =
+		new HashMap<String, ArrayDeque<CompletableFuture<Void>>>();
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param maxPerHost ホスト毎の同時リクエスト数の上限、0以下の場合は無制限
+	 */
+	public HostConnectionLimiter(int maxPerHost) {
+		this.maxPerHost = maxPerHost;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * ホスト毎の同時リクエスト数の上限を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 同時リクエスト数の上限、0以下の場合は無制限
+	 */
+	public int getMaxPerHost() {
+		return this.maxPerHost;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数hostへのリクエストの許可を要求します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 上限に達していない場合は完了済みのCompletableFutureを、
+	 * 上限に達している場合は許可が引き渡された時点で完了するCompletableFutureを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 * 許可を得た場合は、リクエストの終了時に必ず{@link #release(String)}を呼び出して下さい。<br>
+	 * 待っている要求を取り消す場合は、戻り値をcancelして下さい。
+	 * 取り消された要求に許可は引き渡されません。
+	 *
+	 * @param host 接続先ホスト
+	 * @return 許可が得られた時点で完了するCompletableFuture
+	 */
+	public synchronized CompletableFuture<Void> acquire(String host) {
+		if(this.maxPerHost <= 0) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		Integer count = this.active.get(host);
+		if(count == null || count.intValue() < this.maxPerHost) {
+			this.active.put(host, Integer.valueOf(count == null ? 1 : count.intValue() + 1));
+			return CompletableFuture.completedFuture(null);
+		}
+
+		ArrayDeque<CompletableFuture<Void>> queue = this.waiters.get(host);
+		if(queue == null) {
+			queue = new ArrayDeque<CompletableFuture<Void>>();
+			this.waiters.put(host, queue);
+		}
+		CompletableFuture<Void> ret = new CompletableFuture<Void>();
+		queue.add(ret);
+
+		return ret;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数hostへのリクエストの許可を解放します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 待っている要求が有る場合は、取り消されていない最も古い要求に許可を引き渡します。<br>
+	 * 要求の完了（後続処理の実行）はロックの外で行います。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param host 接続先ホスト
+	 */
+	public void release(String host) {
+		if(this.maxPerHost <= 0) {
+			return;
+		}
+
+		CompletableFuture<Void> next = null;
+		synchronized(this) {
+			ArrayDeque<CompletableFuture<Void>> queue = this.waiters.get(host);
+			while(queue != null && !queue.isEmpty()) {
+				CompletableFuture<Void> waiter = queue.poll();
+				if(!waiter.isDone()) {
+					next = waiter;
+					break;
+				}
+			}
+			if(queue != null && queue.isEmpty()) {
+				this.waiters.remove(host);
+			}
+			if(next == null) {
+				Integer count = this.active.get(host);
+				if(count == null || count.intValue() <= 1) {
+					this.active.remove(host);
+				}else{
+					this.active.put(host, Integer.valueOf(count.intValue() - 1));
+				}
+			}
+		}
+
+		// 引き渡し直前に取り消された場合は、許可を次の要求へ回す
+		if(next != null && !next.complete(null)) {
+			release(host);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数hostへの、許可を得ているリクエスト数を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param host 接続先ホスト
+	 * @return 許可を得ているリクエスト数
+	 */
+	public synchronized int getActiveCount(String host) {
+		Integer count = this.active.get(host);
+
+		return count == null ? 0 : count.intValue();
+	}
+}
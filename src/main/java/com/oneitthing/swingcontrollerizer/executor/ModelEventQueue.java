@@ -0,0 +1,331 @@
+package com.oneitthing.swingcontrollerizer.executor;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * <p>[概 要] </p>
+ * モデル処理イベントをイベントディスパッチスレッドに配送するキューです。
+ *
+ * <p>[詳 細] </p>
+ * モデルスレッドから{@link #post(Runnable)}された配送処理をキューに溜め、
+ * 一回のSwingUtilities#invokeLaterで溜まっている配送処理をまとめて実行します。<br>
+ * JMSSubscribeCoreやSocketRecieveCore等が短時間に大量のイベントを発行しても、
+ * AWTイベントキューに積まれるのは配送パス一件のみとなる為、描画や入力イベントが
+ * モデル処理イベントに埋もれることが有りません。<p>
+ *
+ * 一回の配送パスで使用する時間には上限（バジェット）が有り、上限を超えた場合は
+ * 残りの配送処理を次のパスに回してイベントディスパッチスレッドを解放します。<br>
+ * 配送処理は常に投入順に実行されます。
+ *
+ * <p>[備 考] </p>
+ * インスタンスは{@link com.oneitthing.swingcontrollerizer.controller.ClientConfig#getModelEventQueue()}で取得します。<br>
+ * キュー滞留数、配送遅延（投入からイベントディスパッチスレッドでの実行開始まで）を計測しています。
+ *
+ */
+public class ModelEventQueue {
+
+	/** 配送待ちの処理です。 */
+	private final ConcurrentLinkedQueue<Entry> queue = new ConcurrentLinkedQueue<Entry>();
+
+	/** 配送パスがAWTイベントキューに登録済みかどうかのフラグです。 */
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+
+	/** 一回の配送パスで使用する時間の上限（ナノ秒）です。0以下の場合は無制限です。 */
+	private volatile long budgetNanos;
+
+	/** 配送パスです。 */
+	private final Runnable drainer = new Runnable() {
+		@Override
+		public void run() {
+			drain();
+		}
+	};
+
+	/** 現在の滞留数です。 */
+	private final AtomicInteger depth = new AtomicInteger();
+
+	/** 最大滞留数です。 */
+	private final AtomicInteger maxDepth = new AtomicInteger();
+
+	/** 配送した処理数です。 */
+	private final AtomicLong deliveredCount = new AtomicLong();
+
+	/** 実行した配送パス数です。 */
+	private final AtomicLong passCount = new AtomicLong();
+
+	/** 配送遅延の合計（ナノ秒）です。 */
+	private final AtomicLong totalLatencyNanos = new AtomicLong();
+
+	/** 配送遅延の最大値（ナノ秒）です。 */
+	private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param budget 一回の配送パスで使用する時間の上限（ミリ秒）、0以下の場合は無制限
+	 */
+	public ModelEventQueue(long budget) {
+		setBudget(budget);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 一回の配送パスで使用する時間の上限を設定します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param budget 一回の配送パスで使用する時間の上限（ミリ秒）、0以下の場合は無制限
+	 */
+	public void setBudget(long budget) {
+		this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budget);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 配送処理を投入します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 配送パスが未登録の場合のみ、SwingUtilities#invokeLaterで配送パスを登録します。
+	 *
+	 * <p>[備 考] </p>
+	 * 任意のスレッドからコール出来ます。
+	 *
+	 * @param task イベントディスパッチスレッドで実行する配送処理
+	 */
+	public void post(Runnable task) {
+		this.queue.add(new Entry(task, System.nanoTime()));
+		int current = this.depth.incrementAndGet();
+		int max;
+		while (current > (max = this.maxDepth.get()) && !this.maxDepth.compareAndSet(max, current)) {
+			// 他スレッドと競合した場合は再試行
+		}
+		schedule();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 配送待ちの処理を実行します。
+	 *
+	 * <p>[詳 細] </p>
+	 * キューが空になるか、バジェットを使い切るまで投入順に配送処理を実行します。<br>
+	 * 処理が残った場合は、次の配送パスを登録します。<br>
+	 * 配送処理がモーダルダイアログ等で復帰しない間も、その二次イベントループで
+	 * 残りの処理が配送されるよう、配送処理の実行前に次の配送パスを登録しておきます。
+	 *
+	 * <p>[備 考] </p>
+	 * 配送処理が例外を発生させた場合も、残りの処理は次の配送パスで実行されます。<br>
+	 * 次の配送パスの登録は一回の配送パスにつき一件までです。
+	 *
+	 */
+	void drain() {
+		long start = System.nanoTime();
+		long budget = this.budgetNanos;
+		this.passCount.incrementAndGet();
+		// このパスの実行中に投入された処理、残った処理は次のパスで配送する
+		this.scheduled.set(false);
+		try {
+			Entry entry;
+			while ((entry = this.queue.poll()) != null) {
+				this.depth.decrementAndGet();
+				long now = System.nanoTime();
+				recordLatency(now - entry.enqueued);
+				this.deliveredCount.incrementAndGet();
+				if (!this.queue.isEmpty()) {
+					schedule();
+				}
+				entry.task.run();
+				if (budget > 0 && System.nanoTime() - start >= budget) {
+					break;
+				}
+			}
+		} finally {
+			if (!this.queue.isEmpty()) {
+				schedule();
+			}
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 配送パスが未登録の場合、SwingUtilities#invokeLaterで配送パスを登録します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private void schedule() {
+		if (this.scheduled.compareAndSet(false, true)) {
+			SwingUtilities.invokeLater(this.drainer);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 配送遅延を記録します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param latency 配送遅延（ナノ秒）
+	 */
+	private void recordLatency(long latency) {
+		this.totalLatencyNanos.addAndGet(latency);
+		long max;
+		while (latency > (max = this.maxLatencyNanos.get()) && !this.maxLatencyNanos.compareAndSet(max, latency)) {
+			// 他スレッドと競合した場合は再試行
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 現在の滞留数を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 配送待ちの処理数
+	 */
+	public int getDepth() {
+		return this.depth.get();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 最大滞留数を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 生成後、又は{@link #resetMetrics()}後の最大滞留数
+	 */
+	public int getMaxDepth() {
+		return this.maxDepth.get();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 配送した処理数を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 配送した処理数
+	 */
+	public long getDeliveredCount() {
+		return this.deliveredCount.get();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 実行した配送パス数を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link #getDeliveredCount()}との比が、一回のinvokeLaterでまとめて配送した平均処理数です。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 実行した配送パス数
+	 */
+	public long getPassCount() {
+		return this.passCount.get();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 平均配送遅延を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 平均配送遅延（ナノ秒）、未配送の場合は0
+	 */
+	public long getAverageLatencyNanos() {
+		long count = this.deliveredCount.get();
+		return count == 0 ? 0 : this.totalLatencyNanos.get() / count;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 最大配送遅延を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 最大配送遅延（ナノ秒）
+	 */
+	public long getMaxLatencyNanos() {
+		return this.maxLatencyNanos.get();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 計測値を初期化します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 現在の滞留数以外の計測値を0に戻します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	public void resetMetrics() {
+		this.maxDepth.set(this.depth.get());
+		this.deliveredCount.set(0);
+		this.passCount.set(0);
+		this.totalLatencyNanos.set(0);
+		this.maxLatencyNanos.set(0);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 配送待ちの処理と投入時刻の組です。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static final class Entry {
+
+		/** 配送処理です。 */
+		private final Runnable task;
+
+		/** 投入時刻（System#nanoTime）です。 */
+		private final long enqueued;
+
+		/**
+		 * <p>[概 要] </p>
+		 * コンストラクタです。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @param task 配送処理
+		 * @param enqueued 投入時刻
+		 */
+		private Entry(Runnable task, long enqueued) {
+			this.task = task;
+			this.enqueued = enqueued;
+		}
+	}
+}
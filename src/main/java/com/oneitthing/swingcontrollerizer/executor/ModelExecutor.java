@@ -0,0 +1,63 @@
+package com.oneitthing.swingcontrollerizer.executor;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * <p>[概 要] </p>
+ * モデルを実行するエクゼキュータの基底I/Fです。
+ *
+ * <p>[詳 細] </p>
+ * BaseControllerが実行する全てのモデル（及びモデルが内部で起動する受信ループ等）は
+ * このI/Fの実装に対してsubmitされます。<br>
+ * 実装クラスは{@link com.oneitthing.swingcontrollerizer.controller.ClientConfig#setModelExecutor(ModelExecutor)}
+ * で差し替えることが出来ます。
+ *
+ * <p>[備 考] </p>
+ * 未設定の場合、{@link ThreadPoolModelExecutor}がデフォルトとして使用されます。
+ *
+ */
+public interface ModelExecutor {
+
+	/**
+	 * <p>[概 要]</p>
+	 * タスクを実行キューに投入します。
+	 *
+	 * <p>[詳 細]</p>
+	 * 実装クラスのスレッド資源上でtaskを実行し、結果を参照するFutureを返却します。
+	 *
+	 * <p>[備 考]</p>
+	 * 実行キューが溢れた場合の挙動は実装クラスの拒否ポリシーに依存します。
+	 *
+	 * @param task 実行するタスク
+	 * @return タスクの実行結果を参照するFuture
+	 * @throws RejectedExecutionException タスクの受付を拒否した場合
+	 */
+	public <T> Future<T> submit(Callable<T> task);
+
+	/**
+	 * <p>[概 要]</p>
+	 * エクゼキュータを終了します。
+	 *
+	 * <p>[詳 細]</p>
+	 * 新規タスクの受付を停止し、実行中のタスクの終了を待機した後、スレッド資源を解放します。
+	 *
+	 * <p>[備 考]</p>
+	 * AbstractController#shutdown()からコールされます。
+	 *
+	 */
+	public void shutdown();
+
+	/**
+	 * <p>[概 要]</p>
+	 * エクゼキュータが終了しているかどうかを返却します。
+	 *
+	 * <p>[詳 細]</p>
+	 *
+	 * <p>[備 考]</p>
+	 *
+	 * @return 終了済みの場合true
+	 */
+	public boolean isShutdown();
+}
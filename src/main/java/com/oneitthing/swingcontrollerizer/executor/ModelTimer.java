@@ -0,0 +1,81 @@
+package com.oneitthing.swingcontrollerizer.executor;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>[概 要] </p>
+ * モデルのタイムアウトを監視するタイマです。
+ *
+ * <p>[詳 細] </p>
+ * 一本のデーモンスレッドで、全モデルのタイムアウト処理を予約実行します。<br>
+ * 予約は取り消されると即座にキューから削除される為、
+ * 時間内に終了したモデルの予約がキューに残り続けることは有りません。
+ *
+ * <p>[備 考] </p>
+ * インスタンスは{@link com.oneitthing.swingcontrollerizer.controller.ClientConfig#getModelTimer()}で取得します。
+ *
+ */
+public class ModelTimer {
+
+	/** タイマスレッド名です。 */
+	private static final String THREAD_NAME = "swing-controllerizer-model-timer";
+
+	/** 実体となるスケジューラです。 */
+	private final ScheduledThreadPoolExecutor scheduler;
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	public ModelTimer() {
+		this.scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, THREAD_NAME);
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		this.scheduler.setRemoveOnCancelPolicy(true);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 処理を予約します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 引数delayミリ秒後にtaskを実行します。
+	 *
+	 * <p>[備 考] </p>
+	 * 予約した処理は戻り値のcancelで取り消して下さい。
+	 *
+	 * @param task 実行する処理
+	 * @param delay 実行までの時間（ミリ秒）
+	 * @return 予約
+	 */
+	public Future<?> schedule(Runnable task, long delay) {
+		return this.scheduler.schedule(task, Math.max(delay, 0), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * タイマを終了します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 予約済みの処理は実行されません。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	public void shutdown() {
+		this.scheduler.shutdownNow();
+	}
+}
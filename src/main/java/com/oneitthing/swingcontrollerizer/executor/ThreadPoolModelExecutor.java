@@ -0,0 +1,270 @@
+package com.oneitthing.swingcontrollerizer.executor;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>[概 要] </p>
+ * 上限付きの共有スレッドプールでモデルを実行するデフォルトエクゼキュータです。
+ *
+ * <p>[詳 細] </p>
+ * 最大poolSize本のワーカスレッドと、最大queueCapacity件の実行待ちキューを持ちます。<br>
+ * 全ワーカが使用中、かつキューが満杯の場合は拒否ポリシーに従って処理します。
+ * <ul>
+ *   <li>{@link #REJECT_ABORT} RejectedExecutionExceptionをスローします</li>
+ *   <li>{@link #REJECT_CALLER_RUNS} submitを呼び出したスレッドでそのまま実行します</li>
+ *   <li>{@link #REJECT_WAIT} キューに空きが出来るまでsubmitを呼び出したスレッドを待機させます</li>
+ * </ul>
+ * ワーカスレッドはデーモンスレッドで、keepAliveTime（ミリ秒）アイドル状態が続くと回収されます。
+ *
+ * <p>[備 考] </p>
+ * submitは通常イベントディスパッチスレッドから呼ばれる為、
+ * REJECT_CALLER_RUNS、REJECT_WAITを選択する場合は画面が応答を停止し得ることに留意して下さい。
+ *
+ * <b>使用例）</b><br>
+ * <pre class="samplecode">
+ *	protected void initialize(ClientConfig config){
+ *		config.setModelExecutor(
+ *			new ThreadPoolModelExecutor(16, 256, ThreadPoolModelExecutor.REJECT_ABORT));
+ *	}
+ * </pre>
+ *
+ */
+public class ThreadPoolModelExecutor implements ModelExecutor {
+
+	/** キュー満杯時にRejectedExecutionExceptionをスローする拒否ポリシーです。 */
+	public static final int REJECT_ABORT = 0;
+
+	/** キュー満杯時に呼び出し元スレッドで実行する拒否ポリシーです。 */
+	public static final int REJECT_CALLER_RUNS = 1;
+
+	/** キュー満杯時に空きが出来るまで呼び出し元スレッドを待機させる拒否ポリシーです。 */
+	public static final int REJECT_WAIT = 2;
+
+	/** ワーカスレッド名の接頭辞です。 */
+	private static final String THREAD_NAME_PREFIX = "swing-controllerizer-model-";
+
+	/** 実体となるスレッドプールです。 */
+	private final ThreadPoolExecutor executor;
+
+	/** shutdown時に実行中タスクの終了を待機する最大時間（ミリ秒）です。 */
+	private long shutdownTimeout = 5000;
+
+	/**
+	 * <p>[概 要] </p>
+	 * 拒否ポリシーにREJECT_ABORTを使用するコンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param poolSize 最大ワーカスレッド数
+	 * @param queueCapacity 実行待ちキューの最大件数
+	 */
+	public ThreadPoolModelExecutor(int poolSize, int queueCapacity) {
+		this(poolSize, queueCapacity, REJECT_ABORT);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 * ワーカスレッドは要求に応じてpoolSize本まで生成され、60秒アイドルで回収されます。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param poolSize 最大ワーカスレッド数
+	 * @param queueCapacity 実行待ちキューの最大件数
+	 * @param rejectionPolicy 拒否ポリシー（REJECT_ABORT、REJECT_CALLER_RUNS、REJECT_WAIT）
+	 */
+	public ThreadPoolModelExecutor(int poolSize, int queueCapacity, int rejectionPolicy) {
+		this.executor = new ThreadPoolExecutor(
+				poolSize,
+				poolSize,
+				60L,
+				TimeUnit.SECONDS,
+				new ArrayBlockingQueue<Runnable>(queueCapacity),
+				new ModelThreadFactory(),
+				createRejectedExecutionHandler(rejectionPolicy));
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * shutdown時に実行中タスクの終了を待機する最大時間を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 待機する最大時間（ミリ秒）
+	 */
+	public long getShutdownTimeout() {
+		return shutdownTimeout;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * shutdown時に実行中タスクの終了を待機する最大時間を設定します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param shutdownTimeout 待機する最大時間（ミリ秒）
+	 */
+	public void setShutdownTimeout(long shutdownTimeout) {
+		this.shutdownTimeout = shutdownTimeout;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 実行中のワーカスレッド数を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 実行中のワーカスレッド数
+	 */
+	public int getActiveCount() {
+		return this.executor.getActiveCount();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 実行待ちキューに滞留しているタスク数を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 実行待ちタスク数
+	 */
+	public int getQueuedCount() {
+		return this.executor.getQueue().size();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * タスクをスレッドプールに投入します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link ModelExecutor#submit(Callable)}を実装します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param task 実行するタスク
+	 * @return タスクの実行結果を参照するFuture
+	 */
+	@Override
+	public <T> Future<T> submit(Callable<T> task) {
+		return this.executor.submit(task);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * スレッドプールを終了します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 新規タスクの受付を停止し、shutdownTimeoutミリ秒まで実行中タスクの終了を待機します。<br>
+	 * 時間内に終了しなかったタスクには割込みを掛けます。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	@Override
+	public void shutdown() {
+		this.executor.shutdown();
+		try {
+			if (!this.executor.awaitTermination(getShutdownTimeout(), TimeUnit.MILLISECONDS)) {
+				this.executor.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			this.executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * スレッドプールが終了しているかどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 終了済みの場合true
+	 */
+	@Override
+	public boolean isShutdown() {
+		return this.executor.isShutdown();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 拒否ポリシー定数に対応するRejectedExecutionHandlerを生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param rejectionPolicy 拒否ポリシー
+	 * @return RejectedExecutionHandler
+	 */
+	private static RejectedExecutionHandler createRejectedExecutionHandler(int rejectionPolicy) {
+		switch (rejectionPolicy) {
+		case REJECT_CALLER_RUNS:
+			return new ThreadPoolExecutor.CallerRunsPolicy();
+		case REJECT_WAIT:
+			return new RejectedExecutionHandler() {
+				@Override
+				public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+					if (executor.isShutdown()) {
+						throw new RejectedExecutionException("model executor has been shut down");
+					}
+					BlockingQueue<Runnable> queue = executor.getQueue();
+					try {
+						queue.put(r);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new RejectedExecutionException(e);
+					}
+				}
+			};
+		default:
+			return new ThreadPoolExecutor.AbortPolicy();
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * モデル実行用のデーモンスレッドを生成するファクトリです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static class ModelThreadFactory implements ThreadFactory {
+
+		/** スレッド連番です。 */
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread thread = new Thread(r, THREAD_NAME_PREFIX + this.threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,232 @@
+package com.oneitthing.swingcontrollerizer.executor;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>[概 要] </p>
+ * モデル毎に仮想スレッドを割り当てて実行するエクゼキュータです。
+ *
+ * <p>[詳 細] </p>
+ * 実行中のJVMがExecutors#newVirtualThreadPerTaskExecutor()を提供している場合、
+ * 各モデルのcall()を個別の仮想スレッド上で実行します。<br>
+ * HTTPRequestCore、DatabaseCore、EJBProxyCore、SocketSendCore、SocketRecieveCoreの受信ループ等、
+ * I/O待ちが大半を占めるモデルを、OSスレッドを消費せずに大量に並行実行することが出来ます。<p>
+ *
+ * 仮想スレッドを提供しないJVM（Java11等）では、コンストラクタで渡された
+ * プラットフォームスレッドのエクゼキュータにフォールバックします。
+ *
+ * <p>[備 考] </p>
+ * フレームワークはJava11をターゲットにビルドされる為、仮想スレッドAPIはリフレクションで解決します。<br>
+ * 通常は{@link com.oneitthing.swingcontrollerizer.controller.ClientConfig#setUseVirtualThreads(boolean)}
+ * で有効化して下さい。
+ *
+ * <b>使用例）</b><br>
+ * <pre class="samplecode">
+ *	protected void initialize(ClientConfig config){
+ *		config.setUseVirtualThreads(true);
+ *	}
+ * </pre>
+ *
+ */
+public class VirtualThreadModelExecutor implements ModelExecutor {
+
+	/** 仮想スレッドエクゼキュータのファクトリメソッド名です。 */
+	private static final String FACTORY_METHOD_NAME = "newVirtualThreadPerTaskExecutor";
+
+	/** 仮想スレッドエクゼキュータのファクトリメソッドです。JVMが未対応の場合はnullです。 */
+	private static final Method FACTORY_METHOD = lookupFactoryMethod();
+
+	/** 仮想スレッドエクゼキュータです。フォールバック時はnullです。 */
+	private final ExecutorService virtualExecutor;
+
+	/** 仮想スレッド未対応時に使用するエクゼキュータです。 */
+	private final ModelExecutor fallbackExecutor;
+
+	/** shutdown時に実行中タスクの終了を待機する最大時間（ミリ秒）です。 */
+	private long shutdownTimeout = 5000;
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 * 仮想スレッドが利用可能であれば仮想スレッドエクゼキュータを生成します。<br>
+	 * 利用出来ない場合はfallbackExecutorに全タスクを委譲します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param fallbackExecutor 仮想スレッド未対応時に使用するエクゼキュータ
+	 */
+	public VirtualThreadModelExecutor(ModelExecutor fallbackExecutor) {
+		this.virtualExecutor = createVirtualExecutor();
+		this.fallbackExecutor = fallbackExecutor;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 実行中のJVMが仮想スレッドを提供しているかどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 仮想スレッドが利用可能な場合true
+	 */
+	public static boolean isVirtualThreadSupported() {
+		return FACTORY_METHOD != null;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * このエクゼキュータが仮想スレッドで実行しているかどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 仮想スレッドで実行している場合true、フォールバック中の場合false
+	 */
+	public boolean isVirtual() {
+		return this.virtualExecutor != null;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * shutdown時に実行中タスクの終了を待機する最大時間を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 待機する最大時間（ミリ秒）
+	 */
+	public long getShutdownTimeout() {
+		return shutdownTimeout;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * shutdown時に実行中タスクの終了を待機する最大時間を設定します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param shutdownTimeout 待機する最大時間（ミリ秒）
+	 */
+	public void setShutdownTimeout(long shutdownTimeout) {
+		this.shutdownTimeout = shutdownTimeout;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * タスクを仮想スレッド、もしくはフォールバックエクゼキュータで実行します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link ModelExecutor#submit(Callable)}を実装します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param task 実行するタスク
+	 * @return タスクの実行結果を参照するFuture
+	 */
+	@Override
+	public <T> Future<T> submit(Callable<T> task) {
+		if (isVirtual()) {
+			return this.virtualExecutor.submit(task);
+		}
+		return this.fallbackExecutor.submit(task);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * エクゼキュータを終了します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 新規タスクの受付を停止し、shutdownTimeoutミリ秒まで実行中タスクの終了を待機します。<br>
+	 * 時間内に終了しなかったタスクには割込みを掛けます。
+	 * フォールバックエクゼキュータも併せて終了します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	@Override
+	public void shutdown() {
+		if (isVirtual()) {
+			this.virtualExecutor.shutdown();
+			try {
+				if (!this.virtualExecutor.awaitTermination(getShutdownTimeout(), TimeUnit.MILLISECONDS)) {
+					this.virtualExecutor.shutdownNow();
+				}
+			} catch (InterruptedException e) {
+				this.virtualExecutor.shutdownNow();
+				Thread.currentThread().interrupt();
+			}
+		}
+		this.fallbackExecutor.shutdown();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * エクゼキュータが終了しているかどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 終了済みの場合true
+	 */
+	@Override
+	public boolean isShutdown() {
+		if (isVirtual()) {
+			return this.virtualExecutor.isShutdown();
+		}
+		return this.fallbackExecutor.isShutdown();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 仮想スレッドエクゼキュータを生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 仮想スレッドエクゼキュータ、JVMが未対応の場合はnull
+	 */
+	private static ExecutorService createVirtualExecutor() {
+		if (FACTORY_METHOD == null) {
+			return null;
+		}
+		try {
+			return (ExecutorService) FACTORY_METHOD.invoke(null);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 仮想スレッドエクゼキュータのファクトリメソッドを検索します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return ファクトリメソッド、JVMが未対応の場合はnull
+	 */
+	private static Method lookupFactoryMethod() {
+		try {
+			return Executors.class.getMethod(FACTORY_METHOD_NAME);
+		} catch (NoSuchMethodException e) {
+			return null;
+		} catch (SecurityException e) {
+			return null;
+		}
+	}
+}
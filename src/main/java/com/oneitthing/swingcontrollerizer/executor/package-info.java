@@ -0,0 +1,4 @@
+/**
+ * モデルを実行するスレッド資源の管理クラスが含まれるパッケージです。
+ */
+package com.oneitthing.swingcontrollerizer.executor;
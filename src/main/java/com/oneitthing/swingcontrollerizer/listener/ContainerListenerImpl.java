@@ -6,6 +6,7 @@ import java.awt.event.ContainerEvent;
 import java.awt.event.ContainerListener;
 
 import com.oneitthing.swingcontrollerizer.controller.AbstractController;
+import com.oneitthing.swingcontrollerizer.util.ComponentNameIndex;
 
 /**
  * <p>[概 要] </p>
@@ -83,7 +84,8 @@ public class ContainerListenerImpl implements ContainerListener {
 	 * <p>[詳 細] </p>
 	 * {@link ContainerListener#componentAdded(ContainerEvent)}を実装します。<br>
 	 * コンポーネント追加イベントから追加されたコンポーネントを取り出し、<br>
-	 * {@link #searchComponent(Component)}を呼び出して子孫コンポーネントを走査します。
+	 * {@link #searchComponent(Component)}を呼び出して子孫コンポーネントを走査します。<br>
+	 * 追加されたコンポーネントはウィンドウの{@link ComponentNameIndex}にも反映します。
 	 *
 	 * <p>[備 考] </p>
 	 *
@@ -93,6 +95,7 @@ public class ContainerListenerImpl implements ContainerListener {
 	public void componentAdded(ContainerEvent e) {
 		// 追加されたコンポーネント
 		Component addedComponent = e.getChild();
+		ComponentNameIndex.componentAdded(e.getContainer(), addedComponent);
 		// 追加されたコンポーネント内に含まれるコンポーネントを全検出
 		searchComponent(addedComponent);
 	}
@@ -143,7 +146,7 @@ public class ContainerListenerImpl implements ContainerListener {
 	 * コンポーネント削除イベントハンドラ実装です。
 	 *
 	 * <p>[詳 細] </p>
-	 * 処理は有りません。
+	 * 削除されたコンポーネントをウィンドウの{@link ComponentNameIndex}から取り除きます。
 	 *
 	 * <p>[備 考] </p>
 	 *
@@ -151,5 +154,6 @@ public class ContainerListenerImpl implements ContainerListener {
 	 */
 	@Override
 	public void componentRemoved(ContainerEvent e) {
+		ComponentNameIndex.componentRemoved(e.getContainer(), e.getChild());
 	}
 }
@@ -2,13 +2,22 @@ package com.oneitthing.swingcontrollerizer.manager;
 
 import java.awt.AWTEvent;
 import java.awt.Dimension;
+import java.awt.KeyboardFocusManager;
 import java.awt.Point;
 import java.awt.Toolkit;
 import java.awt.Window;
 import java.awt.event.AWTEventListener;
 import java.awt.event.WindowEvent;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import com.oneitthing.swingcontrollerizer.listener.WindowOpenShutListener;
 
@@ -18,15 +27,20 @@ import com.oneitthing.swingcontrollerizer.listener.WindowOpenShutListener;
  *
  * <p>[詳 細] </p>
  * AWTEventListenerを使用してアプリケーション全体のウィンドウ開閉を監視します。<br>
- * オープンされたウィンドウはwindowListフィールドでインスタンス管理され、
- * クローズされたウィンドウはwindoListからインスタンスが削除されます。
+ * オープンされたウィンドウは管理ウィンドウとして登録され、
+ * クローズされたウィンドウは登録が削除されます。
  * <p>
  *
- * windowListフィールドが持つウィンドウインスタンスを基に、
+ * 管理ウィンドウを基に、
  * ウィンドウの多重起動制御、アクティブウィンドウの取得、指定された名前を持つ
- * ウィンドウの取得等を行います。
+ * ウィンドウの取得等を行います。<br>
+ * 管理ウィンドウは名前毎に索引されており、名前による取得はウィンドウ数に依らず一定時間で行われます。
  *
  * <p>[備 考] </p>
+ * 管理ウィンドウの登録、削除、参照は任意のスレッドから行えます。<br>
+ * 管理ウィンドウは弱参照で保持され、クローズされずにdisposeされたウィンドウの解放を妨げません。
+ * <p>
+ *
  *
  * <b>使い方</b></p>
  * <pre class="samplecode">
@@ -54,13 +68,29 @@ public class WindowManager {
 	public static final int BOTTOM = 2;
 
 	/** シングルトンインスタンスです。 */
-	private static WindowManager windowManager;
+	private static volatile WindowManager windowManager;
 
 	/** ウィンドウ開閉リスナのリストです。 */
 	private List<WindowOpenShutListener> listenerList;
 
-	/** 管理しているWindowインスタンスのリストです。 */
-	private List<Window> windowList;
+	/** 管理ウィンドウの登録、削除、参照を排他するロックです。 */
+	private final Object lock = new Object();
+
+	/** 管理しているWindowインスタンスの、登録順の弱参照リストです。 */
+	private final List<WeakReference<Window>> windows = new ArrayList<WeakReference<Window>>();
+
+	/** 管理しているWindowインスタンスと、索引している名前です。 */
+	private final Map<Window, String> indexedNames = new WeakHashMap<Window, String>();
+
+	/** 名前毎の、管理しているWindowインスタンスの登録順の弱参照リストです。 */
+	private final Map<String, List<WeakReference<Window>>> nameIndex = new HashMap<String, List<WeakReference<Window>>>();
+
+	/** 管理しているWindowインスタンスのname属性変更を監視するリスナです。 */
+	private final PropertyChangeListener nameListener = new PropertyChangeListener() {
+		public void propertyChange(PropertyChangeEvent evt) {
+			renamed((Window)evt.getSource(), (String)evt.getNewValue());
+		}
+	};
 
 
 	/**
@@ -83,14 +113,14 @@ public class WindowManager {
 	 * ウィンドウ開閉リスナのリストを設定します。
 	 *
 	 * <p>[詳 細] </p>
-	 * listenerListフィールドを設定します。
+	 * 引数listenerListの内容をコピーしたスレッドセーフなリストをlistenerListフィールドに設定します。
 	 *
 	 * <p>[備 考] </p>
 	 *
 	 * @param listenerList ウィンドウ開閉リスナのリスト
 	 */
 	public void setListenerList(List<WindowOpenShutListener> listenerList) {
-		this.listenerList = listenerList;
+		this.listenerList = new CopyOnWriteArrayList<WindowOpenShutListener>(listenerList);
 	}
 
 	/**
@@ -98,14 +128,18 @@ public class WindowManager {
 	 * 管理しているWindowインスタンスのリストを返却します。
 	 *
 	 * <p>[詳 細] </p>
-	 * windowListフィールドを返却します。
+	 * 管理しているWindowインスタンスを登録順に格納したスナップショットを返却します。
 	 *
 	 * <p>[備 考] </p>
+	 * 戻り値は呼び出し時点のコピーです。
+	 * 走査中にウィンドウが開閉されても影響を受けず、戻り値の変更は管理ウィンドウに反映されません。
 	 *
 	 * @return 管理しているWindowインスタンスのリスト
 	 */
 	public List<Window> getWindowList() {
-		return windowList;
+		synchronized(this.lock) {
+			return live(this.windows);
+		}
 	}
 
 	/**
@@ -113,14 +147,19 @@ public class WindowManager {
 	 * 管理しているWindowインスタンスのリストを設定します。
 	 *
 	 * <p>[詳 細] </p>
-	 * windowListフィールドを設定します。
+	 * 管理ウィンドウを全て削除後、引数windowListのウィンドウを順に登録します。
 	 *
 	 * <p>[備 考] </p>
 	 *
 	 * @param windowList 管理しているWindowインスタンスのリスト
 	 */
 	public void setWindowList(List<Window> windowList) {
-		this.windowList = windowList;
+		for(Window w : getWindowList()) {
+			unregister(w);
+		}
+		for(Window w : windowList) {
+			register(w);
+		}
 	}
 
 	/**
@@ -128,7 +167,7 @@ public class WindowManager {
 	 * プライベートデフォルトコンストラクタです。
 	 *
 	 * <p>[詳 細] </p>
-	 * listenerListフィールド、windowListフィールドを初期化後、
+	 * listenerListフィールドを初期化後、
 	 * AWTEventListenerを使用してウィンドウの開閉監視を開始します。
 	 *
 	 * 開閉イベントはWindowOpenShutListenerでリッスン中のオブジェクトに通知されます。
@@ -137,20 +176,19 @@ public class WindowManager {
 	 *
 	 */
 	private WindowManager() {
-		this.listenerList = new ArrayList<WindowOpenShutListener>();
-		this.windowList = new ArrayList<Window>();
+		this.listenerList = new CopyOnWriteArrayList<WindowOpenShutListener>();
 
 		Toolkit.getDefaultToolkit().addAWTEventListener(new AWTEventListener(){
 			public void eventDispatched(AWTEvent evt) {
 				if(evt.getID() == WindowEvent.WINDOW_OPENED) {
+					register((Window)evt.getSource());
 					for(WindowOpenShutListener l : listenerList) {
-						windowList.add((Window)evt.getSource());
 						l.windowOpen(evt);
 					}
 				}
 				if(evt.getID() == WindowEvent.WINDOW_CLOSING) {
+					unregister((Window)evt.getSource());
 					for(WindowOpenShutListener l : listenerList) {
-						windowList.remove(evt.getSource());
 						l.windowShut(evt);
 					}
 				}
@@ -166,15 +204,197 @@ public class WindowManager {
 	 * windowManagerフィールドに保存されているインスタンスを返却します。
 	 *
 	 * <p>[備 考] </p>
+	 * 初回呼び出し時にインスタンスを生成します。複数スレッドから同時に呼び出されても生成は一度だけです。
 	 *
 	 * @return WindowManagerインスタンス
 	 */
 	public static WindowManager getInstance() {
-		if(windowManager == null) {
-			windowManager = new WindowManager();
+		WindowManager ret = windowManager;
+		if(ret == null) {
+			synchronized(WindowManager.class) {
+				ret = windowManager;
+				if(ret == null) {
+					ret = new WindowManager();
+					windowManager = ret;
+				}
+			}
+		}
+
+		return ret;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数windowを管理ウィンドウに登録します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 登録順リストと名前索引に追加し、name属性変更の監視を開始します。<br>
+	 * 既に登録されている場合は何もしません。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param window 登録するウィンドウ
+	 */
+	private void register(Window window) {
+		synchronized(this.lock) {
+			if(this.indexedNames.containsKey(window)) {
+				return;
+			}
+			this.windows.add(new WeakReference<Window>(window));
+			this.indexedNames.put(window, window.getName());
+			index(window.getName(), window);
+		}
+		window.addPropertyChangeListener("name", this.nameListener);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数windowを管理ウィンドウから削除します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 登録順リストと名前索引から削除し、name属性変更の監視を終了します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param window 削除するウィンドウ
+	 */
+	private void unregister(Window window) {
+		window.removePropertyChangeListener("name", this.nameListener);
+		synchronized(this.lock) {
+			if(!this.indexedNames.containsKey(window)) {
+				return;
+			}
+			String name = this.indexedNames.remove(window);
+			remove(this.windows, window);
+			unindex(name, window);
 		}
+	}
 
-		return windowManager;
+	/**
+	 * <p>[概 要] </p>
+	 * 管理ウィンドウのname属性変更を名前索引に反映します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 名前索引内の順序は登録順を維持します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param window name属性が変更されたウィンドウ
+	 * @param newName 変更後の名前
+	 */
+	private void renamed(Window window, String newName) {
+		synchronized(this.lock) {
+			if(!this.indexedNames.containsKey(window)) {
+				return;
+			}
+			unindex(this.indexedNames.put(window, newName), window);
+			if(newName == null) {
+				return;
+			}
+			// 登録順を維持する為、同名ウィンドウの索引を登録順リストから作り直す
+			List<WeakReference<Window>> refs = new ArrayList<WeakReference<Window>>();
+			for(Window w : live(this.windows)) {
+				if(newName.equals(this.indexedNames.get(w))) {
+					refs.add(new WeakReference<Window>(w));
+				}
+			}
+			this.nameIndex.put(newName, refs);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数windowを引数nameで名前索引に追加します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 * nameがnullの場合は索引しません。ロックを保持して呼び出して下さい。
+	 *
+	 * @param name ウィンドウ名
+	 * @param window ウィンドウ
+	 */
+	private void index(String name, Window window) {
+		if(name == null) {
+			return;
+		}
+		List<WeakReference<Window>> refs = this.nameIndex.get(name);
+		if(refs == null) {
+			refs = new ArrayList<WeakReference<Window>>(1);
+			this.nameIndex.put(name, refs);
+		}
+		refs.add(new WeakReference<Window>(window));
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数nameの名前索引から引数windowを削除します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 * ロックを保持して呼び出して下さい。
+	 *
+	 * @param name ウィンドウ名
+	 * @param window ウィンドウ
+	 */
+	private void unindex(String name, Window window) {
+		if(name == null) {
+			return;
+		}
+		List<WeakReference<Window>> refs = this.nameIndex.get(name);
+		if(refs != null) {
+			remove(refs, window);
+			if(refs.isEmpty()) {
+				this.nameIndex.remove(name);
+			}
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 弱参照リストから引数windowと、解放済みの参照を削除します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param refs 弱参照リスト
+	 * @param window 削除するウィンドウ
+	 */
+	private static void remove(List<WeakReference<Window>> refs, Window window) {
+		for(Iterator<WeakReference<Window>> it = refs.iterator(); it.hasNext();) {
+			Window w = it.next().get();
+			if(w == null || w == window) {
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 弱参照リストの内、解放されていないウィンドウのリストを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 解放済みの参照は弱参照リストから削除します。
+	 *
+	 * <p>[備 考] </p>
+	 * ロックを保持して呼び出して下さい。
+	 *
+	 * @param refs 弱参照リスト
+	 * @return 解放されていないウィンドウのリスト
+	 */
+	private static List<Window> live(List<WeakReference<Window>> refs) {
+		List<Window> ret = new ArrayList<Window>(refs.size());
+		for(Iterator<WeakReference<Window>> it = refs.iterator(); it.hasNext();) {
+			Window w = it.next().get();
+			if(w == null) {
+				it.remove();
+			} else {
+				ret.add(w);
+			}
+		}
+		return ret;
 	}
 
 	/**
@@ -213,8 +433,8 @@ public class WindowManager {
 	 *
 	 * <p>[詳 細] </p>
 	 * 引数windowをsetVisible(true)します。<br>
-	 * 引数duplicateがfalse指定されており、既に同名のウィンドウがwindowListで
-	 * 管理されていた場合、既存ウィンドウに対してsetVisible(true)を行います。<br>
+	 * 引数duplicateがfalse指定されており、既に同名のウィンドウが管理ウィンドウとして
+	 * 登録されていた場合、既存ウィンドウに対してsetVisible(true)を行います。<br>
 	 * その際、引数windowはdispose()されます。
 	 *
 	 * <p>[備 考] </p>
@@ -326,28 +546,26 @@ public class WindowManager {
 	 * 引数windowNameを持つウィンドウインスタンスを返却します。
 	 *
 	 * <p>[詳 細] </p>
-	 * 管理ウィンドウリストwindowListフィールドから、windowNameが
-	 * setNameされているウィンドウを探し、返却します。<br>
+	 * 管理ウィンドウの名前索引から、windowNameが
+	 * setNameされているウィンドウを返却します。<br>
 	 * 見つからなかった場合はnullを返却します。
 	 *
 	 * <p>[備 考] </p>
 	 * 同名のウィンドウが複数存在する場合、
-	 * 最初に検出されたウィンドウが返却されます。
+	 * 最初に登録されたウィンドウが返却されます。
 	 *
 	 * @param windowName 取得するウィンドウの名前
 	 * @return windowNameを名前として持つウィンドウ
 	 */
 	public Window getWindowByName(String windowName) {
-		Window ret = null;
-
-		for(Window w : this.windowList) {
-			if(windowName.equals(w.getName())) {
-				ret = w;
-				break;
+		synchronized(this.lock) {
+			List<WeakReference<Window>> refs = this.nameIndex.get(windowName);
+			if(refs == null) {
+				return null;
 			}
+			List<Window> ret = live(refs);
+			return ret.isEmpty() ? null : ret.get(0);
 		}
-
-		return ret;
 	}
 
 	/**
@@ -355,8 +573,8 @@ public class WindowManager {
 	 * 引数windowNameを持つ全てのウィンドウインスタンスを返却します。
 	 *
 	 * <p>[詳 細] </p>
-	 * 管理ウィンドウリストwindowListフィールドから、windowNameが
-	 * setNameされている全てのウィンドウを探し、返却します。<br>
+	 * 管理ウィンドウの名前索引から、windowNameが
+	 * setNameされている全てのウィンドウを登録順に返却します。<br>
 	 * 見つからなかった場合は空のWindow配列を返却します。
 	 *
 	 * <p>[備 考] </p>
@@ -367,9 +585,10 @@ public class WindowManager {
 	public Window[] getWindowsByName(String windowName) {
 		List<Window> ret = new ArrayList<Window>();
 
-		for(Window w : this.windowList) {
-			if(windowName.equals(w.getName())) {
-				ret.add(w);
+		synchronized(this.lock) {
+			List<WeakReference<Window>> refs = this.nameIndex.get(windowName);
+			if(refs != null) {
+				ret = live(refs);
 			}
 		}
 
@@ -382,7 +601,7 @@ public class WindowManager {
 	 *
 	 * <p>[詳 細] </p>
 	 * 引数windowと同じ名前がsetNameされているウィンドウがあるか、
-	 * windowListフィールドを調べます。
+	 * 管理ウィンドウの名前索引を調べます。
 	 *
 	 * <p>[備 考] </p>
 	 *
@@ -399,7 +618,7 @@ public class WindowManager {
 	 *
 	 * <p>[詳 細] </p>
 	 * 引数windowNameと同じ名前がsetNameされているウィンドウがあるか、
-	 * windowListフィールドを調べます。
+	 * 管理ウィンドウの名前索引を調べます。
 	 *
 	 * <p>[備 考] </p>
 	 *
@@ -407,16 +626,7 @@ public class WindowManager {
 	 * @return true：既管理、false：未管理
 	 */
 	public boolean existSameNameWindow(String windowName) {
-		boolean ret = false;
-
-		for(Window w : this.windowList) {
-			if(windowName.equals(w.getName())) {
-				ret = true;
-				break;
-			}
-		}
-
-		return ret;
+		return getWindowByName(windowName) != null;
 	}
 
 	/**
@@ -424,8 +634,7 @@ public class WindowManager {
 	 * 管理中ウィンドウの中から、現在アクティブであるウィンドウを返却します。
 	 *
 	 * <p>[詳 細] </p>
-	 * windowListフィールドの中から、isActiveメソッドがtrueであるウィンドウを
-	 * 探して返却します。<br>
+	 * KeyboardFocusManagerのアクティブウィンドウが管理ウィンドウであれば返却します。<br>
 	 * アクティブなウィンドウが存在しない場合はnullを返却します。
 	 *
 	 * <p>[備 考] </p>
@@ -433,16 +642,13 @@ public class WindowManager {
 	 * @return アクティブなウィンドウ
 	 */
 	public Window searchActiveWindow() {
-		Window ret = null;
-
-		List<Window> windows = getWindowList();
-		for(Window window : windows) {
-			if(window.isActive()) {
-				ret = window;
-				break;
-			}
+		Window active = KeyboardFocusManager.getCurrentKeyboardFocusManager().getActiveWindow();
+		if(active == null) {
+			return null;
 		}
 
-		return ret;
+		synchronized(this.lock) {
+			return this.indexedNames.containsKey(active) ? active : null;
+		}
 	}
 }
@@ -0,0 +1,320 @@
+package com.oneitthing.swingcontrollerizer.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.ReflectionException;
+
+/**
+ * <p>[概 要] </p>
+ * 一つのアクションクラス、又はモデルクラスの計測値を保持するクラスです。
+ *
+ * <p>[詳 細] </p>
+ * 計測フェーズ毎に、処理時間のヒストグラムとエラー件数を保持します。<br>
+ * JMXのMBeanとして、フェーズ毎に以下の属性を公開します。
+ * <ul>
+ *   <li>&lt;フェーズ&gt;Count : 記録件数</li>
+ *   <li>&lt;フェーズ&gt;Errors : エラー件数</li>
+ *   <li>&lt;フェーズ&gt;ErrorRate : エラー率（0～1）</li>
+ *   <li>&lt;フェーズ&gt;MeanMillis、P50Millis、P90Millis、P99Millis、MaxMillis : 処理時間（ミリ秒）</li>
+ * </ul>
+ * resetオペレーションで計測値を初期化出来ます。
+ *
+ * <p>[備 考] </p>
+ * インスタンスは{@link MetricsRegistry}が生成します。
+ *
+ */
+public class ClassMetrics implements DynamicMBean {
+
+	/** 属性名のフェーズ名に続く接尾辞です。 */
+	private static final String[] SUFFIXES = {
+		"Count", "Errors", "ErrorRate", "MeanMillis", "P50Millis", "P90Millis", "P99Millis", "MaxMillis"
+	};
+
+	/** 計測対象のクラスです。 */
+	private final Class<?> owner;
+
+	/** 公開するフェーズです。 */
+	private final int[] phases;
+
+	/** フェーズ毎の処理時間ヒストグラムです。 */
+	private final LatencyHistogram[] histograms = new LatencyHistogram[MetricsRegistry.PHASE_COUNT];
+
+	/** フェーズ毎のエラー件数です。 */
+	private final LongAdder[] errors = new LongAdder[MetricsRegistry.PHASE_COUNT];
+
+	/** MBean情報です。 */
+	private final MBeanInfo info;
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param owner 計測対象のクラス
+	 * @param phases 公開するフェーズ
+	 */
+	ClassMetrics(Class<?> owner, int[] phases) {
+		this.owner = owner;
+		this.phases = phases;
+		for (int i = 0; i < MetricsRegistry.PHASE_COUNT; i++) {
+			this.histograms[i] = new LatencyHistogram();
+			this.errors[i] = new LongAdder();
+		}
+		List<MBeanAttributeInfo> attributes = new ArrayList<MBeanAttributeInfo>();
+		for (int phase : phases) {
+			String name = MetricsRegistry.getPhaseName(phase);
+			for (String suffix : SUFFIXES) {
+				String type = suffix.equals("Count") || suffix.equals("Errors") ? "long" : "double";
+				attributes.add(new MBeanAttributeInfo(name + suffix, type, name + " " + suffix, true, false, false));
+			}
+		}
+		this.info = new MBeanInfo(getClass().getName(), owner.getName(),
+				attributes.toArray(new MBeanAttributeInfo[attributes.size()]), null,
+				new MBeanOperationInfo[] {
+					new MBeanOperationInfo("reset", "reset all metrics", null, "void", MBeanOperationInfo.ACTION)
+				}, null);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 計測対象のクラスを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 計測対象のクラス
+	 */
+	public Class<?> getOwner() {
+		return this.owner;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 処理時間を記録します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param phase 計測フェーズ
+	 * @param nanos 処理時間（ナノ秒）
+	 * @param error エラーで終了した場合true
+	 */
+	void record(int phase, long nanos, boolean error) {
+		this.histograms[phase].record(nanos);
+		if (error) {
+			this.errors[phase].increment();
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数phaseの処理時間ヒストグラムを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param phase 計測フェーズ
+	 * @return 処理時間ヒストグラム
+	 */
+	public LatencyHistogram getHistogram(int phase) {
+		return this.histograms[phase];
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数phaseのエラー件数を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param phase 計測フェーズ
+	 * @return エラー件数
+	 */
+	public long getErrors(int phase) {
+		return this.errors[phase].sum();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 計測値を初期化します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	public void reset() {
+		for (int i = 0; i < MetricsRegistry.PHASE_COUNT; i++) {
+			this.histograms[i].reset();
+			this.errors[i].reset();
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 属性値を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 属性名をフェーズ名と接尾辞に分解して、該当する計測値を返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param attribute 属性名
+	 * @return 属性値
+	 * @throws AttributeNotFoundException 属性が存在しない場合
+	 */
+	@Override
+	public Object getAttribute(String attribute) throws AttributeNotFoundException {
+		for (int phase : this.phases) {
+			String name = MetricsRegistry.getPhaseName(phase);
+			if (!attribute.startsWith(name)) {
+				continue;
+			}
+			String suffix = attribute.substring(name.length());
+			LatencyHistogram histogram = this.histograms[phase];
+			switch (suffix) {
+			case "Count": return histogram.getCount();
+			case "Errors": return getErrors(phase);
+			case "ErrorRate":
+				long count = histogram.getCount();
+				return count == 0 ? 0d : (double)getErrors(phase) / count;
+			case "MeanMillis": return toMillis(histogram.getMean());
+			case "P50Millis": return toMillis(histogram.getPercentile(50));
+			case "P90Millis": return toMillis(histogram.getPercentile(90));
+			case "P99Millis": return toMillis(histogram.getPercentile(99));
+			case "MaxMillis": return toMillis(histogram.getMax());
+			default: break;
+			}
+		}
+		throw new AttributeNotFoundException(attribute);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * ナノ秒をミリ秒に変換します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param nanos ナノ秒
+	 * @return ミリ秒
+	 */
+	private static double toMillis(long nanos) {
+		return nanos / 1000000d;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 属性値を設定します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 全ての属性は読み取り専用の為、常に例外を発生させます。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param attribute 属性
+	 * @throws AttributeNotFoundException 常に発生
+	 */
+	@Override
+	public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+		throw new AttributeNotFoundException(attribute.getName() + " is read-only");
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 複数の属性値を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 * 存在しない属性は無視します。
+	 *
+	 * @param attributes 属性名
+	 * @return 属性値リスト
+	 */
+	@Override
+	public AttributeList getAttributes(String[] attributes) {
+		AttributeList list = new AttributeList();
+		for (String attribute : attributes) {
+			try {
+				list.add(new Attribute(attribute, getAttribute(attribute)));
+			} catch (AttributeNotFoundException e) {
+				// 存在しない属性は返却しない
+			}
+		}
+		return list;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 複数の属性値を設定します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 全ての属性は読み取り専用の為、何も設定しません。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param attributes 属性リスト
+	 * @return 空の属性リスト
+	 */
+	@Override
+	public AttributeList setAttributes(AttributeList attributes) {
+		return new AttributeList();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * オペレーションを実行します。
+	 *
+	 * <p>[詳 細] </p>
+	 * resetオペレーションのみ提供します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param actionName オペレーション名
+	 * @param params 引数
+	 * @param signature 引数型
+	 * @return null
+	 * @throws ReflectionException オペレーションが存在しない場合
+	 */
+	@Override
+	public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+		if ("reset".equals(actionName)) {
+			reset();
+			return null;
+		}
+		throw new ReflectionException(new NoSuchMethodException(actionName));
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * MBean情報を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return MBean情報
+	 */
+	@Override
+	public MBeanInfo getMBeanInfo() {
+		return this.info;
+	}
+}
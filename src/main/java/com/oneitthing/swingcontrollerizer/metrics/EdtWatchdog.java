@@ -0,0 +1,719 @@
+package com.oneitthing.swingcontrollerizer.metrics;
+
+import java.awt.Component;
+import java.awt.EventQueue;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * <p>[概 要] </p>
+ * イベントディスパッチスレッドの停滞を検出するクラスです。
+ *
+ * <p>[詳 細] </p>
+ * handlerFacadeからのアクション実行と、BaseModel#fire*によるモデル処理イベントの配送を
+ * 一つのディスパッチとして処理時間を計測します。<br>
+ * 監視スレッドは採取間隔毎に実行中のディスパッチを確認し、閾値を超えている場合は
+ * イベントディスパッチスレッドのスタックトレースを採取します。<br>
+ * 閾値を超えたディスパッチが終了すると、アクションクラス名、コンポーネント名、採取したスタックトレースを
+ * {@link StallReport}として{@link StallSink}に報告します。<br>
+ * モーダルダイアログ等の二次イベントループで待機している時間は処理時間に含めません。
+ * 二次イベントループ中のディスパッチは、入れ子のディスパッチとして個別に計測します。
+ * 二次イベントループは、イベントディスパッチスレッドのスタック上のイベントループの数で判定する為、
+ * アクション内からのdoClick、dispatchEvent等による入れ子のディスパッチは待機として扱いません。<br>
+ * JMXが有効な場合、計数値は
+ * 「com.oneitthing.swingcontrollerizer:type=EdtWatchdog,registry=&lt;名前&gt;」
+ * のMBeanとしてプラットフォームMBeanサーバに登録されます。
+ *
+ * <p>[備 考] </p>
+ * インスタンスは{@link com.oneitthing.swingcontrollerizer.controller.ClientConfig#getEdtWatchdog()}で取得します。<br>
+ * 監視スレッドは最初のディスパッチで開始されます。<br>
+ * {@link #enter(Class, Component, Class, String)}、{@link #exit()}はイベントディスパッチスレッド以外から
+ * コールされた場合、何もしません。
+ *
+ */
+public class EdtWatchdog implements EdtWatchdogMBean {
+
+	/** 監視スレッド名です。 */
+	private static final String THREAD_NAME = "swing-controllerizer-edt-watchdog";
+
+	/** 一ディスパッチで採取するスタックトレースの上限数です。 */
+	private static final int MAX_SAMPLES = 32;
+
+	/** MBeanのドメイン名です。 */
+	private static final String JMX_DOMAIN = "com.oneitthing.swingcontrollerizer";
+
+	/** イベントループ一回分のイベント取り出しを行うクラス名です。 */
+	private static final String PUMP_CLASS = "java.awt.EventDispatchThread";
+
+	/** イベントループ一回分のイベント取り出しを行うメソッド名です。 */
+	private static final String PUMP_METHOD = "pumpOneEventForFilters";
+
+	/** 停滞報告、報告先の例外を出力するロガーです。 */
+	private static final Logger LOGGER = Logger.getLogger(EdtWatchdog.class.getName());
+
+	/** 監視を行わないウォッチドッグです。コントローラ外で実行されるモデルが使用します。 */
+	public static final EdtWatchdog DISABLED = new EdtWatchdog(0, 0, null);
+
+	/** 停滞と見做す閾値（ナノ秒）です。0以下の場合は監視しません。 */
+	private volatile long thresholdNanos;
+
+	/** スタックトレースの採取間隔（ミリ秒）です。 */
+	private final long sampleInterval;
+
+	/** 停滞の報告先です。 */
+	private volatile StallSink sink = new StallSink() {
+		@Override
+		public void stalled(StallReport report) {
+			if (LOGGER.isLoggable(Level.FINE)) {
+				LOGGER.fine(report.toString());
+			}
+		}
+	};
+
+	/** 実行中の最も内側のディスパッチです。 */
+	private volatile Dispatch current;
+
+	/** ディスパッチの入れ子の深さです。イベントディスパッチスレッドのみが操作します。 */
+	private int depth;
+
+	/** 監視スレッドです。 */
+	private ScheduledThreadPoolExecutor sampler;
+
+	/** 監視を終了したかどうかです。 */
+	private boolean shutdown;
+
+	/** 監視したディスパッチ数です。 */
+	private final LongAdder dispatchCount = new LongAdder();
+
+	/** 閾値を超えたディスパッチ数です。 */
+	private final LongAdder stallCount = new LongAdder();
+
+	/** 閾値を超えたディスパッチの処理時間合計（ナノ秒）です。 */
+	private final LongAdder totalStallNanos = new LongAdder();
+
+	/** ディスパッチの最大処理時間（ナノ秒）です。 */
+	private final AtomicLong maxDispatchNanos = new AtomicLong();
+
+	/** 登録したMBean名です。 */
+	private ObjectName registered;
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 * jmxNameが指定された場合、MBeanとして登録します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param threshold 停滞と見做す閾値（ミリ秒）、0以下の場合は監視しない
+	 * @param sampleInterval スタックトレースの採取間隔（ミリ秒）
+	 * @param jmxName JMXに登録する際のレジストリ名、JMXに登録しない場合はnull
+	 */
+	public EdtWatchdog(long threshold, long sampleInterval, String jmxName) {
+		this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(threshold);
+		this.sampleInterval = Math.max(sampleInterval, 1);
+		if (jmxName != null) {
+			try {
+				ObjectName name = new ObjectName(JMX_DOMAIN + ":type=EdtWatchdog,registry=" + ObjectName.quote(jmxName));
+				ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+				this.registered = name;
+			} catch (JMException e) {
+				// 同名のMBeanが登録済みの場合等は、監視のみ行う
+			}
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 停滞の報告先を設定します。
+	 *
+	 * <p>[詳 細] </p>
+	 * デフォルトはこのクラス名のjava.util.loggingロガーに、
+	 * {@link StallReport#toString()}をFINEレベルで出力します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param sink 停滞の報告先
+	 */
+	public void setSink(StallSink sink) {
+		this.sink = sink;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 停滞の報告先を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 停滞の報告先
+	 */
+	public StallSink getSink() {
+		return this.sink;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * ディスパッチの開始を通知します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 入れ子のディスパッチは個別に計測します。<br>
+	 * 入れ子のディスパッチが外側のディスパッチより多くのイベントループ上で実行されている場合
+	 * （モーダルダイアログ等の二次イベントループ中のディスパッチ）、外側のディスパッチは
+	 * 二次イベントループで待機しているものとして、その間の時間を計測から除きます。
+	 * 同じイベントループ上の入れ子のディスパッチ（doClick、dispatchEvent等）の時間は、外側のディスパッチにも含めます。
+	 *
+	 * <p>[備 考] </p>
+	 * 必ず{@link #exit()}と対にしてコールして下さい。<br>
+	 * イベントループの数を数える為、監視中はディスパッチ毎にスタックを走査します。
+	 *
+	 * @param actionClass ディスパッチに対応するアクションクラス、不明な場合はnull
+	 * @param component イベントリスナが追加されたコンポーネント、不明な場合はnull
+	 * @param modelClass モデル処理イベントを発行したモデルクラス、handlerFacadeからの場合はnull
+	 * @param eventType イベントタイプ
+	 */
+	public void enter(Class<?> actionClass, Component component, Class<?> modelClass, String eventType) {
+		if (!EventQueue.isDispatchThread()) {
+			return;
+		}
+		this.depth++;
+		if (this.thresholdNanos <= 0) {
+			return;
+		}
+		startSampler();
+		Dispatch parent = this.current;
+		int pumps = pumpCount();
+		if (parent != null && pumps > parent.pumps) {
+			// 外側のディスパッチが開始した二次イベントループから配送された場合のみ、待機中とする
+			parent.enterLoop();
+		}
+		this.current = new Dispatch(Thread.currentThread(), parent, this.depth, pumps,
+				actionClass, component, modelClass, eventType);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * ディスパッチの終了を通知します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 処理時間（二次イベントループで待機していた時間を除く）を計数し、
+	 * 閾値を超えていれば監視スレッドから{@link StallSink}に報告します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	public void exit() {
+		if (!EventQueue.isDispatchThread() || this.depth == 0) {
+			return;
+		}
+		int level = this.depth--;
+		Dispatch dispatch = this.current;
+		if (dispatch == null || dispatch.level != level) {
+			return;
+		}
+		this.current = dispatch.parent;
+		long elapsed = dispatch.leaveLoop(System.nanoTime());
+		this.dispatchCount.increment();
+		long max;
+		while (elapsed > (max = this.maxDispatchNanos.get()) && !this.maxDispatchNanos.compareAndSet(max, elapsed)) {
+			// 他スレッドと競合した場合は再試行
+		}
+		long threshold = this.thresholdNanos;
+		if (threshold <= 0 || elapsed < threshold) {
+			return;
+		}
+		this.stallCount.increment();
+		this.totalStallNanos.add(elapsed);
+		report(dispatch.toReport(TimeUnit.NANOSECONDS.toMillis(elapsed)));
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 監視スレッドから停滞を報告します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 * 監視終了後の報告は破棄します。
+	 *
+	 * @param report 停滞報告
+	 */
+	private synchronized void report(final StallReport report) {
+		if (this.sampler == null) {
+			return;
+		}
+		try {
+			this.sampler.execute(new Runnable() {
+				@Override
+				public void run() {
+					StallSink sink = EdtWatchdog.this.sink;
+					if (sink == null) {
+						return;
+					}
+					try {
+						sink.stalled(report);
+					} catch (RuntimeException e) {
+						LOGGER.log(Level.WARNING, "StallSink failed.", e);
+					}
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			// 監視終了済み
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 監視スレッドを開始します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 採取間隔毎に実行中のディスパッチを確認し、閾値を超えていればスタックトレースを採取します。<br>
+	 * スタックトレースが二次イベントループを示している場合は採取せず、待機中として記録します。
+	 *
+	 * <p>[備 考] </p>
+	 * 開始済み、又は監視終了後は何もしません。
+	 *
+	 */
+	private synchronized void startSampler() {
+		if (this.sampler != null || this.shutdown) {
+			return;
+		}
+		this.sampler = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, THREAD_NAME);
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		this.sampler.scheduleAtFixedRate(new Runnable() {
+			@Override
+			public void run() {
+				Dispatch dispatch = EdtWatchdog.this.current;
+				long threshold = EdtWatchdog.this.thresholdNanos;
+				if (dispatch == null || threshold <= 0) {
+					return;
+				}
+				// 二次イベントループの終了を確認する場合と、閾値を超えた場合のみスタックトレースを取得
+				if (!dispatch.isInLoop() && dispatch.elapsed(System.nanoTime()) < threshold) {
+					return;
+				}
+				StackTraceElement[] trace = dispatch.thread.getStackTrace();
+				if (pumpCount(trace) > dispatch.pumps) {
+					dispatch.enterLoop();
+					return;
+				}
+				if (dispatch.leaveLoop(System.nanoTime()) >= threshold) {
+					dispatch.sample(trace);
+				}
+			}
+		}, this.sampleInterval, this.sampleInterval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * スタックトレース中のイベントループの数を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * ディスパッチ開始時のイベントループの数より多い場合、そのディスパッチは
+	 * 二次イベントループで待機しています。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param trace イベントディスパッチスレッドのスタックトレース
+	 * @return イベントループの数
+	 */
+	private static int pumpCount(StackTraceElement[] trace) {
+		int count = 0;
+		for (StackTraceElement element : trace) {
+			if (isPump(element.getClassName(), element.getMethodName())) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 現在のスレッドのスタック上のイベントループの数を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * StackWalkerで走査する為、スタックトレースを生成しません。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return イベントループの数
+	 */
+	private static int pumpCount() {
+		return StackWalker.getInstance().walk(new Function<Stream<StackWalker.StackFrame>, Integer>() {
+			@Override
+			public Integer apply(Stream<StackWalker.StackFrame> frames) {
+				int count = 0;
+				for (Iterator<StackWalker.StackFrame> it = frames.iterator(); it.hasNext();) {
+					StackWalker.StackFrame frame = it.next();
+					if (isPump(frame.getClassName(), frame.getMethodName())) {
+						count++;
+					}
+				}
+				return count;
+			}
+		});
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * スタックフレームがイベントループ一回分のイベント取り出しかどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param className クラス名
+	 * @param methodName メソッド名
+	 * @return イベントループの場合true
+	 */
+	private static boolean isPump(String className, String methodName) {
+		return PUMP_METHOD.equals(methodName) && PUMP_CLASS.equals(className);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 監視を終了します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 監視スレッドを終了し、MBeanを登録解除します。
+	 *
+	 * <p>[備 考] </p>
+	 * 計数値は保持したままです。
+	 *
+	 */
+	public synchronized void shutdown() {
+		this.shutdown = true;
+		if (this.sampler != null) {
+			this.sampler.shutdownNow();
+			this.sampler = null;
+		}
+		if (this.registered != null) {
+			try {
+				ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.registered);
+			} catch (JMException e) {
+				// 登録解除済みの場合は無視
+			}
+			this.registered = null;
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 監視したディスパッチ数を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 監視したディスパッチ数
+	 */
+	@Override
+	public long getDispatchCount() {
+		return this.dispatchCount.sum();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 閾値を超えたディスパッチ数を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 閾値を超えたディスパッチ数
+	 */
+	@Override
+	public long getStallCount() {
+		return this.stallCount.sum();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 閾値を超えたディスパッチの処理時間合計を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 処理時間合計（ミリ秒）
+	 */
+	@Override
+	public long getTotalStallMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(this.totalStallNanos.sum());
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * ディスパッチの最大処理時間を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 最大処理時間（ミリ秒）
+	 */
+	@Override
+	public long getMaxDispatchMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(this.maxDispatchNanos.get());
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 停滞と見做す閾値を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 閾値（ミリ秒）
+	 */
+	@Override
+	public long getThresholdMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(this.thresholdNanos);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 停滞と見做す閾値を設定します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 * 0以下を設定すると監視を停止します。
+	 *
+	 * @param thresholdMillis 閾値（ミリ秒）
+	 */
+	@Override
+	public void setThresholdMillis(long thresholdMillis) {
+		this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 計数値を初期化します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	@Override
+	public void reset() {
+		this.dispatchCount.reset();
+		this.stallCount.reset();
+		this.totalStallNanos.reset();
+		this.maxDispatchNanos.set(0);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 実行中のディスパッチです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static final class Dispatch {
+
+		/** イベントディスパッチスレッドです。 */
+		private final Thread thread;
+
+		/** 外側のディスパッチです。 */
+		private final Dispatch parent;
+
+		/** 入れ子の深さです。{@link EdtWatchdog#exit()}で対応するディスパッチを判定します。 */
+		private final int level;
+
+		/** 開始時のイベントループの数です。これより多い場合は二次イベントループで待機しています。 */
+		private final int pumps;
+
+		/** 開始時刻（ナノ秒）です。 */
+		private final long start = System.nanoTime();
+
+		/** 二次イベントループで待機していないことを最後に確認した時刻（ナノ秒）です。 */
+		private long lastChecked = this.start;
+
+		/** 二次イベントループでの待機を開始した時刻（ナノ秒）です。待機していない場合は0です。 */
+		private long loopStart;
+
+		/** 二次イベントループで待機した時間の合計（ナノ秒）です。 */
+		private long excluded;
+
+		/** アクションクラスです。 */
+		private final Class<?> actionClass;
+
+		/** コンポーネントです。 */
+		private final Component component;
+
+		/** モデルクラスです。 */
+		private final Class<?> modelClass;
+
+		/** イベントタイプです。 */
+		private final String eventType;
+
+		/** 採取したスタックトレースです。 */
+		private final List<StackTraceElement[]> samples = new ArrayList<StackTraceElement[]>();
+
+		/**
+		 * <p>[概 要] </p>
+		 * コンストラクタです。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @param thread イベントディスパッチスレッド
+		 * @param parent 外側のディスパッチ、無い場合はnull
+		 * @param level 入れ子の深さ
+		 * @param pumps 開始時のイベントループの数
+		 * @param actionClass アクションクラス
+		 * @param component コンポーネント
+		 * @param modelClass モデルクラス
+		 * @param eventType イベントタイプ
+		 */
+		private Dispatch(Thread thread, Dispatch parent, int level, int pumps,
+				Class<?> actionClass, Component component, Class<?> modelClass, String eventType) {
+			this.thread = thread;
+			this.parent = parent;
+			this.level = level;
+			this.pumps = pumps;
+			this.actionClass = actionClass;
+			this.component = component;
+			this.modelClass = modelClass;
+			this.eventType = eventType;
+		}
+
+		/**
+		 * <p>[概 要] </p>
+		 * 二次イベントループで待機している時間を除いた処理時間を返却します。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @param now 現在時刻（ナノ秒）
+		 * @return 処理時間（ナノ秒）
+		 */
+		private synchronized long elapsed(long now) {
+			long waiting = this.loopStart == 0 ? 0 : now - this.loopStart;
+			return now - this.start - this.excluded - waiting;
+		}
+
+		/**
+		 * <p>[概 要] </p>
+		 * 二次イベントループで待機しているかどうかを返却します。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @return 待機している場合true
+		 */
+		private synchronized boolean isInLoop() {
+			return this.loopStart != 0;
+		}
+
+		/**
+		 * <p>[概 要] </p>
+		 * 二次イベントループでの待機を記録します。
+		 *
+		 * <p>[詳 細] </p>
+		 * 待機を開始した時刻は分からない為、待機していないことを最後に確認した時刻から待機したものと見做します。
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 */
+		private synchronized void enterLoop() {
+			if (this.loopStart == 0) {
+				this.loopStart = this.lastChecked;
+			}
+		}
+
+		/**
+		 * <p>[概 要] </p>
+		 * 二次イベントループで待機していないことを記録して、処理時間を返却します。
+		 *
+		 * <p>[詳 細] </p>
+		 * 待機中だった場合、待機を開始してから引数nowまでを待機時間として計上します。
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @param now 現在時刻（ナノ秒）
+		 * @return 二次イベントループで待機している時間を除いた処理時間（ナノ秒）
+		 */
+		private synchronized long leaveLoop(long now) {
+			if (this.loopStart != 0) {
+				this.excluded += now - this.loopStart;
+				this.loopStart = 0;
+			}
+			this.lastChecked = now;
+			return now - this.start - this.excluded;
+		}
+
+		/**
+		 * <p>[概 要] </p>
+		 * 採取したイベントディスパッチスレッドのスタックトレースを保持します。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 * 上限数に達した後は保持しません。
+		 *
+		 * @param trace スタックトレース
+		 */
+		private void sample(StackTraceElement[] trace) {
+			synchronized (this.samples) {
+				if (this.samples.size() < MAX_SAMPLES) {
+					this.samples.add(trace);
+				}
+			}
+		}
+
+		/**
+		 * <p>[概 要] </p>
+		 * 停滞報告を生成します。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @param durationMillis 処理時間（ミリ秒）
+		 * @return 停滞報告
+		 */
+		private StallReport toReport(long durationMillis) {
+			List<StackTraceElement[]> copy;
+			synchronized (this.samples) {
+				copy = new ArrayList<StackTraceElement[]>(this.samples);
+			}
+			return new StallReport(
+					this.actionClass == null ? null : this.actionClass.getName(),
+					this.component == null ? null : this.component.getName(),
+					this.modelClass == null ? null : this.modelClass.getName(),
+					this.eventType, durationMillis, copy);
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package com.oneitthing.swingcontrollerizer.metrics;
+
+/**
+ * <p>[概 要] </p>
+ * {@link EdtWatchdog}をJMXで公開する為のインターフェースです。
+ *
+ * <p>[詳 細] </p>
+ *
+ * <p>[備 考] </p>
+ *
+ */
+public interface EdtWatchdogMBean {
+
+	/**
+	 * <p>[概 要] </p>
+	 * 監視したディスパッチ数を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 監視したディスパッチ数
+	 */
+	public long getDispatchCount();
+
+	/**
+	 * <p>[概 要] </p>
+	 * 閾値を超えたディスパッチ数を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 閾値を超えたディスパッチ数
+	 */
+	public long getStallCount();
+
+	/**
+	 * <p>[概 要] </p>
+	 * 閾値を超えたディスパッチの処理時間合計を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 処理時間合計（ミリ秒）
+	 */
+	public long getTotalStallMillis();
+
+	/**
+	 * <p>[概 要] </p>
+	 * ディスパッチの最大処理時間を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 最大処理時間（ミリ秒）
+	 */
+	public long getMaxDispatchMillis();
+
+	/**
+	 * <p>[概 要] </p>
+	 * 停滞と見做す閾値を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 閾値（ミリ秒）
+	 */
+	public long getThresholdMillis();
+
+	/**
+	 * <p>[概 要] </p>
+	 * 停滞と見做す閾値を設定します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 * 0以下を設定すると監視を停止します。
+	 *
+	 * @param thresholdMillis 閾値（ミリ秒）
+	 */
+	public void setThresholdMillis(long thresholdMillis);
+
+	/**
+	 * <p>[概 要] </p>
+	 * 計測値を初期化します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	public void reset();
+}
@@ -0,0 +1,157 @@
+package com.oneitthing.swingcontrollerizer.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>[概 要] </p>
+ * 処理時間の分布を記録するヒストグラムです。
+ *
+ * <p>[詳 細] </p>
+ * 処理時間（ナノ秒）を2の冪で区切ったバケットに計数します。<br>
+ * バケット数は固定（65個）の為、記録件数に関わらず使用メモリは一定です。<br>
+ * 記録はロックを使用せず、任意のスレッドから同時に行うことが出来ます。
+ *
+ * <p>[備 考] </p>
+ * パーセンタイルは該当バケットの上限値を返却する為、実際の値の最大2倍の誤差が有ります。
+ *
+ */
+public class LatencyHistogram {
+
+	/** バケット数です。バケットiは[2^(i-1), 2^i)ナノ秒を計数します。 */
+	private static final int BUCKET_COUNT = 65;
+
+	/** バケット毎の件数です。 */
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+	/** 記録件数です。 */
+	private final LongAdder count = new LongAdder();
+
+	/** 処理時間の合計（ナノ秒）です。 */
+	private final LongAdder sum = new LongAdder();
+
+	/** 処理時間の最大値（ナノ秒）です。 */
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * <p>[概 要] </p>
+	 * 処理時間を記録します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 * 負の値は0として記録します。
+	 *
+	 * @param nanos 処理時間（ナノ秒）
+	 */
+	public void record(long nanos) {
+		if (nanos < 0) {
+			nanos = 0;
+		}
+		this.buckets.incrementAndGet(64 - Long.numberOfLeadingZeros(nanos));
+		this.count.increment();
+		this.sum.add(nanos);
+		long current;
+		while (nanos > (current = this.max.get()) && !this.max.compareAndSet(current, nanos)) {
+			// 他スレッドと競合した場合は再試行
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 記録件数を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 記録件数
+	 */
+	public long getCount() {
+		return this.count.sum();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 平均処理時間を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 平均処理時間（ナノ秒）、未記録の場合は0
+	 */
+	public long getMean() {
+		long count = this.count.sum();
+		return count == 0 ? 0 : this.sum.sum() / count;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 最大処理時間を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 最大処理時間（ナノ秒）
+	 */
+	public long getMax() {
+		return this.max.get();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数percentileに該当する処理時間を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 小さいバケットから件数を累積し、percentileに達したバケットの上限値を返却します。
+	 *
+	 * <p>[備 考] </p>
+	 * 最大処理時間を超える値は返却しません。
+	 *
+	 * @param percentile パーセンタイル（0～100）
+	 * @return 処理時間（ナノ秒）、未記録の場合は0
+	 */
+	public long getPercentile(double percentile) {
+		long[] snapshot = new long[BUCKET_COUNT];
+		long total = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			snapshot[i] = this.buckets.get(i);
+			total += snapshot[i];
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long threshold = (long)Math.ceil(total * percentile / 100d);
+		long accumulated = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			accumulated += snapshot[i];
+			if (accumulated >= threshold && snapshot[i] > 0) {
+				long upper = i == 0 ? 0 : (i >= 63 ? Long.MAX_VALUE : (1L << i) - 1);
+				return Math.min(upper, getMax());
+			}
+		}
+		return getMax();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 記録を初期化します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 * 記録中の値との整合性は保証しません。
+	 *
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			this.buckets.set(i, 0);
+		}
+		this.count.reset();
+		this.sum.reset();
+		this.max.set(0);
+	}
+}
@@ -0,0 +1,252 @@
+package com.oneitthing.swingcontrollerizer.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.oneitthing.swingcontrollerizer.action.Action;
+
+/**
+ * <p>[概 要] </p>
+ * アクションクラス、モデルクラス毎の計測値を管理するクラスです。
+ *
+ * <p>[詳 細] </p>
+ * イベントがhandlerFacadeに到達してから{@link com.oneitthing.swingcontrollerizer.action.BaseAction#complete(com.oneitthing.swingcontrollerizer.controller.ParameterMapping)}
+ * がコールされるまでを、以下のフェーズに分けて計測します。
+ * <ul>
+ *   <li>{@link #QUEUE} : イベント到達からアクション実行開始まで（アクション）</li>
+ *   <li>{@link #PREPARE} : prepare（アクション）</li>
+ *   <li>{@link #VALIDATE} : validators、validate（アクション）。バリデーションエラーはエラーとして計数</li>
+ *   <li>{@link #TOTAL} : イベント到達からcomplete、又はモデル失敗まで（アクション）</li>
+ *   <li>{@link #PREPROC}、{@link #MAINPROC}、{@link #POSTPROC} : モデルの各テンプレートメソッド（モデル）</li>
+ *   <li>{@link #DELIVERY} : モデル処理イベント発行からイベントディスパッチスレッドでの配送まで（モデル）</li>
+ * </ul>
+ * 計測値はクラス毎に{@link ClassMetrics}として保持され、JMXが有効な場合は
+ * 「com.oneitthing.swingcontrollerizer:type=ActionMetrics|ModelMetrics,registry=&lt;名前&gt;,name=&lt;クラス名&gt;」
+ * のMBeanとしてプラットフォームMBeanサーバに登録されます。
+ *
+ * <p>[備 考] </p>
+ * インスタンスは{@link com.oneitthing.swingcontrollerizer.controller.ClientConfig#getMetricsRegistry()}で取得します。<br>
+ * 計測が無効な場合、{@link #record(Class, int, long, boolean)}は何もしません。
+ *
+ */
+public class MetricsRegistry {
+
+	/** イベント到達からアクション実行開始までのフェーズです。 */
+	public static final int QUEUE = 0;
+
+	/** prepareのフェーズです。 */
+	public static final int PREPARE = 1;
+
+	/** バリデーションのフェーズです。 */
+	public static final int VALIDATE = 2;
+
+	/** イベント到達からcomplete、又はモデル失敗までのフェーズです。 */
+	public static final int TOTAL = 3;
+
+	/** モデルpreprocのフェーズです。 */
+	public static final int PREPROC = 4;
+
+	/** モデルmainprocのフェーズです。 */
+	public static final int MAINPROC = 5;
+
+	/** モデルpostprocのフェーズです。 */
+	public static final int POSTPROC = 6;
+
+	/** モデル処理イベント配送のフェーズです。 */
+	public static final int DELIVERY = 7;
+
+	/** フェーズ数です。 */
+	static final int PHASE_COUNT = 8;
+
+	/** フェーズ名です。 */
+	private static final String[] PHASE_NAMES = {
+		"Queue", "Prepare", "Validate", "Total", "Preproc", "Mainproc", "Postproc", "Delivery"
+	};
+
+	/** アクションクラスで公開するフェーズです。 */
+	private static final int[] ACTION_PHASES = {QUEUE, PREPARE, VALIDATE, TOTAL};
+
+	/** モデルクラスで公開するフェーズです。 */
+	private static final int[] MODEL_PHASES = {PREPROC, MAINPROC, POSTPROC, DELIVERY};
+
+	/** 計測を行わないレジストリです。コントローラ外で実行されるアクション、モデルが使用します。 */
+	public static final MetricsRegistry DISABLED = new MetricsRegistry(false, null);
+
+	/** MBeanのドメイン名です。 */
+	private static final String JMX_DOMAIN = "com.oneitthing.swingcontrollerizer";
+
+	/** 計測が有効かどうかです。 */
+	private final boolean enabled;
+
+	/** JMXに登録する際のレジストリ名です。JMXに登録しない場合はnullです。 */
+	private final String jmxName;
+
+	/** クラス毎の計測値です。 */
+	private final ConcurrentMap<Class<?>, ClassMetrics> metrics = new ConcurrentHashMap<Class<?>, ClassMetrics>();
+
+	/** 登録したMBean名です。 */
+	private final List<ObjectName> registered = Collections.synchronizedList(new ArrayList<ObjectName>());
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param enabled 計測が有効かどうか
+	 * @param jmxName JMXに登録する際のレジストリ名、JMXに登録しない場合はnull
+	 */
+	public MetricsRegistry(boolean enabled, String jmxName) {
+		this.enabled = enabled;
+		this.jmxName = jmxName;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 計測が有効かどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 有効な場合true
+	 */
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 処理時間を記録します。
+	 *
+	 * <p>[詳 細] </p>
+	 * ownerの計測値が未生成の場合は生成し、JMXが有効であればMBeanとして登録します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param owner 計測対象のアクションクラス、又はモデルクラス
+	 * @param phase 計測フェーズ
+	 * @param nanos 処理時間（ナノ秒）
+	 * @param error エラーで終了した場合true
+	 */
+	public void record(Class<?> owner, int phase, long nanos, boolean error) {
+		if (!this.enabled) {
+			return;
+		}
+		ClassMetrics classMetrics = this.metrics.get(owner);
+		if (classMetrics == null) {
+			classMetrics = createMetrics(owner);
+		}
+		classMetrics.record(phase, nanos, error);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * クラスの計測値を生成、登録します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param owner 計測対象のクラス
+	 * @return 登録された計測値
+	 */
+	private ClassMetrics createMetrics(Class<?> owner) {
+		boolean action = Action.class.isAssignableFrom(owner);
+		ClassMetrics created = new ClassMetrics(owner, action ? ACTION_PHASES : MODEL_PHASES);
+		ClassMetrics existing = this.metrics.putIfAbsent(owner, created);
+		if (existing != null) {
+			return existing;
+		}
+		if (this.jmxName != null) {
+			try {
+				ObjectName name = new ObjectName(JMX_DOMAIN + ":type=" + (action ? "ActionMetrics" : "ModelMetrics")
+						+ ",registry=" + ObjectName.quote(this.jmxName) + ",name=" + ObjectName.quote(owner.getName()));
+				ManagementFactory.getPlatformMBeanServer().registerMBean(created, name);
+				this.registered.add(name);
+			} catch (JMException e) {
+				// 同名のMBeanが登録済みの場合等は、計測のみ行う
+			}
+		}
+		return created;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数ownerの計測値を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param owner 計測対象のクラス
+	 * @return 計測値、未計測の場合はnull
+	 */
+	public ClassMetrics getMetrics(Class<?> owner) {
+		return this.metrics.get(owner);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 全クラスの計測値を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 全クラスの計測値
+	 */
+	public Collection<ClassMetrics> getAllMetrics() {
+		return Collections.unmodifiableCollection(this.metrics.values());
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数phaseのフェーズ名を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param phase 計測フェーズ
+	 * @return フェーズ名
+	 */
+	public static String getPhaseName(int phase) {
+		return PHASE_NAMES[phase];
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 登録したMBeanを全て登録解除します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 * 計測値は保持したままです。
+	 *
+	 */
+	public void close() {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		synchronized (this.registered) {
+			for (ObjectName name : this.registered) {
+				try {
+					server.unregisterMBean(name);
+				} catch (JMException e) {
+					// 登録解除済みの場合は無視
+				}
+			}
+			this.registered.clear();
+		}
+	}
+}
@@ -0,0 +1,174 @@
+package com.oneitthing.swingcontrollerizer.metrics;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>[概 要] </p>
+ * イベントディスパッチスレッドの停滞報告です。
+ *
+ * <p>[詳 細] </p>
+ * 閾値を超えたディスパッチの起点（アクション、コンポーネント）、処理時間、
+ * 処理中に採取したイベントディスパッチスレッドのスタックトレースを保持します。
+ *
+ * <p>[備 考] </p>
+ *
+ */
+public class StallReport {
+
+	/** ディスパッチを起こしたアクションクラス名です。 */
+	private final String actionName;
+
+	/** ディスパッチを起こしたコンポーネント名です。 */
+	private final String componentName;
+
+	/** モデル処理イベントの配送の場合、発行元のモデルクラス名です。 */
+	private final String modelName;
+
+	/** イベントタイプ（actionPerformed、modelSuccess等）です。 */
+	private final String eventType;
+
+	/** ディスパッチの処理時間（ミリ秒）です。 */
+	private final long durationMillis;
+
+	/** 採取したスタックトレースです。 */
+	private final List<StackTraceElement[]> samples;
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param actionName アクションクラス名
+	 * @param componentName コンポーネント名
+	 * @param modelName 発行元のモデルクラス名、handlerFacadeからのディスパッチの場合はnull
+	 * @param eventType イベントタイプ
+	 * @param durationMillis 処理時間（ミリ秒）
+	 * @param samples 採取したスタックトレース
+	 */
+	public StallReport(String actionName, String componentName, String modelName,
+			String eventType, long durationMillis, List<StackTraceElement[]> samples) {
+		this.actionName = actionName;
+		this.componentName = componentName;
+		this.modelName = modelName;
+		this.eventType = eventType;
+		this.durationMillis = durationMillis;
+		this.samples = Collections.unmodifiableList(samples);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * ディスパッチを起こしたアクションクラス名を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return アクションクラス名、不明な場合はnull
+	 */
+	public String getActionName() {
+		return this.actionName;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * ディスパッチを起こしたコンポーネント名を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return コンポーネント名、不明な場合はnull
+	 */
+	public String getComponentName() {
+		return this.componentName;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * モデル処理イベントを発行したモデルクラス名を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return モデルクラス名、handlerFacadeからのディスパッチの場合はnull
+	 */
+	public String getModelName() {
+		return this.modelName;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * ディスパッチのイベントタイプを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * handlerFacadeからのディスパッチはイベントハンドラメソッド名（actionPerformed等）、
+	 * モデル処理イベントの配送はmodelSuccess、modelFailure、modelFinishedの何れかです。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return イベントタイプ
+	 */
+	public String getEventType() {
+		return this.eventType;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * ディスパッチの処理時間を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 処理時間（ミリ秒）
+	 */
+	public long getDurationMillis() {
+		return this.durationMillis;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 採取したスタックトレースを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 閾値を超えてから、採取間隔毎に採取したスタックトレースを古い順に返却します。
+	 *
+	 * <p>[備 考] </p>
+	 * 閾値超過直後に処理が終了した場合は空です。
+	 *
+	 * @return 採取したスタックトレース
+	 */
+	public List<StackTraceElement[]> getSamples() {
+		return this.samples;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 報告内容を文字列で返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 起点、処理時間と、最後に採取したスタックトレースを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 報告内容
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("EDT stalled ").append(this.durationMillis).append("ms: action=").append(this.actionName)
+			.append(", component=").append(this.componentName).append(", model=").append(this.modelName).append(", event=").append(this.eventType)
+			.append(", samples=").append(this.samples.size());
+		if (!this.samples.isEmpty()) {
+			for (StackTraceElement element : this.samples.get(this.samples.size() - 1)) {
+				sb.append("\n\tat ").append(element);
+			}
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,30 @@
+package com.oneitthing.swingcontrollerizer.metrics;
+
+/**
+ * <p>[概 要] </p>
+ * イベントディスパッチスレッドの停滞報告を受け取るインターフェースです。
+ *
+ * <p>[詳 細] </p>
+ * {@link EdtWatchdog}が閾値を超えたディスパッチを検出すると、
+ * {@link #stalled(StallReport)}がコールされます。<br>
+ * ログ出力、監視サーバへの送信等を実装して
+ * {@link EdtWatchdog#setSink(StallSink)}で設定して下さい。
+ *
+ * <p>[備 考] </p>
+ * 監視スレッドからコールされる為、イベントディスパッチスレッドはブロックされません。
+ *
+ */
+public interface StallSink {
+
+	/**
+	 * <p>[概 要] </p>
+	 * 停滞を報告します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param report 停滞報告
+	 */
+	public void stalled(StallReport report);
+}
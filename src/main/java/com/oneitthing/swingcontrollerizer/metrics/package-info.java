@@ -0,0 +1,4 @@
+/**
+ * アクション、モデルの処理時間を計測し、JMXで公開するクラスが含まれるパッケージです。
+ */
+package com.oneitthing.swingcontrollerizer.metrics;
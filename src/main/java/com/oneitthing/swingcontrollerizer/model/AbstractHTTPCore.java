@@ -1,12 +1,18 @@
 package com.oneitthing.swingcontrollerizer.model;
 
+import java.io.IOException;
 import java.net.Authenticator;
 import java.net.CookieHandler;
 import java.net.CookieManager;
 import java.net.CookiePolicy;
 import java.net.HttpCookie;
 import java.net.PasswordAuthentication;
+import java.net.URI;
+import java.nio.charset.Charset;
 import java.util.List;
+import java.util.Map;
+
+import com.oneitthing.swingcontrollerizer.controller.ClientConfig;
 
 /**
  * <p>[概 要] </p>
@@ -30,6 +36,9 @@ import java.util.List;
  */
 public abstract class AbstractHTTPCore extends BaseModel {
 
+	/** HTTPプレフィックスを示す定数です。 */
+	public static final String HTTP_URL_PREFIX = "http.url.prefix";
+
 	/** 認証ユーザ名です。 */
 	private String authUser;
 
@@ -185,4 +194,84 @@ public abstract class AbstractHTTPCore extends BaseModel {
 
 		return ret.toString();
 	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * リクエストURLを解決します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 引数urlが"http"で始まらない場合、ClientConfig#getDefaultHttpEnvironment()の
+	 * {@link #HTTP_URL_PREFIX}の値を先頭に付与します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param url 設定されたURL
+	 * @return リクエストするURL
+	 */
+	protected String resolveRequestUrl(String url) {
+		if(!url.startsWith("http") &&
+		   !url.startsWith("https"))
+		{
+			ClientConfig config = getController().getClientConfig();
+			String prefix = config.getDefaultHttpEnvironment().get(HTTP_URL_PREFIX);
+			return prefix + url;
+		}else{
+			return url;
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * レスポンスヘッダのクッキーを保存します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 引数responseHeadersのSet-Cookieヘッダを、メモリ上のCookieManagerに保存します。
+	 *
+	 * <p>[備 考] </p>
+	 * CookieHandlerを経由しない通信（HttpClient等）で受信したクッキーを、
+	 * {@link #createCookieString()}で送信する為に使用します。
+	 *
+	 * @param uri リクエストしたURI
+	 * @param responseHeaders レスポンスヘッダ
+	 * @throws IOException 保存に失敗した場合
+	 */
+	protected void storeCookies(URI uri, Map<String, List<String>> responseHeaders) throws IOException {
+		cookieManager.put(uri, responseHeaders);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * Content-Typeヘッダの文字コードを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 引数contentTypeのcharsetパラメータを解析します。<br>
+	 * charsetパラメータが無い場合、又はサポートされていない文字コードの場合は
+	 * Charset#defaultCharset()を返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param contentType Content-Typeヘッダの値、無い場合はnull
+	 * @return レスポンスの文字コード
+	 */
+	protected Charset getResponseCharset(String contentType) {
+		if(contentType != null) {
+			for(String param : contentType.split(";")) {
+				param = param.trim();
+				if(param.regionMatches(true, 0, "charset=", 0, 8)) {
+					String name = param.substring(8).trim();
+					if(name.length() > 1 && name.startsWith("\"") && name.endsWith("\"")) {
+						name = name.substring(1, name.length() - 1);
+					}
+					try {
+						return Charset.forName(name);
+					} catch(IllegalArgumentException e) {
+						// 不正、未サポートの文字コードはデフォルトで扱う
+						break;
+					}
+				}
+			}
+		}
+
+		return Charset.defaultCharset();
+	}
 }
@@ -1,15 +1,25 @@
 package com.oneitthing.swingcontrollerizer.model;
 
+import java.awt.Component;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.swing.SwingUtilities;
 
+import com.oneitthing.swingcontrollerizer.action.AbstractAction;
+import com.oneitthing.swingcontrollerizer.common.exception.ModelCancelledException;
+import com.oneitthing.swingcontrollerizer.common.exception.ModelTimeoutException;
 import com.oneitthing.swingcontrollerizer.controller.BaseController;
 import com.oneitthing.swingcontrollerizer.controller.ParameterMapping;
 import com.oneitthing.swingcontrollerizer.event.ModelProcessEvent;
+import com.oneitthing.swingcontrollerizer.event.ModelProgressEvent;
 import com.oneitthing.swingcontrollerizer.listener.ModelProcessListener;
+import com.oneitthing.swingcontrollerizer.metrics.EdtWatchdog;
+import com.oneitthing.swingcontrollerizer.metrics.MetricsRegistry;
 
 /**
  * <p>[概 要]</p>
@@ -102,6 +112,45 @@ public class BaseModel implements Model, Callable<Object>{
 	/** このモデルを呼び出し元スレッドと非同期で実行するかどうかのフラグです。（デフォルト:false） */
 	private boolean async;
 
+	/** インスタンスプールへの返却処理です。Resettable実装モデルの場合のみコントローラが設定します。 */
+	private volatile Runnable recycler;
+
+	/** 処理の終了時に実行する処理です。同期モデルの場合のみコントローラが設定します。 */
+	private volatile Runnable completion;
+
+	/** インスタンスプール返却条件（モデル処理終了、終了イベント処理）の成立数です。 */
+	private final AtomicInteger recycleCount = new AtomicInteger();
+
+	/** このモデルの処理が失敗したかどうかのフラグです。trueの場合、インスタンスプールに返却されません。 */
+	private volatile boolean failed;
+
+	/** このモデルのタイムアウト時間（ミリ秒）です。0の場合はタイムアウトしません。 */
+	private long timeout;
+
+	/** このモデルの処理が中止されたかどうかのフラグです。 */
+	private volatile boolean cancelled;
+
+	/** このモデルの処理がタイムアウトにより中止されたかどうかのフラグです。 */
+	private volatile boolean timedOut;
+
+	/** このモデルを処理中のスレッドです。 */
+	private Thread runner;
+
+	/** runnerフィールドへのアクセスを同期するロックです。 */
+	private final Object runnerLock = new Object();
+
+	/** 実行中のタイムアウトの予約です。 */
+	private volatile Future<?> expiry;
+
+	/** 処理の終了を{@link #run()}の復帰後まで遅らせるかどうかのフラグです。 */
+	private volatile boolean completionDeferred;
+
+	/** 遅らせた処理の終了が完了したかどうかのフラグです。 */
+	private final AtomicBoolean deferredCompleted = new AtomicBoolean();
+
+	/** 遅らせた処理の終了を待っている当事者（run()の復帰と完了通知）の数です。 */
+	private final AtomicInteger deferredHolds = new AtomicInteger();
+
 
 	/**
 	 * <p>[概 要] </p>
@@ -413,7 +462,9 @@ public class BaseModel implements Model, Callable<Object>{
 	 * trueが設定された場合、モデルスレッド実行元はこのスレッドをjoinしません。
 	 *
 	 * <p>[備 考] </p>
-	 * デフォルトはfalse（同期実行）です。
+	 * デフォルトはfalse（同期実行）です。<br>
+	 * 同期実行はモデルの順序実行を意味し、イベントディスパッチスレッドをブロックしません。
+	 * コントローラはモデルの処理終了後に、イベントディスパッチスレッドで後続の処理を再開します。
 	 *
 	 * @param async true : 非同期、false : 同期
 	 */
@@ -421,6 +472,453 @@ public class BaseModel implements Model, Callable<Object>{
 		this.async = async;
 	}
 
+	/**
+	 * <p>[概 要] </p>
+	 * このモデルのタイムアウト時間を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * timeoutフィールドを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return タイムアウト時間（ミリ秒）、タイムアウトしない場合は0
+	 */
+	public long getTimeout() {
+		return this.timeout;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * このモデルのタイムアウト時間を設定します。
+	 *
+	 * <p>[詳 細] </p>
+	 * timeoutフィールドを引数timeoutで設定します。<br>
+	 * {@link #run()}開始からtimeoutミリ秒経過しても処理が終了しない場合、
+	 * モデルは中止され、{@link ModelTimeoutException}でモデル処理失敗イベントを発行します。
+	 *
+	 * <p>[備 考] </p>
+	 * {@link ParameterMapping#getDeadline()}が設定されている場合は、
+	 * どちらか早い方の時刻でタイムアウトします。<br>
+	 * nextModelで設定して下さい。
+	 *
+	 * @param timeout タイムアウト時間（ミリ秒）、タイムアウトしない場合は0
+	 */
+	public void setTimeout(long timeout) {
+		this.timeout = timeout;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * このモデルの処理が中止されたかどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * cancelledフィールドを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 * タイムアウトによる中止の場合もtrueを返却します。
+	 *
+	 * @return 中止された場合true
+	 */
+	public boolean isCancelled() {
+		return this.cancelled;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * このモデルの処理を中止します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 中止フラグを立てて{@link #abort()}をテンプレートコールした後、
+	 * モデルを処理中のスレッドに割り込みます。<br>
+	 * 中止されたモデルは{@link ModelCancelledException}で
+	 * モデル処理失敗イベントを発行します。
+	 *
+	 * <p>[備 考] </p>
+	 * 中止は協調的に行われます。ブロッキングI/Oは{@link #abort()}で、
+	 * 長いループ処理は{@link #checkCancelled()}で中断して下さい。<br>
+	 * 任意のスレッドからコール出来ます。
+	 *
+	 */
+	public void cancel() {
+		if (this.cancelled) {
+			return;
+		}
+		this.cancelled = true;
+		try {
+			abort();
+		} catch (Exception e) {
+			// 中止処理中の例外は、モデルスレッド側で発生する例外に委ねる
+		}
+		synchronized (this.runnerLock) {
+			if (this.runner != null) {
+				this.runner.interrupt();
+			}
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * タイムアウトによりこのモデルの処理を中止します。
+	 *
+	 * <p>[詳 細] </p>
+	 * タイムアウトフラグを立てて{@link #cancel()}をコールします。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	void expire() {
+		this.timedOut = true;
+		cancel();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 処理中のI/Oを中断するテンプレートメソッドです。
+	 *
+	 * <p>[詳 細] </p>
+	 * デフォルト処理は有りません。<br>
+	 * オーバーライドして、mainprocでブロックしている接続のclose等、
+	 * モデルスレッドの待機を解除する処理を実装します。
+	 *
+	 * <p>[備 考] </p>
+	 * {@link #cancel()}をコールしたスレッド（タイムアウトの場合はタイマスレッド）で実行されます。
+	 *
+	 * @throws Exception 中断処理で発生した例外
+	 */
+	protected void abort() throws Exception {
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * このモデルの処理が中止されている場合に例外を発生させます。
+	 *
+	 * <p>[詳 細] </p>
+	 * preproc前とmainproc後にコールされます。<br>
+	 * mainproc内の長いループ処理からコールすることで、中止要求に素早く応答出来ます。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @throws ModelCancelledException 中止されている場合
+	 */
+	protected void checkCancelled() throws ModelCancelledException {
+		if (this.cancelled) {
+			throw createCancelledException(null);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 中止理由に応じた例外を生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param cause 中止によって発生した例外
+	 * @return タイムアウトの場合ModelTimeoutException、それ以外の場合ModelCancelledException
+	 */
+	private ModelCancelledException createCancelledException(Throwable cause) {
+		return this.timedOut ? new ModelTimeoutException(cause) : new ModelCancelledException(cause);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * モデルスレッドの処理開始を記録し、タイムアウトを予約します。
+	 *
+	 * <p>[詳 細] </p>
+	 * timeoutと{@link ParameterMapping#getDeadline()}の早い方の時刻に
+	 * {@link #expire()}を予約します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return タイムアウトの予約、予約しない場合はnull
+	 */
+	private Future<?> startExecution() {
+		synchronized (this.runnerLock) {
+			this.runner = Thread.currentThread();
+		}
+		long now = System.currentTimeMillis();
+		long expireAt = this.timeout > 0 ? now + this.timeout : Long.MAX_VALUE;
+		if (this.parameterMapping != null && this.parameterMapping.getDeadline() > 0) {
+			expireAt = Math.min(expireAt, this.parameterMapping.getDeadline());
+		}
+		if (expireAt == Long.MAX_VALUE) {
+			return null;
+		}
+		if (expireAt <= now) {
+			this.timedOut = true;
+			this.cancelled = true;
+			return null;
+		}
+		if (this.controller == null) {
+			return null;
+		}
+		return this.controller.getClientConfig().getModelTimer().schedule(new Runnable() {
+			@Override
+			public void run() {
+				expire();
+			}
+		}, expireAt - now);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * モデルスレッドの処理終了を記録します。
+	 *
+	 * <p>[詳 細] </p>
+	 * タイムアウトの予約を取り消し、中止の為の割り込みをクリアして、
+	 * アクションの実行中モデルから登録を解除します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param expiry タイムアウトの予約
+	 */
+	private void endExecution(Future<?> expiry) {
+		if (expiry != null) {
+			expiry.cancel(false);
+		}
+		releaseRunner();
+		if (this.parameterMapping != null && this.parameterMapping.getActionInstance() instanceof AbstractAction) {
+			((AbstractAction)this.parameterMapping.getActionInstance()).removeActiveModel(this);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * モデルを処理中のスレッドの記録を解除します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 呼び出しスレッドが処理中のスレッドの場合のみ解除し、中止の為の割り込みをクリアします。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private void releaseRunner() {
+		synchronized (this.runnerLock) {
+			if (this.runner != Thread.currentThread()) {
+				return;
+			}
+			this.runner = null;
+			if (this.cancelled) {
+				// 中止の為の割り込みをワーカスレッドに残さない
+				Thread.interrupted();
+			}
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * このモデルの処理の終了を、{@link #run()}の復帰後まで遅らせます。
+	 *
+	 * <p>[詳 細] </p>
+	 * mainproc、postprocからコールすると、run()はモデルスレッドを解放して復帰しますが、
+	 * タイムアウトの予約、アクションの実行中モデルへの登録は維持されます。<br>
+	 * 非同期I/Oの完了時に{@link #completeDeferred(Exception)}をコールして処理を終了させて下さい。
+	 *
+	 * <p>[備 考] </p>
+	 * 処理の終了を遅らせたモデルは、モデル処理成功イベント、モデル処理終了イベントを
+	 * 非同期I/Oの完了時に発行する必要が有ります。<br>
+	 * 中止（{@link #cancel()}）、タイムアウト時は{@link #abort()}で非同期I/Oを中止して下さい。
+	 *
+	 */
+	protected final void deferCompletion() {
+		if(!this.completionDeferred) {
+			this.deferredHolds.set(2);
+			this.completionDeferred = true;
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * {@link #deferCompletion()}で遅らせた処理を終了させます。
+	 *
+	 * <p>[詳 細] </p>
+	 * 引数eがnullでない場合、{@link #run()}で例外が発生した場合と同じく
+	 * trapをテンプレートコールしてモデル処理失敗イベントを発行します。<br>
+	 * その後タイムアウトの予約を取り消し、アクションの実行中モデルから登録を解除して、
+	 * finalprocをテンプレートコールします。<br>
+	 * run()がまだ復帰していない場合、これらの終了処理はrun()の復帰時に行われます。
+	 *
+	 * <p>[備 考] </p>
+	 * 任意のスレッドからコール出来ます。二回目以降のコールは無視されます。<br>
+	 * 成功時はこのメソッドをコールする前にモデル処理成功イベント、モデル処理終了イベントを発行して下さい。
+	 *
+	 * @param e 非同期I/Oで発生した例外、成功時はnull
+	 */
+	protected final void completeDeferred(Exception e) {
+		if (!this.completionDeferred || !this.deferredCompleted.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			if (e != null) {
+				fail(e);
+			}
+		} finally {
+			releaseDeferred();
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 遅らせた処理の終了を待っている当事者を一つ減らします。
+	 *
+	 * <p>[詳 細] </p>
+	 * run()の復帰と{@link #completeDeferred(Exception)}の両方が揃った時点で、
+	 * タイムアウトの予約を取り消し、finalprocをテンプレートコールして、
+	 * 終了時の処理を実行し、インスタンスプール返却条件の成立を通知します。
+	 *
+	 * <p>[備 考] </p>
+	 * run()の実行中にインスタンスプールへ返却されない為の制御です。
+	 *
+	 */
+	private void releaseDeferred() {
+		if (this.deferredHolds.decrementAndGet() == 0) {
+			endExecution(this.expiry);
+			try {
+				finalproc();
+			} finally {
+				complete();
+			}
+			readyToRecycle();
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 処理の終了時に実行する処理を設定します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 引数completionは、finalprocの後にモデルスレッド（処理の終了を遅らせた場合は
+	 * {@link #completeDeferred(Exception)}をコールしたスレッド）で一度だけ実行されます。
+	 *
+	 * <p>[備 考] </p>
+	 * 同期モデルに対してコントローラが設定します。
+	 * {@link #deferCompletion()}したモデルでも、run()の復帰ではなく実際の処理終了を検知する為に使用します。
+	 *
+	 * @param completion 処理の終了時に実行する処理
+	 */
+	public void setCompletion(Runnable completion) {
+		this.completion = completion;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 設定されている処理の終了時に実行する処理を実行します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private void complete() {
+		Runnable completion = this.completion;
+		this.completion = null;
+		if (completion != null) {
+			completion.run();
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 例外をtrapに渡し、モデル処理失敗イベントを発行します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 中止された場合は、中断により発生した例外を中止例外に置き換えます。<br>
+	 * trapがnullを返却した場合はイベントを発行しません。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param e 発生した例外
+	 */
+	private void fail(Exception e) {
+		// 処理が失敗したモデルはプールに返却しない。trap内で発行される終了イベントより先に記録する
+		this.failed = true;
+		// 中止された場合、中断により発生した例外を中止例外に置き換える
+		if(this.cancelled && !(e instanceof ModelCancelledException)) {
+			e = createCancelledException(e);
+		}
+		// 例外ハンドリングメソッド
+		e = trap(e);
+		// 例外ハンドリングメソッドがnullを返却した場合は例外イベントを発火させない
+		if(e != null){
+			ModelProcessEvent evt = new ModelProcessEvent(this);
+			evt.setException(e);
+			fireModelFailure(evt);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * インスタンスプールへの返却処理を設定します。
+	 *
+	 * <p>[詳 細] </p>
+	 * recyclerフィールドを引数recyclerで設定します。
+	 *
+	 * <p>[備 考] </p>
+	 * {@link com.oneitthing.swingcontrollerizer.controller.Resettable}を実装したモデルに対して
+	 * コントローラが設定します。
+	 *
+	 * @param recycler インスタンスプールへの返却処理
+	 */
+	public void setRecycler(Runnable recycler) {
+		this.recycler = recycler;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * インスタンスプールへの返却条件が一つ成立したことを通知します。
+	 *
+	 * <p>[詳 細] </p>
+	 * モデルスレッドの処理終了時（{@link #run()}のfinally、処理の終了を遅らせた場合は
+	 * {@link #completeDeferred(Exception)}）と、コントローラによる
+	 * モデル処理終了イベント処理後にそれぞれコールされ、両方が揃った時点で
+	 * 返却処理を実行します。
+	 *
+	 * <p>[備 考] </p>
+	 * 返却処理が設定されていない場合、処理が失敗した（trapがテンプレートコールされた）場合は何もしません。
+	 *
+	 */
+	public void readyToRecycle() {
+		Runnable recycler = this.recycler;
+		if(recycler != null && !this.failed && this.recycleCount.incrementAndGet() == 2) {
+			recycler.run();
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * コントローラが設定した実行状態を初期化します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 処理結果、パラメータマッピング、コントローラ、実行順位、モデル処理監視リスナ、
+	 * 成功回数、skip、asyncフラグ、タイムアウト、中止フラグ、返却処理、失敗フラグ、終了時の処理を生成直後の状態に戻します。
+	 *
+	 * <p>[備 考] </p>
+	 * インスタンスプールへの返却直前にコールされます。
+	 *
+	 */
+	public void clearExecutionState() {
+		this.result = null;
+		this.parameterMapping = null;
+		this.controller = null;
+		this.executeIndex = 0;
+		this.listenerList.clear();
+		this.successCount = 0;
+		this.skip = false;
+		this.async = false;
+		this.timeout = 0;
+		this.cancelled = false;
+		this.timedOut = false;
+		this.recycler = null;
+		this.completion = null;
+		this.recycleCount.set(0);
+		this.failed = false;
+		this.expiry = null;
+		this.completionDeferred = false;
+		this.deferredCompleted.set(false);
+		this.deferredHolds.set(0);
+	}
+
 
 	/**
 	 * <p>[概 要] </p>
@@ -471,7 +969,9 @@ public class BaseModel implements Model, Callable<Object>{
 	 * 		<li>{@link BaseModel#postproc()}</li>
 	 * 		<li>{@link BaseModel#finalproc()}</li>
 	 * 	</ol>
-	 * 上記メソッド内で例外が発生した場合、trapメソッドがテンプレートコールされます。
+	 * 上記メソッド内で例外が発生した場合、trapメソッドがテンプレートコールされます。<br>
+	 * モデルが中止、又はタイムアウトした場合、trapには発生した例外の代わりに
+	 * {@link ModelCancelledException}、{@link ModelTimeoutException}が渡されます。
 	 *
 	 * <p>[備 考] </p>
 	 * 例外が発生した場合、デフォルト動作としてModel処理失敗イベントが発火されますが、
@@ -479,28 +979,70 @@ public class BaseModel implements Model, Callable<Object>{
 	 *
 	 */
 	public void run() throws Exception{
+		// タイムアウトを予約
+		Future<?> expiry = startExecution();
+		this.expiry = expiry;
+		MetricsRegistry metrics = getMetricsRegistry();
+		// 計測中のフェーズ。例外発生時にエラーとして記録する
+		int phase = -1;
+		long phaseStart = 0;
 		try{
+			checkCancelled();
 			// 前処理。falseを返却した場合は処理中止
-			if(preproc()) {
+			phase = MetricsRegistry.PREPROC;
+			phaseStart = System.nanoTime();
+			boolean proceed = preproc();
+			metrics.record(getClass(), phase, System.nanoTime() - phaseStart, false);
+			if(proceed) {
 				// 主処理
+				phase = MetricsRegistry.MAINPROC;
+				phaseStart = System.nanoTime();
 				mainproc();
+				checkCancelled();
+				metrics.record(getClass(), phase, System.nanoTime() - phaseStart, false);
 				// 後処理
+				phase = MetricsRegistry.POSTPROC;
+				phaseStart = System.nanoTime();
 				postproc();
+				metrics.record(getClass(), phase, System.nanoTime() - phaseStart, false);
+				phase = -1;
 			}else{
+				phase = -1;
 				fireModelFinished(new ModelProcessEvent(this));
 			}
 		}catch(Exception e){
-			// 例外ハンドリングメソッド
-			e = trap(e);
-			// 例外ハンドリングメソッドがnullを返却した場合は例外イベントを発火させない
-			if(e != null){
-				ModelProcessEvent evt = new ModelProcessEvent(this);
-				evt.setException(e);
-				fireModelFailure(evt);
+			if(phase >= 0) {
+				metrics.record(getClass(), phase, System.nanoTime() - phaseStart, true);
+			}
+			if(this.completionDeferred) {
+				// 遅らせた処理の完了を待たずに中止して、ここで終了させる
+				try {
+					abort();
+				} catch (Exception ae) {
+					// 中断処理中の例外は、発生した例外に委ねる
+				}
+				completeDeferred(e);
+			}else{
+				fail(e);
 			}
 		}finally{
-			// 最終処理
-			finalproc();
+			if(this.completionDeferred) {
+				// 処理の終了はcompleteDeferredと揃った時点で行う為、モデルスレッドを解放
+				releaseRunner();
+				releaseDeferred();
+			}else{
+				// タイムアウトの予約を取り消し
+				endExecution(expiry);
+				try {
+					// 最終処理
+					finalproc();
+				} finally {
+					// 終了時の処理
+					complete();
+				}
+				// インスタンスプール返却条件の成立を通知
+				readyToRecycle();
+			}
 		}
 	}
 
@@ -621,16 +1163,22 @@ public class BaseModel implements Model, Callable<Object>{
 	 *	// 発火
 	 *	fireModelSuccess(evt);
 	 * </pre>
+	 * <p>
+	 * 途中経過を通知する場合は{@link ModelProgressEvent}を発火します。
+	 * ModelProgressEventは成功回数に加算されません。
 	 *
 	 * @param evt モデル成功処理結果が入ったModelProcessEventインスタンス　
 	 */
 	public void fireModelSuccess(final ModelProcessEvent evt) {
-		incrementSuccessCount();
+		if(!(evt instanceof ModelProgressEvent)) {
+			incrementSuccessCount();
+		}
 
-		SwingUtilities.invokeLater(new Runnable(){
+		deliver("modelSuccess", new Runnable(){
 			@Override
 			public void run() {
-				for(ModelProcessListener listener : listenerList) {
+				// 終了イベント処理でインスタンスプールに返却（リスナクリア）される為、複製を走査する
+				for(ModelProcessListener listener : new ArrayList<ModelProcessListener>(listenerList)) {
 					listener.modelSuccess(evt);
 				}
 			}
@@ -645,16 +1193,18 @@ public class BaseModel implements Model, Callable<Object>{
 	 * このモデルに登録されているモデル処理監視リスナ群に対して処理が失敗したことを通知します。
 	 *
 	 * <p>[備 考] </p>
+	 * このイベントを発行したモデルはインスタンスプールに返却されません。
 	 *
 	 * @see BaseModel#fireModelSuccess(ModelProcessEvent)
 	 * @param evt モデル失敗処理結果が入ったModelProcessEventインスタンス
 	 */
 	public void fireModelFailure(final ModelProcessEvent evt) {
-
-		SwingUtilities.invokeLater(new Runnable(){
+		this.failed = true;
+		deliver("modelFailure", new Runnable(){
 			@Override
 			public void run() {
-				for(ModelProcessListener listener : listenerList) {
+				// 終了イベント処理でインスタンスプールに返却（リスナクリア）される為、複製を走査する
+				for(ModelProcessListener listener : new ArrayList<ModelProcessListener>(listenerList)) {
 					listener.modelFailure(evt);
 				}
 			}
@@ -674,13 +1224,78 @@ public class BaseModel implements Model, Callable<Object>{
 	 * @param evt モデル終了処理結果が入ったModelProcessEventインスタンス
 	 */
 	public void fireModelFinished(final ModelProcessEvent evt) {
-		SwingUtilities.invokeLater(new Runnable(){
+		deliver("modelFinished", new Runnable(){
 			@Override
 			public void run() {
-				for(ModelProcessListener listener : listenerList) {
+				// 終了イベント処理でインスタンスプールに返却（リスナクリア）される為、複製を走査する
+				for(ModelProcessListener listener : new ArrayList<ModelProcessListener>(listenerList)) {
 					listener.modelFinished(evt);
 				}
 			}
 		});
 	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * モデル処理イベントの配送処理をイベントディスパッチスレッドに投入します。
+	 *
+	 * <p>[詳 細] </p>
+	 * コントローラから起動されたモデルの場合、
+	 * {@link com.oneitthing.swingcontrollerizer.controller.ClientConfig#getModelEventQueue()}
+	 * に投入し、他のモデルのイベントとまとめて配送します。<br>
+	 * コントローラが設定されていない場合はSwingUtilities#invokeLaterで配送します。<br>
+	 * 配送処理中のイベントディスパッチスレッドの停滞は
+	 * {@link com.oneitthing.swingcontrollerizer.controller.ClientConfig#getEdtWatchdog()}で監視されます。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param eventType イベントタイプ（modelSuccess、modelFailure、modelFinished）
+	 * @param task 配送処理
+	 */
+	private void deliver(final String eventType, final Runnable task) {
+		BaseController controller = this.controller;
+		if(controller != null && controller.getClientConfig() != null) {
+			final MetricsRegistry metrics = controller.getClientConfig().getMetricsRegistry();
+			final EdtWatchdog watchdog = controller.getClientConfig().getEdtWatchdog();
+			final Class<?> modelClass = getClass();
+			final long posted = System.nanoTime();
+			ParameterMapping parameterMapping = this.parameterMapping;
+			final Class<?> actionClass = parameterMapping == null || parameterMapping.getActionInstance() == null
+					? null : parameterMapping.getActionInstance().getClass();
+			final Component component = parameterMapping == null ? null : parameterMapping.getListenerAddedComponent();
+			controller.getClientConfig().getModelEventQueue().post(new Runnable() {
+				@Override
+				public void run() {
+					// 発行からイベントディスパッチスレッドでの配送開始までの時間を記録
+					metrics.record(modelClass, MetricsRegistry.DELIVERY, System.nanoTime() - posted, false);
+					watchdog.enter(actionClass, component, modelClass, eventType);
+					try {
+						task.run();
+					} finally {
+						watchdog.exit();
+					}
+				}
+			});
+		}else{
+			SwingUtilities.invokeLater(task);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 処理時間を記録するレジストリを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return コントローラのレジストリ、コントローラが設定されていない場合は{@link MetricsRegistry#DISABLED}
+	 */
+	private MetricsRegistry getMetricsRegistry() {
+		BaseController controller = this.controller;
+		if(controller == null || controller.getClientConfig() == null) {
+			return MetricsRegistry.DISABLED;
+		}
+		return controller.getClientConfig().getMetricsRegistry();
+	}
 }
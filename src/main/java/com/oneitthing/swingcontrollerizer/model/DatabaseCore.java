@@ -503,6 +503,26 @@ public class DatabaseCore extends BaseModel {
 
 	}
 
+	/**
+	 * <p>[概 要] </p>
+	 * 実行中のSQLを取り消します。
+	 *
+	 * <p>[詳 細] </p>
+	 * Statement#cancelをコールし、SQL実行待ちのモデルスレッドを解放します。
+	 *
+	 * <p>[備 考] </p>
+	 * JDBCドライバが取り消しに対応していない場合はSQLExceptionが発生します。
+	 *
+	 * @throws SQLException 取り消しに失敗した場合
+	 */
+	@Override
+	protected void abort() throws SQLException {
+		Statement stmt = getStatement();
+		if (stmt != null) {
+			stmt.cancel();
+		}
+	}
+
 	/**
 	 * <p>[概 要] </p>
 	 *
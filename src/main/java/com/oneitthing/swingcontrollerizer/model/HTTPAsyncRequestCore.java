@@ -0,0 +1,630 @@
+package com.oneitthing.swingcontrollerizer.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import com.oneitthing.swingcontrollerizer.controller.ClientConfig;
+import com.oneitthing.swingcontrollerizer.event.ModelProcessEvent;
+import com.oneitthing.swingcontrollerizer.executor.HostConnectionLimiter;
+
+/**
+ * <p>[概 要] </p>
+ * java.net.http.HttpClientでサーバと非同期にHTTP通信を行う機能モデルクラスです。
+ *
+ * <p>[詳 細] </p>
+ * {@link HTTPRequestCore}と同じプロパティでリクエストを設定します。<br>
+ * mainprocはHttpClient#sendAsyncでリクエストを送信した時点で復帰し、
+ * レスポンスを待つ間モデルスレッドを占有しません。
+ * モデル処理成功イベント、モデル処理終了イベントはレスポンス受信後に発行されます。
+ * <p>
+ *
+ * HttpClientは{@link ClientConfig#getHttpClient()}でコントローラ毎に共有される為、
+ * 接続は再利用され、HTTP/2対応サーバとは一本の接続で多重化されます。<br>
+ * 接続先ホスト毎の同時リクエスト数は{@link ClientConfig#getHttpConnectionLimiter()}で制限され、
+ * 上限を超えたリクエストはスレッドを使用せずに送信を待ちます。
+ *
+ * <p>[備 考] </p>
+ * BASIC認証、DIGEST認証、Cookieに関する設定は{@link AbstractHTTPCore}を参照して下さい。<br>
+ * タイムアウト、中止時は送信待ち、通信中のリクエストを取り消します。
+ *
+ */
+public class HTTPAsyncRequestCore extends AbstractHTTPCore {
+
+	/** HTTPレスポンスをデシリアライズすることを示す定数です。 */
+	public static final String OBJECT = HTTPRequestCore.OBJECT;
+
+	/** HTTPレスポンスがバイナリ（byte[]）であることを示す定数です。 */
+	public static final String BINARY = HTTPRequestCore.BINARY;
+
+	/** HTTPレスポンスがプレーンテキストであることを示す定数です。 */
+	public static final String PLAIN = HTTPRequestCore.PLAIN;
+
+
+	/** HTTPリクエストを行うURLです。 */
+	private String requestUrl;
+
+	/** HTTPメソッドです。デフォルトはPOSTです。 */
+	private String requestMethod = "POST";
+
+	/** HTTPレスポンスをどのように扱うかを識別します。 */
+	private String responseType = OBJECT;
+
+	/** HTTP URLパラメータです。 */
+	private Map<String, String> urlParameters;
+
+	/** HTTPリクエストヘッダです。 */
+	private Map<String, String> requestHeaders;
+
+	/** リクエストボディです。設定されている場合、URLパラメータの代わりに送信します。 */
+	private HttpRequest.BodyPublisher bodyPublisher;
+
+	/** HTTPレスポンスコードです。 */
+	private volatile int responseCode;
+
+	/** 送信の許可です。中止時に取り消す為に保持します。 */
+	private volatile CompletableFuture<Void> permit;
+
+	/** 通信中のリクエストです。中止時に取り消す為に保持します。 */
+	private volatile CompletableFuture<HttpResponse<byte[]>> exchange;
+
+	/** 送信の許可待ちから通信終了までのリクエストです。中止時に取り消す為に保持します。 */
+	private volatile CompletableFuture<HttpResponse<byte[]>> pending;
+
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 * フィールドを初期化します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	public HTTPAsyncRequestCore() {
+		setUrlParameters(new LinkedHashMap<String, String>());
+		setRequestHeaders(new LinkedHashMap<String, String>());
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * HTTPリクエストを行うURLを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * requestUrlフィールドが"http"で始まらない場合、
+	 * ClientConfig#getDefaultHttpEnvironment()のURLプレフィックスを付与して返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return HTTPリクエストを行うURL
+	 */
+	public String getRequestUrl() {
+		return resolveRequestUrl(this.requestUrl);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * HTTPリクエストを行うURLを設定します。
+	 *
+	 * <p>[詳 細] </p>
+	 * requestUrlフィールドを設定します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param requestUrl HTTPリクエストを行うURL
+	 */
+	public void setRequestUrl(String requestUrl) {
+		this.requestUrl = requestUrl;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * HTTPメソッドを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * requestMethodフィールドを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return HTTPメソッド
+	 */
+	public String getRequestMethod() {
+		return requestMethod;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * HTTPメソッドを設定します。
+	 *
+	 * <p>[詳 細] </p>
+	 * requestMethodフィールドを設定します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param requestMethod HTTPメソッド
+	 */
+	public void setRequestMethod(String requestMethod) {
+		this.requestMethod = requestMethod;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * HTTPレスポンスをどのように扱うかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * responseTypeフィールドを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return HTTPレスポンスの扱い
+	 */
+	public String getResponseType() {
+		return responseType;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * HTTPレスポンスをどのように扱うかを設定します。
+	 *
+	 * <p>[詳 細] </p>
+	 * responseTypeフィールドを設定します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param responseType HTTPレスポンスの扱い
+	 */
+	public void setResponseType(String responseType) {
+		this.responseType = responseType;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * HTTP URLパラメータを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * urlParametersフィールドを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return HTTP URLパラメータ
+	 */
+	public Map<String, String> getUrlParameters() {
+		return urlParameters;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * HTTP URLパラメータを設定します。
+	 *
+	 * <p>[詳 細] </p>
+	 * urlParametersフィールドを設定します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param urlParameters HTTP URLパラメータ
+	 */
+	public void setUrlParameters(Map<String, String> urlParameters) {
+		this.urlParameters = urlParameters;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * HTTP URLパラメータを追加します。
+	 *
+	 * <p>[詳 細] </p>
+	 * urlParametersフィールドにkey=valueの形式で追加します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param key URLパラメータキー
+	 * @param value URLパラメータ値
+	 */
+	public void addUrlParameter(String key, String value) {
+		this.urlParameters.put(key, value);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * HTTPリクエストヘッダを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * requestHeadersフィールドを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return HTTPリクエストヘッダ
+	 */
+	public Map<String, String> getRequestHeaders() {
+		return requestHeaders;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * HTTPリクエストヘッダを設定します。
+	 *
+	 * <p>[詳 細] </p>
+	 * requestHeadersフィールドを設定します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param requestHeaders HTTPリクエストヘッダ
+	 */
+	public void setRequestHeaders(Map<String, String> requestHeaders) {
+		this.requestHeaders = requestHeaders;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * HTTPリクエストヘッダを追加します。
+	 *
+	 * <p>[詳 細] </p>
+	 * requestHeadersフィールドに追加します。
+	 *
+	 * <p>[備 考] </p>
+	 * Host、Content-Length等、HttpClientが管理するヘッダは設定出来ません。
+	 *
+	 * @param name ヘッダ名
+	 * @param value ヘッダ値
+	 */
+	public void addRequestHeader(String name, String value) {
+		this.requestHeaders.put(name, value);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * リクエストボディを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * bodyPublisherフィールドを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return リクエストボディ
+	 */
+	public HttpRequest.BodyPublisher getBodyPublisher() {
+		return bodyPublisher;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * リクエストボディを設定します。
+	 *
+	 * <p>[詳 細] </p>
+	 * bodyPublisherフィールドを設定します。<br>
+	 * 設定した場合、URLパラメータはクエリ文字列として送信されます。
+	 *
+	 * <p>[備 考] </p>
+	 * ファイル等の大きなボディはHttpRequest.BodyPublishers#ofFile等で設定すると、
+	 * メモリ上に展開せずに送信出来ます。
+	 *
+	 * @param bodyPublisher リクエストボディ
+	 */
+	public void setBodyPublisher(HttpRequest.BodyPublisher bodyPublisher) {
+		this.bodyPublisher = bodyPublisher;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * HTTPレスポンスコードを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * responseCodeフィールドを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 * レスポンス受信前は0です。
+	 *
+	 * @return HTTPレスポンスコード
+	 */
+	public int getResponseCode() {
+		return responseCode;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * HTTPレスポンスコードを設定します。
+	 *
+	 * <p>[詳 細] </p>
+	 * responseCodeフィールドを設定します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param responseCode HTTPレスポンスコード
+	 */
+	public void setResponseCode(int responseCode) {
+		this.responseCode = responseCode;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * リクエストを非同期に送信します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 処理の終了をレスポンス受信後まで遅らせ、接続先ホストの送信許可を得た後に
+	 * 共有HttpClientのsendAsyncで送信します。<br>
+	 * レスポンスの受信、又は通信の失敗で{@link #complete(HttpResponse, Throwable)}が呼び出されます。
+	 *
+	 * <p>[備 考] </p>
+	 * このメソッドはレスポンスを待たずに復帰します。
+	 *
+	 * @throws Exception リクエストの生成に失敗した場合
+	 */
+	@Override
+	protected void mainproc() throws Exception {
+		ClientConfig config = getController().getClientConfig();
+		final HttpClient client = config.getHttpClient();
+		final HostConnectionLimiter limiter = config.getHttpConnectionLimiter();
+		final HttpRequest request = createRequest();
+		final String host = request.uri().getScheme() + "://" + request.uri().getRawAuthority();
+
+		deferCompletion();
+
+		CompletableFuture<Void> permit = limiter.acquire(host);
+		this.permit = permit;
+		CompletableFuture<HttpResponse<byte[]>> pending = permit.thenCompose(
+			new Function<Void, CompletionStage<HttpResponse<byte[]>>>() {
+				@Override
+				public CompletionStage<HttpResponse<byte[]>> apply(Void v) {
+					CompletableFuture<HttpResponse<byte[]>> exchange;
+					try {
+						exchange = client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+					} catch(RuntimeException e) {
+						limiter.release(host);
+						throw e;
+					}
+					exchange.whenComplete(new BiConsumer<HttpResponse<byte[]>, Throwable>() {
+						@Override
+						public void accept(HttpResponse<byte[]> response, Throwable t) {
+							limiter.release(host);
+						}
+					});
+					HTTPAsyncRequestCore.this.exchange = exchange;
+					if(isCancelled()) {
+						exchange.cancel(true);
+					}
+					return exchange;
+				}
+			});
+		this.pending = pending;
+
+		pending.whenComplete(new BiConsumer<HttpResponse<byte[]>, Throwable>() {
+			@Override
+			public void accept(HttpResponse<byte[]> response, Throwable t) {
+				complete(response, t);
+			}
+		});
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 後処理テンプレートメソッドです。
+	 *
+	 * <p>[詳 細] </p>
+	 * 何も行いません。<br>
+	 * モデル処理成功イベント、モデル処理終了イベントは
+	 * {@link #complete(HttpResponse, Throwable)}がレスポンス受信後に発行します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	@Override
+	protected void postproc() throws Exception {
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 送信待ち、通信中のリクエストを取り消します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 送信許可待ちの場合は許可の要求を取り消し、通信中の場合はリクエストを取り消します。<br>
+	 * 取り消されたリクエストは中止例外でモデル処理失敗イベントを発行します。
+	 *
+	 * <p>[備 考] </p>
+	 * Java 11のHttpClientでは、sendAsyncのFutureを取り消しても通信自体は中止されません。
+	 * モデルは直ちに失敗しますが、接続と送信許可はレスポンスの受信、
+	 * 又はリクエストのタイムアウト（{@link #createRequest()}）まで使用されたままになります。
+	 *
+	 */
+	@Override
+	protected void abort() {
+		CompletableFuture<Void> permit = this.permit;
+		if(permit != null) {
+			permit.cancel(true);
+		}
+		CompletableFuture<HttpResponse<byte[]>> exchange = this.exchange;
+		if(exchange != null) {
+			exchange.cancel(true);
+		}
+		CompletableFuture<HttpResponse<byte[]>> pending = this.pending;
+		if(pending != null) {
+			pending.cancel(true);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * HTTPリクエストを生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 * GET、DELETE、HEADの場合、又はリクエストボディが設定されている場合は
+	 * URLパラメータをクエリ文字列に、それ以外の場合はフォーム形式のボディに設定します。<br>
+	 * クッキー送信する場合は、CookieManagerが保持しているクッキーをCookieヘッダに設定します。
+	 *
+	 * モデルのタイムアウト、{@link com.oneitthing.swingcontrollerizer.controller.ParameterMapping#getDeadline()}
+	 * が設定されている場合は、その残り時間をリクエストのタイムアウトに設定します。
+	 *
+	 * <p>[備 考] </p>
+	 * オーバーライドして、リクエストをカスタマイズ出来ます。<br>
+	 * 取り消したリクエストの接続を解放する為、タイムアウトを外さないで下さい。
+	 *
+	 * @return HTTPリクエスト
+	 * @throws IOException URLパラメータのエンコードに失敗した場合
+	 */
+	protected HttpRequest createRequest() throws IOException {
+		String method = getRequestMethod();
+		String url = getRequestUrl();
+		String query = createQueryString();
+
+		HttpRequest.BodyPublisher body = getBodyPublisher();
+		boolean bodyless = "GET".equalsIgnoreCase(method)
+			|| "DELETE".equalsIgnoreCase(method)
+			|| "HEAD".equalsIgnoreCase(method);
+
+		HttpRequest.Builder builder = HttpRequest.newBuilder();
+		if((bodyless || body != null) && query.length() > 0) {
+			url = url + (url.indexOf('?') < 0 ? "?" : "&") + query;
+		}
+		if(body == null) {
+			if(bodyless) {
+				body = HttpRequest.BodyPublishers.noBody();
+			}else{
+				body = HttpRequest.BodyPublishers.ofString(query);
+				builder.header("Content-Type", "application/x-www-form-urlencoded");
+			}
+		}
+		builder.uri(URI.create(url)).method(method, body);
+		// Futureの取り消しでは通信が中止されない為、モデルのタイムアウトで通信自体を打ち切る
+		long timeout = getTimeout();
+		if(getParameterMapping() != null && getParameterMapping().getDeadline() > 0) {
+			long remaining = Math.max(getParameterMapping().getDeadline() - System.currentTimeMillis(), 1);
+			timeout = timeout > 0 ? Math.min(timeout, remaining) : remaining;
+		}
+		if(timeout > 0) {
+			builder.timeout(Duration.ofMillis(timeout));
+		}
+
+		for(Map.Entry<String, String> header : getRequestHeaders().entrySet()) {
+			builder.setHeader(header.getKey(), header.getValue());
+		}
+		if(isSendCookie()) {
+			String cookies = createCookieString();
+			if(cookies.length() > 0) {
+				builder.setHeader("Cookie", cookies);
+			}
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * URLパラメータを「キー=値&キー=値...」の形式で連結します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 値はUTF-8でURLエンコードします。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 連結したURLパラメータ
+	 * @throws UnsupportedEncodingException エンコードに失敗した場合
+	 */
+	protected String createQueryString() throws UnsupportedEncodingException {
+		StringBuilder sb = new StringBuilder("");
+		Iterator<Map.Entry<String, String>> it = getUrlParameters().entrySet().iterator();
+		while(it.hasNext()) {
+			Map.Entry<String, String> param = it.next();
+			sb.append(URLEncoder.encode(param.getKey(), "UTF-8"));
+			sb.append("=");
+			sb.append(URLEncoder.encode(param.getValue(), "UTF-8"));
+			if(it.hasNext()) {
+				sb.append("&");
+			}
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * レスポンスを受信した時、又は通信が失敗した時に呼び出されます。
+	 *
+	 * <p>[詳 細] </p>
+	 * レスポンスコードとクッキーを保存し、responseTypeに従ってレスポンスボディを
+	 * 処理結果に変換した後、モデル処理成功イベント、モデル処理終了イベントを発行します。<br>
+	 * 失敗した場合、レスポンスコードが400以上の場合、中止された場合は
+	 * 例外でモデル処理失敗イベントを発行します。
+	 *
+	 * <p>[備 考] </p>
+	 * HttpClientのスレッド、又は中止したスレッドで実行されます。
+	 *
+	 * @param response レスポンス、失敗した場合はnull
+	 * @param t 通信で発生した例外、成功した場合はnull
+	 */
+	protected void complete(HttpResponse<byte[]> response, Throwable t) {
+		try {
+			if(t != null) {
+				throw t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+			}
+			setResponseCode(response.statusCode());
+			storeCookies(response.uri(), response.headers().map());
+			if(response.statusCode() >= 400) {
+				throw new IOException("Server returned HTTP response code: " +
+						response.statusCode() + " for URL: " + response.uri());
+			}
+			setResult(createResult(response));
+			checkCancelled();
+
+			ModelProcessEvent successEvent = new ModelProcessEvent(this);
+			successEvent.setResult(getResult());
+			fireModelSuccess(successEvent);
+
+			fireModelFinished(new ModelProcessEvent(this));
+
+			completeDeferred(null);
+		} catch(Exception e) {
+			completeDeferred(e);
+		} catch(Throwable e) {
+			completeDeferred(new IOException(e));
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * レスポンスボディを処理結果に変換します。
+	 *
+	 * <p>[詳 細] </p>
+	 * OBJECTの場合はデシリアライズしたオブジェクト、
+	 * PLAINの場合はContent-Typeの文字コードでデコードした文字列、
+	 * BINARYの場合はbyte[]を返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param response レスポンス
+	 * @return 処理結果
+	 * @throws Exception 変換に失敗した場合
+	 */
+	protected Object createResult(HttpResponse<byte[]> response) throws Exception {
+		byte[] body = response.body();
+		Object result = null;
+		if(OBJECT.equals(getResponseType())) {
+			ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(body));
+			try {
+				result = ois.readObject();
+			} finally {
+				ois.close();
+			}
+		}else if(BINARY.equals(getResponseType())) {
+			result = body;
+		}else if(PLAIN.equals(getResponseType())) {
+			String contentType = response.headers().firstValue("Content-Type").orElse(null);
+			result = new String(body, getResponseCharset(contentType));
+		}
+
+		return result;
+	}
+}
@@ -1,15 +1,22 @@
 package com.oneitthing.swingcontrollerizer.model;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.ObjectInputStream;
 import java.io.PrintWriter;
+import java.io.Reader;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.net.URLConnection;
 import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -17,6 +24,7 @@ import java.util.Set;
 
 import com.oneitthing.swingcontrollerizer.controller.ClientConfig;
 import com.oneitthing.swingcontrollerizer.event.ModelProcessEvent;
+import com.oneitthing.swingcontrollerizer.event.ModelProgressEvent;
 
 /**
  * <p>[概 要] </p>
@@ -25,7 +33,9 @@ import com.oneitthing.swingcontrollerizer.event.ModelProcessEvent;
  * <p>[詳 細] </p>
  *
  * <p>[備 考] </p>
- * BASIC認証、DIGEST認証、Cookieに関する設定は{@link AbstractHTTPCore}を参照して下さい。
+ * BASIC認証、DIGEST認証、Cookieに関する設定は{@link AbstractHTTPCore}を参照して下さい。<br>
+ * BINARYレスポンスはヒープに展開せず、ファイル、チャネル、{@link ChunkHandler}に
+ * ストリーミングで受け渡せます。受信中は{@link ModelProgressEvent}で途中経過を通知します。
  *
  *
 
@@ -35,8 +45,34 @@ import com.oneitthing.swingcontrollerizer.event.ModelProcessEvent;
  */
 public class HTTPRequestCore extends AbstractHTTPCore {
 
-	/** HTTPプレフィックスを示す定数です。 */
-	public static final String HTTP_URL_PREFIX = "http.url.prefix";
+	/**
+	 * <p>[概 要] </p>
+	 * BINARYレスポンスを受信した単位で受け取るハンドラです。
+	 *
+	 * <p>[詳 細] </p>
+	 * モデルスレッドで、受信した順に呼び出されます。
+	 *
+	 * <p>[備 考] </p>
+	 * 引数のバッファは呼び出し中のみ有効な読み取り専用バッファです。
+	 * 保持する場合は内容をコピーして下さい。
+	 *
+	 */
+	public interface ChunkHandler {
+
+		/**
+		 * <p>[概 要] </p>
+		 * 受信したレスポンスの一部を受け取ります。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 * 例外を発生させると受信は中止され、モデル処理失敗イベントが発行されます。
+		 *
+		 * @param chunk 受信したバイト列、positionからlimitまでが有効です
+		 * @throws Exception 処理に失敗した場合
+		 */
+		public void chunk(ByteBuffer chunk) throws Exception;
+	}
 
 	/** HTTPレスポンスをデシリアライズすることを示す定数です。 */
 	public static final String OBJECT = "OBJECT";
@@ -61,9 +97,21 @@ public class HTTPRequestCore extends AbstractHTTPCore {
 	private Map<String, String> urlParameters;
 
 
+	/** BINARYレスポンスの書き込み先ファイルです。 */
+	private File downloadFile;
+
+	/** BINARYレスポンスの書き込み先チャネルです。 */
+	private WritableByteChannel downloadChannel;
+
+	/** BINARYレスポンスを受信した単位で受け取るハンドラです。 */
+	private ChunkHandler chunkHandler;
+
 	/**  */
 	private int responseCode;
 
+	/** 通信中のコネクションです。中止時に切断する為に保持します。 */
+	private volatile URLConnection connection;
+
 
 	/**
 	 * <p>[概 要] </p>
@@ -77,15 +125,7 @@ public class HTTPRequestCore extends AbstractHTTPCore {
 	 * @return
 	 */
 	public String getRequestUrl() {
-		if(!this.requestUrl.startsWith("http") &&
-		   !this.requestUrl.startsWith("https"))
-		{
-			ClientConfig config = getController().getClientConfig();
-			String prefix = config.getDefaultHttpEnvironment().get(HTTP_URL_PREFIX);
-			return prefix + this.requestUrl;
-		}else{
-			return this.requestUrl;
-		}
+		return resolveRequestUrl(this.requestUrl);
 	}
 
 	/**
@@ -209,6 +249,99 @@ public class HTTPRequestCore extends AbstractHTTPCore {
 		this.urlParameters.put(key, value);
 	}
 
+	/**
+	 * <p>[概 要] </p>
+	 * BINARYレスポンスの書き込み先ファイルを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * downloadFileフィールドを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return BINARYレスポンスの書き込み先ファイル
+	 */
+	public File getDownloadFile() {
+		return downloadFile;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * BINARYレスポンスの書き込み先ファイルを設定します。
+	 *
+	 * <p>[詳 細] </p>
+	 * downloadFileフィールドを設定します。<br>
+	 * 設定した場合、レスポンスはファイルに上書きで書き込まれ、処理結果はこのファイルになります。
+	 *
+	 * <p>[備 考] </p>
+	 * 受信に失敗した場合、ファイルには受信済みの内容が残ります。
+	 *
+	 * @param downloadFile BINARYレスポンスの書き込み先ファイル
+	 */
+	public void setDownloadFile(File downloadFile) {
+		this.downloadFile = downloadFile;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * BINARYレスポンスの書き込み先チャネルを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * downloadChannelフィールドを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return BINARYレスポンスの書き込み先チャネル
+	 */
+	public WritableByteChannel getDownloadChannel() {
+		return downloadChannel;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * BINARYレスポンスの書き込み先チャネルを設定します。
+	 *
+	 * <p>[詳 細] </p>
+	 * downloadChannelフィールドを設定します。
+	 *
+	 * <p>[備 考] </p>
+	 * チャネルはクローズしません。
+	 *
+	 * @param downloadChannel BINARYレスポンスの書き込み先チャネル
+	 */
+	public void setDownloadChannel(WritableByteChannel downloadChannel) {
+		this.downloadChannel = downloadChannel;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * BINARYレスポンスを受信した単位で受け取るハンドラを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * chunkHandlerフィールドを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return BINARYレスポンスを受信した単位で受け取るハンドラ
+	 */
+	public ChunkHandler getChunkHandler() {
+		return chunkHandler;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * BINARYレスポンスを受信した単位で受け取るハンドラを設定します。
+	 *
+	 * <p>[詳 細] </p>
+	 * chunkHandlerフィールドを設定します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param chunkHandler BINARYレスポンスを受信した単位で受け取るハンドラ
+	 */
+	public void setChunkHandler(ChunkHandler chunkHandler) {
+		this.chunkHandler = chunkHandler;
+	}
+
 	/**
 	 * <p>[概 要] </p>
 	 *
@@ -256,11 +389,12 @@ public class HTTPRequestCore extends AbstractHTTPCore {
 	 *
 	 * <p>[備 考] </p>
 	 *
-	 * @throws IOException
+	 * @throws Exception
 	 */
 	@Override
-	protected void mainproc() throws IOException {
+	protected void mainproc() throws Exception {
 		URLConnection httpConn = createConnection();
+		this.connection = httpConn;
 		((HttpURLConnection)httpConn).setRequestMethod(getRequestMethod());
 
 		if(isSendCookie()) {
@@ -275,7 +409,10 @@ public class HTTPRequestCore extends AbstractHTTPCore {
 			createPostParameter(httpConn);
 			result = createObjectResult(httpConn);
 		}else if(BINARY.equals(getResponseType())) {
-
+			if(!getUrlParameters().isEmpty()) {
+				createPostParameter(httpConn);
+			}
+			result = createBinaryResult(httpConn);
 		}else if(PLAIN.equals(getResponseType())) {
 			result = createPlainResult(httpConn);
 		}
@@ -283,6 +420,25 @@ public class HTTPRequestCore extends AbstractHTTPCore {
 		setResult(result);
 	}
 
+	/**
+	 * <p>[概 要] </p>
+	 * 通信中のコネクションを切断します。
+	 *
+	 * <p>[詳 細] </p>
+	 * mainprocで接続したHttpURLConnectionをdisconnectし、
+	 * レスポンス待ちのモデルスレッドを解放します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	@Override
+	protected void abort() {
+		URLConnection connection = this.connection;
+		if(connection instanceof HttpURLConnection) {
+			((HttpURLConnection)connection).disconnect();
+		}
+	}
+
 	/**
 	 * <p>[概 要] </p>
 	 *
@@ -375,17 +531,131 @@ public class HTTPRequestCore extends AbstractHTTPCore {
 	 */
 	protected String createPlainResult(URLConnection httpConn) throws IOException {
 		InputStream is = httpConn.getInputStream();
-		BufferedReader br = new BufferedReader(new InputStreamReader(is));
+		Reader reader = new InputStreamReader(is, getResponseCharset(httpConn.getContentType()));
 
 		StringBuilder sb = new StringBuilder("");
-		String line = null;
-		while((line = br.readLine()) != null) {
-			sb = sb.append(line);
+		char[] buf = new char[8192];
+		try {
+			int n;
+			while((n = reader.read(buf)) != -1) {
+				sb.append(buf, 0, n);
+			}
+		} finally {
+			reader.close();
 		}
 
 		return sb.toString();
 	}
 
+	/**
+	 * <p>[概 要] </p>
+	 * BINARYレスポンスをストリーミングで受信します。
+	 *
+	 * <p>[詳 細] </p>
+	 * ClientConfig#getHttpBufferSize()バイトのバッファ単位で受信し、
+	 * 設定されている書き込み先ファイル、書き込み先チャネル、ChunkHandlerに順に受け渡します。<br>
+	 * ClientConfig#getHttpProgressInterval()ミリ秒毎に、受信済みバイト数と
+	 * Content-Lengthを{@link ModelProgressEvent}で通知します。
+	 * <p>
+	 *
+	 * 処理結果は以下の通りです。
+	 * <ul>
+	 *     <li>書き込み先ファイルが設定されている場合：書き込んだFile</li>
+	 *     <li>書き込み先チャネル、ChunkHandlerのみ設定されている場合：受信したバイト数（Long）</li>
+	 *     <li>何れも設定されていない場合：受信したbyte[]</li>
+	 * </ul>
+	 *
+	 * <p>[備 考] </p>
+	 * 受信中の中止、タイムアウトはバッファ単位で検知します。<br>
+	 * URLConnectionの入力はストリームの為、ダイレクトバッファを使用してもヒープからのコピーが増えるのみです。
+	 * バッファはレスポンス毎に一つだけ確保して、全ての読み込みで再利用します。
+	 *
+	 * @param httpConn 接続済みのコネクション
+	 * @return 処理結果
+	 * @throws Exception 受信、書き込みに失敗した場合
+	 */
+	protected Object createBinaryResult(URLConnection httpConn) throws Exception {
+		ClientConfig config = getController().getClientConfig();
+		long interval = config.getHttpProgressInterval() * 1000000L;
+		long total = httpConn.getContentLengthLong();
+
+		ChunkHandler handler = getChunkHandler();
+		WritableByteChannel channel = getDownloadChannel();
+		FileChannel file = null;
+		ByteArrayOutputStream heap = null;
+		if(channel == null && handler == null && getDownloadFile() == null) {
+			// 受け渡し先が無い場合はヒープに受信する
+			heap = new ByteArrayOutputStream(total > 0 && total <= Integer.MAX_VALUE ? (int)total : 8192);
+		}
+
+		InputStream in = httpConn.getInputStream();
+		byte[] bytes = new byte[config.getHttpBufferSize()];
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		long transferred = 0;
+		long lastProgress = System.nanoTime();
+		try {
+			if(getDownloadFile() != null) {
+				file = FileChannel.open(getDownloadFile().toPath(), StandardOpenOption.CREATE,
+						StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+			}
+			int n;
+			while((n = in.read(bytes)) != -1) {
+				checkCancelled();
+				buffer.limit(n).position(0);
+				if(file != null) {
+					writeFully(file, buffer.duplicate());
+				}
+				if(channel != null) {
+					writeFully(channel, buffer.duplicate());
+				}
+				if(handler != null) {
+					handler.chunk(buffer.asReadOnlyBuffer());
+				}
+				if(heap != null) {
+					heap.write(bytes, 0, n);
+				}
+				transferred += n;
+
+				// 途中経過は間隔を空けて通知し、イベントディスパッチスレッドを占有しない
+				long now = System.nanoTime();
+				if(interval > 0 && now - lastProgress >= interval) {
+					lastProgress = now;
+					fireModelSuccess(new ModelProgressEvent(this, transferred, total));
+				}
+			}
+		} finally {
+			in.close();
+			if(file != null) {
+				file.close();
+			}
+		}
+
+		if(getDownloadFile() != null) {
+			return getDownloadFile();
+		}else if(heap != null) {
+			return heap.toByteArray();
+		}
+		return Long.valueOf(transferred);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数bufferの残り全てを引数channelに書き込みます。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param channel 書き込み先チャネル
+	 * @param buffer 書き込むバイト列
+	 * @throws IOException 書き込みに失敗した場合
+	 */
+	private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+		while(buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
 	/**
 	 * <p>[概 要] </p>
 	 *
@@ -410,6 +410,24 @@ public class JMSProduceCore extends BaseModel {
 		getProducer().send(getMessage());
 	}
 
+	/**
+	 * <p>[概 要] </p>
+	 * QueueSessionを閉じます。
+	 *
+	 * <p>[詳 細] </p>
+	 * セッションを閉じることで、送受信待ちのモデルスレッドを解放します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @throws JMSException セッションのクローズに失敗した場合
+	 */
+	@Override
+	protected void abort() throws JMSException {
+		if(getQueueSession() != null) {
+			getQueueSession().close();
+		}
+	}
+
 	/**
 	 * <p>[概 要] </p>
 	 * モデル処理成功イベント、モデル処理終了イベントを発行します。
@@ -478,6 +478,24 @@ public class JMSPublishCore extends BaseModel {
 		getPublisher().publish(getMessage());
 	}
 
+	/**
+	 * <p>[概 要] </p>
+	 * TopicSessionを閉じます。
+	 *
+	 * <p>[詳 細] </p>
+	 * セッションを閉じることで、送受信待ちのモデルスレッドを解放します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @throws JMSException セッションのクローズに失敗した場合
+	 */
+	@Override
+	protected void abort() throws JMSException {
+		if(getTopicSession() != null) {
+			getTopicSession().close();
+		}
+	}
+
 	/**
 	 * <p>[概 要] </p>
 	 * モデル処理成功イベント、モデル処理終了イベントを発行します。
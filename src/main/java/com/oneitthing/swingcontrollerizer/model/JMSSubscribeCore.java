@@ -649,6 +649,24 @@ public class JMSSubscribeCore extends BaseModel implements MessageListener {
 		}
 	}
 
+	/**
+	 * <p>[概 要] </p>
+	 * TopicSessionを閉じます。
+	 *
+	 * <p>[詳 細] </p>
+	 * セッションを閉じることで、送受信待ちのモデルスレッドを解放します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @throws JMSException セッションのクローズに失敗した場合
+	 */
+	@Override
+	protected void abort() throws JMSException {
+		if(getTopicSession() != null) {
+			getTopicSession().close();
+		}
+	}
+
 	/**
 	 * <p>[概 要] </p>
 	 * トピックメッセージ受信ハンドラです。
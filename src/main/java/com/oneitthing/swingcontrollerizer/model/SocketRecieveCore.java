@@ -6,15 +6,19 @@ import java.io.OutputStream;
 import java.net.Socket;
 import java.util.Map;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
+import com.oneitthing.swingcontrollerizer.controller.BaseController;
 import com.oneitthing.swingcontrollerizer.event.ModelProcessEvent;
+import com.oneitthing.swingcontrollerizer.executor.ModelExecutor;
+import com.oneitthing.swingcontrollerizer.executor.VirtualThreadModelExecutor;
 import com.oneitthing.swingcontrollerizer.manager.SocketManager;
 
 public class SocketRecieveCore extends BaseModel {
 
+	/** 受信スレッド名です。 */
+	private static final String THREAD_NAME = "swing-controllerizer-socket-reciever";
+
 	private String ip;
 
 	private int port;
@@ -51,12 +55,44 @@ public class SocketRecieveCore extends BaseModel {
 		Reciever reciever = new Reciever();
 		reciever.setSocketInfo(socketInfo);
 
-		ExecutorService executor = Executors.newCachedThreadPool();
-		Future<Object> future = executor.submit(reciever);
+		ModelExecutor executor = getVirtualExecutor();
+		if (executor != null) {
+			// 仮想スレッドはワーカを占有しない為、モデルエグゼキュータで実行する
+			executor.submit(reciever);
+		} else {
+			// 受信ループは終了しない為、モデルエグゼキュータのワーカを占有しないよう専用スレッドで実行する
+			Thread thread = new Thread(new FutureTask<Object>(reciever), THREAD_NAME);
+			thread.setDaemon(true);
+			thread.start();
+		}
 
 		return true;
 	}
 
+	/**
+	 * <p>[概 要] </p>
+	 * 仮想スレッドで実行するモデルエグゼキュータを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * コントローラのモデルエグゼキュータが仮想スレッドで実行する
+	 * {@link VirtualThreadModelExecutor}の場合のみ返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 仮想スレッドで実行するモデルエグゼキュータ、それ以外の場合はnull
+	 */
+	private ModelExecutor getVirtualExecutor() {
+		BaseController controller = getController();
+		if (controller == null || controller.getClientConfig() == null) {
+			return null;
+		}
+		ModelExecutor executor = controller.getClientConfig().getModelExecutor();
+		if (executor instanceof VirtualThreadModelExecutor && ((VirtualThreadModelExecutor) executor).isVirtual()) {
+			return executor;
+		}
+		return null;
+	}
+
 	@Override
 	protected void mainproc() throws Exception {
 //		Log.d("", "SocketCore mainproc");
@@ -1,8 +1,9 @@
 package com.oneitthing.swingcontrollerizer.parser;
 
 import java.awt.Component;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.swing.JButton;
 import javax.swing.JCheckBox;
@@ -38,6 +39,12 @@ import com.oneitthing.swingcontrollerizer.common.exception.CoreLogicException;
  * 単一の方法で値を取る為の手法を提供します。
  * <P>
  *
+ * パーサはコンポーネントクラス毎に一度だけ解決され、以降はキャッシュから取得されます。<br>
+ * コンポーネントクラスがPARSERSに無い場合はスーパークラスを辿って解決する為、
+ * JTextField等のサブクラスも値を取得できます。<br>
+ * パーサは状態を持たない為、パーサクラス毎に一つのインスタンスを共有します。
+ * <P>
+ *
  * <B>NexawebコンポーネントとSwingControllerizerが提供するValuePaserの対応表</B>
  * 	<TABLE border="1">
  * 		<TR>
@@ -119,12 +126,22 @@ import com.oneitthing.swingcontrollerizer.common.exception.CoreLogicException;
  */
 public class ComponentValueParser implements Parser{
 
-	/** コンポーネント種類毎に用意されたパーサ群をマッピングします。 */
+	/**
+	 * コンポーネント種類毎に用意されたパーサ群をマッピングします。<br>
+	 * 解決済みのキャッシュを破棄する為、変更は{@link #addParser(Class, Class)}で行って下さい。
+	 */
 	public static final Map<Class<? extends Component>, Class<? extends Parser>> PARSERS;
 
+	/** パーサクラス毎に共有するパーサインスタンスです。 */
+	private static final ConcurrentMap<Class<? extends Parser>, Parser> INSTANCES =
+		new ConcurrentHashMap<Class<? extends Parser>, Parser>();
+
+	/** コンポーネントクラス毎のパーサ解決結果のキャッシュです。addParser時に作り直されます。 */
+	private static volatile ClassValue<Resolution> resolutions = newResolutions();
+
 	static{
 		// PARSERS static領域を初期化。フレームワークが提供するValuePaser群を登録。
-		PARSERS = new HashMap<Class<? extends Component>, Class<? extends Parser>>();
+		PARSERS = new ConcurrentHashMap<Class<? extends Component>, Class<? extends Parser>>();
 		PARSERS.put(JButton.class, JButtonValueParser.class);
 		PARSERS.put(JCheckBox.class, JCheckBoxValueParser.class);
 		PARSERS.put(JComboBox.class, JComboBoxValueParser.class);
@@ -145,32 +162,81 @@ public class ComponentValueParser implements Parser{
 	 * Swingコンポーネントの値解析を行うメソッドです。
 	 *
 	 * <p>[詳 細] </p>
-	 * 引数elementのローカル名を元にPARSERSからParserクラスを取り出し
-	 * インスタンス化、parseメソッドを引数elementで呼び出します。
+	 * 引数componentのクラスに対して解決済みのParserを取り出し、
+	 * parseメソッドを引数componentで呼び出します。
 	 *
 	 * <p>[備 考] </p>
+	 * 対応するParserが無い場合はnullを返却します。
 	 *
 	 * @param component 解析対象コンポーネント
 	 */
 	public ComponentValues parse(Component component) throws Exception{
-		ComponentValues ret = null;
-		try{
-			Class<? extends Component> type = component.getClass();
-			Parser parser = null;
-			if(PARSERS.containsKey(type)){
-				parser = (Parser)((Class<? extends Parser>)PARSERS.get(type)).newInstance();
-			}else{
-				return null;
+		Resolution resolution = resolutions.get(component.getClass());
+		if(resolution.errorCode != null){
+			throw new CoreLogicException(resolution.errorCode);
+		}
+		if(resolution.parser == null){
+			return null;
+		}
+
+		return (ComponentValues)resolution.parser.parse(component);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンポーネントクラス毎のパーサ解決キャッシュを生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 * コンポーネントクラスからスーパークラスを辿り、最初にPARSERSに登録されているクラスの
+	 * パーサを解決結果とします。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return パーサ解決キャッシュ
+	 */
+	private static ClassValue<Resolution> newResolutions() {
+		return new ClassValue<Resolution>() {
+			@Override
+			protected Resolution computeValue(Class<?> type) {
+				for(Class<?> c = type; c != null; c = c.getSuperclass()){
+					Class<? extends Parser> parserClass = PARSERS.get(c);
+					if(parserClass != null){
+						return resolve(parserClass);
+					}
+				}
+				return Resolution.NONE;
 			}
+		};
+	}
 
-			ret = (ComponentValues)parser.parse(component);
-		}catch(IllegalAccessException e){
-			throw new CoreLogicException("EFC0011");
-		}catch(InstantiationException e){
-			throw new CoreLogicException("EFC0012");
+	/**
+	 * <p>[概 要] </p>
+	 * 引数parserClassの共有インスタンスを解決します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 初回のみインスタンス化し、以降は同じインスタンスを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param parserClass パーサクラス
+	 * @return 解決結果
+	 */
+	private static Resolution resolve(Class<? extends Parser> parserClass) {
+		Parser parser = INSTANCES.get(parserClass);
+		if(parser == null){
+			try{
+				parser = parserClass.newInstance();
+			}catch(IllegalAccessException e){
+				return new Resolution(null, "EFC0011");
+			}catch(InstantiationException e){
+				return new Resolution(null, "EFC0012");
+			}
+			Parser shared = INSTANCES.putIfAbsent(parserClass, parser);
+			if(shared != null){
+				parser = shared;
+			}
 		}
-
-		return ret;
+		return new Resolution(parser, null);
 	}
 
 	/**
@@ -179,6 +245,7 @@ public class ComponentValueParser implements Parser{
 	 *
 	 * <p>[詳 細] </p>
 	 * 各コンポーネント名に対応する、値パーサマップに新規、上書き追加します。<br>
+	 * 解決済みのキャッシュは破棄され、次回のparse時に再解決されます。
 	 *
 	 * <p>[備 考] </p>
 	 *
@@ -189,5 +256,44 @@ public class ComponentValueParser implements Parser{
 									Class<? extends Parser> parser)
 	{
 		PARSERS.put(elementName, parser);
+		resolutions = newResolutions();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンポーネントクラスに対するパーサの解決結果です。
+	 *
+	 * <p>[詳 細] </p>
+	 * 解決したパーサ、又はインスタンス化に失敗した場合のエラーコードを保持します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static final class Resolution {
+
+		/** 対応するパーサが無いことを表す解決結果です。 */
+		static final Resolution NONE = new Resolution(null, null);
+
+		/** 解決したパーサです。 */
+		final Parser parser;
+
+		/** インスタンス化に失敗した場合のエラーコードです。 */
+		final String errorCode;
+
+		/**
+		 * <p>[概 要] </p>
+		 * コンストラクタです。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @param parser 解決したパーサ
+		 * @param errorCode エラーコード
+		 */
+		Resolution(Parser parser, String errorCode) {
+			this.parser = parser;
+			this.errorCode = errorCode;
+		}
 	}
 }
@@ -0,0 +1,287 @@
+package com.oneitthing.swingcontrollerizer.parser;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * <p>[概 要] </p>
+ * 画面内の名前付きコンポーネントの値を一括して保持する不変オブジェクトです。
+ *
+ * <p>[詳 細] </p>
+ * {@link #capture(Component)}でルートコンポーネントの子孫を一度だけ走査し、
+ * name属性を持つ全てのコンポーネントの値を{@link ComponentValueParser}で取得して保持します。<br>
+ * 以降の値取得はコンポーネントツリーの走査やSwingコンポーネントへのアクセスを行いません。
+ * <p>
+ *
+ * 生成後は変更されない為、アクションで取得したスナップショットをモデルに渡し、
+ * モデルのワーカースレッドから参照することが出来ます。
+ *
+ * <p>[備 考] </p>
+ * 同名のコンポーネントが複数有る場合は、
+ * {@link com.oneitthing.swingcontrollerizer.util.ComponentSearchUtil#searchComponentByName(Component, String)}
+ * と同じく、深さ優先で最初に見つかったコンポーネントの値を保持します。
+ * 最初に見つかったコンポーネントに値パーサが無い場合は、値nullとして保持します。<br>
+ * 値オブジェクト自体（JListの選択要素等）は複製しません。
+ *
+ * <b>使い方</b></p>
+ * <pre class="samplecode">
+ *	protected boolean prepare(ParameterMapping parameterMapping) throws Exception {
+ *		FormSnapshot form = takeFormSnapshot();
+ *		String id = form.getComponentValueAsString("entryFrame.tfId");
+ *		String name = form.getComponentValueAsString("entryFrame.tfName");
+ *		parameterMapping.put("form", form);
+ *		return true;
+ *	}
+ * </pre>
+ *
+ */
+public final class FormSnapshot {
+
+	/** コンポーネント名毎の値です。 */
+	private final Map<String, Object[]> values;
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 * スナップショットは{@link #capture(Component)}で生成します。
+	 *
+	 * @param values コンポーネント名毎の値
+	 */
+	private FormSnapshot(Map<String, Object[]> values) {
+		this.values = Collections.unmodifiableMap(values);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数rootとその子孫の値を取得してスナップショットを生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 * イベントディスパッチスレッドで走査します。<br>
+	 * 他のスレッドから呼び出された場合は、イベントディスパッチスレッドで走査が完了するまで待機します。
+	 *
+	 * <p>[備 考] </p>
+	 * 引数rootがnullの場合は、値を一つも保持しないスナップショットを返却します。
+	 *
+	 * @param root 値を取得するルートコンポーネント
+	 * @return スナップショット
+	 * @throws Exception 値の取得に失敗した場合
+	 */
+	public static FormSnapshot capture(final Component root) throws Exception {
+		if(root == null) {
+			return new FormSnapshot(new LinkedHashMap<String, Object[]>());
+		}
+		if(SwingUtilities.isEventDispatchThread()) {
+			return new FormSnapshot(collect(root));
+		}
+
+		final FormSnapshot[] ret = new FormSnapshot[1];
+		final Exception[] error = new Exception[1];
+		try {
+			SwingUtilities.invokeAndWait(new Runnable() {
+				public void run() {
+					try {
+						ret[0] = new FormSnapshot(collect(root));
+					} catch(Exception e) {
+						error[0] = e;
+					}
+				}
+			});
+		} catch(InvocationTargetException e) {
+			Throwable cause = e.getCause();
+			if(cause instanceof RuntimeException) {
+				throw (RuntimeException)cause;
+			}
+			if(cause instanceof Error) {
+				throw (Error)cause;
+			}
+			throw e;
+		}
+		if(error[0] != null) {
+			throw error[0];
+		}
+
+		return ret[0];
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数rootとその子孫の値を深さ優先で取得します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param root 値を取得するルートコンポーネント
+	 * @return コンポーネント名毎の値
+	 * @throws Exception 値の取得に失敗した場合
+	 */
+	private static Map<String, Object[]> collect(Component root) throws Exception {
+		Map<String, Object[]> ret = new LinkedHashMap<String, Object[]>();
+		collect(ret, new ComponentValueParser(), root);
+
+		return ret;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentとその子孫の値を引数mapに格納します。
+	 *
+	 * <p>[詳 細] </p>
+	 * name属性を持つコンポーネントの値を格納します。<br>
+	 * パーサが無いコンポーネントは、同名の後続コンポーネントの値を格納しないよう、値nullとして格納します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param map 値の格納先
+	 * @param parser 値パーサ
+	 * @param component 値を取得するコンポーネント
+	 * @throws Exception 値の取得に失敗した場合
+	 */
+	private static void collect(Map<String, Object[]> map, ComponentValueParser parser, Component component) throws Exception {
+		String name = component.getName();
+		if(name != null && name.length() != 0 && !map.containsKey(name)) {
+			ComponentValues componentValues = parser.parse(component);
+			Object[] value = null;
+			if(componentValues != null) {
+				value = new Object[componentValues.size()];
+				for(int i = 0; i < value.length; i++) {
+					value[i] = componentValues.getComponentValue(i).getValue();
+				}
+			}
+			map.put(name, value);
+		}
+
+		if(component instanceof Container) {
+			for(Component c : ((Container)component).getComponents()) {
+				collect(map, parser, c);
+			}
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 値を保持しているコンポーネント名を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 走査順に並んだ変更不可能なSetを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return コンポーネント名
+	 */
+	public Set<String> getComponentNames() {
+		return this.values.keySet();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentNameの値を保持しているかどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param componentName コンポーネント名
+	 * @return 保持している場合true（値パーサが無いコンポーネントの場合も含む）
+	 */
+	public boolean contains(String componentName) {
+		return this.values.containsKey(componentName);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentNameの値を汎用的な値格納オブジェクトで返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 呼び出し毎に新しいComponentValuesを生成して返却する為、
+	 * 戻り値を変更してもスナップショットには影響しません。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param componentName コンポーネント名
+	 * @return コンポーネント値の汎用格納オブジェクト、値を保持していない場合、値パーサが無いコンポーネントの場合はnull
+	 */
+	public ComponentValues getComponentValues(String componentName) {
+		Object[] value = this.values.get(componentName);
+		if(value == null) {
+			return null;
+		}
+
+		ComponentValues ret = new ComponentValues();
+		for(Object v : value) {
+			ret.addComponentValue(new ComponentValue(componentName, v));
+		}
+
+		return ret;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentNameの0番目の値を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link com.oneitthing.swingcontrollerizer.action.AbstractAction}のgetComponentValueと同じ値を返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param componentName コンポーネント名
+	 * @return コンポーネント値、値を保持していない場合や値が無い場合はnull
+	 */
+	public Object getComponentValue(String componentName) {
+		Object[] value = this.values.get(componentName);
+		if(value == null || value.length == 0) {
+			return null;
+		}
+
+		return value[0];
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentNameの0番目の値を文字列で返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param componentName コンポーネント名
+	 * @return コンポーネント値の文字列、値を保持していない場合や値が無い場合はnull
+	 */
+	public String getComponentValueAsString(String componentName) {
+		Object value = getComponentValue(componentName);
+		if(value == null) {
+			return null;
+		}
+
+		return value.toString();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentNameの値の数を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * JList等、複数の値を持つコンポーネントの場合は選択数です。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param componentName コンポーネント名
+	 * @return 値の数、値を保持していない場合は0
+	 */
+	public int size(String componentName) {
+		Object[] value = this.values.get(componentName);
+
+		return value == null ? 0 : value.length;
+	}
+}
@@ -0,0 +1,467 @@
+package com.oneitthing.swingcontrollerizer.util;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Window;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * <p>[概 要] </p>
+ * ウィンドウ毎の、コンポーネント名からコンポーネントへの索引です。
+ *
+ * <p>[詳 細] </p>
+ * コントローラがウィンドウを管理下に置いた時（{@link #build(Window)}）に生成され、
+ * ウィンドウが閉じられた時（{@link #drop(Window)}）に破棄されます。<br>
+ * 生成後はコンテナのコンポーネント追加削除（ContainerListenerImpl等からの
+ * {@link #componentAdded(Container, Component)}、{@link #componentRemoved(Container, Component)}）と、
+ * コンポーネントのname属性変更に追随します。
+ * <p>
+ *
+ * {@link ComponentSearchUtil}は索引が有るウィンドウに対する名前検索をこのクラスに委譲し、
+ * ウィンドウ全体の走査を行いません。
+ *
+ * <p>[備 考] </p>
+ * コンポーネントは弱参照で保持される為、索引がコンポーネントの解放を妨げることは有りません。<br>
+ * 同名のコンポーネントが複数有る場合、検索結果はウィンドウ全体を走査した場合と同じ
+ * （深さ優先の）順序で返却されます。
+ *
+ */
+public class ComponentNameIndex {
+
+	/** ウィンドウ毎の索引です。 */
+	private static final Map<Window, ComponentNameIndex> INDEXES =
+		Collections.synchronizedMap(new WeakHashMap<Window, ComponentNameIndex>());
+
+	/** コンポーネント名毎の、コンポーネントの弱参照リストです。 */
+	private final Map<String, List<WeakReference<Component>>> index =
+		new HashMap<String, List<WeakReference<Component>>>();
+
+	/** 索引に登録されたコンポーネントのname属性変更を監視するリスナです。 */
+	private final PropertyChangeListener nameListener = new PropertyChangeListener() {
+		@Override
+		public void propertyChange(PropertyChangeEvent evt) {
+			renamed((Component)evt.getSource(), (String)evt.getOldValue(), (String)evt.getNewValue());
+		}
+	};
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンストラクタです。
+	 *
+	 * <p>[詳 細] </p>
+	 * 索引は{@link #build(Window)}で生成します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private ComponentNameIndex() {
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数windowの索引を生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 * windowが包含するコンポーネントを走査して索引を生成します。<br>
+	 * 既に索引が有る場合は既存の索引を返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param window 索引を生成するウィンドウ
+	 * @return windowの索引
+	 */
+	public static ComponentNameIndex build(Window window) {
+		synchronized (INDEXES) {
+			ComponentNameIndex ret = INDEXES.get(window);
+			if (ret == null) {
+				ret = new ComponentNameIndex();
+				ret.addTree(window);
+				INDEXES.put(window, ret);
+			}
+			return ret;
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数windowの索引を破棄します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 索引に登録されたコンポーネントからname属性変更の監視を外します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param window 索引を破棄するウィンドウ
+	 */
+	public static void drop(Window window) {
+		ComponentNameIndex index = INDEXES.remove(window);
+		if (index != null) {
+			index.removeTree(window);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentが属するウィンドウの索引を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * componentのparentを辿り、索引が有るウィンドウを探します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param component 索引を探すコンポーネント
+	 * @return 索引、ウィンドウに属さない場合や索引が無い場合はnull
+	 */
+	public static ComponentNameIndex find(Component component) {
+		for (Component c = component; c != null; c = c.getParent()) {
+			if (c instanceof Window) {
+				return INDEXES.get(c);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンテナにコンポーネントが追加されたことを索引に反映します。
+	 *
+	 * <p>[詳 細] </p>
+	 * containerが属するウィンドウに索引が有る場合、childとその子孫を索引に追加します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param container コンポーネントが追加されたコンテナ
+	 * @param child 追加されたコンポーネント
+	 */
+	public static void componentAdded(Container container, Component child) {
+		ComponentNameIndex index = find(container);
+		if (index != null) {
+			index.addTree(child);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンテナからコンポーネントが削除されたことを索引に反映します。
+	 *
+	 * <p>[詳 細] </p>
+	 * containerが属するウィンドウに索引が有る場合、childとその子孫を索引から削除します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param container コンポーネントが削除されたコンテナ
+	 * @param child 削除されたコンポーネント
+	 */
+	public static void componentRemoved(Container container, Component child) {
+		ComponentNameIndex index = find(container);
+		if (index != null) {
+			index.removeTree(child);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数rootの子孫から引数nameを持つコンポーネントを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link ComponentSearchUtil#searchComponentByName(Component, String)}と同じ結果を索引から返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param root コンポーネントを探すルート
+	 * @param name 探すコンポーネントの名前
+	 * @return nameを名前として持つコンポーネント。見つからなかった場合はnull。
+	 */
+	public synchronized Component lookup(Component root, String name) {
+		List<Component> found = collect(root, name);
+		if (found.isEmpty()) {
+			return null;
+		}
+		if (found.size() > 1) {
+			sortByTreeOrder(found);
+		}
+		return found.get(0);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数rootの子孫から引数nameを持つ全てのコンポーネントを引数listに追加します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link ComponentSearchUtil#searchComponentsByName(List, Component, String)}と同じ結果を索引から返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param list 検出されたコンポーネントが格納されるリスト
+	 * @param root コンポーネントを探すルート
+	 * @param name 探すコンポーネントの名前
+	 */
+	public synchronized void lookupAll(List<Component> list, Component root, String name) {
+		List<Component> found = collect(root, name);
+		if (found.size() > 1) {
+			sortByTreeOrder(found);
+		}
+		list.addAll(found);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数nameで索引されたコンポーネントの内、引数rootの子孫であるものを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 解放済みのコンポーネントは索引から取り除きます。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param root コンポーネントを探すルート
+	 * @param name 探すコンポーネントの名前
+	 * @return 見つかったコンポーネント
+	 */
+	private List<Component> collect(Component root, String name) {
+		List<Component> ret = new ArrayList<Component>(1);
+		List<WeakReference<Component>> refs = this.index.get(name);
+		if (refs == null) {
+			return ret;
+		}
+		for (Iterator<WeakReference<Component>> it = refs.iterator(); it.hasNext();) {
+			Component c = it.next().get();
+			if (c == null) {
+				it.remove();
+			} else if (name.equals(c.getName()) && isDescendant(root, c)) {
+				ret.add(c);
+			}
+		}
+		if (refs.isEmpty()) {
+			this.index.remove(name);
+		}
+		return ret;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentとその子孫を索引に追加します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link ComponentSearchUtil}の走査と同じく、Container#getComponents()で子孫を辿ります。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param component 追加するコンポーネント
+	 */
+	private synchronized void addTree(Component component) {
+		if (!isWatched(component)) {
+			component.addPropertyChangeListener("name", this.nameListener);
+			put(component.getName(), component);
+		}
+		if (component instanceof Container) {
+			for (Component c : ((Container)component).getComponents()) {
+				addTree(c);
+			}
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentとその子孫を索引から削除します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param component 削除するコンポーネント
+	 */
+	private synchronized void removeTree(Component component) {
+		component.removePropertyChangeListener("name", this.nameListener);
+		remove(component.getName(), component);
+		if (component instanceof Container) {
+			for (Component c : ((Container)component).getComponents()) {
+				removeTree(c);
+			}
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * コンポーネントのname属性変更を索引に反映します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param component name属性が変更されたコンポーネント
+	 * @param oldName 変更前の名前
+	 * @param newName 変更後の名前
+	 */
+	private synchronized void renamed(Component component, String oldName, String newName) {
+		remove(oldName, component);
+		put(newName, component);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentを引数nameで索引します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 * nameがnull、空文字の場合は索引しません。
+	 *
+	 * @param name コンポーネント名
+	 * @param component コンポーネント
+	 */
+	private void put(String name, Component component) {
+		if (name == null || name.length() == 0) {
+			return;
+		}
+		List<WeakReference<Component>> refs = this.index.get(name);
+		if (refs == null) {
+			refs = new ArrayList<WeakReference<Component>>(1);
+			this.index.put(name, refs);
+		}
+		refs.add(new WeakReference<Component>(component));
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数nameの索引から引数componentを取り除きます。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param name コンポーネント名
+	 * @param component コンポーネント
+	 */
+	private void remove(String name, Component component) {
+		if (name == null) {
+			return;
+		}
+		List<WeakReference<Component>> refs = this.index.get(name);
+		if (refs == null) {
+			return;
+		}
+		for (Iterator<WeakReference<Component>> it = refs.iterator(); it.hasNext();) {
+			Component c = it.next().get();
+			if (c == null || c == component) {
+				it.remove();
+			}
+		}
+		if (refs.isEmpty()) {
+			this.index.remove(name);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentが既に索引に登録されているかどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * name属性変更の監視リスナが追加済みかどうかで判定します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param component コンポーネント
+	 * @return 登録済みの場合true
+	 */
+	private boolean isWatched(Component component) {
+		for (PropertyChangeListener l : component.getPropertyChangeListeners("name")) {
+			if (l == this.nameListener) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数componentが引数rootの子孫（root自身を含む）かどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param root ルート
+	 * @param component コンポーネント
+	 * @return 子孫の場合true
+	 */
+	private static boolean isDescendant(Component root, Component component) {
+		for (Component c = component; c != null; c = c.getParent()) {
+			if (c == root) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数listをコンポーネントツリーの深さ優先順に並べ替えます。
+	 *
+	 * <p>[詳 細] </p>
+	 * ルートからの子インデックスの経路を辞書順に比較します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param list 並べ替えるコンポーネントリスト
+	 */
+	private static void sortByTreeOrder(List<Component> list) {
+		final Map<Component, int[]> paths = new IdentityHashMap<Component, int[]>();
+		for (Component c : list) {
+			paths.put(c, pathOf(c));
+		}
+		Collections.sort(list, new Comparator<Component>() {
+			@Override
+			public int compare(Component o1, Component o2) {
+				int[] p1 = paths.get(o1);
+				int[] p2 = paths.get(o2);
+				int n = Math.min(p1.length, p2.length);
+				for (int i = 0; i < n; i++) {
+					if (p1[i] != p2[i]) {
+						return p1[i] < p2[i] ? -1 : 1;
+					}
+				}
+				return p1.length - p2.length;
+			}
+		});
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 最上位の親から引数componentまでの子インデックスの経路を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param component コンポーネント
+	 * @return 子インデックスの経路
+	 */
+	private static int[] pathOf(Component component) {
+		List<Integer> path = new ArrayList<Integer>();
+		for (Component c = component; c.getParent() != null; c = c.getParent()) {
+			Component[] siblings = c.getParent().getComponents();
+			for (int i = 0; i < siblings.length; i++) {
+				if (siblings[i] == c) {
+					path.add(i);
+					break;
+				}
+			}
+		}
+		int[] ret = new int[path.size()];
+		for (int i = 0; i < ret.length; i++) {
+			ret[i] = path.get(ret.length - 1 - i);
+		}
+		return ret;
+	}
+}
@@ -33,12 +33,35 @@ public class ComponentSearchUtil {
 	 * nameを持つコンポーネントが見つかった時点で再帰を中断、コンポーネントを返却します。
 	 *
 	 * <p>[備 考] </p>
+	 * componentが属するウィンドウに{@link ComponentNameIndex}が有る場合は、
+	 * 走査せずに索引から返却します。
 	 *
 	 * @param component コンポーネントを探すルート
 	 * @param name 探すコンポーネントの名前
 	 * @return nameを名前として持つコンポーネント。見つからなかった場合はnull。
 	 */
 	public static Component searchComponentByName(Component component, String name) {
+		ComponentNameIndex index = ComponentNameIndex.find(component);
+		if(index != null) {
+			return index.lookup(component, name);
+		}
+		return walkComponentByName(component, name);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数Componentから引数nameを持つコンポーネントを走査して返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 索引を使用せずに{@link #searchComponentByName(Component, String)}を行います。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param component コンポーネントを探すルート
+	 * @param name 探すコンポーネントの名前
+	 * @return nameを名前として持つコンポーネント。見つからなかった場合はnull。
+	 */
+	private static Component walkComponentByName(Component component, String name) {
 		Component ret = null;
 
 		if(name.equals(component.getName())) {
@@ -48,7 +71,7 @@ public class ComponentSearchUtil {
 		if(component instanceof Container) {
 			Component[] cs = ((Container)component).getComponents();
 			for(Component c : cs) {
-				ret = searchComponentByName(c, name);
+				ret = walkComponentByName(c, name);
 				if(ret != null) {
 					return ret;
 				}
@@ -63,10 +86,11 @@ public class ComponentSearchUtil {
 	 * メモリ上に存在する全ウィンドウコンポーネントから引数nameを持つコンポーネントを返却します。
 	 *
 	 * <p>[詳 細] </p>
-	 * WindowManagerが管理している画面コンポーネントリストの中から
+	 * WindowManagerが管理している画面コンポーネントのスナップショットの中から
 	 * nameを名前として持つコンポーネントを探して返却します。
 	 *
 	 * <p>[備 考] </p>
+	 * 索引が有るウィンドウは走査せずに索引から検索します。
 	 *
 	 * @param name 探すコンポーネントの名前
 	 * @return nameを名前として持つコンポーネント。見つからなかった場合はnull。
@@ -93,12 +117,38 @@ public class ComponentSearchUtil {
 	 * nameを持つコンポーネントが見つかった場合でも全ての子孫を走査し終わるまで再帰を続けます。
 	 *
 	 * <p>[備 考] </p>
+	 * nameが"*"以外で、componentが属するウィンドウに{@link ComponentNameIndex}が有る場合は、
+	 * 走査せずに索引から返却します。
 	 *
 	 * @param list 検出されたコンポーネントが格納されるリスト
 	 * @param component コンポーネントを探すルート
 	 * @param name 探すコンポーネントの名前
 	 */
 	public static void searchComponentsByName(List<Component> list, Component component, String name) {
+		if(!name.equals("*")) {
+			ComponentNameIndex index = ComponentNameIndex.find(component);
+			if(index != null) {
+				index.lookupAll(list, component, name);
+				return;
+			}
+		}
+		walkComponentsByName(list, component, name);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数Componentから引数nameを持つ全てのコンポーネントを走査して返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 索引を使用せずに{@link #searchComponentsByName(List, Component, String)}を行います。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param list 検出されたコンポーネントが格納されるリスト
+	 * @param component コンポーネントを探すルート
+	 * @param name 探すコンポーネントの名前
+	 */
+	private static void walkComponentsByName(List<Component> list, Component component, String name) {
 
 		if(name.equals("*") || name.equals(component.getName())) {
 			list.add(component);
@@ -107,7 +157,7 @@ public class ComponentSearchUtil {
 		if(component instanceof Container) {
 			Component[] cs = ((Container)component).getComponents();
 			for(Component c : cs) {
-				searchComponentsByName(list, c, name);
+				walkComponentsByName(list, c, name);
 			}
 		}
 	}
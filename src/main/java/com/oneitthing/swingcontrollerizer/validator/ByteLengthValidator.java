@@ -1,9 +1,8 @@
 package com.oneitthing.swingcontrollerizer.validator;
 
 import java.awt.Component;
-import java.util.Properties;
+import java.nio.charset.Charset;
 
-import com.oneitthing.swingcontrollerizer.common.util.ResourceUtil;
 import com.oneitthing.swingcontrollerizer.parser.ComponentValue;
 import com.oneitthing.swingcontrollerizer.parser.ComponentValues;
 
@@ -37,15 +36,15 @@ import com.oneitthing.swingcontrollerizer.parser.ComponentValues;
  */
 public class ByteLengthValidator extends Validator{
 
-	/** エラーメッセージ取得ソースです。 */
-	private final String MESSAGE_RESOURCE = "com.oneitthing.swingcontrollerizer.common.exception.corelogic_message";
-
 	/** 最大バイト長です。 */
 	private int max;
 
 	/** 最小バイト長です。 */
 	private int min;
 
+	/** バイト長を数える文字セットです。 */
+	private Charset charset = Charset.defaultCharset();
+
 	/**
 	 * <p>[概 要] </p>
 	 * 許容範囲のバイト長を設定します。
@@ -63,6 +62,37 @@ public class ByteLengthValidator extends Validator{
 		this.max = max;
 	}
 
+	/**
+	 * <p>[概 要] </p>
+	 * バイト長を数える文字セットを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * charsetフィールドを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return バイト長を数える文字セット
+	 */
+	public Charset getCharset() {
+		return charset;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * バイト長を数える文字セットを設定します。
+	 *
+	 * <p>[詳 細] </p>
+	 * charsetフィールドに引数charsetを設定します。
+	 *
+	 * <p>[備 考] </p>
+	 * デフォルトはプラットフォームのデフォルト文字セットです。
+	 *
+	 * @param charset バイト長を数える文字セット
+	 */
+	public void setCharset(Charset charset) {
+		this.charset = charset;
+	}
+
 	/**
 	 * <p>[概 要] </p>
 	 * コンストラクタです。
@@ -87,13 +117,34 @@ public class ByteLengthValidator extends Validator{
 	 * から対応するエラーメッセージを取得して返却します。
 	 *
 	 * <p>[備 考] </p>
+	 * 取得したメッセージはバリデータ間で共有され、インスタンス生成毎には読み込みません。
 	 *
 	 * @return エラー時メッセージ
 	 */
 	@Override
 	public String registerErrorMessage() {
-		Properties messages = ResourceUtil.instance.asProperties(MESSAGE_RESOURCE);
-		return messages.getProperty("EFC2004");
+		return ValidationPlan.message("EFC2004");
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * このバリデータと同じ判定を行うバイト長ルールを生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 * エラーメッセージ、見出し文字はこのバリデータの値を引き継ぎます。
+	 *
+	 * <p>[備 考] </p>
+	 * validateをオーバーライドした継承クラスの判定は再現出来ない為、nullを返却します。
+	 *
+	 * @param componentName バリデーション対象コンポーネントの名前
+	 * @return バリデーションルール、変換出来ない場合はnull
+	 */
+	@Override
+	ValidationPlan.Rule toRule(String componentName) {
+		if (getClass() != ByteLengthValidator.class) {
+			return null;
+		}
+		return new ValidationPlan.Rule(ValidationPlan.BYTE_LENGTH, componentName, getErrorMessage(), getHeadWord(), this.min, this.max, this.charset, null);
 	}
 
 	/**
@@ -101,6 +152,8 @@ public class ByteLengthValidator extends Validator{
 	 * バイト長バリデーションを行います。
 	 *
 	 * <p>[詳 細] </p>
+	 * charsetフィールドの文字セットで符号化した場合のバイト長を、
+	 * バイト配列を生成せずに数えます（{@link EncodedLength}）。
 	 *
 	 * <p>[備 考] </p>
 	 *
@@ -109,13 +162,28 @@ public class ByteLengthValidator extends Validator{
 	 */
 	@Override
 	public boolean validate(ComponentValues values) {
+		return inBytesRange(values, this.min, this.max, this.charset);
+	}
 
-		int max = this.max;
-		int min = this.min;
+	/**
+	 * <p>[概 要] </p>
+	 * 全ての値のバイト長が範囲内かどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param values コンポーネント値
+	 * @param min 最小バイト長
+	 * @param max 最大バイト長
+	 * @param charset バイト長を数える文字セット
+	 * @return エラー有：false、エラー無：true
+	 */
+	static boolean inBytesRange(ComponentValues values, int min, int max, Charset charset) {
 		for (int i = 0; i < values.size(); i++) {
 			ComponentValue elementValue = values.getComponentValue(i);
-			String v = elementValue.getValue().toString();
-			if (v.getBytes().length < min || v.getBytes().length > max) {
+			int length = EncodedLength.count(elementValue.getValue().toString(), charset);
+			if (length < min || length > max) {
 				return false;
 			}
 		}
@@ -0,0 +1,213 @@
+package com.oneitthing.swingcontrollerizer.validator;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * <p>[概 要] </p>
+ * 文字列を符号化した場合のバイト長を、バイト配列を生成せずに数えるクラスです。
+ *
+ * <p>[詳 細] </p>
+ * String#getBytes(Charset).lengthと同じ値を返却します。<br>
+ * UTF-8、ISO-8859-1、US-ASCIIは文字種から算出し、
+ * その他の文字セットはスレッド毎に再利用するエンコーダとバッファで符号化して数えます。
+ *
+ * <p>[備 考] </p>
+ * 符号化できない文字は、String#getBytesと同じく置換文字のバイト長で数えます。
+ *
+ */
+public final class EncodedLength {
+
+	/** UTF-8です。 */
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	/** ISO-8859-1です。 */
+	private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+
+	/** US-ASCIIです。 */
+	private static final Charset US_ASCII = Charset.forName("US-ASCII");
+
+	/** スレッド毎に再利用するエンコーダとバッファです。 */
+	private static final ThreadLocal<Buffers> BUFFERS = new ThreadLocal<Buffers>() {
+		@Override
+		protected Buffers initialValue() {
+			return new Buffers();
+		}
+	};
+
+	/**
+	 * <p>[概 要] </p>
+	 * インスタンス化出来ません。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private EncodedLength() {
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数valueを引数charsetで符号化した場合のバイト長を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param value 文字列
+	 * @param charset 文字セット
+	 * @return バイト長
+	 */
+	public static int count(CharSequence value, Charset charset) {
+		if(UTF_8.equals(charset)) {
+			return countUtf8(value);
+		}
+		if(ISO_8859_1.equals(charset) || US_ASCII.equals(charset)) {
+			return countSingleByte(value);
+		}
+
+		return BUFFERS.get().count(value, charset);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * UTF-8で符号化した場合のバイト長を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 * 対になっていないサロゲートは置換文字'?'の1バイトで数えます。
+	 *
+	 * @param value 文字列
+	 * @return バイト長
+	 */
+	private static int countUtf8(CharSequence value) {
+		int ret = 0;
+		int length = value.length();
+		for(int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+			if(c < 0x80) {
+				ret += 1;
+			} else if(c < 0x800) {
+				ret += 2;
+			} else if(Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+				ret += 4;
+				i++;
+			} else if(Character.isSurrogate(c)) {
+				ret += 1;
+			} else {
+				ret += 3;
+			}
+		}
+
+		return ret;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 1文字1バイトの文字セットで符号化した場合のバイト長を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * サロゲートペアは一つの置換文字'?'で数えます。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param value 文字列
+	 * @return バイト長
+	 */
+	private static int countSingleByte(CharSequence value) {
+		int ret = 0;
+		int length = value.length();
+		for(int i = 0; i < length; i++) {
+			if(Character.isHighSurrogate(value.charAt(i)) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+				i++;
+			}
+			ret++;
+		}
+
+		return ret;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * スレッド毎に再利用するエンコーダとバッファです。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static final class Buffers {
+
+		/** 符号化前の文字を詰めるバッファです。 */
+		private final CharBuffer chars = CharBuffer.allocate(256);
+
+		/** 符号化後のバイトを受けるバッファです。 */
+		private final ByteBuffer bytes = ByteBuffer.allocate(1024);
+
+		/** 直前に使用した文字セットです。 */
+		private Charset charset;
+
+		/** 直前に使用した文字セットのエンコーダです。 */
+		private CharsetEncoder encoder;
+
+		/**
+		 * <p>[概 要] </p>
+		 * 引数valueを引数charsetで符号化した場合のバイト長を返却します。
+		 *
+		 * <p>[詳 細] </p>
+		 * 文字をバッファに詰めながら符号化し、出力されたバイト数を合計します。
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @param value 文字列
+		 * @param charset 文字セット
+		 * @return バイト長
+		 */
+		int count(CharSequence value, Charset charset) {
+			if(!charset.equals(this.charset)) {
+				this.encoder = charset.newEncoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+				this.charset = charset;
+			}
+			CharsetEncoder enc = this.encoder.reset();
+			CharBuffer in = this.chars;
+			ByteBuffer out = this.bytes;
+			in.clear();
+			out.clear();
+
+			int ret = 0;
+			int pos = 0;
+			int length = value.length();
+			boolean end = false;
+			while(!end) {
+				while(in.hasRemaining() && pos < length) {
+					in.put(value.charAt(pos++));
+				}
+				in.flip();
+				end = pos >= length;
+				CoderResult result;
+				do {
+					result = enc.encode(in, out, end);
+					ret += out.position();
+					out.clear();
+				} while(result.isOverflow());
+				in.compact();
+			}
+			CoderResult result;
+			do {
+				result = enc.flush(out);
+				ret += out.position();
+				out.clear();
+			} while(result.isOverflow());
+
+			return ret;
+		}
+	}
+}
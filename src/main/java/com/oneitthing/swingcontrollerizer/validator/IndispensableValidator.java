@@ -1,9 +1,7 @@
 package com.oneitthing.swingcontrollerizer.validator;
 
 import java.awt.Component;
-import java.util.Properties;
 
-import com.oneitthing.swingcontrollerizer.common.util.ResourceUtil;
 import com.oneitthing.swingcontrollerizer.parser.ComponentValue;
 import com.oneitthing.swingcontrollerizer.parser.ComponentValues;
 
@@ -32,9 +30,6 @@ import com.oneitthing.swingcontrollerizer.parser.ComponentValues;
  */
 public class IndispensableValidator extends Validator {
 
-	/** エラーメッセージ取得ソースです。 */
-	private final String MESSAGE_RESOURCE = "com.oneitthing.swingcontrollerizer.common.exception.corelogic_message";
-
 	/**
 	 * <p>[概 要] </p>
 	 * コンストラクタです。
@@ -59,13 +54,34 @@ public class IndispensableValidator extends Validator {
 	 * から対応するエラーメッセージを取得して返却します。
 	 *
 	 * <p>[備 考] </p>
+	 * 取得したメッセージはバリデータ間で共有され、インスタンス生成毎には読み込みません。
 	 *
 	 * @return エラー時メッセージ
 	 */
 	@Override
 	public String registerErrorMessage() {
-		Properties messages = ResourceUtil.instance.asProperties(MESSAGE_RESOURCE);
-		return messages.getProperty("EFC2002");
+		return ValidationPlan.message("EFC2002");
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * このバリデータと同じ判定を行う必須入力ルールを生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 * エラーメッセージ、見出し文字はこのバリデータの値を引き継ぎます。
+	 *
+	 * <p>[備 考] </p>
+	 * validateをオーバーライドした継承クラスの判定は再現出来ない為、nullを返却します。
+	 *
+	 * @param componentName バリデーション対象コンポーネントの名前
+	 * @return バリデーションルール、変換出来ない場合はnull
+	 */
+	@Override
+	ValidationPlan.Rule toRule(String componentName) {
+		if (getClass() != IndispensableValidator.class) {
+			return null;
+		}
+		return new ValidationPlan.Rule(ValidationPlan.INDISPENSABLE, componentName, getErrorMessage(), getHeadWord(), 0, 0, null, null);
 	}
 
 	/**
@@ -82,7 +98,21 @@ public class IndispensableValidator extends Validator {
 	 */
 	@Override
 	protected boolean validate(ComponentValues values) {
+		return isFilled(values);
+	}
 
+	/**
+	 * <p>[概 要] </p>
+	 * 全ての値が空でないかどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param values コンポーネント値
+	 * @return エラー有：false、エラー無：true
+	 */
+	static boolean isFilled(ComponentValues values) {
 		for (int i = 0; i < values.size(); i++) {
 			ComponentValue componentValue = values.getComponentValue(i);
 			String val = componentValue.getValue().toString();
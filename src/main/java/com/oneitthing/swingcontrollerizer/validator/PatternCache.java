@@ -0,0 +1,76 @@
+package com.oneitthing.swingcontrollerizer.validator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * <p>[概 要] </p>
+ * コンパイル済み正規表現パターンのキャッシュです。
+ *
+ * <p>[詳 細] </p>
+ * バリデータはイベント毎に生成される為、パターン文字列をキーにして
+ * コンパイル結果をバリデータインスタンス間で共有します。
+ *
+ * <p>[備 考] </p>
+ * 保持数が上限を超えた場合は、最も長く参照されていないパターンから破棄します。
+ *
+ */
+final class PatternCache {
+
+	/** 保持するパターン数の上限です。 */
+	private static final int MAX_SIZE = 256;
+
+	/** パターン文字列毎のコンパイル済みパターンです。参照順に並びます。 */
+	private static final Map<String, Pattern> PATTERNS = new LinkedHashMap<String, Pattern>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+			return size() > MAX_SIZE;
+		}
+	};
+
+	/**
+	 * <p>[概 要] </p>
+	 * インスタンス化出来ません。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private PatternCache() {
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数regexのコンパイル済みパターンを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 初回のみコンパイルし、以降はキャッシュから返却します。
+	 *
+	 * <p>[備 考] </p>
+	 * コンパイルはロックの外で行う為、同じパターンが同時にコンパイルされることが有ります。
+	 *
+	 * @param regex 正規表現パターン文字列
+	 * @return コンパイル済みパターン
+	 */
+	static Pattern get(String regex) {
+		Pattern ret;
+		synchronized(PATTERNS) {
+			ret = PATTERNS.get(regex);
+		}
+		if(ret == null) {
+			ret = Pattern.compile(regex);
+			synchronized(PATTERNS) {
+				Pattern cached = PATTERNS.get(regex);
+				if(cached == null) {
+					PATTERNS.put(regex, ret);
+				} else {
+					ret = cached;
+				}
+			}
+		}
+
+		return ret;
+	}
+}
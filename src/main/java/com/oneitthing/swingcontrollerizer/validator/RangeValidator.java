@@ -1,9 +1,7 @@
 package com.oneitthing.swingcontrollerizer.validator;
 
 import java.awt.Component;
-import java.util.Properties;
 
-import com.oneitthing.swingcontrollerizer.common.util.ResourceUtil;
 import com.oneitthing.swingcontrollerizer.parser.ComponentValue;
 import com.oneitthing.swingcontrollerizer.parser.ComponentValues;
 
@@ -40,9 +38,6 @@ import com.oneitthing.swingcontrollerizer.parser.ComponentValues;
  */
 public class RangeValidator extends Validator {
 
-	/** エラーメッセージ取得ソースです。 */
-	private final String MESSAGE_RESOURCE = "com.oneitthing.swingcontrollerizer.common.exception.corelogic_message";
-
 	/** 最大文字長です。 */
 	private int max;
 
@@ -90,13 +85,34 @@ public class RangeValidator extends Validator {
 	 * から対応するエラーメッセージを取得して返却します。
 	 *
 	 * <p>[備 考] </p>
+	 * 取得したメッセージはバリデータ間で共有され、インスタンス生成毎には読み込みません。
 	 *
 	 * @return エラー時メッセージ
 	 */
 	@Override
 	public String registerErrorMessage() {
-		Properties messages = ResourceUtil.instance.asProperties(MESSAGE_RESOURCE);
-		return messages.getProperty("EFC2003");
+		return ValidationPlan.message("EFC2003");
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * このバリデータと同じ判定を行う文字長ルールを生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 * エラーメッセージ、見出し文字はこのバリデータの値を引き継ぎます。
+	 *
+	 * <p>[備 考] </p>
+	 * validateをオーバーライドした継承クラスの判定は再現出来ない為、nullを返却します。
+	 *
+	 * @param componentName バリデーション対象コンポーネントの名前
+	 * @return バリデーションルール、変換出来ない場合はnull
+	 */
+	@Override
+	ValidationPlan.Rule toRule(String componentName) {
+		if (getClass() != RangeValidator.class) {
+			return null;
+		}
+		return new ValidationPlan.Rule(ValidationPlan.RANGE, componentName, getErrorMessage(), getHeadWord(), this.min, this.max, null, null);
 	}
 
 	/**
@@ -113,9 +129,23 @@ public class RangeValidator extends Validator {
 	 */
 	@Override
 	protected boolean validate(ComponentValues values) {
+		return inRange(values, this.min, this.max);
+	}
 
-		int max = this.max;
-		int min = this.min;
+	/**
+	 * <p>[概 要] </p>
+	 * 全ての値の文字長が範囲内かどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param values コンポーネント値
+	 * @param min 最小文字長
+	 * @param max 最大文字長
+	 * @return エラー有：false、エラー無：true
+	 */
+	static boolean inRange(ComponentValues values, int min, int max) {
 		for (int i = 0; i < values.size(); i++) {
 			ComponentValue elementValue = values.getComponentValue(i);
 			//TODO trim() をオプションでできるように
@@ -1,11 +1,8 @@
 package com.oneitthing.swingcontrollerizer.validator;
 
 import java.awt.Component;
-import java.util.Properties;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import com.oneitthing.swingcontrollerizer.common.util.ResourceUtil;
 import com.oneitthing.swingcontrollerizer.parser.ComponentValue;
 import com.oneitthing.swingcontrollerizer.parser.ComponentValues;
 
@@ -41,9 +38,6 @@ import com.oneitthing.swingcontrollerizer.parser.ComponentValues;
  */
 public class RegExpValidator extends Validator {
 
-	/** エラーメッセージ取得ソースです。 */
-	private final String MESSAGE_RESOURCE = "com.oneitthing.swingcontrollerizer.common.exception.corelogic_message";
-
 	/** バリデーションに使用する正規表現パターンです。 */
 	private String pattern;
 
@@ -102,13 +96,35 @@ public class RegExpValidator extends Validator {
 	 * から対応するエラーメッセージを取得して返却します。
 	 *
 	 * <p>[備 考] </p>
+	 * 取得したメッセージはバリデータ間で共有され、インスタンス生成毎には読み込みません。
 	 *
 	 * @return エラー時メッセージ
 	 */
 	@Override
 	protected String registerErrorMessage() {
-		Properties messages = ResourceUtil.instance.asProperties(MESSAGE_RESOURCE);
-		return messages.getProperty("EFC2004");
+		return ValidationPlan.message("EFC2004");
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * このバリデータと同じ判定を行う正規表現ルールを生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 * エラーメッセージ、見出し文字はこのバリデータの値を引き継ぎます。
+	 *
+	 * <p>[備 考] </p>
+	 * validateをオーバーライドした継承クラスの判定は再現出来ない為、nullを返却します。
+	 * パターンが未設定の場合もnullを返却します。
+	 *
+	 * @param componentName バリデーション対象コンポーネントの名前
+	 * @return バリデーションルール、変換出来ない場合はnull
+	 */
+	@Override
+	ValidationPlan.Rule toRule(String componentName) {
+		if (getClass() != RegExpValidator.class || getPattern() == null) {
+			return null;
+		}
+		return new ValidationPlan.Rule(ValidationPlan.REG_EXP, componentName, getErrorMessage(), getHeadWord(), 0, 0, null, PatternCache.get(getPattern()));
 	}
 
 	/**
@@ -120,27 +136,37 @@ public class RegExpValidator extends Validator {
 	 * 入力値がpatternにマッチしなかった場合、falseが返却されます。
 	 *
 	 * <p>[備 考] </p>
+	 * コンパイル済みのパターンはパターン文字列毎にバリデータ間で共有されます。
 	 *
 	 * @param value コンポーネント値
 	 * @return エラー有：false、エラー無：true
 	 */
 	@Override
 	protected boolean validate(ComponentValues values) {
-		boolean ret = true;
+		return matches(values, PatternCache.get(getPattern()));
+	}
 
+	/**
+	 * <p>[概 要] </p>
+	 * 全ての値が引数patternにマッチするかどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param values コンポーネント値
+	 * @param pattern コンパイル済みパターン
+	 * @return エラー有：false、エラー無：true
+	 */
+	static boolean matches(ComponentValues values, Pattern pattern) {
 		for (int i = 0; i < values.size(); i++) {
 			ComponentValue componentValue = values.getComponentValue(i);
 			String val = componentValue.getValue().toString();
-
-			Pattern ptn = Pattern.compile(getPattern());
-			Matcher mc = ptn.matcher(val);
-			if(mc.matches()) {
-				ret = ret & true;
-			} else{
-				ret = ret & false;
+			if(!pattern.matcher(val).matches()) {
+				return false;
 			}
 		}
 
-		return ret;
+		return true;
 	}
 }
@@ -0,0 +1,157 @@
+package com.oneitthing.swingcontrollerizer.validator;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.swing.SwingUtilities;
+
+import com.oneitthing.swingcontrollerizer.executor.ModelExecutor;
+
+/**
+ * <p>[概 要] </p>
+ * {@link ValidationTask}の判定をワーカースレッドで並列に実行するクラスです。
+ *
+ * <p>[詳 細] </p>
+ * 判定毎にModelExecutorへタスクを投入し、全判定の終了後に
+ * 結果をイベントディスパッチスレッドで{@link Callback}に通知します。<br>
+ * 通知されるValidateErrorsは、判定の終了順ではなくValidationTaskへの追加順に並びます。
+ *
+ * <p>[備 考] </p>
+ * 判定中に例外が発生した場合、又はタスクの投入が拒否された場合は、
+ * 全判定の終了後に{@link Callback#failed(Exception)}が通知されます。
+ *
+ */
+public final class ValidationEngine {
+
+	/**
+	 * <p>[概 要] </p>
+	 * 非同期バリデーションの結果を受け取るコールバックです。
+	 *
+	 * <p>[詳 細] </p>
+	 * 何れのメソッドもイベントディスパッチスレッドで呼び出されます。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	public interface Callback {
+
+		/**
+		 * <p>[概 要] </p>
+		 * 全ての判定が終了した時に呼び出されます。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @param errors バリデーションエラー保持リストオブジェクト
+		 */
+		public void validated(ValidateErrors errors);
+
+		/**
+		 * <p>[概 要] </p>
+		 * 判定が例外で終了した時に呼び出されます。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @param e 最初に発生した例外
+		 */
+		public void failed(Exception e);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * インスタンス化出来ません。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private ValidationEngine() {
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数taskの判定を引数executorで並列に実行します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 呼び出し元は判定の終了を待たずに復帰します。<br>
+	 * 判定が無い場合も、結果はイベントディスパッチスレッドで通知されます。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param task イベントディスパッチスレッドで値を取得済みの判定
+	 * @param executor 判定を実行するエグゼキュータ
+	 * @param callback 結果の通知先
+	 */
+	public static void submit(final ValidationTask task, ModelExecutor executor, final Callback callback) {
+		final int size = task.size();
+		final boolean[] results = new boolean[size];
+		final AtomicInteger remaining = new AtomicInteger(size);
+		final AtomicReference<Exception> error = new AtomicReference<Exception>();
+
+		if(size == 0) {
+			complete(task, results, error, callback);
+			return;
+		}
+
+		for(int i = 0; i < size; i++) {
+			final int index = i;
+			try {
+				executor.submit(new Callable<Void>() {
+					public Void call() {
+						try {
+							results[index] = task.test(index);
+						} catch(Exception e) {
+							error.compareAndSet(null, e);
+						} finally {
+							// 最後に終了した判定が結果を通知する
+							if(remaining.decrementAndGet() == 0) {
+								complete(task, results, error, callback);
+							}
+						}
+						return null;
+					}
+				});
+			} catch(RejectedExecutionException e) {
+				error.compareAndSet(null, e);
+				// 投入出来なかった判定は終了扱いにする
+				if(remaining.addAndGet(index - size) == 0) {
+					complete(task, results, error, callback);
+				}
+				break;
+			}
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 判定結果をイベントディスパッチスレッドで通知します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param task 判定
+	 * @param results 追加順の判定結果
+	 * @param error 最初に発生した例外
+	 * @param callback 結果の通知先
+	 */
+	private static void complete(final ValidationTask task, final boolean[] results,
+			final AtomicReference<Exception> error, final Callback callback) {
+		SwingUtilities.invokeLater(new Runnable() {
+			public void run() {
+				Exception e = error.get();
+				if(e != null) {
+					callback.failed(e);
+				} else {
+					callback.validated(task.toErrors(results));
+				}
+			}
+		});
+	}
+}
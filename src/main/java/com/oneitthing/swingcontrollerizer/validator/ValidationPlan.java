@@ -0,0 +1,433 @@
+package com.oneitthing.swingcontrollerizer.validator;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import com.oneitthing.swingcontrollerizer.common.util.ResourceUtil;
+import com.oneitthing.swingcontrollerizer.parser.ComponentValues;
+
+/**
+ * <p>[概 要] </p>
+ * アクションクラス毎に一度だけ組み立てられる、再利用可能なバリデーション定義です。
+ *
+ * <p>[詳 細] </p>
+ * コンポーネントをインスタンスではなく名前で指定してバリデーションルールを登録します。<br>
+ * 正規表現パターンのコンパイル、エラーメッセージの取得は登録時に一度だけ行われ、
+ * イベント毎には名前からコンポーネントを取得して値をルールに当てはめるだけになります。
+ * <p>
+ *
+ * BaseAction#validationPlanでルールを登録すると、フレームワークはアクションクラス毎に
+ * 一度だけプランを組み立て、{@link #freeze()}した後に全イベントで共有します。
+ *
+ * <p>[備 考] </p>
+ * 各ルールの判定は同名のバリデータ（{@link IndispensableValidator}、{@link RangeValidator}、
+ * {@link ByteLengthValidator}、{@link RegExpValidator}）と同じです。<br>
+ * これらのバリデータは{@link #add(Validator)}でルールに変換して登録することも出来ます。<br>
+ * freeze後はルールを追加出来ません。freeze後のプランは複数スレッドから参照出来ます。
+ *
+ * <b>使用例）</b><br>
+ * <pre class="samplecode">
+ *	&#064;Override
+ *	protected void validationPlan(ValidationPlan plan) {
+ *		plan.indispensable("inputFormFrame.jtfName");
+ *		plan.byteLength("inputFormFrame.jtfName", 0, 40, Charset.forName("Windows-31J"));
+ *		plan.regExp("inputFormFrame.jtfEmail", "[\\w\\.\\-]+@(?:[\\w\\-]+\\.)+[\\w\\-]+");
+ *	}
+ * </pre>
+ *
+ */
+public class ValidationPlan {
+
+	/** 必須入力ルールです。 */
+	public static final int INDISPENSABLE = 0;
+
+	/** 文字長ルールです。 */
+	public static final int RANGE = 1;
+
+	/** バイト長ルールです。 */
+	public static final int BYTE_LENGTH = 2;
+
+	/** 正規表現ルールです。 */
+	public static final int REG_EXP = 3;
+
+	/** エラーメッセージ取得ソースです。 */
+	private static final String MESSAGE_RESOURCE = "com.oneitthing.swingcontrollerizer.common.exception.corelogic_message";
+
+	/** メッセージコード毎に取得済みのエラーメッセージです。 */
+	private static final ConcurrentMap<String, String> MESSAGES = new ConcurrentHashMap<String, String>();
+
+	/** 登録されたルールです。 */
+	private final List<Rule> rules = new ArrayList<Rule>();
+
+	/** ルールの追加を禁止したかどうかです。 */
+	private volatile boolean frozen;
+
+	/**
+	 * <p>[概 要] </p>
+	 * 必須入力ルールを登録します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link IndispensableValidator}と同じ判定を行います。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param componentName バリデーション対象コンポーネントの名前
+	 */
+	public void indispensable(String componentName) {
+		add(new Rule(INDISPENSABLE, componentName, message("EFC2002"), componentName, 0, 0, null, null));
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 文字長ルールを登録します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link RangeValidator}と同じ判定を行います。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param componentName バリデーション対象コンポーネントの名前
+	 * @param min 最小文字長
+	 * @param max 最大文字長
+	 */
+	public void range(String componentName, int min, int max) {
+		add(new Rule(RANGE, componentName, message("EFC2003"), componentName, min, max, null, null));
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * プラットフォームのデフォルト文字セットでのバイト長ルールを登録します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link #byteLength(String, int, int, Charset)}に処理委譲します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param componentName バリデーション対象コンポーネントの名前
+	 * @param min 最小バイト長
+	 * @param max 最大バイト長
+	 */
+	public void byteLength(String componentName, int min, int max) {
+		byteLength(componentName, min, max, Charset.defaultCharset());
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * バイト長ルールを登録します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link ByteLengthValidator}と同じ判定を行います。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param componentName バリデーション対象コンポーネントの名前
+	 * @param min 最小バイト長
+	 * @param max 最大バイト長
+	 * @param charset バイト長を数える文字セット
+	 */
+	public void byteLength(String componentName, int min, int max, Charset charset) {
+		add(new Rule(BYTE_LENGTH, componentName, message("EFC2004"), componentName, min, max, charset, null));
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 正規表現ルールを登録します。
+	 *
+	 * <p>[詳 細] </p>
+	 * {@link RegExpValidator}と同じ判定を行います。パターンは登録時にコンパイルされます。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param componentName バリデーション対象コンポーネントの名前
+	 * @param pattern 正規表現パターン
+	 */
+	public void regExp(String componentName, String pattern) {
+		add(new Rule(REG_EXP, componentName, message("EFC2004"), componentName, 0, 0, null, PatternCache.get(pattern)));
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * バリデータと同じ判定を行うルールを登録します。
+	 *
+	 * <p>[詳 細] </p>
+	 * バリデーション対象コンポーネントの名前で、バリデータの判定条件、エラーメッセージ、
+	 * 見出し文字を引き継いだルールを登録します。
+	 *
+	 * <p>[備 考] </p>
+	 * ルールに変換出来るのは{@link IndispensableValidator}、{@link RangeValidator}、
+	 * {@link ByteLengthValidator}、{@link RegExpValidator}そのもののインスタンスのみです。
+	 * 継承クラス、名前の無いコンポーネントのバリデータは登録せずにfalseを返却します。
+	 *
+	 * @param validator ルールに変換するバリデータ
+	 * @return 登録した場合true
+	 */
+	public boolean add(Validator validator) {
+		String componentName = validator.getComponent() == null ? null : validator.getComponent().getName();
+		if(componentName == null) {
+			return false;
+		}
+		Rule rule = validator.toRule(componentName);
+		if(rule == null) {
+			return false;
+		}
+		add(rule);
+		return true;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数planの全ルールを登録します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 引数planのルールを登録順に追加します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param plan ルールを取り込むプラン
+	 */
+	public void addAll(ValidationPlan plan) {
+		for(Rule rule : plan.rules) {
+			add(rule);
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * ルールの追加を禁止します。
+	 *
+	 * <p>[詳 細] </p>
+	 * フレームワークがプランの組み立て後に呼び出します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	public void freeze() {
+		this.frozen = true;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * ルールが登録されていないかどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return ルールが無い場合true
+	 */
+	public boolean isEmpty() {
+		return this.rules.isEmpty();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 登録されたルールを登録順に返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 変更不可能なリストを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return ルールのリスト
+	 */
+	public List<Rule> getRules() {
+		return Collections.unmodifiableList(this.rules);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * ルールを追加します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param rule 追加するルール
+	 */
+	private void add(Rule rule) {
+		if(this.frozen) {
+			throw new IllegalStateException("ValidationPlan is frozen.");
+		}
+		this.rules.add(rule);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数codeのエラーメッセージを取得します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 初回のみリソースから取得し、以降は取得済みのメッセージを返却します。
+	 *
+	 * <p>[備 考] </p>
+	 * バリデータのエラー文言登録からも呼び出されます。
+	 *
+	 * @param code メッセージコード
+	 * @return エラーメッセージ
+	 */
+	static String message(String code) {
+		String ret = MESSAGES.get(code);
+		if(ret == null) {
+			Properties messages = ResourceUtil.instance.asProperties(MESSAGE_RESOURCE);
+			ret = messages.getProperty(code);
+			if(ret != null) {
+				MESSAGES.putIfAbsent(code, ret);
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 一つのコンポーネントに対するバリデーションルールです。
+	 *
+	 * <p>[詳 細] </p>
+	 * ルール種別毎の判定条件と、エラー時のメッセージ、見出し文字を保持します。
+	 *
+	 * <p>[備 考] </p>
+	 * 状態を持たない為、複数スレッドから同時に判定出来ます。
+	 *
+	 */
+	public static final class Rule {
+
+		/** ルール種別です。 */
+		private final int type;
+
+		/** バリデーション対象コンポーネントの名前です。 */
+		private final String componentName;
+
+		/** エラーメッセージです。 */
+		private final String message;
+
+		/** エラーの見出し文字です。 */
+		private final String headWord;
+
+		/** 最小値です。 */
+		private final int min;
+
+		/** 最大値です。 */
+		private final int max;
+
+		/** バイト長を数える文字セットです。 */
+		private final Charset charset;
+
+		/** コンパイル済み正規表現パターンです。 */
+		private final Pattern pattern;
+
+		/**
+		 * <p>[概 要] </p>
+		 * コンストラクタです。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @param type ルール種別
+		 * @param componentName バリデーション対象コンポーネントの名前
+		 * @param message エラーメッセージ
+		 * @param headWord エラーの見出し文字
+		 * @param min 最小値
+		 * @param max 最大値
+		 * @param charset バイト長を数える文字セット
+		 * @param pattern コンパイル済み正規表現パターン
+		 */
+		Rule(int type, String componentName, String message, String headWord, int min, int max, Charset charset, Pattern pattern) {
+			this.type = type;
+			this.componentName = componentName;
+			this.message = message;
+			this.headWord = headWord;
+			this.min = min;
+			this.max = max;
+			this.charset = charset;
+			this.pattern = pattern;
+		}
+
+		/**
+		 * <p>[概 要] </p>
+		 * ルール種別を返却します。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @return INDISPENSABLE、RANGE、BYTE_LENGTH、REG_EXPの何れか
+		 */
+		public int getType() {
+			return this.type;
+		}
+
+		/**
+		 * <p>[概 要] </p>
+		 * バリデーション対象コンポーネントの名前を返却します。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @return コンポーネントの名前
+		 */
+		public String getComponentName() {
+			return this.componentName;
+		}
+
+		/**
+		 * <p>[概 要] </p>
+		 * エラーメッセージを返却します。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @return エラーメッセージ
+		 */
+		public String getMessage() {
+			return this.message;
+		}
+
+		/**
+		 * <p>[概 要] </p>
+		 * エラーの見出し文字を返却します。
+		 *
+		 * <p>[詳 細] </p>
+		 * 名前で登録したルールはバリデータと同じく、コンポーネントの名前を返却します。
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @return エラーの見出し文字
+		 */
+		public String getHeadWord() {
+			return this.headWord;
+		}
+
+		/**
+		 * <p>[概 要] </p>
+		 * 引数valuesがルールを満たすかどうかを判定します。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @param values コンポーネント値
+		 * @return エラー有：false、エラー無：true
+		 */
+		public boolean test(ComponentValues values) {
+			switch(this.type) {
+			case INDISPENSABLE :
+				return IndispensableValidator.isFilled(values);
+			case RANGE :
+				return RangeValidator.inRange(values, this.min, this.max);
+			case BYTE_LENGTH :
+				return ByteLengthValidator.inBytesRange(values, this.min, this.max, this.charset);
+			case REG_EXP :
+				return RegExpValidator.matches(values, this.pattern);
+			default :
+				return true;
+			}
+		}
+	}
+}
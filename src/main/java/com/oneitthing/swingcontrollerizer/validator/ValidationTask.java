@@ -0,0 +1,232 @@
+package com.oneitthing.swingcontrollerizer.validator;
+
+import java.awt.Component;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.oneitthing.swingcontrollerizer.parser.ComponentValues;
+
+/**
+ * <p>[概 要] </p>
+ * イベントディスパッチスレッドで値を取得済みの、バリデーション判定の集合です。
+ *
+ * <p>[詳 細] </p>
+ * バリデータ、バリデーションプランのルール毎に、対象コンポーネントとその値を保持します。<br>
+ * 値の取得は追加時にイベントディスパッチスレッドで行われ、
+ * 判定（{@link #execute()}、{@link ValidationEngine}）はSwingコンポーネントにアクセスしません。
+ *
+ * <p>[備 考] </p>
+ * 判定結果は追加順にValidateErrorsに格納されます。<br>
+ * 追加は一つのスレッドから行い、追加完了後に判定して下さい。
+ *
+ */
+public final class ValidationTask {
+
+	/** 追加順の判定です。 */
+	private final List<Entry> entries = new ArrayList<Entry>();
+
+	/**
+	 * <p>[概 要] </p>
+	 * バリデータによる判定を追加します。
+	 *
+	 * <p>[詳 細] </p>
+	 * バリデータの対象コンポーネントの値をこの時点で取得します。
+	 *
+	 * <p>[備 考] </p>
+	 * イベントディスパッチスレッドから呼び出して下さい。
+	 *
+	 * @param validator バリデータ
+	 * @throws Exception 値の取得に失敗した場合
+	 */
+	public void addValidator(Validator validator) throws Exception {
+		this.entries.add(new Entry(validator.getComponent(), validator.getValue(), validator, null));
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * バリデーションプランのルールによる判定を追加します。
+	 *
+	 * <p>[詳 細] </p>
+	 * 値がnullの場合、{@link com.oneitthing.swingcontrollerizer.action.AbstractAction}
+	 * のプラン判定と同じく判定しません。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param rule ルール
+	 * @param component ルールの対象コンポーネント
+	 * @param values 取得済みのコンポーネント値
+	 */
+	public void addRule(ValidationPlan.Rule rule, Component component, ComponentValues values) {
+		if(values != null) {
+			this.entries.add(new Entry(component, values, null, rule));
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 判定が無いかどうかを返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 判定が無い場合true
+	 */
+	public boolean isEmpty() {
+		return this.entries.isEmpty();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 判定数を返却します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 判定数
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 全ての判定を呼び出しスレッドで順に実行します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return バリデーションエラー保持リストオブジェクト
+	 * @throws Exception 判定中に例外が発生した場合
+	 */
+	public ValidateErrors execute() throws Exception {
+		boolean[] results = new boolean[size()];
+		for(int i = 0; i < results.length; i++) {
+			results[i] = test(i);
+		}
+
+		return toErrors(results);
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 引数index番目の判定を実行します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param index 判定のインデックス
+	 * @return エラー有：false、エラー無：true
+	 * @throws Exception 判定中に例外が発生した場合
+	 */
+	boolean test(int index) throws Exception {
+		return this.entries.get(index).test();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 判定結果からValidateErrorsを生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 * falseの判定結果を追加順にValidateErrorとして格納します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param results 追加順の判定結果
+	 * @return バリデーションエラー保持リストオブジェクト
+	 */
+	ValidateErrors toErrors(boolean[] results) {
+		ValidateErrors ret = new ValidateErrors();
+		for(int i = 0; i < results.length; i++) {
+			if(!results[i]) {
+				ret.addError(this.entries.get(i).toError());
+			}
+		}
+
+		return ret;
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 一つのコンポーネントに対する一つの判定です。
+	 *
+	 * <p>[詳 細] </p>
+	 * validator、ruleの何れか一方を保持します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static final class Entry {
+
+		/** 判定対象コンポーネントです。 */
+		private final Component component;
+
+		/** 取得済みのコンポーネント値です。 */
+		private final ComponentValues values;
+
+		/** バリデータです。 */
+		private final Validator validator;
+
+		/** バリデーションプランのルールです。 */
+		private final ValidationPlan.Rule rule;
+
+		/**
+		 * <p>[概 要] </p>
+		 * コンストラクタです。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @param component 判定対象コンポーネント
+		 * @param values 取得済みのコンポーネント値
+		 * @param validator バリデータ
+		 * @param rule バリデーションプランのルール
+		 */
+		Entry(Component component, ComponentValues values, Validator validator, ValidationPlan.Rule rule) {
+			this.component = component;
+			this.values = values;
+			this.validator = validator;
+			this.rule = rule;
+		}
+
+		/**
+		 * <p>[概 要] </p>
+		 * 判定を実行します。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @return エラー有：false、エラー無：true
+		 */
+		boolean test() {
+			if(this.validator != null) {
+				return this.validator.execute(this.values);
+			}
+
+			return this.rule.test(this.values);
+		}
+
+		/**
+		 * <p>[概 要] </p>
+		 * この判定のエラー情報を生成します。
+		 *
+		 * <p>[詳 細] </p>
+		 *
+		 * <p>[備 考] </p>
+		 *
+		 * @return エラー情報
+		 */
+		ValidateError toError() {
+			if(this.validator != null) {
+				return new ValidateError(this.component, this.validator.getErrorMessage(), this.validator.getHeadWord());
+			}
+
+			return new ValidateError(this.component, this.rule.getMessage(), this.rule.getHeadWord());
+		}
+	}
+}
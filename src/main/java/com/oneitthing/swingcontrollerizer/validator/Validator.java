@@ -216,6 +216,26 @@ public abstract class Validator {
 		return validate(values);
 	}
 
+	/**
+	 * <p>[概 要]</p>
+	 * 取得済みの値に対してバリデーションを実行します。
+	 *
+	 * <p>[詳 細]</p>
+	 * validateメソッドをテンプレートコールします。<br>
+	 * コンポーネントからの値取得は行いません。
+	 *
+	 * <p>[備 考]</p>
+	 * {@link ValidationEngine}はイベントディスパッチスレッドで{@link #getValue()}した値を、
+	 * このメソッドでワーカースレッドから判定します。<br>
+	 * 非同期バリデーションで使用するバリデータのvalidateは、Swingコンポーネントにアクセスしないよう実装して下さい。
+	 *
+	 * @param values バリデーション対象コンポーネントの値を持つオブジェクト
+	 * @return エラー有無
+	 */
+	public boolean execute(ComponentValues values) {
+		return validate(values);
+	}
+
 	/**
 	 * <p>[概 要]</p>
 	 * バリデーション処理を実装します。
@@ -229,4 +249,21 @@ public abstract class Validator {
 	 * @return エラー有無
 	 */
 	protected abstract boolean validate(ComponentValues values);
+
+	/**
+	 * <p>[概 要]</p>
+	 * このバリデータと同じ判定を行うバリデーションルールを生成します。
+	 *
+	 * <p>[詳 細]</p>
+	 * デフォルトでは変換出来ないものとしてnullを返却します。
+	 *
+	 * <p>[備 考]</p>
+	 * {@link ValidationPlan#add(Validator)}から呼び出されます。
+	 *
+	 * @param componentName バリデーション対象コンポーネントの名前
+	 * @return バリデーションルール、変換出来ない場合はnull
+	 */
+	ValidationPlan.Rule toRule(String componentName) {
+		return null;
+	}
 }
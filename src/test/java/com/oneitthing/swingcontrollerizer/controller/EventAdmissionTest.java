@@ -0,0 +1,189 @@
+package com.oneitthing.swingcontrollerizer.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.Test;
+
+/**
+ * <p>[概 要] </p>
+ * {@link EventAdmission}のテストです。
+ *
+ * <p>[詳 細] </p>
+ * 起動保持の保持数と、DROP、QUEUE、LATESTポリシーの受付を検証します。
+ *
+ * <p>[備 考] </p>
+ * 起動タスクはイベントディスパッチスレッドで実行される為、{@link #flush()}で
+ * 予約済みの処理を全て実行させてから検証します。
+ *
+ */
+public class EventAdmissionTest {
+
+	/** テスト対象です。 */
+	private final EventAdmission admission = new EventAdmission();
+
+	/** 実行された起動タスク名です。 */
+	private final List<String> runs = new CopyOnWriteArrayList<String>();
+
+	/** イベントソースです。 */
+	private final Object source = new Object();
+
+	@Test
+	public void dropIgnoresEventsUntilHoldIsReleased() throws Exception {
+		Task first = new Task("A", true);
+		this.admission.admit(AdmissionPolicy.DROP, this.source, Object.class, first);
+		flush();
+		this.admission.admit(AdmissionPolicy.DROP, this.source, Object.class, new Task("B", false));
+		flush();
+		assertEquals(Arrays.asList("A"), this.runs);
+
+		first.hold.release();
+		flush();
+		this.admission.admit(AdmissionPolicy.DROP, this.source, Object.class, new Task("C", false));
+		flush();
+		assertEquals(Arrays.asList("A", "C"), this.runs);
+	}
+
+	@Test
+	public void queueRunsPendingTasksInOrderAfterRelease() throws Exception {
+		Task first = new Task("A", true);
+		this.admission.admit(AdmissionPolicy.QUEUE, this.source, Object.class, first);
+		this.admission.admit(AdmissionPolicy.QUEUE, this.source, Object.class, new Task("B", false));
+		this.admission.admit(AdmissionPolicy.QUEUE, this.source, Object.class, new Task("C", false));
+		flush();
+		assertEquals(Arrays.asList("A"), this.runs);
+
+		first.hold.release();
+		flush();
+		assertEquals(Arrays.asList("A", "B", "C"), this.runs);
+	}
+
+	@Test
+	public void latestReplacesPendingTask() throws Exception {
+		Task first = new Task("A", true);
+		this.admission.admit(AdmissionPolicy.LATEST, this.source, Object.class, first);
+		this.admission.admit(AdmissionPolicy.LATEST, this.source, Object.class, new Task("B", false));
+		this.admission.admit(AdmissionPolicy.LATEST, this.source, Object.class, new Task("C", false));
+		flush();
+		assertEquals(Arrays.asList("A"), this.runs);
+
+		first.hold.release();
+		flush();
+		assertEquals(Arrays.asList("A", "C"), this.runs);
+	}
+
+	@Test
+	public void holdEndsAdmissionOnlyWhenAllAcquisitionsAreReleased() throws Exception {
+		Task first = new Task("A", true);
+		this.admission.admit(AdmissionPolicy.DROP, this.source, Object.class, first);
+		flush();
+		EventAdmission.Hold hold = first.hold;
+		assertTrue(hold.acquire());
+
+		hold.release();
+		flush();
+		this.admission.admit(AdmissionPolicy.DROP, this.source, Object.class, new Task("B", false));
+		flush();
+		assertEquals(Arrays.asList("A"), this.runs);
+
+		hold.release();
+		flush();
+		assertFalse(hold.acquire());
+		this.admission.admit(AdmissionPolicy.DROP, this.source, Object.class, new Task("C", false));
+		flush();
+		assertEquals(Arrays.asList("A", "C"), this.runs);
+	}
+
+	@Test
+	public void holdIsAvailableOnlyWhileTaskRuns() throws Exception {
+		Task first = new Task("A", true);
+		this.admission.admit(AdmissionPolicy.QUEUE, this.source, Object.class, first);
+		flush();
+		assertNotNull(first.hold);
+		assertNull(this.admission.current());
+
+		Task duplicate = new Task("B", true);
+		this.admission.admit(AdmissionPolicy.DUPLICATE, this.source, Object.class, duplicate);
+		assertNull(duplicate.hold);
+		first.hold.release();
+		flush();
+	}
+
+	@Test
+	public void differentSourcesAreAdmittedIndependently() throws Exception {
+		Task first = new Task("A", true);
+		this.admission.admit(AdmissionPolicy.DROP, this.source, Object.class, first);
+		this.admission.admit(AdmissionPolicy.DROP, new Object(), Object.class, new Task("B", false));
+		this.admission.admit(AdmissionPolicy.DROP, this.source, String.class, new Task("C", false));
+		flush();
+		assertEquals(Arrays.asList("A", "B", "C"), this.runs);
+		first.hold.release();
+		flush();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * イベントディスパッチスレッドに予約済みの処理を実行させます。
+	 *
+	 * <p>[詳 細] </p>
+	 * 起動保持の解放、後続タスクの予約はそれぞれinvokeLaterで行われる為、
+	 * 数回に分けて待機します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private static void flush() throws Exception {
+		for (int i = 0; i < 4; i++) {
+			SwingUtilities.invokeAndWait(new Runnable() {
+				@Override
+				public void run() {
+				}
+			});
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 実行を記録する起動タスクです。
+	 *
+	 * <p>[詳 細] </p>
+	 * holdがtrueの場合、実行中の起動保持を取得して{@link #hold}に保存します。
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 */
+	private final class Task implements Runnable {
+
+		/** 起動タスク名です。 */
+		private final String name;
+
+		/** 起動保持を取得するかどうかです。 */
+		private final boolean acquire;
+
+		/** 取得した起動保持です。 */
+		private volatile EventAdmission.Hold hold;
+
+		Task(String name, boolean acquire) {
+			this.name = name;
+			this.acquire = acquire;
+		}
+
+		@Override
+		public void run() {
+			runs.add(this.name);
+			EventAdmission.Hold current = admission.current();
+			if (this.acquire && current != null && current.acquire()) {
+				this.hold = current;
+			}
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package com.oneitthing.swingcontrollerizer.controller;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import com.oneitthing.swingcontrollerizer.model.DefaultModel;
+
+/**
+ * <p>[概 要] </p>
+ * {@link ModelGraph}のテストです。
+ *
+ * <p>[詳 細] </p>
+ * コントローラと同じ順序でbegin、resolve、end、abandon、launchを呼び出し、
+ * 成功、スキップ、失敗の何れの場合も全モデルがちょうど一度ずつ数えられることを検証します。
+ *
+ * <p>[備 考] </p>
+ *
+ */
+public class ModelGraphTest {
+
+	@Test
+	public void startReturnsRootsAndResolveReleasesDependentsOnceAllSucceed() {
+		ModelGraph graph = diamond();
+		assertArrayEquals(new int[] {0}, graph.start());
+
+		assertTrue(graph.begin(0));
+		assertFalse(graph.begin(0));
+		assertArrayEquals(new int[] {1, 2}, graph.resolve(0, "r0"));
+		assertEquals("r0", graph.getResult(0));
+
+		assertArrayEquals(new int[0], graph.resolve(1, "r1"));
+		assertArrayEquals(new int[] {3}, graph.resolve(2, "r2"));
+		assertNull(graph.getResult(3));
+	}
+
+	@Test
+	public void endCountsEachModelOnlyOnce() {
+		ModelGraph graph = diamond();
+		graph.start();
+		graph.begin(0);
+		assertTrue(graph.end(0));
+		assertFalse(graph.end(0));
+	}
+
+	@Test
+	public void failureAbandonsPendingDependentsTransitively() {
+		ModelGraph graph = new ModelGraph();
+		graph.add(DefaultModel.class);
+		graph.add(DefaultModel.class, 0);
+		graph.add(DefaultModel.class, 1);
+		graph.add(DefaultModel.class);
+		assertArrayEquals(new int[] {0, 3}, graph.start());
+
+		assertTrue(graph.begin(0));
+		assertTrue(graph.begin(3));
+		assertFalse(graph.launch(2));
+
+		// 0が失敗：1、2は実行されない
+		int abandoned = graph.abandon(0);
+		assertEquals(2, abandoned);
+		assertTrue(graph.end(0));
+		assertFalse(graph.begin(1));
+		assertFalse(graph.begin(2));
+		assertTrue(graph.launch(abandoned));
+
+		// 実行されないモデルは既に終了済み
+		assertFalse(graph.end(1));
+		assertFalse(graph.end(2));
+		assertTrue(graph.end(3));
+	}
+
+	@Test
+	public void abandonDoesNotCountRunningOrSharedDependentsTwice() {
+		ModelGraph graph = diamond();
+		graph.start();
+		graph.begin(0);
+		graph.resolve(0, null);
+		assertTrue(graph.begin(1));
+		assertTrue(graph.begin(2));
+
+		// 1が失敗：3だけが実行されない
+		assertEquals(1, graph.abandon(1));
+		// 2も失敗：3は既に数えられている
+		assertEquals(0, graph.abandon(2));
+		assertFalse(graph.begin(3));
+		assertArrayEquals(new int[0], graph.resolve(2, null));
+	}
+
+	@Test
+	public void skippedModelResolvesDependentsWithoutResult() {
+		ModelGraph graph = diamond();
+		graph.start();
+		assertTrue(graph.begin(0));
+		assertFalse(graph.launch(1));
+
+		// スキップしたモデルは結果無しで依存元を実行させる
+		assertArrayEquals(new int[] {1, 2}, graph.resolve(0, null));
+		assertNull(graph.getResult(0));
+		assertTrue(graph.end(0));
+	}
+
+	@Test
+	public void launchCompletesExactlyWhenEveryModelIsCounted() {
+		ModelGraph graph = diamond();
+		graph.start();
+		assertFalse(graph.launch(0));
+		assertFalse(graph.launch(1));
+		assertFalse(graph.launch(2));
+		assertTrue(graph.launch(1));
+		assertFalse(graph.launch(0));
+
+		// start()で数え直す
+		graph.start();
+		assertFalse(graph.launch(3));
+		assertTrue(graph.launch(1));
+	}
+
+	@Test
+	public void addRejectsForwardDependencies() {
+		ModelGraph graph = new ModelGraph();
+		graph.add(DefaultModel.class);
+		try {
+			graph.add(DefaultModel.class, 1);
+			fail();
+		} catch (IllegalArgumentException e) {
+			// 期待通り
+		}
+		assertEquals(1, graph.size());
+	}
+
+	@Test
+	public void getDependenciesReturnsCopy() {
+		ModelGraph graph = diamond();
+		int[] dependencies = graph.getDependencies(3);
+		dependencies[0] = 0;
+		assertArrayEquals(new int[] {1, 2}, graph.getDependencies(3));
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 0に1、2が依存し、1、2に3が依存するグラフを生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @return 生成したグラフ
+	 */
+	private static ModelGraph diamond() {
+		ModelGraph graph = new ModelGraph();
+		int root = graph.add(DefaultModel.class);
+		int left = graph.add(DefaultModel.class, root);
+		int right = graph.add(DefaultModel.class, root);
+		graph.add(DefaultModel.class, left, right);
+		return graph;
+	}
+}
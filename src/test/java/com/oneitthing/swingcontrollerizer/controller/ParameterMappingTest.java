@@ -0,0 +1,116 @@
+package com.oneitthing.swingcontrollerizer.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.oneitthing.swingcontrollerizer.model.DefaultModel;
+import com.oneitthing.swingcontrollerizer.model.Model;
+
+/**
+ * <p>[概 要] </p>
+ * {@link ParameterMapping}のテストです。
+ *
+ * <p>[詳 細] </p>
+ * 定数キーのput、getがフィールドと一致すること、任意パラメータの追加、上書き、
+ * 複製とのcopy-on-writeを検証します。
+ *
+ * <p>[備 考] </p>
+ *
+ */
+public class ParameterMappingTest {
+
+	@Test
+	public void constantKeysAreStoredInFields() {
+		ParameterMapping parameterMapping = new ParameterMapping();
+		Object source = new Object();
+		List<Class<? extends Model>> modelClasses = new ArrayList<Class<? extends Model>>();
+		modelClasses.add(DefaultModel.class);
+
+		parameterMapping.put(ParameterMapping.EVENT_SOURCE_OBJECT, source);
+		parameterMapping.put(ParameterMapping.EVENT_TYPE, "actionPerformed");
+		parameterMapping.put(ParameterMapping.MODEL_CLASSES, modelClasses);
+		parameterMapping.put(ParameterMapping.DEADLINE, Long.valueOf(1234L));
+		parameterMapping.put(ParameterMapping.MODEL_RESERVED_NUM, Integer.valueOf(3));
+		parameterMapping.put(ParameterMapping.MODEL_FAILED, Boolean.TRUE);
+
+		assertSame(source, parameterMapping.getEventSource());
+		assertEquals("actionPerformed", parameterMapping.getEventType());
+		assertSame(modelClasses, parameterMapping.getModelClasses());
+		assertEquals(1234L, parameterMapping.getDeadline());
+		assertEquals(3, parameterMapping.getModelReservedNum());
+		assertEquals(true, parameterMapping.isModelFailed());
+
+		assertSame(source, parameterMapping.get(ParameterMapping.EVENT_SOURCE_OBJECT));
+		assertEquals("actionPerformed", parameterMapping.get(ParameterMapping.EVENT_TYPE));
+		assertEquals(Long.valueOf(1234L), parameterMapping.get(ParameterMapping.DEADLINE));
+		assertEquals(Integer.valueOf(3), parameterMapping.get(ParameterMapping.MODEL_RESERVED_NUM));
+		assertEquals(Boolean.TRUE, parameterMapping.get(ParameterMapping.MODEL_FAILED));
+	}
+
+	@Test
+	public void settersAreVisibleThroughConstantKeys() {
+		ParameterMapping parameterMapping = new ParameterMapping();
+		parameterMapping.setEventType("mouseClicked");
+		parameterMapping.setModelFinishedNum(2);
+
+		assertEquals("mouseClicked", parameterMapping.get(ParameterMapping.EVENT_TYPE));
+		assertEquals(Integer.valueOf(2), parameterMapping.get(ParameterMapping.MODEL_FINISHED_NUM));
+	}
+
+	@Test
+	public void nullNumberClearsField() {
+		ParameterMapping parameterMapping = new ParameterMapping();
+		parameterMapping.put(ParameterMapping.DEADLINE, Long.valueOf(1234L));
+		parameterMapping.put(ParameterMapping.DEADLINE, null);
+		assertEquals(0L, parameterMapping.getDeadline());
+	}
+
+	@Test
+	public void userParametersAreAddedAndOverwritten() {
+		ParameterMapping parameterMapping = new ParameterMapping();
+		assertNull(parameterMapping.get("missing"));
+		assertNull(parameterMapping.get(null));
+
+		for (int i = 0; i < 100; i++) {
+			parameterMapping.put("key" + i, Integer.valueOf(i));
+		}
+		parameterMapping.put("key7", "overwritten");
+		parameterMapping.put(Integer.valueOf(7), "integer key");
+		parameterMapping.put("nullValue", null);
+
+		for (int i = 0; i < 100; i++) {
+			if (i != 7) {
+				assertEquals(Integer.valueOf(i), parameterMapping.get("key" + i));
+			}
+		}
+		assertEquals("overwritten", parameterMapping.get("key7"));
+		assertEquals("integer key", parameterMapping.get(Integer.valueOf(7)));
+		assertNull(parameterMapping.get("nullValue"));
+	}
+
+	@Test
+	public void cloneCopiesUserParametersOnWrite() {
+		ParameterMapping original = new ParameterMapping();
+		original.put("shared", "value");
+		original.setEventType("actionPerformed");
+
+		ParameterMapping clone = original.clone();
+		assertEquals("value", clone.get("shared"));
+		assertEquals("actionPerformed", clone.getEventType());
+
+		clone.put("shared", "clone");
+		clone.put("cloneOnly", "clone");
+		original.put("originalOnly", "original");
+
+		assertEquals("value", original.get("shared"));
+		assertNull(original.get("cloneOnly"));
+		assertEquals("clone", clone.get("shared"));
+		assertNull(clone.get("originalOnly"));
+	}
+}
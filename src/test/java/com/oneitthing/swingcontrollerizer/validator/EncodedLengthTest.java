@@ -0,0 +1,124 @@
+package com.oneitthing.swingcontrollerizer.validator;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.Charset;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * <p>[概 要] </p>
+ * {@link EncodedLength}のテストです。
+ *
+ * <p>[詳 細] </p>
+ * 乱数で生成した文字列のバイト長を、String#getBytes(Charset)の配列長と比較します。
+ *
+ * <p>[備 考] </p>
+ * 乱数の種は固定の為、失敗した場合は同じ文字列で再現出来ます。
+ *
+ */
+public class EncodedLengthTest {
+
+	/** 比較する文字セットです。実行環境に無いものは比較しません。 */
+	private static final String[] CHARSETS = {
+		"UTF-8", "ISO-8859-1", "US-ASCII", "UTF-16", "UTF-16LE",
+		"Shift_JIS", "windows-31j", "EUC-JP", "ISO-2022-JP", "GBK"
+	};
+
+	/** 生成する文字の範囲です。ASCII、Latin-1、かな漢字、サロゲートを含めます。 */
+	private static final char[][] RANGES = {
+		{0x20, 0x7e}, {0xa0, 0xff}, {0x3040, 0x30ff}, {0x4e00, 0x9fff},
+		{0xff61, 0xff9f}, {0xd800, 0xdbff}, {0xdc00, 0xdfff}
+	};
+
+	@Test
+	public void countMatchesGetBytesForRandomStrings() {
+		Random random = new Random(20261017L);
+		for (String name : CHARSETS) {
+			if (!Charset.isSupported(name)) {
+				continue;
+			}
+			Charset charset = Charset.forName(name);
+			for (int i = 0; i < 2000; i++) {
+				String value = randomString(random, random.nextInt(40));
+				assertEquals(name + ":" + escape(value),
+						value.getBytes(charset).length, EncodedLength.count(value, charset));
+			}
+		}
+	}
+
+	@Test
+	public void countMatchesGetBytesForSurrogatePairsAndLoneSurrogates() {
+		String[] values = {
+			"", "a", "\u3042", "\ud842\udfb7", "\ud842", "\udfb7", "a\ud842",
+			"\udfb7\ud842", "\ud842\udfb7\ud842\udfb7", "\u00e9\ud83d\ude00x"
+		};
+		for (String name : CHARSETS) {
+			if (!Charset.isSupported(name)) {
+				continue;
+			}
+			Charset charset = Charset.forName(name);
+			for (String value : values) {
+				assertEquals(name + ":" + escape(value),
+						value.getBytes(charset).length, EncodedLength.count(value, charset));
+			}
+		}
+	}
+
+	@Test
+	public void countAcceptsLongValuesBeyondBufferSize() {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 100000; i++) {
+			sb.append((char) ('\u3041' + i % 80));
+		}
+		String value = sb.toString();
+		for (String name : CHARSETS) {
+			if (!Charset.isSupported(name)) {
+				continue;
+			}
+			Charset charset = Charset.forName(name);
+			assertEquals(name, value.getBytes(charset).length, EncodedLength.count(value, charset));
+		}
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 乱数で文字列を生成します。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param random 乱数
+	 * @param length 文字数
+	 * @return 生成した文字列
+	 */
+	private static String randomString(Random random, int length) {
+		StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			char[] range = RANGES[random.nextInt(RANGES.length)];
+			sb.append((char) (range[0] + random.nextInt(range[1] - range[0] + 1)));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * <p>[概 要] </p>
+	 * 失敗時のメッセージ用に、文字列をUnicodeエスケープします。
+	 *
+	 * <p>[詳 細] </p>
+	 *
+	 * <p>[備 考] </p>
+	 *
+	 * @param value 文字列
+	 * @return エスケープした文字列
+	 */
+	private static String escape(String value) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < value.length(); i++) {
+			sb.append(String.format("\\u%04x", (int) value.charAt(i)));
+		}
+		return sb.toString();
+	}
+}
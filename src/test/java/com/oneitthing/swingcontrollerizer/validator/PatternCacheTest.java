@@ -0,0 +1,47 @@
+package com.oneitthing.swingcontrollerizer.validator;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * <p>[概 要] </p>
+ * {@link PatternCache}のテストです。
+ *
+ * <p>[詳 細] </p>
+ * コンパイル済みパターンの共有と、上限を超えた場合に最も長く参照されていない
+ * パターンから破棄されることを検証します。
+ *
+ * <p>[備 考] </p>
+ *
+ */
+public class PatternCacheTest {
+
+	/** PatternCacheの保持数の上限です。 */
+	private static final int MAX_SIZE = 256;
+
+	@Test
+	public void samePatternIsCompiledOnce() {
+		Pattern pattern = PatternCache.get("[0-9]{3}-[0-9]{4}");
+		assertSame(pattern, PatternCache.get("[0-9]{3}-[0-9]{4}"));
+	}
+
+	@Test
+	public void leastRecentlyUsedPatternIsEvicted() {
+		Pattern used = PatternCache.get("used-pattern");
+		Pattern unused = PatternCache.get("unused-pattern");
+		for (int i = 0; i < MAX_SIZE - 2; i++) {
+			PatternCache.get("filler-" + i);
+			// 参照し続けるパターンは破棄されない
+			assertSame(used, PatternCache.get("used-pattern"));
+		}
+		PatternCache.get("overflow-a");
+		PatternCache.get("overflow-b");
+
+		assertSame(used, PatternCache.get("used-pattern"));
+		assertNotSame(unused, PatternCache.get("unused-pattern"));
+	}
+}